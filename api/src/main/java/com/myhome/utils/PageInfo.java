@@ -7,23 +7,49 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 @EqualsAndHashCode
 @ToString
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class PageInfo {
-  private final int currentPage;
+  private final Integer currentPage;
   private final int pageLimit;
-  private final int totalPages;
-  private final long totalElements;
+  private final Integer totalPages;
+  private final Long totalElements;
+  private final String nextCursor;
+  private final boolean hasNext;
 
   public static PageInfo of(Pageable pageable, Page<?> page) {
     return new PageInfo(
         pageable.getPageNumber(),
         pageable.getPageSize(),
         page.getTotalPages(),
-        page.getTotalElements()
+        page.getTotalElements(),
+        null,
+        page.hasNext()
     );
   }
+
+  /**
+   * Page info of a slice, which was read without counting the total elements.
+   */
+  public static PageInfo ofSlice(Pageable pageable, Slice<?> slice) {
+    return new PageInfo(
+        pageable.getPageNumber(),
+        pageable.getPageSize(),
+        null,
+        null,
+        null,
+        slice.hasNext()
+    );
+  }
+
+  /**
+   * Page info of keyset pagination, which knows neither page numbers nor totals.
+   */
+  public static PageInfo ofCursor(int pageLimit, String nextCursor) {
+    return new PageInfo(null, pageLimit, null, null, nextCursor, nextCursor != null);
+  }
 }
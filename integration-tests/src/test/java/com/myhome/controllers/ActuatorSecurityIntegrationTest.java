@@ -0,0 +1,61 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointsSupplier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class ActuatorSecurityIntegrationTest {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private WebEndpointsSupplier webEndpointsSupplier;
+
+  @Test
+  void shouldNotServeBCryptCalibrationOverHttp() {
+    // When the endpoints served over HTTP are listed
+    // Then the BCrypt calibration is not among them, even for authenticated users
+    assertThat(webEndpointsSupplier.getEndpoints())
+        .extracting(endpoint -> endpoint.getEndpointId().toString())
+        .contains("health")
+        .doesNotContain("bcrypt");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/actuator/health", "/actuator/info"})
+  void shouldServePublicEndpointsAnonymously(String path) {
+    // When a public actuator endpoint is requested without a token
+    HttpStatus status = testRestTemplate.getForEntity(path, String.class).getStatusCode();
+
+    // Then it is served
+    assertThat(status).isEqualTo(HttpStatus.OK);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/actuator/metrics", "/actuator/metrics/jvm.memory.used", "/actuator/bcrypt"
+  })
+  void shouldRejectOtherEndpointsWithoutToken(String path) {
+    // When any other actuator endpoint is requested without a token
+    HttpStatus status = testRestTemplate.getForEntity(path, String.class).getStatusCode();
+
+    // Then it is rejected
+    assertThat(status).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+}
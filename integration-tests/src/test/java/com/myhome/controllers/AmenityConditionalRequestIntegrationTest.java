@@ -0,0 +1,121 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.model.GetAmenityDetailsResponse;
+import com.myhome.model.LoginRequest;
+import com.myhome.model.UpdateAmenityRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class AmenityConditionalRequestIntegrationTest {
+
+  // test user and an amenity of a community administered by the test user, from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+  private static final String TEST_COMMUNITY_ID = "default-community-id-for-testing";
+  private static final String TEST_AMENITY_ID = "244282d9-d71b-4824-ae72-1f5d4f9b067c";
+  private static final String TEST_AMENITY_NAME = "name";
+  private static final String TEST_AMENITY_DESCRIPTION = "default-amenity-description-for-testing";
+  private static final long TEST_AMENITY_PRICE = 12;
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  private HttpHeaders headers;
+
+  @BeforeEach
+  void login() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    headers = new HttpHeaders();
+    headers.set(tokenHeaderName,
+        tokenHeaderPrefix + " " + responseEntity.getHeaders().getFirst("token"));
+  }
+
+  @AfterEach
+  void restoreAmenity() {
+    assertThat(update(TEST_AMENITY_DESCRIPTION, new HttpHeaders()).getStatusCode())
+        .isEqualTo(HttpStatus.NO_CONTENT);
+  }
+
+  @Test
+  void shouldAnswerConditionalRequestsFromAmenityVersion() {
+    // Given the current representation of the amenity
+    ResponseEntity<GetAmenityDetailsResponse> details = getDetails(new HttpHeaders());
+    String entityTag = details.getHeaders().getETag();
+    assertThat(details.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(entityTag).isNotNull();
+
+    // When it is requested again with its tag
+    HttpHeaders ifNoneMatch = new HttpHeaders();
+    ifNoneMatch.setIfNoneMatch(entityTag);
+    ResponseEntity<GetAmenityDetailsResponse> notModified = getDetails(ifNoneMatch);
+
+    // Then it is not sent again
+    assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModified.getBody()).isNull();
+
+    // When it is updated with its tag
+    HttpHeaders ifMatch = new HttpHeaders();
+    ifMatch.setIfMatch(entityTag);
+    ResponseEntity<Void> updated = update("updated-amenity-description", ifMatch);
+
+    // Then the update succeeds and changes the tag
+    assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    ResponseEntity<GetAmenityDetailsResponse> modified = getDetails(ifNoneMatch);
+    assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(modified.getHeaders().getETag()).isNotEqualTo(entityTag);
+
+    // And another update with the stale tag is rejected
+    ResponseEntity<Void> stale = update("stale-amenity-description", ifMatch);
+    assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    assertThat(getDetails(new HttpHeaders()).getBody().getDescription())
+        .isEqualTo("updated-amenity-description");
+  }
+
+  private ResponseEntity<GetAmenityDetailsResponse> getDetails(HttpHeaders requestHeaders) {
+    requestHeaders.putAll(headers);
+    return testRestTemplate.exchange("/amenities/" + TEST_AMENITY_ID, HttpMethod.GET,
+        new HttpEntity<>(requestHeaders), GetAmenityDetailsResponse.class);
+  }
+
+  private ResponseEntity<Void> update(String description, HttpHeaders requestHeaders) {
+    requestHeaders.putAll(headers);
+    UpdateAmenityRequest request = new UpdateAmenityRequest()
+        .name(TEST_AMENITY_NAME)
+        .description(description)
+        .price(TEST_AMENITY_PRICE)
+        .communityId(TEST_COMMUNITY_ID);
+    return testRestTemplate.exchange("/amenities/" + TEST_AMENITY_ID, HttpMethod.PUT,
+        new HttpEntity<>(request, requestHeaders), Void.class);
+  }
+}
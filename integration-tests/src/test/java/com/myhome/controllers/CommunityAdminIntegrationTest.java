@@ -0,0 +1,93 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.model.AddCommunityAdminRequest;
+import com.myhome.model.AddCommunityAdminResponse;
+import com.myhome.model.CreateCommunityRequest;
+import com.myhome.model.CreateCommunityResponse;
+import com.myhome.model.LoginRequest;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class CommunityAdminIntegrationTest {
+
+  // users from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+  private static final String TEST_USER_ID = "default-user-id-for-testing";
+  private static final String OTHER_USER_ID = "0c0ee99f-845a-4433-8581-1d3525add05c";
+  private static final String MISSING_USER_ID = "missing-user-id";
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Test
+  void shouldAddAdminsAndReportMissingUsers() {
+    // Given a community created by a logged in user
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(tokenHeaderName, tokenHeaderPrefix + " " + login());
+    ResponseEntity<CreateCommunityResponse> community = testRestTemplate.postForEntity(
+        "/communities", new HttpEntity<>(
+            new CreateCommunityRequest().name("Admin Community").district("Wonderland"),
+            headers), CreateCommunityResponse.class);
+    assertThat(community.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    String adminsPath = "/communities/" + community.getBody().getCommunityId() + "/admins";
+    AddCommunityAdminRequest request = new AddCommunityAdminRequest()
+        .admins(new HashSet<>(Arrays.asList(TEST_USER_ID, OTHER_USER_ID, MISSING_USER_ID)));
+
+    try {
+      // When existing and missing users are added twice
+      ResponseEntity<AddCommunityAdminResponse> firstAdd = testRestTemplate.postForEntity(
+          adminsPath, new HttpEntity<>(request, headers), AddCommunityAdminResponse.class);
+      ResponseEntity<AddCommunityAdminResponse> secondAdd = testRestTemplate.postForEntity(
+          adminsPath, new HttpEntity<>(request, headers), AddCommunityAdminResponse.class);
+
+      // Then the existing users are admins and the missing user is reported
+      assertThat(firstAdd.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+      assertThat(firstAdd.getBody().getAdmins())
+          .containsExactlyInAnyOrder(TEST_USER_ID, OTHER_USER_ID);
+      assertThat(firstAdd.getBody().getMissingAdmins()).containsExactly(MISSING_USER_ID);
+      assertThat(secondAdd.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+      assertThat(secondAdd.getBody()).isEqualTo(firstAdd.getBody());
+    } finally {
+      // other tests rely on the communities administered by the test user
+      testRestTemplate.exchange("/communities/" + community.getBody().getCommunityId(),
+          HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+    }
+  }
+
+  private String login() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return responseEntity.getHeaders().getFirst("token");
+  }
+}
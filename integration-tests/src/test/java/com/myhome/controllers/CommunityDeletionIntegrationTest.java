@@ -0,0 +1,157 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.HouseMember;
+import com.myhome.model.CommunityDeletionJobResponse;
+import com.myhome.model.CreateCommunityRequest;
+import com.myhome.model.CreateCommunityResponse;
+import com.myhome.model.ImportCommunityHousesResponse;
+import com.myhome.model.LoginRequest;
+import com.myhome.repositories.CommunityRepository;
+import com.myhome.repositories.HouseMemberRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class CommunityDeletionIntegrationTest {
+
+  // test user from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private CommunityRepository communityRepository;
+
+  @Autowired
+  private HouseMemberRepository houseMemberRepository;
+
+  private HttpHeaders headers;
+
+  @BeforeEach
+  void login() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    headers = new HttpHeaders();
+    headers.set(tokenHeaderName,
+        tokenHeaderPrefix + " " + responseEntity.getHeaders().getFirst("token"));
+  }
+
+  @Test
+  void shouldDeleteCommunityWithHousesAndKeepMembers() {
+    // Given a community with houses and members
+    String communityId = createCommunityWithHouses("Deleted Community Member");
+
+    // When the community is deleted
+    ResponseEntity<Void> deletion = testRestTemplate.exchange("/communities/" + communityId,
+        HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+
+    // Then the community is gone
+    assertThat(deletion.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(communityRepository.existsByCommunityId(communityId)).isFalse();
+
+    // And its members are detached from the deleted houses
+    assertThat(findMembers("Deleted Community Member"))
+        .hasSize(2)
+        .allMatch(member -> member.getCommunityHouse() == null);
+  }
+
+  @Test
+  void shouldDeleteCommunityInBackground() throws InterruptedException {
+    // Given a community with houses and members
+    String communityId = createCommunityWithHouses("Background Deleted Community Member");
+
+    // When the community is deleted in the background
+    ResponseEntity<CommunityDeletionJobResponse> start = testRestTemplate.postForEntity(
+        "/communities/" + communityId + "/deletions", new HttpEntity<>(headers),
+        CommunityDeletionJobResponse.class);
+
+    // Then the deletion is accepted
+    assertThat(start.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    assertThat(start.getBody().getHousesTotal()).isEqualTo(2L);
+
+    // And completes with every house deleted
+    CommunityDeletionJobResponse job = awaitFinished(start.getHeaders().getLocation().toString());
+    assertThat(job.getStatus()).isEqualTo(CommunityDeletionJobResponse.StatusEnum.COMPLETED);
+    assertThat(job.getHousesDeleted()).isEqualTo(2L);
+    assertThat(communityRepository.existsByCommunityId(communityId)).isFalse();
+    assertThat(findMembers("Background Deleted Community Member"))
+        .allMatch(member -> member.getCommunityHouse() == null);
+  }
+
+  private String createCommunityWithHouses(String memberName) {
+    ResponseEntity<CreateCommunityResponse> community = testRestTemplate.postForEntity(
+        "/communities", new HttpEntity<>(
+            new CreateCommunityRequest().name("Deleted Community").district("Wonderland"),
+            headers), CreateCommunityResponse.class);
+    assertThat(community.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    String communityId = community.getBody().getCommunityId();
+
+    HttpHeaders importHeaders = new HttpHeaders();
+    importHeaders.putAll(headers);
+    importHeaders.setContentType(MediaType.valueOf("text/csv"));
+    String rows = "house,member\n"
+        + "House A," + memberName + "\n"
+        + "House B," + memberName + "\n";
+    ResponseEntity<ImportCommunityHousesResponse> imported = testRestTemplate.postForEntity(
+        "/communities/" + communityId + "/import", new HttpEntity<>(rows, importHeaders),
+        ImportCommunityHousesResponse.class);
+    assertThat(imported.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(imported.getBody().getHousesAdded()).isEqualTo(2L);
+    return communityId;
+  }
+
+  private List<HouseMember> findMembers(String name) {
+    return StreamSupport.stream(houseMemberRepository.findAll().spliterator(), false)
+        .filter(member -> member.getName().equals(name))
+        .collect(Collectors.toList());
+  }
+
+  private CommunityDeletionJobResponse awaitFinished(String location)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (true) {
+      ResponseEntity<CommunityDeletionJobResponse> job = testRestTemplate.exchange(location,
+          HttpMethod.GET, new HttpEntity<>(headers), CommunityDeletionJobResponse.class);
+      assertThat(job.getStatusCode()).isEqualTo(HttpStatus.OK);
+      if (job.getBody().getStatus() != CommunityDeletionJobResponse.StatusEnum.RUNNING
+          || System.currentTimeMillis() > deadline) {
+        return job.getBody();
+      }
+      Thread.sleep(50);
+    }
+  }
+}
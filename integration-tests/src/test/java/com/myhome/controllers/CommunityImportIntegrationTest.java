@@ -0,0 +1,125 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.Community;
+import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseMember;
+import com.myhome.model.ImportCommunityHousesResponse;
+import com.myhome.model.ImportRowError;
+import com.myhome.model.LoginRequest;
+import com.myhome.repositories.CommunityRepository;
+import com.myhome.repositories.HouseMemberRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class CommunityImportIntegrationTest {
+
+  // test user and one of the communities it administers from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+  private static final String TEST_COMMUNITY_ID = "5d55e016-5e94-4ba1-8bd0-86578b49327b";
+
+  private static final String TEST_CSV = "house,member\n"
+      + "Imported House A,Alice\n"
+      + "Imported House A,Bob\n"
+      + "Imported House A,Alice\n"
+      + "\"Imported House, B\",\n"
+      + ",Nobody\n";
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private CommunityRepository communityRepository;
+
+  @Autowired
+  private HouseMemberRepository houseMemberRepository;
+
+  @Test
+  void shouldImportHousesOnce() {
+    // Given a logged in community admin
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(tokenHeaderName, tokenHeaderPrefix + " " + login());
+    headers.setContentType(MediaType.valueOf("text/csv"));
+
+    // When the same rows are imported twice
+    ResponseEntity<ImportCommunityHousesResponse> firstImport = importRows(headers);
+    ResponseEntity<ImportCommunityHousesResponse> secondImport = importRows(headers);
+
+    // Then the first import adds the houses and members and reports the invalid row
+    assertThat(firstImport.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(firstImport.getBody()).isEqualTo(new ImportCommunityHousesResponse()
+        .housesAdded(2L)
+        .membersAdded(2L)
+        .rowsSkipped(1L)
+        .rowsFailed(1L)
+        .batchesFailed(0L)
+        .addErrorsItem(new ImportRowError()
+            .line(6L)
+            .message("House name is empty")));
+
+    // And the second import skips every row
+    assertThat(secondImport.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(secondImport.getBody().getHousesAdded()).isEqualTo(0L);
+    assertThat(secondImport.getBody().getMembersAdded()).isEqualTo(0L);
+    assertThat(secondImport.getBody().getRowsSkipped()).isEqualTo(4L);
+
+    // And the imported houses belong to the community
+    Community community =
+        communityRepository.findByCommunityIdWithHouses(TEST_COMMUNITY_ID).get();
+    List<CommunityHouse> importedHouses = community.getHouses().stream()
+        .filter(house -> house.getName().startsWith("Imported House"))
+        .collect(Collectors.toList());
+    assertThat(importedHouses)
+        .extracting(CommunityHouse::getName)
+        .containsExactlyInAnyOrder("Imported House A", "Imported House, B");
+
+    // And the members live in their house
+    String houseId = importedHouses.stream()
+        .filter(house -> house.getName().equals("Imported House A"))
+        .findFirst().get().getHouseId();
+    assertThat(houseMemberRepository.findAllByCommunityHouse_HouseId(houseId, null))
+        .extracting(HouseMember::getName)
+        .containsExactlyInAnyOrder("Alice", "Bob");
+  }
+
+  private ResponseEntity<ImportCommunityHousesResponse> importRows(HttpHeaders headers) {
+    return testRestTemplate.postForEntity("/communities/" + TEST_COMMUNITY_ID + "/import",
+        new HttpEntity<>(TEST_CSV, headers), ImportCommunityHousesResponse.class);
+  }
+
+  private String login() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return responseEntity.getHeaders().getFirst("token");
+  }
+}
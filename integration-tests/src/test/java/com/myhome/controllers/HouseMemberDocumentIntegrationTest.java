@@ -0,0 +1,181 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.HouseMemberDocument;
+import com.myhome.model.LoginRequest;
+import com.myhome.services.DocumentContentStore;
+import com.myhome.services.HouseMemberDocumentService;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class HouseMemberDocumentIntegrationTest {
+
+  // test user and members of a house in a community administered by the test user, from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+  private static final String TEST_MEMBER_ID = "default-member-id-for-testing";
+  private static final String OTHER_TEST_MEMBER_ID = "d296cfc2-35ed-4a72-8e29-a235a69165c5";
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private HouseMemberDocumentService houseMemberDocumentService;
+
+  @Autowired
+  private DocumentContentStore documentContentStore;
+
+  private HttpHeaders headers;
+
+  @BeforeEach
+  void login() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    headers = new HttpHeaders();
+    headers.set(tokenHeaderName,
+        tokenHeaderPrefix + " " + responseEntity.getHeaders().getFirst("token"));
+  }
+
+  @AfterEach
+  void deleteDocuments() {
+    houseMemberDocumentService.deleteHouseMemberDocument(TEST_MEMBER_ID);
+    houseMemberDocumentService.deleteHouseMemberDocument(OTHER_TEST_MEMBER_ID);
+  }
+
+  @Test
+  void shouldDownloadDocumentAndRanges() throws IOException {
+    // Given a stored document
+    HouseMemberDocument document = houseMemberDocumentService
+        .createHouseMemberDocument(getTestImage(50, 50), TEST_MEMBER_ID).get();
+
+    // When the whole document is downloaded
+    ResponseEntity<byte[]> download = download(new HttpHeaders());
+
+    // Then the stored content is returned
+    assertThat(download.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(download.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    assertThat(download.getBody()).hasSize((int) document.getContentLength());
+
+    // When a range is downloaded
+    HttpHeaders rangeHeaders = new HttpHeaders();
+    rangeHeaders.setRange(Arrays.asList(HttpRange.createByteRange(10, 19)));
+    ResponseEntity<byte[]> range = download(rangeHeaders);
+
+    // Then only the requested bytes are returned
+    assertThat(range.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+    assertThat(range.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE))
+        .isEqualTo("bytes 10-19/" + document.getContentLength());
+    assertThat(range.getBody()).isEqualTo(Arrays.copyOfRange(download.getBody(), 10, 20));
+  }
+
+  @Test
+  void shouldStoreIdenticalDocumentsOnce() throws IOException {
+    // Given two members with identical documents
+    HouseMemberDocument document = houseMemberDocumentService
+        .createHouseMemberDocument(getTestImage(50, 50), TEST_MEMBER_ID).get();
+    HouseMemberDocument otherDocument = houseMemberDocumentService
+        .createHouseMemberDocument(getTestImage(50, 50), OTHER_TEST_MEMBER_ID).get();
+
+    // Then both refer to the same content
+    assertThat(otherDocument.getContentKey()).isEqualTo(document.getContentKey());
+
+    // And the content is kept until no document refers to it
+    houseMemberDocumentService.deleteHouseMemberDocument(TEST_MEMBER_ID);
+    assertThat(documentContentStore.load(document.getContentKey())).isPresent();
+    houseMemberDocumentService.deleteHouseMemberDocument(OTHER_TEST_MEMBER_ID);
+    assertThat(documentContentStore.load(document.getContentKey())).isNotPresent();
+  }
+
+  @Test
+  void shouldDownloadDocumentRenditions() throws IOException {
+    // Given a stored document larger than the renditions
+    HouseMemberDocument document = houseMemberDocumentService
+        .createHouseMemberDocument(getTestImage(600, 300), TEST_MEMBER_ID).get();
+
+    // When its renditions are downloaded
+    ResponseEntity<byte[]> medium = download("medium");
+    ResponseEntity<byte[]> small = download("small");
+
+    // Then they are scaled down and tagged by their own content
+    assertThat(medium.getStatusCode()).isEqualTo(HttpStatus.OK);
+    BufferedImage mediumImage = ImageIO.read(new ByteArrayInputStream(medium.getBody()));
+    assertThat(mediumImage.getWidth()).isEqualTo(512);
+    assertThat(mediumImage.getHeight()).isEqualTo(256);
+    assertThat(small.getStatusCode()).isEqualTo(HttpStatus.OK);
+    BufferedImage smallImage = ImageIO.read(new ByteArrayInputStream(small.getBody()));
+    assertThat(smallImage.getWidth()).isEqualTo(128);
+    assertThat(smallImage.getHeight()).isEqualTo(64);
+    assertThat(small.getBody().length).isLessThan((int) document.getContentLength());
+    assertThat(small.getHeaders().getETag())
+        .isNotEqualTo(download(new HttpHeaders()).getHeaders().getETag());
+
+    // When an unknown size is requested
+    ResponseEntity<byte[]> unknown = download("huge");
+
+    // Then the request is rejected
+    assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  private ResponseEntity<byte[]> download(HttpHeaders requestHeaders) {
+    requestHeaders.putAll(headers);
+    return testRestTemplate.exchange("/members/" + TEST_MEMBER_ID + "/documents",
+        HttpMethod.GET, new HttpEntity<>(requestHeaders), byte[].class);
+  }
+
+  private ResponseEntity<byte[]> download(String size) {
+    return testRestTemplate.exchange("/members/" + TEST_MEMBER_ID + "/documents?size=" + size,
+        HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+  }
+
+  private static MockMultipartFile getTestImage(int width, int height) throws IOException {
+    Random random = new Random(0);
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < image.getWidth(); x++) {
+      for (int y = 0; y < image.getHeight(); y++) {
+        image.setRGB(x, y, random.nextInt());
+      }
+    }
+    try (ByteArrayOutputStream imageBytes = new ByteArrayOutputStream()) {
+      ImageIO.write(image, "jpg", imageBytes);
+      return new MockMultipartFile("memberDocument", imageBytes.toByteArray());
+    }
+  }
+}
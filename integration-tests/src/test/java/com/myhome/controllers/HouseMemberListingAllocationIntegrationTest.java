@@ -0,0 +1,115 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.Community;
+import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseMember;
+import com.myhome.model.ListHouseMembersResponse;
+import com.myhome.services.CommunityService;
+import com.myhome.services.HouseMemberDocumentService;
+import com.myhome.services.HouseService;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class HouseMemberListingAllocationIntegrationTest {
+
+  // community from data.sql which is not administered by the test user
+  private static final String TEST_COMMUNITY_ID = "d8ef3522-1193-4ec2-bc10-7f79a69d8040";
+  private static final int TEST_MEMBERS_COUNT = 10;
+  private static final int TEST_IMAGE_SIZE = 600;
+
+  @Autowired
+  private CommunityService communityService;
+
+  @Autowired
+  private HouseService houseService;
+
+  @Autowired
+  private HouseMemberDocumentService houseMemberDocumentService;
+
+  @Autowired
+  private HouseController houseController;
+
+  @Test
+  void listAllMembersOfHouseDoesNotLoadDocumentContent() throws IOException {
+    // given
+    String houseId = communityService.addHousesToCommunity(TEST_COMMUNITY_ID,
+        Collections.singleton(new CommunityHouse().withName("Documented House")))
+        .iterator().next();
+    try {
+      Set<HouseMember> members = new HashSet<>();
+      for (int i = 0; i < TEST_MEMBERS_COUNT; i++) {
+        members.add(new HouseMember().withName("Documented Member " + i));
+      }
+      long documentBytes = 0;
+      for (HouseMember member : houseService.addHouseMembers(houseId, members)) {
+        documentBytes += houseMemberDocumentService.createHouseMemberDocument(
+            getTestImage(member.getMemberId()), member.getMemberId()).get().getContentLength();
+      }
+      // warm up the query plan and mapper caches
+      listAllMembersOfHouse(houseId);
+
+      // when
+      long allocatedBefore = getAllocatedBytes();
+      ResponseEntity<ListHouseMembersResponse> response = listAllMembersOfHouse(houseId);
+      long allocatedBytes = getAllocatedBytes() - allocatedBefore;
+
+      // then
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      assertEquals(TEST_MEMBERS_COUNT, response.getBody().getMembers().size());
+      assertTrue(allocatedBytes < documentBytes);
+    } finally {
+      Community community = communityService.getCommunityDetailsById(TEST_COMMUNITY_ID).get();
+      communityService.removeHouseFromCommunityByHouseId(community, houseId);
+    }
+  }
+
+  private ResponseEntity<ListHouseMembersResponse> listAllMembersOfHouse(String houseId) {
+    return houseController.listAllMembersOfHouse(houseId, PageRequest.of(0, 200), null);
+  }
+
+  private static long getAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static MockMultipartFile getTestImage(String memberId) throws IOException {
+    // noise does not compress, so every document keeps a sizeable content
+    Random random = new Random(memberId.hashCode());
+    BufferedImage image =
+        new BufferedImage(TEST_IMAGE_SIZE, TEST_IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < TEST_IMAGE_SIZE; x++) {
+      for (int y = 0; y < TEST_IMAGE_SIZE; y++) {
+        image.setRGB(x, y, random.nextInt());
+      }
+    }
+    try (ByteArrayOutputStream imageBytes = new ByteArrayOutputStream()) {
+      ImageIO.write(image, "jpg", imageBytes);
+      return new MockMultipartFile("memberDocument", imageBytes.toByteArray());
+    }
+  }
+}
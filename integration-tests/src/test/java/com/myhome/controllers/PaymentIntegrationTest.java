@@ -0,0 +1,381 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.HouseMember;
+import com.myhome.domain.Payment;
+import com.myhome.domain.User;
+import com.myhome.model.BulkSchedulePaymentRequest;
+import com.myhome.model.BulkSchedulePaymentResponse;
+import com.myhome.model.ListMemberPaymentsResponse;
+import com.myhome.model.LoginRequest;
+import com.myhome.model.PaymentBalanceResponse;
+import com.myhome.model.PaymentSearchResult;
+import com.myhome.model.RebuildBalancesResponse;
+import com.myhome.model.SchedulePaymentRequest;
+import com.myhome.model.SchedulePaymentResponse;
+import com.myhome.model.SearchPaymentsResponse;
+import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.repositories.PaymentRepository;
+import com.myhome.repositories.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PaymentIntegrationTest {
+
+  // test user administering the community of the test member, from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+  private static final String TEST_COMMUNITY_ID = "default-community-id-for-testing";
+  private static final String TEST_MEMBER_ID = "default-member-id-for-testing";
+  private static final String WATER_TYPE = "search-test-water";
+  private static final String RENT_TYPE = "search-test-rent";
+  private static final String BULK_TYPE = "bulk-test-service-charge";
+  private static final String BALANCE_TYPE = "balance-test-fee";
+  private static final String TEST_HOUSE_ID = "default-house-id-for-testing";
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private HouseMemberRepository houseMemberRepository;
+
+  @Autowired
+  private PaymentController paymentController;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private HttpHeaders headers;
+  private String adminId;
+  private final List<Payment> payments = new ArrayList<>();
+
+  // logs in once, as logins are rate limited
+  @BeforeAll
+  void setUp() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    headers = new HttpHeaders();
+    headers.set(tokenHeaderName,
+        tokenHeaderPrefix + " " + responseEntity.getHeaders().getFirst("token"));
+
+    User admin = userRepository.findByEmail(TEST_EMAIL);
+    HouseMember member = houseMemberRepository.findByMemberId(TEST_MEMBER_ID).get();
+    adminId = admin.getUserId();
+    payments.add(savePayment(WATER_TYPE, "2020-01-10", 10, false, admin, member));
+    payments.add(savePayment(WATER_TYPE, "2020-02-10", 50, true, admin, member));
+    payments.add(savePayment(RENT_TYPE, "2020-03-10", 500, false, admin, member));
+  }
+
+  @AfterAll
+  void deletePayments() {
+    paymentRepository.deleteAll(payments);
+  }
+
+  @Test
+  void shouldSearchAdminPaymentsByFilters() {
+    // When payments are searched by type
+    SearchPaymentsResponse byType = search("type=" + WATER_TYPE).getBody();
+
+    // Then the matching payments are returned in due date order
+    assertThat(getPaymentIds(byType))
+        .containsExactly(payments.get(0).getPaymentId(), payments.get(1).getPaymentId());
+    assertThat(byType.getPayments().get(0).getMemberId()).isEqualTo(TEST_MEMBER_ID);
+    assertThat(byType.getPayments().get(0).getDueDate()).isEqualTo("2020-01-10");
+
+    // When payments are searched by due date and charge ranges
+    SearchPaymentsResponse byRanges =
+        search("dueDateFrom=2020-02-01&minCharge=20&maxCharge=500").getBody();
+
+    // Then only payments within both ranges are returned
+    assertThat(getPaymentIds(byRanges))
+        .containsExactly(payments.get(1).getPaymentId(), payments.get(2).getPaymentId());
+
+    // When recurring payments are searched
+    SearchPaymentsResponse recurring = search("recurring=true&dueDateTo=2020-12-31").getBody();
+
+    // Then only those are returned
+    assertThat(getPaymentIds(recurring)).containsExactly(payments.get(1).getPaymentId());
+  }
+
+  @Test
+  void shouldPageSearchResultsWithoutCounting() {
+    // When the first page of one payment is searched
+    SearchPaymentsResponse firstPage = search("type=" + WATER_TYPE + "&page=0&size=1").getBody();
+    SearchPaymentsResponse lastPage = search("type=" + WATER_TYPE + "&page=1&size=1").getBody();
+
+    // Then the page tells only whether another one follows
+    assertThat(getPaymentIds(firstPage)).containsExactly(payments.get(0).getPaymentId());
+    assertThat(firstPage.getPageInfo().isHasNext()).isTrue();
+    assertThat(firstPage.getPageInfo().getTotalElements()).isNull();
+    assertThat(getPaymentIds(lastPage)).containsExactly(payments.get(1).getPaymentId());
+    assertThat(lastPage.getPageInfo().isHasNext()).isFalse();
+  }
+
+  @Test
+  void shouldRejectInvalidFilters() {
+    // When a malformed date is given
+    ResponseEntity<SearchPaymentsResponse> response = search("dueDateFrom=yesterday");
+
+    // Then the search is rejected
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void shouldPageMemberPayments() {
+    // When the payments of the member are listed
+    ResponseEntity<ListMemberPaymentsResponse> response = testRestTemplate.exchange(
+        "/members/" + TEST_MEMBER_ID + "/payments?page=0&size=2", HttpMethod.GET,
+        new HttpEntity<>(headers), ListMemberPaymentsResponse.class);
+
+    // Then one page of them is returned
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().getPayments()).hasSize(2);
+    assertThat(response.getBody().getPageInfo().getTotalElements()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldSchedulePaymentWithoutRewritingAdmin() {
+    // Given the stored admin
+    User adminBefore = userRepository.findByEmail(TEST_EMAIL);
+    SchedulePaymentRequest request = new SchedulePaymentRequest()
+        .type(WATER_TYPE)
+        .description("scheduled test payment")
+        .recurring(false)
+        .charge(BigDecimal.valueOf(25))
+        .dueDate("2021-01-10")
+        .adminId(adminId)
+        .memberId(TEST_MEMBER_ID);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // When a payment is scheduled
+    statistics.clear();
+    statistics.setStatisticsEnabled(true);
+    ResponseEntity<SchedulePaymentResponse> response;
+    long statements;
+    long updates;
+    try {
+      response = paymentController.schedulePayment(request);
+      statements = statistics.getPrepareStatementCount();
+      updates = statistics.getEntityUpdateCount();
+    } finally {
+      statistics.setStatisticsEnabled(false);
+    }
+
+    try {
+      // Then one authorization query and the insert are run, and nothing is updated
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+      assertThat(response.getBody().getAdminId()).isEqualTo(adminId);
+      assertThat(response.getBody().getMemberId()).isEqualTo(TEST_MEMBER_ID);
+      assertThat(statements).isLessThanOrEqualTo(3);
+      assertThat(updates).isZero();
+      User adminAfter = userRepository.findByEmail(TEST_EMAIL);
+      assertThat(adminAfter.getEncryptedPassword()).isEqualTo(adminBefore.getEncryptedPassword());
+      assertThat(adminAfter.getName()).isEqualTo(adminBefore.getName());
+    } finally {
+      paymentRepository.findByPaymentId(response.getBody().getPaymentId())
+          .ifPresent(paymentRepository::delete);
+    }
+  }
+
+  @Test
+  void shouldScheduleBulkPaymentsForHouseAndCommunity() {
+    int houseMembers =
+        houseMemberRepository.findIdsByHouseIdAndCommunityId(TEST_HOUSE_ID, TEST_COMMUNITY_ID)
+            .size();
+    int communityMembers = houseMemberRepository.findIdsByCommunityId(TEST_COMMUNITY_ID).size();
+    try {
+      // When payments are scheduled for the members of a house
+      ResponseEntity<BulkSchedulePaymentResponse> house =
+          scheduleBulk(getBulkRequest().houseId(TEST_HOUSE_ID));
+
+      // Then every member of the house gets one
+      assertThat(house.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+      assertThat(house.getBody().getScheduledPayments()).isEqualTo(houseMembers);
+      assertThat(house.getBody().getTotalCharge())
+          .isEqualByComparingTo(BigDecimal.valueOf(30L * houseMembers));
+      assertThat(countBulkPayments(TEST_MEMBER_ID)).isEqualTo(1);
+
+      // When payments are scheduled for the whole community
+      ResponseEntity<BulkSchedulePaymentResponse> community = scheduleBulk(getBulkRequest());
+
+      // Then every member of the community gets one
+      assertThat(community.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+      assertThat(community.getBody().getScheduledPayments()).isEqualTo(communityMembers);
+      assertThat(countBulkPayments(TEST_MEMBER_ID)).isEqualTo(2);
+      assertThat(jdbcTemplate.queryForObject(
+          "select count(distinct payment_id) from payment where type = ?", Long.class, BULK_TYPE))
+          .isEqualTo(houseMembers + communityMembers);
+
+      // When the house is unknown, or the template incomplete
+      ResponseEntity<BulkSchedulePaymentResponse> unknownHouse =
+          scheduleBulk(getBulkRequest().houseId("unknown-house-id"));
+      ResponseEntity<BulkSchedulePaymentResponse> invalid =
+          scheduleBulk(getBulkRequest().charge(null));
+
+      // Then nothing is scheduled
+      assertThat(unknownHouse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+      assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    } finally {
+      jdbcTemplate.update("delete from payment where type = ?", BULK_TYPE);
+    }
+  }
+
+  @Test
+  void shouldKeepBalancesAndRebuildThem() {
+    // Given the balances of the member and its house, consistent with the payments
+    assertThat(rebuildBalances().getStatusCode()).isEqualTo(HttpStatus.OK);
+    PaymentBalanceResponse memberBefore = getBalance("/members/" + TEST_MEMBER_ID);
+    PaymentBalanceResponse houseBefore = getBalance("/houses/" + TEST_HOUSE_ID);
+    SchedulePaymentRequest request = new SchedulePaymentRequest()
+        .type(BALANCE_TYPE)
+        .description("balance test payment")
+        .recurring(false)
+        .charge(BigDecimal.valueOf(40))
+        .dueDate("2021-03-10")
+        .adminId(adminId)
+        .memberId(TEST_MEMBER_ID);
+    try {
+      // When a payment is scheduled for the member
+      ResponseEntity<SchedulePaymentResponse> scheduled = testRestTemplate.exchange("/payments",
+          HttpMethod.POST, new HttpEntity<>(request, headers), SchedulePaymentResponse.class);
+
+      // Then both balances include it
+      assertThat(scheduled.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+      PaymentBalanceResponse memberAfter = getBalance("/members/" + TEST_MEMBER_ID);
+      PaymentBalanceResponse houseAfter = getBalance("/houses/" + TEST_HOUSE_ID);
+      assertThat(memberAfter.getTotalCharge())
+          .isEqualByComparingTo(memberBefore.getTotalCharge().add(BigDecimal.valueOf(40)));
+      assertThat(memberAfter.getPaymentCount()).isEqualTo(memberBefore.getPaymentCount() + 1);
+      assertThat(houseAfter.getTotalCharge())
+          .isEqualByComparingTo(houseBefore.getTotalCharge().add(BigDecimal.valueOf(40)));
+      assertThat(houseAfter.getPaymentCount()).isEqualTo(houseBefore.getPaymentCount() + 1);
+
+      // When the stored balance of the member drifts and the balances are rebuilt
+      jdbcTemplate.update("update payment_balance set total_charge = total_charge + 1 "
+          + "where owner_type = 'MEMBER' and owner_id = "
+          + "(select id from house_member where member_id = ?)", TEST_MEMBER_ID);
+      ResponseEntity<RebuildBalancesResponse> rebuilt = rebuildBalances();
+
+      // Then only that balance is corrected
+      assertThat(rebuilt.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(rebuilt.getBody().getBalancesCorrected()).isEqualTo(1);
+      assertThat(rebuilt.getBody().getMembersChecked()).isPositive();
+      assertThat(getBalance("/members/" + TEST_MEMBER_ID).getTotalCharge())
+          .isEqualByComparingTo(memberAfter.getTotalCharge());
+
+      // And unknown owners have no balance
+      assertThat(testRestTemplate.exchange("/houses/unknown-house-id/balance", HttpMethod.GET,
+          new HttpEntity<>(headers), PaymentBalanceResponse.class).getStatusCode())
+          .isEqualTo(HttpStatus.FORBIDDEN);
+    } finally {
+      jdbcTemplate.update("delete from payment where type = ?", BALANCE_TYPE);
+      rebuildBalances();
+    }
+  }
+
+  private PaymentBalanceResponse getBalance(String owner) {
+    ResponseEntity<PaymentBalanceResponse> response = testRestTemplate.exchange(
+        owner + "/balance", HttpMethod.GET, new HttpEntity<>(headers),
+        PaymentBalanceResponse.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private ResponseEntity<RebuildBalancesResponse> rebuildBalances() {
+    return testRestTemplate.exchange(
+        "/communities/" + TEST_COMMUNITY_ID + "/balances/rebuild", HttpMethod.POST,
+        new HttpEntity<>(headers), RebuildBalancesResponse.class);
+  }
+
+  private BulkSchedulePaymentRequest getBulkRequest() {
+    return new BulkSchedulePaymentRequest()
+        .type(BULK_TYPE)
+        .description("monthly service charge")
+        .charge(BigDecimal.valueOf(30))
+        .dueDate(LocalDate.parse("2021-02-01"))
+        .recurring(true);
+  }
+
+  private ResponseEntity<BulkSchedulePaymentResponse> scheduleBulk(
+      BulkSchedulePaymentRequest request) {
+    return testRestTemplate.exchange(
+        "/communities/" + TEST_COMMUNITY_ID + "/admins/" + adminId + "/payments",
+        HttpMethod.POST, new HttpEntity<>(request, headers), BulkSchedulePaymentResponse.class);
+  }
+
+  private long countBulkPayments(String memberId) {
+    return jdbcTemplate.queryForObject("select count(*) from payment payment "
+            + "join house_member member on payment.member_id = member.id "
+            + "where payment.type = ? and member.member_id = ?", Long.class, BULK_TYPE,
+        memberId);
+  }
+
+  private ResponseEntity<SearchPaymentsResponse> search(String query) {
+    return testRestTemplate.exchange(
+        "/communities/" + TEST_COMMUNITY_ID + "/admins/" + adminId + "/payments/search?" + query,
+        HttpMethod.GET, new HttpEntity<>(headers), SearchPaymentsResponse.class);
+  }
+
+  private Payment savePayment(String type, String dueDate, long charge, boolean recurring,
+      User admin, HouseMember member) {
+    return paymentRepository.save(new Payment(UUID.randomUUID().toString(),
+        BigDecimal.valueOf(charge), type, "search test payment", recurring,
+        LocalDate.parse(dueDate), admin, member, null));
+  }
+
+  private static List<String> getPaymentIds(SearchPaymentsResponse response) {
+    return response.getPayments().stream()
+        .map(PaymentSearchResult::getPaymentId)
+        .collect(Collectors.toList());
+  }
+}
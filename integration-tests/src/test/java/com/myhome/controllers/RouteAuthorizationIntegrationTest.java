@@ -0,0 +1,96 @@
+package com.myhome.controllers;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.model.LoginRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RouteAuthorizationIntegrationTest {
+
+  // test user from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+
+  @Value("${api.public.login.url.path}")
+  private String loginPath;
+
+  @Value("${authorization.token.header.name}")
+  private String tokenHeaderName;
+
+  @Value("${authorization.token.header.prefix}")
+  private String tokenHeaderPrefix;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  private HttpHeaders headers;
+
+  // logs in once, as logins are rate limited
+  @BeforeAll
+  void setUp() {
+    ResponseEntity<Void> responseEntity = testRestTemplate.postForEntity(loginPath,
+        new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD), Void.class);
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    headers = new HttpHeaders();
+    headers.set(tokenHeaderName,
+        tokenHeaderPrefix + " " + responseEntity.getHeaders().getFirst("token"));
+  }
+
+  // community, house and member from data.sql, administered by the test user
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/communities/default-community-id-for-testing/houses",
+      "/houses/default-house-id-for-testing",
+      "/houses/default-house-id-for-testing/members",
+      "/members/default-member-id-for-testing/documents"
+  })
+  void shouldServeScopedReadsToAdmins(String path) {
+    // When the admin of the owning community reads the resource
+    HttpStatus status = get(path);
+
+    // Then the request is not rejected
+    assertThat(status).isNotEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  // community, house and member from data.sql, not administered by the test user
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/communities/d8ef3522-1193-4ec2-bc10-7f79a69d8040/houses",
+      "/houses/309921f6-d971-449f-86f9-e09087fbf28e",
+      "/houses/309921f6-d971-449f-86f9-e09087fbf28e/members",
+      "/members/7a281878-022d-4106-905b-6c5127b7c165/documents"
+  })
+  void shouldRejectScopedReadsOfOtherCommunities(String path) {
+    // When another user reads the resource
+    HttpStatus status = get(path);
+
+    // Then the request is rejected
+    assertThat(status).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  private HttpStatus get(String path) {
+    return testRestTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers),
+        String.class).getStatusCode();
+  }
+}
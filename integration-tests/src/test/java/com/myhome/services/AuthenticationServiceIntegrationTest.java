@@ -0,0 +1,84 @@
+package com.myhome.services;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.AuthenticationData;
+import com.myhome.model.LoginRequest;
+import com.myhome.security.jwt.AppJwt;
+import com.myhome.security.jwt.AppJwtEncoderDecoder;
+import java.util.Arrays;
+import java.util.HashSet;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class AuthenticationServiceIntegrationTest {
+
+  // test user from data.sql, administering communities 0 and 2
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_PASSWORD = "testtest";
+
+  @Value("${token.secret}")
+  private String tokenSecret;
+
+  @Autowired
+  private AuthenticationService authenticationService;
+
+  @Autowired
+  private AppJwtEncoderDecoder appJwtEncoderDecoder;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    statistics.setStatisticsEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  void loginIssuesSingleSelect() {
+    // given
+    LoginRequest request = new LoginRequest().email(TEST_EMAIL).password(TEST_PASSWORD);
+    // the first login may rehash the password with the calibrated cost
+    authenticationService.login(request);
+    statistics.clear();
+
+    // when
+    AuthenticationData authenticationData = authenticationService.login(request);
+
+    // then
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(1, statistics.getQueryExecutionCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(0, statistics.getCollectionLoadCount());
+
+    AppJwt jwt = appJwtEncoderDecoder.decode(authenticationData.getJwtToken(), tokenSecret);
+    assertEquals(authenticationData.getUserId(), jwt.getUserId());
+    assertEquals(new HashSet<>(Arrays.asList(
+        "default-community-id-for-testing", "5d55e016-5e94-4ba1-8bd0-86578b49327b")),
+        jwt.getAdminCommunityIds());
+  }
+}
@@ -0,0 +1,158 @@
+package com.myhome.services;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.CommunityAdminAssignment;
+import com.myhome.domain.User;
+import com.myhome.repositories.UserRepository;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = {
+        MyHomeServiceApplication.class,
+        CommunityServiceIntegrationTest.StatementCountingConfiguration.class
+    },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    // a database of its own, as the data source of this context is wrapped
+    properties = "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1"
+)
+class CommunityServiceIntegrationTest {
+
+  // community from data.sql which is not administered by the test user
+  private static final String TEST_COMMUNITY_ID = "d8ef3522-1193-4ec2-bc10-7f79a69d8040";
+  // community lookup, current admins lookup, users lookup, one batch of admin links and one
+  // update of the membership versions
+  private static final long ADD_ADMINS_STATEMENTS = 5;
+
+  @Autowired
+  private CommunityService communityService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 100})
+  void addAdminsToCommunityStatementsDoNotGrowWithAdmins(int adminsCount) {
+    // given
+    List<User> users = new ArrayList<>();
+    Set<String> adminIds = new HashSet<>();
+    for (int i = 0; i < adminsCount; i++) {
+      String userId = "statement-count-admin-" + adminsCount + "-" + i;
+      users.add(new User()
+          .withName("Statement Count Admin " + i)
+          .withUserId(userId)
+          .withEmail(userId + "@test.com")
+          .withEncryptedPassword("password"));
+      adminIds.add(userId);
+    }
+    userRepository.saveAll(users);
+    StatementCountingDataSource statements = (StatementCountingDataSource) dataSource;
+
+    // when
+    statements.reset();
+    Optional<CommunityAdminAssignment> assignment =
+        communityService.addAdminsToCommunity(TEST_COMMUNITY_ID, adminIds);
+    long addAdminsStatements = statements.getCount();
+
+    // then
+    assertEquals(ADD_ADMINS_STATEMENTS, addAdminsStatements);
+    assertTrue(assignment.isPresent());
+    assertTrue(assignment.get().getAdminIds().containsAll(adminIds));
+    assertTrue(assignment.get().getMissingAdminIds().isEmpty());
+  }
+
+  @TestConfiguration
+  static class StatementCountingConfiguration {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)
+              ? new StatementCountingDataSource((DataSource) bean)
+              : bean;
+        }
+      };
+    }
+  }
+
+  /**
+   * Counts the statements prepared by the current thread, whether by Hibernate or by JDBC
+   * templates. A JDBC batch is a single statement.
+   */
+  static class StatementCountingDataSource extends DelegatingDataSource {
+    private final ThreadLocal<Long> count = ThreadLocal.withInitial(() -> 0L);
+
+    StatementCountingDataSource(DataSource targetDataSource) {
+      super(targetDataSource);
+    }
+
+    long getCount() {
+      return count.get();
+    }
+
+    void reset() {
+      count.remove();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return countStatements(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return countStatements(super.getConnection(username, password));
+    }
+
+    private Connection countStatements(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+              case "equals":
+                return proxy == args[0];
+              case "hashCode":
+                return System.identityHashCode(proxy);
+              case "createStatement":
+              case "prepareStatement":
+              case "prepareCall":
+                count.set(count.get() + 1);
+                break;
+              default:
+                break;
+            }
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getTargetException();
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.myhome.services;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.Community;
+import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseMember;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class HouseServiceIntegrationTest {
+
+  // community from data.sql which is not administered by the test user
+  private static final String TEST_COMMUNITY_ID = "d8ef3522-1193-4ec2-bc10-7f79a69d8040";
+  private static final int TEST_MEMBERS_COUNT = 3;
+
+  @Autowired
+  private CommunityService communityService;
+
+  @Autowired
+  private HouseService houseService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    statistics.setStatisticsEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  void houseAndMemberChangesWriteOnlyForeignKeys() {
+    // given
+    CommunityHouse house = new CommunityHouse().withName("Statement Count House");
+    Set<HouseMember> members = new HashSet<>();
+    for (int i = 0; i < TEST_MEMBERS_COUNT; i++) {
+      members.add(new HouseMember().withName("Statement Count Member " + i));
+    }
+
+    // when
+    statistics.clear();
+    String houseId = communityService.addHousesToCommunity(TEST_COMMUNITY_ID,
+        Collections.singleton(house)).iterator().next();
+    long addHouseStatements = statistics.getPrepareStatementCount();
+    try {
+      statistics.clear();
+      Set<HouseMember> addedMembers = houseService.addHouseMembers(houseId, members);
+      long addMembersStatements = statistics.getPrepareStatementCount();
+
+      statistics.clear();
+      boolean memberDeleted = houseService.deleteMemberFromHouse(houseId,
+          addedMembers.iterator().next().getMemberId());
+      long deleteMemberStatements = statistics.getPrepareStatementCount();
+
+      // then
+      // one lookup of the parent and one insert per added row, no join table rows
+      assertEquals(2, addHouseStatements);
+      assertEquals(1 + TEST_MEMBERS_COUNT, addMembersStatements);
+      // a single update of the member's foreign key
+      assertEquals(1, deleteMemberStatements);
+      assertTrue(memberDeleted);
+      assertEquals(TEST_MEMBERS_COUNT - 1,
+          houseService.getHouseMembersById(houseId, PageRequest.of(0, 10)).get().size());
+    } finally {
+      Community community = communityService.getCommunityDetailsById(TEST_COMMUNITY_ID).get();
+      communityService.removeHouseFromCommunityByHouseId(community, houseId);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.myhome.services;
+
+import com.myhome.MyHomeServiceApplication;
+import com.myhome.domain.HouseMember;
+import com.myhome.domain.Payment;
+import com.myhome.domain.RecurringPaymentRun;
+import com.myhome.domain.User;
+import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.repositories.PaymentRepository;
+import com.myhome.repositories.RecurringPaymentRunRepository;
+import com.myhome.repositories.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+    classes = MyHomeServiceApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class RecurringPaymentServiceIntegrationTest {
+
+  // test user administering the community of the test member, from data.sql
+  private static final String TEST_EMAIL = "test@test.com";
+  private static final String TEST_MEMBER_ID = "default-member-id-for-testing";
+  private static final String TEST_TYPE = "recurring-test-rent";
+  // far enough ahead that payments of other tests are outside the window
+  private static final LocalDate TEST_TODAY = LocalDate.of(2031, 1, 1);
+
+  @Autowired
+  private RecurringPaymentService recurringPaymentService;
+
+  @Autowired
+  private RecurringPaymentRunRepository recurringPaymentRunRepository;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private HouseMemberRepository houseMemberRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Payment firstPayment;
+  private Payment secondPayment;
+
+  @BeforeEach
+  void setUp() {
+    recurringPaymentRunRepository.deleteAll();
+    User admin = userRepository.findByEmail(TEST_EMAIL);
+    HouseMember member = houseMemberRepository.findByMemberId(TEST_MEMBER_ID).get();
+    firstPayment = savePayment(LocalDate.of(2031, 1, 5), true, admin, member);
+    secondPayment = savePayment(LocalDate.of(2031, 1, 20), true, admin, member);
+    savePayment(LocalDate.of(2031, 1, 10), false, admin, member);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from payment where type = ? and previous_payment_id is not null",
+        TEST_TYPE);
+    jdbcTemplate.update("delete from payment where type = ?", TEST_TYPE);
+    recurringPaymentRunRepository.deleteAll();
+  }
+
+  @Test
+  void materializesNextOccurrencesOnce() {
+    // when
+    int materialized = recurringPaymentService.materializeDuePayments(TEST_TODAY);
+    int materializedAgain = recurringPaymentService.materializeDuePayments(TEST_TODAY);
+
+    // then
+    assertEquals(2, materialized);
+    assertEquals(0, materializedAgain);
+    assertEquals(LocalDate.of(2031, 2, 5), getNextDueDates(firstPayment).get(0));
+    assertEquals(LocalDate.of(2031, 2, 20), getNextDueDates(secondPayment).get(0));
+    RecurringPaymentRun run = recurringPaymentRunRepository.findFirstByOrderByIdDesc().get();
+    assertTrue(run.isCompleted());
+    assertEquals(TEST_TODAY.plusDays(31), run.getWindowEnd());
+  }
+
+  @Test
+  void interruptedRunResumesAfterHighWaterMark() {
+    // given a run interrupted after its wave up to the first payment was committed, while the
+    // chunk of the second payment was not
+    recurringPaymentService.materializeDuePayments(TEST_TODAY);
+    jdbcTemplate.update("delete from payment where previous_payment_id = ?",
+        secondPayment.getId());
+    RecurringPaymentRun interruptedRun =
+        new RecurringPaymentRun(TEST_TODAY, TEST_TODAY.plusDays(31));
+    interruptedRun.setLastPaymentId(firstPayment.getId());
+    recurringPaymentRunRepository.save(interruptedRun);
+
+    // when the service restarts and runs the next day
+    int materialized = recurringPaymentService.materializeDuePayments(TEST_TODAY.plusDays(1));
+
+    // then the run resumes without duplicating or skipping any payment
+    assertEquals(1, materialized);
+    assertEquals(1, getNextDueDates(firstPayment).size());
+    assertEquals(1, getNextDueDates(secondPayment).size());
+  }
+
+  private Payment savePayment(LocalDate dueDate, boolean recurring, User admin,
+      HouseMember member) {
+    return paymentRepository.save(new Payment(UUID.randomUUID().toString(),
+        BigDecimal.valueOf(100), TEST_TYPE, "recurring test payment", recurring, dueDate, admin,
+        member, null));
+  }
+
+  private List<LocalDate> getNextDueDates(Payment payment) {
+    return jdbcTemplate.queryForList("select due_date from payment where previous_payment_id = ?",
+        LocalDate.class, payment.getId());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.jwt.impl;
+
+import com.myhome.security.jwt.AppJwt;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding a token on a cold decoder (key and parser built from scratch, full
+ * signature verification), on a decoder without token cache (cached parser, full verification)
+ * and on a warm decoder which has already verified the token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecretJwtEncoderDecoderBenchmark {
+
+  private static final String SECRET = "sgahjsdhfjahsdfhjkahjsdfyquiwuhekrjkhsjkdfakjhskdfhiauwehriq"
+      + "wekrhkhknfdkkanskdfkakshdfhuqiwheuriqjwkefkahksdhfkaskdhfkhuiquhweurihqjwkerjqhkwhekfhkan"
+      + "ksdnkfakhsdkfhiiqiwherqjowjeorjoqweoriewoq";
+
+  private SecretJwtEncoderDecoder uncachedDecoder;
+  private SecretJwtEncoderDecoder warmDecoder;
+  private String encodedJwt;
+
+  @Setup
+  public void setUp() {
+    AppJwt jwt = AppJwt.builder()
+        .userId("benchmark-user-id")
+        .expiration(LocalDateTime.now().plusDays(1))
+        .build();
+    uncachedDecoder = new SecretJwtEncoderDecoder(0);
+    warmDecoder = new SecretJwtEncoderDecoder();
+    encodedJwt = warmDecoder.encode(jwt, SECRET);
+    warmDecoder.decode(encodedJwt, SECRET);
+  }
+
+  @Benchmark
+  public AppJwt decodeCold() {
+    return new SecretJwtEncoderDecoder().decode(encodedJwt, SECRET);
+  }
+
+  @Benchmark
+  public AppJwt decodeWithoutTokenCache() {
+    return uncachedDecoder.decode(encodedJwt, SECRET);
+  }
+
+  @Benchmark
+  public AppJwt decodeWarm() {
+    return warmDecoder.decode(encodedJwt, SECRET);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.imaging;
+
+import com.myhome.configuration.properties.files.DocumentCompressionProperties;
+import com.myhome.configuration.properties.files.DocumentStorageProperties;
+import com.myhome.services.DocumentContentStore;
+import com.myhome.services.DocumentContentStore.StoredContent;
+import com.myhome.services.filesystem.FileSystemDocumentContentStore;
+import com.myhome.services.imaging.DocumentCompressionExecutor.StoredRenditions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ByteArrayResource;
+
+/**
+ * Compares 50 concurrent uploads of a 400 KB image stored through the compression executor with
+ * the previous pipeline, which decoded and re-encoded every upload into a byte array on the
+ * request thread. Throughput is reported by JMH; the peak heap usage of every iteration is
+ * printed, and the allocation rate is reported when running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(50)
+@Fork(value = 1, jvmArgs = {"-Xmx512m", "-Djava.awt.headless=true"})
+public class DocumentCompressionExecutorBenchmark {
+
+  // about 400 KB as JPEG at the default quality, as random pixels hardly compress
+  private static final int IMAGE_SIZE = 820;
+  private static final int COMPRESSION_BORDER_SIZE_KB = 240;
+  private static final float COMPRESSED_IMAGE_QUALITY = 0.5f;
+  private static final long MAX_LENGTH = 480 * 1024;
+
+  private Path storageDirectory;
+  private DocumentContentStore documentContentStore;
+  private DocumentCompressionExecutor documentCompressionExecutor;
+  private byte[] upload;
+
+  @Setup
+  public void setUp() throws IOException {
+    storageDirectory = Files.createTempDirectory("document-compression-benchmark");
+    DocumentStorageProperties storageProperties = new DocumentStorageProperties();
+    storageProperties.setDirectory(storageDirectory);
+    documentContentStore = new FileSystemDocumentContentStore(storageProperties);
+    DocumentCompressionProperties compressionProperties = new DocumentCompressionProperties();
+    compressionProperties.setQueueCapacity(64);
+    compressionProperties.setRetryAfter(Duration.ofSeconds(1));
+    compressionProperties.setMaxImagePixels(50_000_000);
+    compressionProperties.setMaxImageDimension(2048);
+    compressionProperties.setMediumRenditionDimension(512);
+    compressionProperties.setSmallRenditionDimension(128);
+    documentCompressionExecutor = new DocumentCompressionExecutor(documentContentStore,
+        compressionProperties, COMPRESSION_BORDER_SIZE_KB, COMPRESSED_IMAGE_QUALITY,
+        new SimpleMeterRegistry());
+    upload = getNoiseImage();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPeakHeapUsage() {
+    ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+  }
+
+  @TearDown(Level.Iteration)
+  public void printPeakHeapUsage() {
+    long peakHeapUsage = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+        .sum();
+    System.out.printf("%npeak heap usage: %d MB%n", peakHeapUsage / (1024 * 1024));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    documentCompressionExecutor.shutdown();
+    try (Stream<Path> files = Files.walk(storageDirectory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public Optional<StoredRenditions> uploadOnCompressionExecutor() throws IOException {
+    return documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH);
+  }
+
+  @Benchmark
+  public Optional<StoredContent> uploadOnRequestThread() throws IOException {
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(upload));
+    try (ByteArrayOutputStream imageByteStream = new ByteArrayOutputStream()) {
+      try (ImageOutputStream imageOutStream = ImageIO.createImageOutputStream(imageByteStream)) {
+        ImageWriter imageWriter = ImageIO.getImageWritersByFormatName("jpg").next();
+        imageWriter.setOutput(imageOutStream);
+        ImageWriteParam param = imageWriter.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(COMPRESSED_IMAGE_QUALITY);
+        imageWriter.write(null, new IIOImage(image, null, null), param);
+        imageWriter.dispose();
+      }
+      byte[] content = imageByteStream.toByteArray();
+      return documentContentStore.store(outputStream -> outputStream.write(content), MAX_LENGTH);
+    }
+  }
+
+  private static byte[] getNoiseImage() throws IOException {
+    Random random = new Random(0);
+    BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < IMAGE_SIZE; x++) {
+      for (int y = 0; y < IMAGE_SIZE; y++) {
+        image.setRGB(x, y, random.nextInt());
+      }
+    }
+    try (ByteArrayOutputStream imageBytes = new ByteArrayOutputStream()) {
+      ImageIO.write(image, "jpg", imageBytes);
+      return imageBytes.toByteArray();
+    }
+  }
+}
@@ -19,9 +19,6 @@ package com.myhome;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
@@ -30,9 +27,4 @@ public class MyHomeServiceApplication {
   public static void main(String[] args) {
     SpringApplication.run(MyHomeServiceApplication.class, args);
   }
-
-  @Bean
-  public PasswordEncoder getPasswordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
 }
@@ -28,12 +28,16 @@ public class FileUploadConfig {
 
   @Value("${files.maxSizeKBytes}")
   private int maxSizeKBytes;
+  @Value("${files.memoryThresholdKBytes}")
+  private int memoryThresholdKBytes;
 
   @Bean
   public MultipartConfigElement multipartConfigElement() {
     MultipartConfigFactory factory = new MultipartConfigFactory();
     factory.setMaxFileSize(DataSize.ofKilobytes(maxSizeKBytes));
     factory.setMaxRequestSize(DataSize.ofKilobytes(maxSizeKBytes));
+    // larger parts are buffered in a temporary file instead of the heap
+    factory.setFileSizeThreshold(DataSize.ofKilobytes(memoryThresholdKBytes));
     return factory.createMultipartConfig();
   }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.configuration;
+
+import com.myhome.configuration.properties.password.BCryptProperties;
+import com.myhome.security.AdaptiveBCryptPasswordEncoder;
+import com.myhome.security.BCryptCalibration;
+import com.myhome.security.BCryptCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+  @Bean
+  public BCryptCalibration bCryptCalibration(BCryptProperties bCryptProperties) {
+    BCryptCalibration calibration = new BCryptCalibrator(bCryptProperties).calibrate();
+    log.info("Calibrated BCrypt strength {} taking {} ms per hash", calibration.getStrength(),
+        calibration.getHashLatency().toMillis());
+    return calibration;
+  }
+
+  @Bean
+  public PasswordEncoder getPasswordEncoder(BCryptCalibration bCryptCalibration) {
+    return new AdaptiveBCryptPasswordEncoder(bCryptCalibration.getStrength());
+  }
+}
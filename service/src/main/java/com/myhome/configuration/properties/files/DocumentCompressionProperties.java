@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.configuration.properties.files;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "files.compression")
+public class DocumentCompressionProperties {
+  // 0 or less sizes the pool to the number of available processors
+  private int threads;
+  private int queueCapacity;
+  private Duration retryAfter;
+  // uploads declaring more pixels are rejected before any pixel is decoded
+  private long maxImagePixels;
+  // larger images are subsampled while decoding, so neither side exceeds this many pixels
+  private int maxImageDimension;
+  // longest side of the downscaled renditions stored next to every document
+  private int mediumRenditionDimension;
+  private int smallRenditionDimension;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.configuration.properties.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+@Data
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+  private boolean enabled;
+  // buckets untouched for this long are evicted, it should exceed the longest group period
+  private Duration idleTimeout;
+  private long maxBuckets;
+  // a request is limited by the first group matching it
+  private List<Group> groups = new ArrayList<>();
+
+  @Data
+  public static class Group {
+    private String name;
+    private List<String> paths = new ArrayList<>();
+    // empty matches every method
+    private Set<HttpMethod> methods = EnumSet.noneOf(HttpMethod.class);
+    private long capacity;
+    private Duration period;
+  }
+}
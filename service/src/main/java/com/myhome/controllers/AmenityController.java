@@ -17,6 +17,7 @@
 package com.myhome.controllers;
 
 import com.myhome.api.AmenitiesApi;
+import com.myhome.controllers.dto.EntityTag;
 import com.myhome.controllers.mapper.AmenityApiMapper;
 import com.myhome.domain.Amenity;
 import com.myhome.model.AddAmenityRequest;
@@ -25,10 +26,12 @@ import com.myhome.model.AmenityDto;
 import com.myhome.model.GetAmenityDetailsResponse;
 import com.myhome.model.UpdateAmenityRequest;
 import com.myhome.services.AmenityService;
+import java.util.Optional;
 import java.util.Set;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -45,11 +48,14 @@ public class AmenityController implements AmenitiesApi {
 
   @Override
   public ResponseEntity<GetAmenityDetailsResponse> getAmenityDetails(
-      @PathVariable String amenityId) {
-    return amenitySDJpaService.getAmenityDetails(amenityId)
-        .map(amenityApiMapper::amenityToAmenityDetailsResponse)
-        .map(ResponseEntity::ok)
-        .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+      @PathVariable String amenityId, String ifNoneMatch) {
+    return EntityTag.<GetAmenityDetailsResponse>checkNotModified(ifNoneMatch,
+        () -> amenitySDJpaService.getAmenityVersion(amenityId))
+        .orElseGet(() -> amenitySDJpaService.getAmenityDetails(amenityId)
+            .map(amenity -> ResponseEntity.ok()
+                .eTag(EntityTag.of(amenity.getVersion()))
+                .body(amenityApiMapper.amenityToAmenityDetailsResponse(amenity)))
+            .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build()));
   }
 
   @Override
@@ -83,10 +89,23 @@ public class AmenityController implements AmenitiesApi {
 
   @Override
   public ResponseEntity<Void> updateAmenity(@PathVariable String amenityId,
-      @Valid @RequestBody UpdateAmenityRequest request) {
+      @Valid @RequestBody UpdateAmenityRequest request, String ifMatch) {
+    Long expectedVersion = null;
+    if (ifMatch != null && !EntityTag.isWildcard(ifMatch)) {
+      Optional<Long> version = EntityTag.parseVersion(ifMatch);
+      if (!version.isPresent()) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+      }
+      expectedVersion = version.get();
+    }
     AmenityDto amenityDto = amenityApiMapper.updateAmenityRequestToAmenityDto(request);
     amenityDto.setAmenityId(amenityId);
-    boolean isUpdated = amenitySDJpaService.updateAmenity(amenityDto);
+    boolean isUpdated;
+    try {
+      isUpdated = amenitySDJpaService.updateAmenity(amenityDto, expectedVersion);
+    } catch (OptimisticLockingFailureException e) {
+      return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
     if (isUpdated) {
       return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     } else {
@@ -18,36 +18,50 @@ package com.myhome.controllers;
 
 import com.myhome.api.CommunitiesApi;
 import com.myhome.controllers.dto.CommunityDto;
+import com.myhome.controllers.dto.EntityTag;
+import com.myhome.controllers.dto.PageCursor;
 import com.myhome.controllers.mapper.CommunityApiMapper;
+import com.myhome.controllers.request.HouseImportRowReader;
 import com.myhome.domain.Community;
 import com.myhome.domain.CommunityHouse;
-import com.myhome.domain.User;
+import com.myhome.domain.KeysetPage;
 import com.myhome.model.AddCommunityAdminRequest;
 import com.myhome.model.AddCommunityAdminResponse;
 import com.myhome.model.AddCommunityHouseRequest;
 import com.myhome.model.AddCommunityHouseResponse;
+import com.myhome.model.CommunityDeletionJobResponse;
 import com.myhome.model.CommunityHouseName;
 import com.myhome.model.CreateCommunityRequest;
 import com.myhome.model.CreateCommunityResponse;
 import com.myhome.model.GetCommunityDetailsResponse;
 import com.myhome.model.GetCommunityDetailsResponseCommunity;
 import com.myhome.model.GetHouseDetailsResponse;
+import com.myhome.model.ImportCommunityHousesResponse;
 import com.myhome.model.ListCommunityAdminsResponse;
+import com.myhome.services.CommunityDeletionService;
 import com.myhome.services.CommunityService;
+import com.myhome.services.HouseImportService;
+import com.myhome.utils.PageInfo;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -59,6 +73,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommunityController implements CommunitiesApi {
   private final CommunityService communityService;
   private final CommunityApiMapper communityApiMapper;
+  private final HouseImportService houseImportService;
+  private final CommunityDeletionService communityDeletionService;
 
   @Override
   public ResponseEntity<CreateCommunityResponse> createCommunity(@Valid @RequestBody
@@ -74,9 +90,20 @@ public class CommunityController implements CommunitiesApi {
 
   @Override
   public ResponseEntity<GetCommunityDetailsResponse> listAllCommunity(
-      @PageableDefault(size = 200) Pageable pageable) {
+      @PageableDefault(size = 200) Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all community");
 
+    if (cursor != null) {
+      KeysetPage<Community> communities = communityService.listAll(
+          PageCursor.parse(cursor).getAfterKey(), pageable.getPageSize());
+      return ResponseEntity.ok(new GetCommunityDetailsResponse()
+          .communities(new LinkedHashSet<>(communityApiMapper
+              .communityListToRestApiResponseCommunityList(communities.getContent())))
+          .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+              PageCursor.encode(communities.getNextKey()))));
+    }
+
     Set<Community> communityDetails = communityService.listAll(pageable);
     Set<GetCommunityDetailsResponseCommunity> communityDetailsResponse =
         communityApiMapper.communitySetToRestApiResponseCommunitySet(communityDetails);
@@ -89,24 +116,38 @@ public class CommunityController implements CommunitiesApi {
 
   @Override
   public ResponseEntity<GetCommunityDetailsResponse> listCommunityDetails(
-      @PathVariable String communityId) {
+      @PathVariable String communityId, String ifNoneMatch) {
     log.trace("Received request to get details about community with id[{}]", communityId);
 
-    return communityService.getCommunityDetailsById(communityId)
-        .map(communityApiMapper::communityToRestApiResponseCommunity)
-        .map(Arrays::asList)
-        .map(HashSet::new)
-        .map(communities -> new GetCommunityDetailsResponse().communities(communities))
-        .map(ResponseEntity::ok)
-        .orElseGet(() -> ResponseEntity.notFound().build());
+    return EntityTag.<GetCommunityDetailsResponse>checkNotModified(ifNoneMatch,
+        () -> communityService.getCommunityVersion(communityId))
+        .orElseGet(() -> communityService.getCommunityDetailsById(communityId)
+            .map(community -> ResponseEntity.ok()
+                .eTag(EntityTag.of(community.getVersion()))
+                .body(new GetCommunityDetailsResponse().communities(new HashSet<>(Arrays.asList(
+                    communityApiMapper.communityToRestApiResponseCommunity(community))))))
+            .orElseGet(() -> ResponseEntity.notFound().build()));
   }
 
   @Override
   public ResponseEntity<ListCommunityAdminsResponse> listCommunityAdmins(
       @PathVariable String communityId,
-      @PageableDefault(size = 200) Pageable pageable) {
+      @PageableDefault(size = 200) Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all admins of community with id[{}]", communityId);
 
+    if (cursor != null) {
+      return communityService.findCommunityAdminsById(communityId,
+          PageCursor.parse(cursor).getAfterKey(), pageable.getPageSize())
+          .map(admins -> new ListCommunityAdminsResponse()
+              .admins(new LinkedHashSet<>(communityApiMapper
+                  .communityAdminListToRestApiResponseCommunityAdminList(admins.getContent())))
+              .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+                  PageCursor.encode(admins.getNextKey()))))
+          .map(ResponseEntity::ok)
+          .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     return communityService.findCommunityAdminsById(communityId, pageable)
         .map(HashSet::new)
         .map(communityApiMapper::communityAdminSetToRestApiResponseCommunityAdminSet)
@@ -118,9 +159,22 @@ public class CommunityController implements CommunitiesApi {
   @Override
   public ResponseEntity<GetHouseDetailsResponse> listCommunityHouses(
       @PathVariable String communityId,
-      @PageableDefault(size = 200) Pageable pageable) {
+      @PageableDefault(size = 200) Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all houses of community with id[{}]", communityId);
 
+    if (cursor != null) {
+      return communityService.findCommunityHousesById(communityId,
+          PageCursor.parse(cursor).getAfterKey(), pageable.getPageSize())
+          .map(houses -> new GetHouseDetailsResponse()
+              .houses(new LinkedHashSet<>(communityApiMapper
+                  .communityHouseListToRestApiResponseCommunityHouseList(houses.getContent())))
+              .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+                  PageCursor.encode(houses.getNextKey()))))
+          .map(ResponseEntity::ok)
+          .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     return communityService.findCommunityHousesById(communityId, pageable)
         .map(HashSet::new)
         .map(communityApiMapper::communityHouseSetToRestApiResponseCommunityHouseSet)
@@ -134,16 +188,12 @@ public class CommunityController implements CommunitiesApi {
       @PathVariable String communityId, @Valid @RequestBody
       AddCommunityAdminRequest request) {
     log.trace("Received request to add admin to community with id[{}]", communityId);
-    Optional<Community> communityOptional =
-        communityService.addAdminsToCommunity(communityId, request.getAdmins());
-    return communityOptional.map(community -> {
-      Set<String> adminsSet = community.getAdmins()
-          .stream()
-          .map(User::getUserId)
-          .collect(Collectors.toSet());
-      AddCommunityAdminResponse response = new AddCommunityAdminResponse().admins(adminsSet);
-      return ResponseEntity.status(HttpStatus.CREATED).body(response);
-    }).orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    return communityService.addAdminsToCommunity(communityId, request.getAdmins())
+        .map(assignment -> ResponseEntity.status(HttpStatus.CREATED)
+            .body(new AddCommunityAdminResponse()
+                .admins(assignment.getAdminIds())
+                .missingAdmins(assignment.getMissingAdminIds())))
+        .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
   }
 
   @Override
@@ -204,4 +254,43 @@ public class CommunityController implements CommunitiesApi {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
   }
+
+  @Override
+  public ResponseEntity<ImportCommunityHousesResponse> importCommunityHouses(
+      @PathVariable String communityId, @RequestBody InputStreamResource rows) {
+    log.trace("Received request to import houses into community with id[{}]", communityId);
+    InputStream input;
+    try {
+      input = rows.getInputStream();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    try (HouseImportRowReader rowReader = HouseImportRowReader.open(input)) {
+      return houseImportService.importHouses(communityId, rowReader)
+          .map(communityApiMapper::houseImportReportToRestApiResponse)
+          .map(ResponseEntity::ok)
+          .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+  }
+
+  @Override
+  public ResponseEntity<CommunityDeletionJobResponse> startCommunityDeletion(
+      @PathVariable String communityId) {
+    log.trace("Received request to delete community with id[{}] in the background", communityId);
+    return communityDeletionService.startDeletion(communityId)
+        .map(job -> ResponseEntity.accepted()
+            .location(URI.create("/community-deletions/" + job.getJobId()))
+            .body(communityApiMapper.communityDeletionJobToRestApiResponse(job)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  @Override
+  public ResponseEntity<CommunityDeletionJobResponse> getCommunityDeletion(
+      @PathVariable String jobId) {
+    log.trace("Received request to get community deletion with id[{}]", jobId);
+    return communityDeletionService.getDeletion(jobId)
+        .map(communityApiMapper::communityDeletionJobToRestApiResponse)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
 }
@@ -17,18 +17,23 @@
 package com.myhome.controllers;
 
 import com.myhome.api.HousesApi;
+import com.myhome.controllers.dto.EntityTag;
+import com.myhome.controllers.dto.PageCursor;
 import com.myhome.controllers.dto.mapper.HouseMemberMapper;
 import com.myhome.controllers.mapper.HouseApiMapper;
 import com.myhome.domain.CommunityHouse;
 import com.myhome.domain.HouseMember;
+import com.myhome.domain.KeysetPage;
 import com.myhome.model.AddHouseMemberRequest;
 import com.myhome.model.AddHouseMemberResponse;
 import com.myhome.model.GetHouseDetailsResponse;
 import com.myhome.model.GetHouseDetailsResponseCommunityHouse;
 import com.myhome.model.ListHouseMembersResponse;
 import com.myhome.services.HouseService;
+import com.myhome.utils.PageInfo;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +43,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -50,9 +56,20 @@ public class HouseController implements HousesApi {
 
   @Override
   public ResponseEntity<GetHouseDetailsResponse> listAllHouses(
-      @PageableDefault(size = 200) Pageable pageable) {
+      @PageableDefault(size = 200) Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all houses");
 
+    if (cursor != null) {
+      KeysetPage<CommunityHouse> houses = houseService.listAllHouses(
+          PageCursor.parse(cursor).getAfterKey(), pageable.getPageSize());
+      return ResponseEntity.ok(new GetHouseDetailsResponse()
+          .houses(new LinkedHashSet<>(houseApiMapper
+              .communityHouseListToRestApiResponseCommunityHouseList(houses.getContent())))
+          .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+              PageCursor.encode(houses.getNextKey()))));
+    }
+
     Set<CommunityHouse> houseDetails =
         houseService.listAllHouses(pageable);
     Set<GetHouseDetailsResponseCommunityHouse> getHouseDetailsResponseSet =
@@ -66,22 +83,38 @@ public class HouseController implements HousesApi {
   }
 
   @Override
-  public ResponseEntity<GetHouseDetailsResponse> getHouseDetails(String houseId) {
+  public ResponseEntity<GetHouseDetailsResponse> getHouseDetails(String houseId,
+      String ifNoneMatch) {
     log.trace("Received request to get details of a house with id[{}]", houseId);
-    return houseService.getHouseDetailsById(houseId)
-        .map(houseApiMapper::communityHouseToRestApiResponseCommunityHouse)
-        .map(Collections::singleton)
-        .map(getHouseDetailsResponseCommunityHouses -> new GetHouseDetailsResponse().houses(getHouseDetailsResponseCommunityHouses))
-        .map(ResponseEntity::ok)
-        .orElse(ResponseEntity.notFound().build());
+    return EntityTag.<GetHouseDetailsResponse>checkNotModified(ifNoneMatch,
+        () -> houseService.getHouseVersion(houseId))
+        .orElseGet(() -> houseService.getHouseDetailsById(houseId)
+            .map(house -> ResponseEntity.ok()
+                .eTag(EntityTag.of(house.getVersion()))
+                .body(new GetHouseDetailsResponse().houses(Collections.singleton(
+                    houseApiMapper.communityHouseToRestApiResponseCommunityHouse(house)))))
+            .orElse(ResponseEntity.notFound().build()));
   }
 
   @Override
   public ResponseEntity<ListHouseMembersResponse> listAllMembersOfHouse(
       String houseId,
-      @PageableDefault(size = 200) Pageable pageable) {
+      @PageableDefault(size = 200) Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all members of the house with id[{}]", houseId);
 
+    if (cursor != null) {
+      return houseService.getHouseMembersById(houseId, PageCursor.parse(cursor).getAfterKey(),
+          pageable.getPageSize())
+          .map(members -> new ListHouseMembersResponse()
+              .members(new LinkedHashSet<>(houseMemberMapper
+                  .houseMemberListToRestApiResponseHouseMemberList(members.getContent())))
+              .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+                  PageCursor.encode(members.getNextKey()))))
+          .map(ResponseEntity::ok)
+          .orElse(ResponseEntity.notFound().build());
+    }
+
     return houseService.getHouseMembersById(houseId, pageable)
         .map(HashSet::new)
         .map(houseMemberMapper::houseMemberSetToRestApiResponseHouseMemberSet)
@@ -17,11 +17,15 @@
 package com.myhome.controllers;
 
 import com.myhome.api.DocumentsApi;
+import com.myhome.controllers.dto.EntityTag;
+import com.myhome.domain.DocumentRendition;
 import com.myhome.domain.HouseMemberDocument;
 import com.myhome.services.HouseMemberDocumentService;
+import java.util.Locale;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -44,27 +48,44 @@ public class HouseMemberDocumentController implements DocumentsApi {
   private final HouseMemberDocumentService houseMemberDocumentService;
 
   @Override
-  public ResponseEntity<byte[]> getHouseMemberDocument(@PathVariable String memberId) {
+  public ResponseEntity<Resource> getHouseMemberDocument(@PathVariable String memberId,
+      String size, String ifNoneMatch) {
     log.trace("Received request to get house member documents");
+    DocumentRendition rendition;
+    try {
+      rendition = DocumentRendition.valueOf(size.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
     Optional<HouseMemberDocument> houseMemberDocumentOptional =
         houseMemberDocumentService.findHouseMemberDocument(memberId);
 
-    return houseMemberDocumentOptional.map(document -> {
+    return houseMemberDocumentOptional.flatMap(document -> {
+      String entityTag = EntityTag.of(document.getContentKey(rendition));
+      if (EntityTag.matchesAny(ifNoneMatch, entityTag)) {
+        return Optional.of(
+            ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).<Resource>build());
+      }
 
-      HttpHeaders headers = new HttpHeaders();
-      byte[] content = document.getDocumentContent();
+      // the content is streamed from the store, Range requests are answered by Spring MVC
+      Optional<Resource> documentContent =
+          houseMemberDocumentService.findHouseMemberDocumentContent(document, rendition);
+      return documentContent.map(content -> {
+        HttpHeaders headers = new HttpHeaders();
 
-      headers.setCacheControl(CacheControl.noCache().getHeaderValue());
-      headers.setContentType(MediaType.IMAGE_JPEG);
+        headers.setCacheControl(CacheControl.noCache().getHeaderValue());
+        headers.setContentType(MediaType.IMAGE_JPEG);
+        headers.setETag(entityTag);
 
-      ContentDisposition contentDisposition = ContentDisposition
-          .builder("inline")
-          .filename(document.getDocumentFilename())
-          .build();
+        ContentDisposition contentDisposition = ContentDisposition
+            .builder("inline")
+            .filename(document.getDocumentFilename())
+            .build();
 
-      headers.setContentDisposition(contentDisposition);
+        headers.setContentDisposition(contentDisposition);
 
-      return new ResponseEntity<>(content, headers, HttpStatus.OK);
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
+      });
     }).orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
   }
 
@@ -20,19 +20,26 @@ import com.myhome.api.PaymentsApi;
 import com.myhome.controllers.dto.PaymentDto;
 import com.myhome.controllers.mapper.SchedulePaymentApiMapper;
 import com.myhome.controllers.request.EnrichedSchedulePaymentRequest;
+import com.myhome.domain.BulkPaymentTemplate;
 import com.myhome.domain.Community;
-import com.myhome.domain.CommunityHouse;
-import com.myhome.domain.HouseMember;
 import com.myhome.domain.Payment;
-import com.myhome.domain.User;
+import com.myhome.domain.PaymentSearchFilter;
+import com.myhome.domain.PaymentSummary;
 import com.myhome.model.AdminPayment;
+import com.myhome.model.BulkSchedulePaymentRequest;
+import com.myhome.model.BulkSchedulePaymentResponse;
 import com.myhome.model.ListAdminPaymentsResponse;
 import com.myhome.model.ListMemberPaymentsResponse;
+import com.myhome.model.PaymentBalanceResponse;
+import com.myhome.model.RebuildBalancesResponse;
 import com.myhome.model.SchedulePaymentRequest;
 import com.myhome.model.SchedulePaymentResponse;
+import com.myhome.model.SearchPaymentsResponse;
 import com.myhome.services.CommunityService;
 import com.myhome.services.PaymentService;
 import com.myhome.utils.PageInfo;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -41,6 +48,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -61,31 +69,84 @@ public class PaymentController implements PaymentsApi {
       SchedulePaymentRequest request) {
     log.trace("Received schedule payment request");
 
-    HouseMember houseMember = paymentService.getHouseMember(request.getMemberId())
-        .orElseThrow(() -> new RuntimeException(
-            "House member with given id not exists: " + request.getMemberId()));
-    User admin = communityService.findCommunityAdminById(request.getAdminId())
-        .orElseThrow(
-            () -> new RuntimeException("Admin with given id not exists: " + request.getAdminId()));
-
-    if (isUserAdminOfCommunityHouse(houseMember.getCommunityHouse(), admin)) {
-      final EnrichedSchedulePaymentRequest paymentRequest =
-          schedulePaymentApiMapper.enrichSchedulePaymentRequest(request, admin, houseMember);
-      final PaymentDto paymentDto =
-          schedulePaymentApiMapper.enrichedSchedulePaymentRequestToPaymentDto(paymentRequest);
-      final PaymentDto processedPayment = paymentService.schedulePayment(paymentDto);
-      final SchedulePaymentResponse paymentResponse =
-          schedulePaymentApiMapper.paymentToSchedulePaymentResponse(processedPayment);
-      return ResponseEntity.status(HttpStatus.CREATED).body(paymentResponse);
-    }
+    return paymentService.findPaymentParticipants(request.getMemberId(), request.getAdminId())
+        .map(participants -> {
+          final EnrichedSchedulePaymentRequest paymentRequest =
+              schedulePaymentApiMapper.enrichSchedulePaymentRequest(request, participants);
+          final PaymentDto paymentDto =
+              schedulePaymentApiMapper.enrichedSchedulePaymentRequestToPaymentDto(paymentRequest);
+          final PaymentDto processedPayment = paymentService.schedulePayment(paymentDto);
+          final SchedulePaymentResponse paymentResponse =
+              schedulePaymentApiMapper.paymentToSchedulePaymentResponse(processedPayment);
+          return ResponseEntity.status(HttpStatus.CREATED).body(paymentResponse);
+        })
+        .orElseGet(() -> rejectSchedulePayment(request));
+  }
 
+  /**
+   * Explains why no participants were found for a schedule payment request. Only reached on the
+   * failure path, so the happy path stays a single authorization query.
+   */
+  private ResponseEntity<SchedulePaymentResponse> rejectSchedulePayment(
+      SchedulePaymentRequest request) {
+    if (!paymentService.getHouseMember(request.getMemberId()).isPresent()) {
+      throw new RuntimeException(
+          "House member with given id not exists: " + request.getMemberId());
+    }
+    if (!communityService.findCommunityAdminById(request.getAdminId()).isPresent()) {
+      throw new RuntimeException("Admin with given id not exists: " + request.getAdminId());
+    }
     return ResponseEntity.notFound().build();
   }
 
-  private boolean isUserAdminOfCommunityHouse(CommunityHouse communityHouse, User admin) {
-    return communityHouse.getCommunity()
-        .getAdmins()
-        .contains(admin);
+  @Override
+  public ResponseEntity<BulkSchedulePaymentResponse> scheduleBulkPayments(String communityId,
+      String adminId, @Valid BulkSchedulePaymentRequest request) {
+    log.trace("Received request to schedule payments in bulk by the admin with id[{}]", adminId);
+
+    BulkPaymentTemplate template = BulkPaymentTemplate.builder()
+        .type(request.getType())
+        .description(request.getDescription())
+        .charge(request.getCharge())
+        .dueDate(request.getDueDate())
+        .recurring(Boolean.TRUE.equals(request.isRecurring()))
+        .build();
+    return paymentService.scheduleBulkPayments(communityId, adminId, request.getHouseId(),
+        template)
+        .map(schedulePaymentApiMapper::bulkPaymentSummaryToBulkSchedulePaymentResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  @Override
+  public ResponseEntity<PaymentBalanceResponse> getMemberBalance(String memberId) {
+    log.trace("Received request to get the balance of the house member with id[{}]", memberId);
+
+    return paymentService.getMemberBalance(memberId)
+        .map(schedulePaymentApiMapper::paymentBalanceToPaymentBalanceResponse)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  @Override
+  public ResponseEntity<PaymentBalanceResponse> getHouseBalance(String houseId) {
+    log.trace("Received request to get the balance of the house with id[{}]", houseId);
+
+    return paymentService.getHouseBalance(houseId)
+        .map(schedulePaymentApiMapper::paymentBalanceToPaymentBalanceResponse)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  @Override
+  public ResponseEntity<RebuildBalancesResponse> rebuildBalances(String communityId) {
+    log.trace("Received request to rebuild the balances of the community with id[{}]",
+        communityId);
+
+    return paymentService.rebuildBalances(communityId)
+        .map(schedulePaymentApiMapper::balanceRebuildReportToRebuildBalancesResponse)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   @Override
@@ -99,41 +160,80 @@ public class PaymentController implements PaymentsApi {
   }
 
   @Override
-  public ResponseEntity<ListMemberPaymentsResponse> listAllMemberPayments(String memberId) {
+  public ResponseEntity<ListMemberPaymentsResponse> listAllMemberPayments(String memberId,
+      Pageable pageable) {
     log.trace("Received request to list all the payments for the house member with id[{}]",
         memberId);
 
     return paymentService.getHouseMember(memberId)
-        .map(payments -> paymentService.getPaymentsByMember(memberId))
-        .map(schedulePaymentApiMapper::memberPaymentSetToRestApiResponseMemberPaymentSet)
-        .map(memberPayments -> new ListMemberPaymentsResponse().payments(memberPayments))
+        .map(member -> paymentService.getPaymentsByMember(memberId, pageable))
+        .map(page -> new ListMemberPaymentsResponse()
+            .payments(schedulePaymentApiMapper.memberPaymentSetToRestApiResponseMemberPaymentSet(
+                new HashSet<>(page.getContent())))
+            .pageInfo(PageInfo.of(pageable, page)))
         .map(ResponseEntity::ok)
         .orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   @Override
   public ResponseEntity<ListAdminPaymentsResponse> listAllAdminScheduledPayments(
-      String communityId, String adminId, Pageable pageable) {
+      String communityId, String adminId, Pageable pageable, Boolean slice) {
     log.trace("Received request to list all the payments scheduled by the admin with id[{}]",
         adminId);
 
     final boolean isAdminInGivenCommunity = isAdminInGivenCommunity(communityId, adminId);
 
     if (isAdminInGivenCommunity) {
-      final Page<Payment> paymentsForAdmin = paymentService.getPaymentsByAdmin(adminId, pageable);
+      final Slice<Payment> paymentsForAdmin;
+      final PageInfo pageInfo;
+      if (Boolean.TRUE.equals(slice)) {
+        paymentsForAdmin = paymentService.getPaymentSliceByAdmin(adminId, pageable);
+        pageInfo = PageInfo.ofSlice(pageable, paymentsForAdmin);
+      } else {
+        final Page<Payment> page = paymentService.getPaymentsByAdmin(adminId, pageable);
+        paymentsForAdmin = page;
+        pageInfo = PageInfo.of(pageable, page);
+      }
       final List<Payment> payments = paymentsForAdmin.getContent();
       final Set<AdminPayment> adminPayments =
           schedulePaymentApiMapper.adminPaymentSetToRestApiResponseAdminPaymentSet(
               new HashSet<>(payments));
       final ListAdminPaymentsResponse response = new ListAdminPaymentsResponse()
           .payments(adminPayments)
-          .pageInfo(PageInfo.of(pageable, paymentsForAdmin));
+          .pageInfo(pageInfo);
       return ResponseEntity.ok().body(response);
     }
 
     return ResponseEntity.notFound().build();
   }
 
+  @Override
+  public ResponseEntity<SearchPaymentsResponse> searchAdminPayments(String communityId,
+      String adminId, LocalDate dueDateFrom, LocalDate dueDateTo, String type, Boolean recurring,
+      BigDecimal minCharge, BigDecimal maxCharge, Pageable pageable) {
+    log.trace("Received request to search the payments scheduled by the admin with id[{}]",
+        adminId);
+
+    if (!isAdminInGivenCommunity(communityId, adminId)) {
+      return ResponseEntity.notFound().build();
+    }
+    PaymentSearchFilter filter = PaymentSearchFilter.builder()
+        .dueDateFrom(dueDateFrom)
+        .dueDateTo(dueDateTo)
+        .type(type)
+        .recurring(recurring)
+        .minCharge(minCharge)
+        .maxCharge(maxCharge)
+        .build();
+    Slice<PaymentSummary> payments =
+        paymentService.searchPaymentsByAdmin(adminId, filter, pageable);
+    SearchPaymentsResponse response = new SearchPaymentsResponse()
+        .payments(schedulePaymentApiMapper.paymentSummariesToPaymentSearchResults(
+            payments.getContent()))
+        .pageInfo(PageInfo.ofSlice(pageable, payments));
+    return ResponseEntity.ok(response);
+  }
+
   private Boolean isAdminInGivenCommunity(String communityId, String adminId) {
     return communityService.getCommunityDetailsByIdWithAdmins(communityId)
         .map(Community::getAdmins)
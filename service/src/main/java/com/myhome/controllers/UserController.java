@@ -17,9 +17,11 @@
 package com.myhome.controllers;
 
 import com.myhome.api.UsersApi;
+import com.myhome.controllers.dto.PageCursor;
 import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.dto.mapper.HouseMemberMapper;
 import com.myhome.controllers.mapper.UserApiMapper;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.PasswordActionType;
 import com.myhome.domain.User;
 import com.myhome.model.CreateUserRequest;
@@ -30,7 +32,9 @@ import com.myhome.model.GetUserDetailsResponseUser;
 import com.myhome.model.ListHouseMembersResponse;
 import com.myhome.services.HouseService;
 import com.myhome.services.UserService;
+import com.myhome.utils.PageInfo;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 import javax.validation.Valid;
@@ -40,6 +44,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.constraints.NotNull;
@@ -71,9 +76,20 @@ public class UserController implements UsersApi {
   }
 
   @Override
-  public ResponseEntity<GetUserDetailsResponse> listAllUsers(Pageable pageable) {
+  public ResponseEntity<GetUserDetailsResponse> listAllUsers(Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all users");
 
+    if (cursor != null) {
+      KeysetPage<User> users = userService.listAll(PageCursor.parse(cursor).getAfterKey(),
+          pageable.getPageSize());
+      return ResponseEntity.ok(new GetUserDetailsResponse()
+          .users(new LinkedHashSet<>(
+              userApiMapper.userListToRestApiResponseUserList(users.getContent())))
+          .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+              PageCursor.encode(users.getNextKey()))));
+    }
+
     Set<User> userDetails = userService.listAll(pageable);
     Set<GetUserDetailsResponseUser> userDetailsResponse =
         userApiMapper.userSetToRestApiResponseUserSet(userDetails);
@@ -112,9 +128,22 @@ public class UserController implements UsersApi {
   }
 
   @Override
-  public ResponseEntity<ListHouseMembersResponse> listAllHousemates(String userId, Pageable pageable) {
+  public ResponseEntity<ListHouseMembersResponse> listAllHousemates(String userId, Pageable pageable,
+      @RequestParam(required = false) String cursor) {
     log.trace("Received request to list all members of all houses of user with Id[{}]", userId);
 
+    if (cursor != null) {
+      return houseService.listHouseMembersForHousesOfUserId(userId,
+          PageCursor.parse(cursor).getAfterKey(), pageable.getPageSize())
+          .map(members -> new ListHouseMembersResponse()
+              .members(new LinkedHashSet<>(houseMemberMapper
+                  .houseMemberListToRestApiResponseHouseMemberList(members.getContent())))
+              .pageInfo(PageInfo.ofCursor(pageable.getPageSize(),
+                  PageCursor.encode(members.getNextKey()))))
+          .map(ResponseEntity::ok)
+          .orElse(ResponseEntity.notFound().build());
+    }
+
     return houseService.listHouseMembersForHousesOfUserId(userId, pageable)
             .map(HashSet::new)
             .map(houseMemberMapper::houseMemberSetToRestApiResponseHouseMemberSet)
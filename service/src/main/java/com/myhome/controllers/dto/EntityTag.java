@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.controllers.dto;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Strong entity tags of representations, derived from an entity version or a content digest.
+ */
+public final class EntityTag {
+  private static final String WILDCARD = "*";
+  private static final String WEAK_PREFIX = "W/";
+
+  private EntityTag() {
+  }
+
+  public static String of(long version) {
+    return quote(Long.toString(version));
+  }
+
+  public static String of(String digest) {
+    return quote(digest);
+  }
+
+  /**
+   * Evaluates an If-None-Match header, which compares tags weakly.
+   *
+   * @return true if the header lists the given tag or is a wildcard
+   */
+  public static boolean matchesAny(String ifNoneMatch, String entityTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      String trimmed = tag.trim();
+      if (trimmed.startsWith(WEAK_PREFIX)) {
+        trimmed = trimmed.substring(WEAK_PREFIX.length());
+      }
+      if (trimmed.equals(WILDCARD) || trimmed.equals(entityTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public static boolean isWildcard(String ifMatch) {
+    return WILDCARD.equals(ifMatch.trim());
+  }
+
+  /**
+   * Reads the entity version an If-Match header refers to.
+   *
+   * @return version of the single strong tag of the header, or empty if the header cannot match
+   *     any version
+   */
+  public static Optional<Long> parseVersion(String ifMatch) {
+    String tag = ifMatch.trim();
+    if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Answers a conditional GET from the entity version, before the representation is loaded.
+   *
+   * @param currentVersion looks up the version of the entity, only called for conditional
+   *     requests
+   * @return 304 response if the client's copy is current, empty if the representation is sent
+   */
+  public static <T> Optional<ResponseEntity<T>> checkNotModified(String ifNoneMatch,
+      Supplier<Optional<Long>> currentVersion) {
+    if (ifNoneMatch == null) {
+      return Optional.empty();
+    }
+    return currentVersion.get()
+        .map(EntityTag::of)
+        .filter(entityTag -> matchesAny(ifNoneMatch, entityTag))
+        .map(entityTag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build());
+  }
+
+  private static String quote(String value) {
+    return '"' + value + '"';
+  }
+}
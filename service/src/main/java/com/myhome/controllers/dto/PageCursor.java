@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.controllers.dto;
+
+import com.myhome.controllers.exceptions.InvalidPageCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Opaque cursor of keyset pagination, wrapping the id of the last entity of the previous page.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+  private static final String KEY_PREFIX = "id:";
+
+  // null for the first page
+  private final Long afterKey;
+
+  /**
+   * Reads a cursor passed by a client, where an empty cursor starts at the first page.
+   *
+   * @throws InvalidPageCursorException if the cursor was not issued by {@link #encode(Long)}
+   */
+  public static PageCursor parse(String cursor) {
+    if (cursor.isEmpty()) {
+      return new PageCursor(null);
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (!decoded.startsWith(KEY_PREFIX)) {
+        throw new InvalidPageCursorException(cursor);
+      }
+      return new PageCursor(Long.parseLong(decoded.substring(KEY_PREFIX.length())));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPageCursorException(cursor);
+    }
+  }
+
+  /**
+   * @return cursor of the page following the given key, or null if there is none
+   */
+  public static String encode(Long nextKey) {
+    if (nextKey == null) {
+      return null;
+    }
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((KEY_PREFIX + nextKey).getBytes(StandardCharsets.UTF_8));
+  }
+}
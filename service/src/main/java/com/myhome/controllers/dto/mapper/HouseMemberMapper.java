@@ -18,6 +18,7 @@ package com.myhome.controllers.dto.mapper;
 
 import com.myhome.domain.HouseMember;
 import com.myhome.model.HouseMemberDto;
+import java.util.List;
 import java.util.Set;
 import org.mapstruct.Mapper;
 
@@ -26,6 +27,9 @@ public interface HouseMemberMapper {
   Set<com.myhome.model.HouseMember> houseMemberSetToRestApiResponseHouseMemberSet(
       Set<HouseMember> houseMemberSet);
 
+  List<com.myhome.model.HouseMember> houseMemberListToRestApiResponseHouseMemberList(
+      List<HouseMember> houseMemberList);
+
   Set<HouseMember> houseMemberDtoSetToHouseMemberSet(Set<HouseMemberDto> houseMemberDtoSet);
 
   Set<com.myhome.model.HouseMember> houseMemberSetToRestApiResponseAddHouseMemberSet(
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.controllers.exceptionhandler;
+
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class ServiceUnavailableExceptionAdvice {
+
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<Map<String, String>> handleServiceUnavailableException(
+      ServiceUnavailableException exc) {
+    long retryAfterSeconds = Math.max(1, exc.getRetryAfter().getSeconds());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(Collections.singletonMap("message", exc.getMessage()));
+  }
+}
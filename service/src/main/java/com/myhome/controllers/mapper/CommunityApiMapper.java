@@ -18,14 +18,19 @@ package com.myhome.controllers.mapper;
 
 import com.myhome.controllers.dto.CommunityDto;
 import com.myhome.domain.Community;
+import com.myhome.domain.CommunityDeletionJob;
 import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseImportReport;
 import com.myhome.domain.User;
+import com.myhome.model.CommunityDeletionJobResponse;
 import com.myhome.model.CommunityHouseName;
 import com.myhome.model.CreateCommunityRequest;
 import com.myhome.model.CreateCommunityResponse;
 import com.myhome.model.GetCommunityDetailsResponseCommunity;
 import com.myhome.model.GetHouseDetailsResponseCommunityHouse;
+import com.myhome.model.ImportCommunityHousesResponse;
 import com.myhome.model.ListCommunityAdminsResponseCommunityAdmin;
+import java.util.List;
 import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -40,11 +45,17 @@ public interface CommunityApiMapper {
   Set<GetCommunityDetailsResponseCommunity> communitySetToRestApiResponseCommunitySet(
       Set<Community> communitySet);
 
+  List<GetCommunityDetailsResponseCommunity> communityListToRestApiResponseCommunityList(
+      List<Community> communityList);
+
   CreateCommunityResponse communityToCreateCommunityResponse(Community community);
 
   Set<ListCommunityAdminsResponseCommunityAdmin> communityAdminSetToRestApiResponseCommunityAdminSet(
       Set<User> communityAdminSet);
 
+  List<ListCommunityAdminsResponseCommunityAdmin> communityAdminListToRestApiResponseCommunityAdminList(
+      List<User> communityAdminList);
+
   @Mapping(source = "userId", target = "adminId")
   ListCommunityAdminsResponseCommunityAdmin userAdminToResponseAdmin(User user);
 
@@ -53,4 +64,11 @@ public interface CommunityApiMapper {
 
   Set<GetHouseDetailsResponseCommunityHouse> communityHouseSetToRestApiResponseCommunityHouseSet(
       Set<CommunityHouse> communityHouse);
+
+  List<GetHouseDetailsResponseCommunityHouse> communityHouseListToRestApiResponseCommunityHouseList(
+      List<CommunityHouse> communityHouseList);
+
+  ImportCommunityHousesResponse houseImportReportToRestApiResponse(HouseImportReport report);
+
+  CommunityDeletionJobResponse communityDeletionJobToRestApiResponse(CommunityDeletionJob job);
 }
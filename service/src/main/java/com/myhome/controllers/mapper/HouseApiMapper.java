@@ -18,6 +18,7 @@ package com.myhome.controllers.mapper;
 
 import com.myhome.domain.CommunityHouse;
 import com.myhome.model.GetHouseDetailsResponseCommunityHouse;
+import java.util.List;
 import java.util.Set;
 import org.mapstruct.Mapper;
 
@@ -26,6 +27,9 @@ public interface HouseApiMapper {
   Set<GetHouseDetailsResponseCommunityHouse> communityHouseSetToRestApiResponseCommunityHouseSet(
       Set<CommunityHouse> communityHouse);
 
+  List<GetHouseDetailsResponseCommunityHouse> communityHouseListToRestApiResponseCommunityHouseList(
+      List<CommunityHouse> communityHouseList);
+
   GetHouseDetailsResponseCommunityHouse communityHouseToRestApiResponseCommunityHouse(
       CommunityHouse communityHouse);
 }
@@ -19,17 +19,23 @@ package com.myhome.controllers.mapper;
 import com.myhome.controllers.dto.PaymentDto;
 import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.request.EnrichedSchedulePaymentRequest;
-import com.myhome.domain.Community;
-import com.myhome.domain.HouseMember;
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.BulkPaymentSummary;
 import com.myhome.domain.Payment;
-import com.myhome.domain.User;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.domain.PaymentParticipants;
+import com.myhome.domain.PaymentSummary;
 import com.myhome.model.AdminPayment;
+import com.myhome.model.BulkSchedulePaymentResponse;
 import com.myhome.model.HouseMemberDto;
 import com.myhome.model.MemberPayment;
+import com.myhome.model.PaymentBalanceResponse;
+import com.myhome.model.PaymentSearchResult;
+import com.myhome.model.RebuildBalancesResponse;
 import com.myhome.model.SchedulePaymentRequest;
 import com.myhome.model.SchedulePaymentResponse;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
@@ -93,6 +99,17 @@ public interface SchedulePaymentApiMapper {
   @Mapping(target = "adminId", expression = "java(payment.getAdmin().getUserId())")
   AdminPayment paymentToAdminPayment(Payment payment);
 
+  List<PaymentSearchResult> paymentSummariesToPaymentSearchResults(
+      List<PaymentSummary> paymentSummaries);
+
+  BulkSchedulePaymentResponse bulkPaymentSummaryToBulkSchedulePaymentResponse(
+      BulkPaymentSummary bulkPaymentSummary);
+
+  PaymentBalanceResponse paymentBalanceToPaymentBalanceResponse(PaymentBalance paymentBalance);
+
+  RebuildBalancesResponse balanceRebuildReportToRebuildBalancesResponse(
+      BalanceRebuildReport balanceRebuildReport);
+
   @Mappings({
       @Mapping(source = "admin", target = "adminId", qualifiedByName = "adminToAdminId"),
       @Mapping(source = "member", target = "memberId", qualifiedByName = "memberToMemberId")
@@ -100,44 +117,28 @@ public interface SchedulePaymentApiMapper {
   SchedulePaymentResponse paymentToSchedulePaymentResponse(PaymentDto payment);
 
   default EnrichedSchedulePaymentRequest enrichSchedulePaymentRequest(
-      SchedulePaymentRequest request, User admin, HouseMember member) {
-    Set<String> communityIds = admin.getCommunities()
-        .stream()
-        .map(Community::getCommunityId)
-        .collect(Collectors.toSet());
+      SchedulePaymentRequest request, PaymentParticipants participants) {
     return new EnrichedSchedulePaymentRequest(request.getType(),
         request.getDescription(),
         request.isRecurring(),
         request.getCharge(),
         request.getDueDate(),
         request.getAdminId(),
-        admin.getId(),
-        admin.getName(),
-        admin.getEmail(),
-        admin.getEncryptedPassword(),
-        communityIds,
-        member.getMemberId(),
-        member.getId(),
-        member.getHouseMemberDocument() != null ? member.getHouseMemberDocument()
-            .getDocumentFilename() : "",
-        member.getName(),
-        member.getCommunityHouse() != null ? member.getCommunityHouse().getHouseId() : "");
+        participants.getAdminEntityId(),
+        request.getMemberId(),
+        participants.getMemberEntityId());
   }
 
   default UserDto getEnrichedRequestAdmin(EnrichedSchedulePaymentRequest enrichedSchedulePaymentRequest) {
     return UserDto.builder()
         .userId(enrichedSchedulePaymentRequest.getAdminId())
         .id(enrichedSchedulePaymentRequest.getAdminEntityId())
-        .name(enrichedSchedulePaymentRequest.getAdminName())
-        .email(enrichedSchedulePaymentRequest.getAdminEmail())
-        .encryptedPassword(enrichedSchedulePaymentRequest.getAdminEncryptedPassword())
         .build();
   }
 
   default HouseMemberDto getEnrichedRequestMember(EnrichedSchedulePaymentRequest enrichedSchedulePaymentRequest) {
     return new HouseMemberDto()
         .id(enrichedSchedulePaymentRequest.getMemberEntityId())
-        .memberId(enrichedSchedulePaymentRequest.getMemberId())
-        .name(enrichedSchedulePaymentRequest.getHouseMemberName());
+        .memberId(enrichedSchedulePaymentRequest.getMemberId());
   }
 }
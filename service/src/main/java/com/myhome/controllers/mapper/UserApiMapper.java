@@ -21,6 +21,7 @@ import com.myhome.domain.User;
 import com.myhome.model.CreateUserRequest;
 import com.myhome.model.CreateUserResponse;
 import com.myhome.model.GetUserDetailsResponseUser;
+import java.util.List;
 import java.util.Set;
 import org.mapstruct.Mapper;
 
@@ -35,6 +36,8 @@ public interface UserApiMapper {
   Set<GetUserDetailsResponseUser> userSetToRestApiResponseUserSet(
       Set<User> userSet);
 
+  List<GetUserDetailsResponseUser> userListToRestApiResponseUserList(List<User> userList);
+
   CreateUserResponse userDtoToCreateUserResponse(UserDto userDto);
 
   GetUserDetailsResponseUser userDtoToGetUserDetailsResponse(UserDto userDto);
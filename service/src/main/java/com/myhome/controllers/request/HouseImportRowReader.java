@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.controllers.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myhome.controllers.exceptions.InvalidHouseImportException;
+import com.myhome.domain.HouseImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the rows of a house import one line at a time.
+ *
+ * <p>The format is detected from the first line: a JSON object starts newline delimited JSON
+ * with {@code house} and {@code member} fields, anything else is the header of a CSV with
+ * {@code house} and optional {@code member} columns. Blank lines are skipped, and rows which
+ * cannot be read are returned as failed rows instead of ending the import.</p>
+ */
+public abstract class HouseImportRowReader implements Iterator<HouseImportRow>, AutoCloseable {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String HOUSE_FIELD = "house";
+  private static final String MEMBER_FIELD = "member";
+
+  private final BufferedReader reader;
+  private long lineNumber;
+  private String pendingLine;
+
+  private HouseImportRowReader(BufferedReader reader, long lineNumber, String pendingLine) {
+    this.reader = reader;
+    this.lineNumber = lineNumber;
+    this.pendingLine = pendingLine;
+  }
+
+  /**
+   * @throws InvalidHouseImportException if the CSV header lacks the house column
+   */
+  public static HouseImportRowReader open(InputStream input) {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    long lineNumber = 0;
+    String firstLine;
+    do {
+      firstLine = readLine(reader);
+      lineNumber++;
+    } while (firstLine != null && firstLine.trim().isEmpty());
+
+    if (firstLine == null) {
+      return new JsonRowReader(reader, lineNumber, null);
+    }
+    if (firstLine.trim().startsWith("{")) {
+      return new JsonRowReader(reader, lineNumber, firstLine);
+    }
+    return new CsvRowReader(reader, lineNumber, firstLine);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (pendingLine == null || pendingLine.trim().isEmpty()) {
+      pendingLine = readLine(reader);
+      if (pendingLine == null) {
+        return false;
+      }
+      lineNumber++;
+    }
+    return true;
+  }
+
+  @Override
+  public HouseImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String line = pendingLine;
+    pendingLine = null;
+    return readRow(lineNumber, line);
+  }
+
+  @Override
+  public void close() {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  abstract HouseImportRow readRow(long lineNumber, String line);
+
+  private static String readLine(BufferedReader reader) {
+    try {
+      return reader.readLine();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static class JsonRowReader extends HouseImportRowReader {
+
+    JsonRowReader(BufferedReader reader, long lineNumber, String pendingLine) {
+      super(reader, lineNumber, pendingLine);
+    }
+
+    @Override
+    HouseImportRow readRow(long lineNumber, String line) {
+      JsonNode row;
+      try {
+        row = OBJECT_MAPPER.readTree(line);
+      } catch (IOException e) {
+        return HouseImportRow.failed(lineNumber, "Malformed JSON");
+      }
+      if (!row.isObject()) {
+        return HouseImportRow.failed(lineNumber, "Row is not a JSON object");
+      }
+      JsonNode house = row.path(HOUSE_FIELD);
+      JsonNode member = row.path(MEMBER_FIELD);
+      if (!house.isTextual()) {
+        return HouseImportRow.failed(lineNumber, "Field house is not a string");
+      }
+      if (!member.isMissingNode() && !member.isNull() && !member.isTextual()) {
+        return HouseImportRow.failed(lineNumber, "Field member is not a string");
+      }
+      return HouseImportRow.of(lineNumber, house.asText().trim(),
+          member.isTextual() ? emptyToNull(member.asText().trim()) : null);
+    }
+  }
+
+  private static class CsvRowReader extends HouseImportRowReader {
+    private final int houseColumn;
+    private final int memberColumn;
+
+    CsvRowReader(BufferedReader reader, long lineNumber, String header) {
+      super(reader, lineNumber, null);
+      List<String> columns = parseCsvLine(header);
+      if (columns == null) {
+        throw new InvalidHouseImportException("Malformed CSV header");
+      }
+      int house = -1;
+      int member = -1;
+      for (int i = 0; i < columns.size(); i++) {
+        String column = columns.get(i).trim().toLowerCase(Locale.ROOT);
+        if (column.equals(HOUSE_FIELD)) {
+          house = i;
+        } else if (column.equals(MEMBER_FIELD)) {
+          member = i;
+        }
+      }
+      if (house < 0) {
+        throw new InvalidHouseImportException("CSV header has no house column");
+      }
+      this.houseColumn = house;
+      this.memberColumn = member;
+    }
+
+    @Override
+    HouseImportRow readRow(long lineNumber, String line) {
+      List<String> fields = parseCsvLine(line);
+      if (fields == null) {
+        return HouseImportRow.failed(lineNumber, "Unterminated quoted field");
+      }
+      if (fields.size() <= houseColumn) {
+        return HouseImportRow.failed(lineNumber, "Missing house column");
+      }
+      String member = memberColumn >= 0 && memberColumn < fields.size()
+          ? emptyToNull(fields.get(memberColumn).trim())
+          : null;
+      return HouseImportRow.of(lineNumber, fields.get(houseColumn).trim(), member);
+    }
+
+    /**
+     * Splits a CSV line at commas outside of double quotes, where a quote inside quotes is
+     * escaped by doubling it.
+     *
+     * @return fields of the line, or null if a quoted field is not terminated
+     */
+    static List<String> parseCsvLine(String line) {
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean quoted = false;
+      for (int i = 0; i < line.length(); i++) {
+        char c = line.charAt(i);
+        if (quoted) {
+          if (c != '"') {
+            field.append(c);
+          } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+            field.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          fields.add(field.toString());
+          field.setLength(0);
+        } else {
+          field.append(c);
+        }
+      }
+      if (quoted) {
+        return null;
+      }
+      fields.add(field.toString());
+      return fields;
+    }
+  }
+}
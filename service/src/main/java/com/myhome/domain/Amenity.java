@@ -27,12 +27,14 @@ import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedEntityGraphs;
 import javax.persistence.OneToMany;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @AllArgsConstructor
@@ -71,4 +73,8 @@ public class Amenity extends BaseEntity {
   @ToString.Exclude
   @OneToMany(fetch = FetchType.LAZY, mappedBy = "amenity")
   private Set<AmenityBookingItem> bookingItems = new HashSet<>();
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
 }
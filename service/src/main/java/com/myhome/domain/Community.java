@@ -26,12 +26,14 @@ import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedEntityGraphs;
 import javax.persistence.OneToMany;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity identifying a valid user in the service.
@@ -67,7 +69,7 @@ public class Community extends BaseEntity {
   @ManyToMany(fetch = FetchType.LAZY)
   private Set<User> admins = new HashSet<>();
   @ToString.Exclude
-  @OneToMany(fetch = FetchType.LAZY)
+  @OneToMany(fetch = FetchType.LAZY, mappedBy = "community")
   private Set<CommunityHouse> houses = new HashSet<>();
   @Column(nullable = false)
   private String name;
@@ -78,4 +80,8 @@ public class Community extends BaseEntity {
   @ToString.Exclude
   @OneToMany(fetch = FetchType.LAZY, mappedBy = "community", orphanRemoval = true)
   private Set<Amenity> amenities = new HashSet<>();
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
 }
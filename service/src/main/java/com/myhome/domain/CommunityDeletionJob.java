@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.myhome.domain;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Progress of a community deletion running in the background. Only the users who requested the
+ * deletion may see it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommunityDeletionJob {
+  private final String jobId;
+  private final String communityId;
+  private final long housesTotal;
+  private volatile long housesDeleted;
+  private volatile Status status = Status.RUNNING;
+  @Getter(AccessLevel.NONE)
+  private final Set<String> requestingUserIds = ConcurrentHashMap.newKeySet();
+
+  public void requestedBy(String userId) {
+    requestingUserIds.add(userId);
+  }
+
+  public boolean isVisibleTo(String userId) {
+    return requestingUserIds.contains(userId);
+  }
+
+  public void housesDeleted(int count) {
+    housesDeleted += count;
+  }
+
+  public void completed() {
+    status = Status.COMPLETED;
+  }
+
+  public void failed() {
+    status = Status.FAILED;
+  }
+
+  public enum Status {
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+}
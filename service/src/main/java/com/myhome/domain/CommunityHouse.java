@@ -26,12 +26,14 @@ import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedEntityGraphs;
 import javax.persistence.OneToMany;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.With;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @AllArgsConstructor
@@ -63,8 +65,12 @@ public class CommunityHouse extends BaseEntity {
   @With
   @Column(unique = true, nullable = false)
   private String houseId;
-  @OneToMany(fetch = FetchType.LAZY)
+  @OneToMany(fetch = FetchType.LAZY, mappedBy = "communityHouse")
   private Set<HouseMember> houseMembers = new HashSet<>();
-  @OneToMany(fetch = FetchType.LAZY)
+  @OneToMany(fetch = FetchType.LAZY, mappedBy = "communityHouse")
   private Set<Amenity> amenities = new HashSet<>();
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
 }
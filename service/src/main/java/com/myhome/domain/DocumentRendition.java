@@ -0,0 +1,10 @@
+package com.myhome.domain;
+
+/**
+ * Sizes in which house member documents are stored, selected with the size parameter on download.
+ */
+public enum DocumentRendition {
+  ORIGINAL,
+  MEDIUM,
+  SMALL
+}
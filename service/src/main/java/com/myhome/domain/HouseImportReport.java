@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outcome of a house import. Only the errors of the first failed rows are kept.
+ *
+ * <p>Rows of a batch which could not be written are failed with the batch.</p>
+ */
+@Getter
+public class HouseImportReport {
+  private long housesAdded;
+  private long membersAdded;
+  private long rowsSkipped;
+  private long rowsFailed;
+  private long batchesFailed;
+  private final List<RowError> errors = new ArrayList<>();
+  @Getter(AccessLevel.NONE)
+  private final int maxReportedErrors;
+
+  public HouseImportReport(int maxReportedErrors) {
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  public void housesAdded(int count) {
+    housesAdded += count;
+  }
+
+  public void membersAdded(int count) {
+    membersAdded += count;
+  }
+
+  public void rowsSkipped(int count) {
+    rowsSkipped += count;
+  }
+
+  public void rowFailed(long line, String message) {
+    rowsFailed++;
+    if (errors.size() < maxReportedErrors) {
+      errors.add(new RowError(line, message));
+    }
+  }
+
+  public void batchFailed() {
+    batchesFailed++;
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class RowError {
+    private final long line;
+    private final String message;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Row of a house import, naming a house and optionally one of its members.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class HouseImportRow {
+  private final long line;
+  private final String houseName;
+  private final String memberName;
+  // null if the row could be read
+  private final String error;
+
+  public static HouseImportRow of(long line, String houseName, String memberName) {
+    return new HouseImportRow(line, houseName, memberName, null);
+  }
+
+  public static HouseImportRow failed(long line, String error) {
+    return new HouseImportRow(line, null, null, error);
+  }
+}
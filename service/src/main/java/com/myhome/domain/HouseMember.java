@@ -18,6 +18,7 @@ package com.myhome.domain;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -25,20 +26,22 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.With;
 
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
-@EqualsAndHashCode(callSuper = false, exclude = "communityHouse")
+@EqualsAndHashCode(callSuper = false, exclude = {"communityHouse", "houseMemberDocument"})
+@ToString(exclude = "houseMemberDocument")
 public class HouseMember extends BaseEntity {
 
   @With
   @Column(nullable = false, unique = true)
   private String memberId;
 
-  @OneToOne(orphanRemoval = true)
+  @OneToOne(fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "document_id")
   private HouseMemberDocument houseMemberDocument;
 
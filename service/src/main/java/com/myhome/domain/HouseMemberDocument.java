@@ -18,12 +18,16 @@ package com.myhome.domain;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
-import javax.persistence.Lob;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+/**
+ * Metadata of a house member document. The content itself lives in the
+ * {@link com.myhome.services.DocumentContentStore} under {@link #contentKey}, next to downscaled
+ * renditions for thumbnails and previews.
+ */
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
@@ -34,7 +38,29 @@ public class HouseMemberDocument extends BaseEntity {
   @Column(unique = true)
   private String documentFilename;
 
-  @Lob
-  @Column
-  private byte[] documentContent = new byte[0];
+  @Column(nullable = false, length = 64)
+  private String contentKey;
+
+  @Column(nullable = false)
+  private long contentLength;
+
+  @Column(length = 64)
+  private String mediumContentKey;
+
+  @Column(length = 64)
+  private String smallContentKey;
+
+  /**
+   * Key of the content of the given rendition. Documents stored before renditions were
+   * introduced fall back to their original content.
+   */
+  public String getContentKey(DocumentRendition rendition) {
+    String renditionKey = null;
+    if (rendition == DocumentRendition.MEDIUM) {
+      renditionKey = mediumContentKey;
+    } else if (rendition == DocumentRendition.SMALL) {
+      renditionKey = smallContentKey;
+    }
+    return renditionKey != null ? renditionKey : contentKey;
+  }
 }
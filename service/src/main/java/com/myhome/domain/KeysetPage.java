@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Page of entities read by seeking past the id of the previous page, ordered by id.
+ *
+ * <p>Queries fetch one entity more than the limit to find out whether another page follows,
+ * without counting the rest.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetPage<T extends BaseEntity> {
+  private final List<T> content;
+  // id to seek past for the next page, null on the last page
+  private final Long nextKey;
+
+  /**
+   * @return lower bound of the ids to read, exclusive
+   */
+  public static long seekAfter(Long afterKey) {
+    return afterKey == null ? Long.MIN_VALUE : afterKey;
+  }
+
+  /**
+   * @return limit of a query reading a page of the given size
+   */
+  public static Pageable fetchLimit(int limit) {
+    return PageRequest.of(0, limit + 1);
+  }
+
+  public static <T extends BaseEntity> KeysetPage<T> of(List<T> fetched, int limit) {
+    if (fetched.size() <= limit) {
+      return new KeysetPage<>(fetched, null);
+    }
+    List<T> content = fetched.subList(0, limit);
+    return new KeysetPage<>(content, content.get(limit - 1).getId());
+  }
+}
@@ -21,7 +21,9 @@ import java.time.LocalDate;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -31,12 +33,23 @@ import lombok.NoArgsConstructor;
 /**
  * Entity identifying a payment in the service. This could be an electricity bill, house rent, water
  * charge etc
+ *
+ * <p>Payments are listed and searched by admin or member, ordered by due date, so both lead an
+ * index followed by the due date.</p>
+ *
+ * <p>The next occurrence of a recurring payment references the payment it follows, which may have
+ * only one next occurrence.</p>
  */
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Entity
+@Table(indexes = {
+    @Index(name = "payment_admin_due_date_idx", columnList = "admin_id, dueDate"),
+    @Index(name = "payment_admin_type_due_date_idx", columnList = "admin_id, type, dueDate"),
+    @Index(name = "payment_member_due_date_idx", columnList = "member_id, dueDate")
+})
 public class Payment extends BaseEntity {
   @Column(unique = true, nullable = false)
   private String paymentId;
@@ -54,4 +67,7 @@ public class Payment extends BaseEntity {
   private User admin;
   @ManyToOne(fetch = FetchType.LAZY)
   private HouseMember member;
+  // primary key of the recurring payment this payment is the next occurrence of
+  @Column(unique = true)
+  private Long previousPaymentId;
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.math.BigDecimal;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running total of the payments scheduled for a house member, or for the current members of a
+ * house. Owners are referenced by primary key.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "payment_balance_owner_key",
+    columnNames = {"ownerType", "ownerId"}))
+public class PaymentBalance extends BaseEntity {
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private OwnerType ownerType;
+  @Column(nullable = false)
+  private Long ownerId;
+  @Column(nullable = false)
+  private BigDecimal totalCharge;
+  @Column(nullable = false)
+  private long paymentCount;
+
+  public enum OwnerType {
+    MEMBER,
+    HOUSE
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Criteria of a payment search. Absent criteria do not restrict the result, bounds are
+ * inclusive.
+ */
+@Getter
+@Builder
+public class PaymentSearchFilter {
+  private final LocalDate dueDateFrom;
+  private final LocalDate dueDateTo;
+  private final String type;
+  private final Boolean recurring;
+  private final BigDecimal minCharge;
+  private final BigDecimal maxCharge;
+}
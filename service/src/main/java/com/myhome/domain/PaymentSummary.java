@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Columns of a payment shown in search results, read without loading the payment entity.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentSummary {
+  private final String paymentId;
+  private final String memberId;
+  private final String type;
+  private final BigDecimal charge;
+  private final boolean recurring;
+  private final LocalDate dueDate;
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Version;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Run of the recurring payment materialization over the recurring payments due within its
+ * window. The high-water mark is the primary key of the last payment whose chunk was committed,
+ * so an interrupted run resumes after it.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Entity
+public class RecurringPaymentRun extends BaseEntity {
+  @Column(nullable = false)
+  private LocalDate windowStart;
+  @Column(nullable = false)
+  private LocalDate windowEnd;
+  @Column(nullable = false)
+  private long lastPaymentId;
+  @Column(nullable = false)
+  private boolean completed;
+  @Version
+  private Long version;
+
+  public RecurringPaymentRun(LocalDate windowStart, LocalDate windowEnd) {
+    this.windowStart = windowStart;
+    this.windowEnd = windowEnd;
+  }
+}
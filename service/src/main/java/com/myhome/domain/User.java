@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.With;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -76,4 +77,8 @@ public class User extends BaseEntity {
   private Set<Community> communities = new HashSet<>();
   @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "tokenOwner")
   private Set<SecurityToken> userTokens = new HashSet<>();
+  // written by bulk updates only, on every change of the communities administered by the user
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long membershipVersion;
 }
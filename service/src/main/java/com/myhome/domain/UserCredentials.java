@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.domain;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data needed to authenticate a user, without the user entity itself.
+ *
+ * <p>{@code adminCommunityIds} is null if the administered communities were not loaded.
+ * {@code membershipVersion} is read by the same query as them.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserCredentials {
+  private final String userId;
+  private final String encryptedPassword;
+  private final long membershipVersion;
+  private final Set<String> adminCommunityIds;
+}
@@ -30,4 +30,7 @@ public interface AmenityRepository extends JpaRepository<Amenity, Long> {
   Optional<Amenity> findByAmenityIdWithCommunity(@Param("amenityId") String amenityId);
 
   Optional<Amenity> findByAmenityId(String amenityId);
+
+  @Query("select amenity.version from Amenity amenity where amenity.amenityId = :amenityId")
+  Optional<Long> findVersionByAmenityId(@Param("amenityId") String amenityId);
 }
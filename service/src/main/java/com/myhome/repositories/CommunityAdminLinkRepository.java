@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.myhome.repositories;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes the admin links of a community as one JDBC batch, bypassing the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityAdminLinkRepository {
+  // a link written concurrently by another request is left alone instead of failing the batch
+  private static final String INSERT_ADMIN =
+      "insert into community_admins (communities_id, admins_id) select ?, ? "
+          + "where not exists (select 1 from community_admins "
+          + "where communities_id = ? and admins_id = ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Makes the users with the given primary keys admins of the community.
+   */
+  @Transactional
+  public void insertAdmins(Long communityId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    List<Object[]> rows = new ArrayList<>(userIds.size());
+    for (Long userId : userIds) {
+      rows.add(new Object[] {communityId, userId, communityId, userId});
+    }
+    jdbcTemplate.batchUpdate(INSERT_ADMIN, rows);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.myhome.repositories;
+
+import java.util.Collection;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes communities and houses with set-based statements, bypassing the persistence context.
+ *
+ * <p>The number of statements does not depend on the number of houses, members or amenities.
+ * Members of deleted houses are detached from them rather than deleted, as they may still be
+ * referenced by payments and keep their documents.</p>
+ *
+ * <p>The payment balances of deleted houses are deleted with them. Members keep their own
+ * balances, which no house balance includes any more.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityDeletionRepository {
+  private static final String COMMUNITY_HOUSES =
+      "select id from community_house where community_id = ?";
+  // %s is replaced by a query or list selecting the ids of the deleted houses
+  private static final String[] DELETE_HOUSES = {
+      "delete from payment_balance where owner_type = 'HOUSE' and owner_id in (%s)",
+      "update house_member set community_house_id = null where community_house_id in (%s)",
+      "update amenity set community_house_id = null where community_house_id in (%s)",
+      "delete from community_house where id in (%s)"
+  };
+  private static final String[] DELETE_AMENITIES = {
+      "delete from amenity_booking_item "
+          + "where amenity_id in (select id from amenity where community_id = ?)",
+      "delete from amenity where community_id = ?"
+  };
+  private static final String DELETE_ADMINS =
+      "delete from community_admins where communities_id = ?";
+  private static final String DELETE_COMMUNITY = "delete from community where id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Deletes the houses with the given primary keys.
+   *
+   * @return number of deleted houses
+   */
+  @Transactional
+  public int deleteHouses(Collection<Long> houseIds) {
+    if (houseIds.isEmpty()) {
+      return 0;
+    }
+    String placeholders = String.join(",", Collections.nCopies(houseIds.size(), "?"));
+    Object[] args = houseIds.toArray();
+    int deleted = 0;
+    for (String statement : DELETE_HOUSES) {
+      deleted = jdbcTemplate.update(String.format(statement, placeholders), args);
+    }
+    return deleted;
+  }
+
+  /**
+   * Deletes the community with the given primary key together with its houses, amenities and
+   * their bookings.
+   *
+   * @return true if the community was deleted
+   */
+  @Transactional
+  public boolean deleteCommunity(Long communityId) {
+    for (String statement : DELETE_AMENITIES) {
+      jdbcTemplate.update(statement, communityId);
+    }
+    for (String statement : DELETE_HOUSES) {
+      jdbcTemplate.update(String.format(statement, COMMUNITY_HOUSES), communityId);
+    }
+    jdbcTemplate.update(DELETE_ADMINS, communityId);
+    return jdbcTemplate.update(DELETE_COMMUNITY, communityId) > 0;
+  }
+}
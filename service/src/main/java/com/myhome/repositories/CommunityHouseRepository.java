@@ -17,6 +17,7 @@
 package com.myhome.repositories;
 
 import com.myhome.domain.CommunityHouse;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -42,5 +43,40 @@ public interface CommunityHouseRepository extends PagingAndSortingRepository<Com
   @EntityGraph(value = "CommunityHouse.community")
   List<CommunityHouse> findAllByCommunity_CommunityId(String communityId, Pageable pageable);
 
+  @EntityGraph(value = "CommunityHouse.community")
+  List<CommunityHouse> findAllByCommunity_CommunityIdAndIdGreaterThanOrderByIdAsc(
+      String communityId, Long id, Pageable pageable);
+
+  List<CommunityHouse> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
   void deleteByHouseId(String houseId);
+
+  @Query("select house.version from CommunityHouse house where house.houseId = :houseId")
+  Optional<Long> findVersionByHouseId(@Param("houseId") String houseId);
+
+  @Query("select house.id from CommunityHouse house "
+      + "where house.houseId = :houseId and house.community.id = :communityId")
+  Optional<Long> findIdByHouseIdAndCommunityId(@Param("houseId") String houseId,
+      @Param("communityId") Long communityId);
+
+  @Query("select house.id from CommunityHouse house where house.community.id = :communityId "
+      + "order by house.id")
+  List<Long> findIdsByCommunityId(@Param("communityId") Long communityId, Pageable pageable);
+
+  long countByCommunity_Id(Long communityId);
+
+  @Query("select house.community.communityId from CommunityHouse house "
+      + "where house.houseId = :houseId")
+  Optional<String> findCommunityIdByHouseId(@Param("houseId") String houseId);
+
+  @Query("select house.name as name, house.houseId as houseId from CommunityHouse house "
+      + "where house.community.id = :communityId and house.name in :names")
+  List<HouseIdRow> findHouseIdsByNames(@Param("communityId") Long communityId,
+      @Param("names") Collection<String> names);
+
+  interface HouseIdRow {
+    String getName();
+
+    String getHouseId();
+  }
 }
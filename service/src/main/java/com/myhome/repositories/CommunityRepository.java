@@ -17,7 +17,9 @@
 package com.myhome.repositories;
 
 import com.myhome.domain.Community;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -41,5 +43,25 @@ public interface CommunityRepository extends PagingAndSortingRepository<Communit
   @EntityGraph(value = "Community.amenities")
   Optional<Community> findByCommunityIdWithAmenities(@Param("communityId") String communityId);
 
+  List<Community> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
   boolean existsByCommunityId(String communityId);
+
+  @Query("select community.id from Community community where community.communityId = :communityId")
+  Optional<Long> findIdByCommunityId(@Param("communityId") String communityId);
+
+  @Query("select community.version from Community community "
+      + "where community.communityId = :communityId")
+  Optional<Long> findVersionByCommunityId(@Param("communityId") String communityId);
+
+  @Query("select admin.userId from Community community join community.admins admin "
+      + "where community.id = :id")
+  List<String> findAdminIdsById(@Param("id") Long id);
+
+  boolean existsByCommunityIdAndAdmins_UserId(String communityId, String userId);
+
+  @Query("select admin.id from Community community join community.admins admin "
+      + "where community.communityId = :communityId and admin.userId = :userId")
+  Optional<Long> findAdminIdByCommunityIdAndUserId(@Param("communityId") String communityId,
+      @Param("userId") String userId);
 }
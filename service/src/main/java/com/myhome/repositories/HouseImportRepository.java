@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseMember;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes imported houses and members with JDBC batches, bypassing the persistence context.
+ *
+ * <p>Identity keys keep Hibernate from batching inserts, so members reference their houses by
+ * looking the generated keys up by the unique house ids.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class HouseImportRepository {
+  private static final String INSERT_HOUSE =
+      "insert into community_house (house_id, name, community_id) values (?, ?, ?)";
+  private static final String INSERT_MEMBER =
+      "insert into house_member (member_id, name, community_house_id) "
+          + "select ?, ?, id from community_house where house_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts the houses into the community and the members into their houses, which are
+   * referenced by house id and may be among the inserted houses.
+   */
+  @Transactional
+  public void insert(Long communityId, List<CommunityHouse> houses, List<HouseMember> members) {
+    if (!houses.isEmpty()) {
+      List<Object[]> houseRows = new ArrayList<>(houses.size());
+      for (CommunityHouse house : houses) {
+        houseRows.add(new Object[] {house.getHouseId(), house.getName(), communityId});
+      }
+      jdbcTemplate.batchUpdate(INSERT_HOUSE, houseRows);
+    }
+    if (!members.isEmpty()) {
+      List<Object[]> memberRows = new ArrayList<>(members.size());
+      for (HouseMember member : members) {
+        memberRows.add(new Object[] {
+            member.getMemberId(), member.getName(), member.getCommunityHouse().getHouseId()});
+      }
+      jdbcTemplate.batchUpdate(INSERT_MEMBER, memberRows);
+    }
+  }
+}
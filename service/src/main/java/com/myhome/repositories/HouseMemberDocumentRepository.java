@@ -17,7 +17,19 @@
 package com.myhome.repositories;
 
 import com.myhome.domain.HouseMemberDocument;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface HouseMemberDocumentRepository extends JpaRepository<HouseMemberDocument, Long> {
+
+  @Query("select document from HouseMember houseMember "
+      + "join houseMember.houseMemberDocument document where houseMember.memberId = :memberId")
+  Optional<HouseMemberDocument> findByMemberId(@Param("memberId") String memberId);
+
+  @Query("select case when count(document) > 0 then true else false end "
+      + "from HouseMemberDocument document where document.contentKey = :contentKey "
+      + "or document.mediumContentKey = :contentKey or document.smallContentKey = :contentKey")
+  boolean isContentReferenced(@Param("contentKey") String contentKey);
 }
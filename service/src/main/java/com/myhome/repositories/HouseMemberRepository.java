@@ -17,16 +17,66 @@
 package com.myhome.repositories;
 
 import com.myhome.domain.HouseMember;
+import com.myhome.domain.PaymentParticipants;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface HouseMemberRepository extends CrudRepository<HouseMember, Long> {
   Optional<HouseMember> findByMemberId(String memberId);
 
+  boolean existsByMemberId(String memberId);
+
   List<HouseMember> findAllByCommunityHouse_HouseId(String houseId, Pageable pageable);
 
   List<HouseMember> findAllByCommunityHouse_Community_Admins_UserId(String userId,
       Pageable pageable);
+
+  List<HouseMember> findAllByCommunityHouse_HouseIdAndIdGreaterThanOrderByIdAsc(String houseId,
+      Long id, Pageable pageable);
+
+  List<HouseMember> findAllByCommunityHouse_Community_Admins_UserIdAndIdGreaterThanOrderByIdAsc(
+      String userId, Long id, Pageable pageable);
+
+  @Query("select houseMember.communityHouse.community.communityId from HouseMember houseMember "
+      + "where houseMember.memberId = :memberId")
+  Optional<String> findCommunityIdByMemberId(@Param("memberId") String memberId);
+
+  @Query("select new com.myhome.domain.PaymentParticipants(admin.id, houseMember.id) "
+      + "from HouseMember houseMember join houseMember.communityHouse house "
+      + "join house.community community join community.admins admin "
+      + "where houseMember.memberId = :memberId and admin.userId = :adminId")
+  Optional<PaymentParticipants> findPaymentParticipants(@Param("memberId") String memberId,
+      @Param("adminId") String adminId);
+
+  @Query("select houseMember.id from HouseMember houseMember join houseMember.communityHouse house "
+      + "where house.community.communityId = :communityId order by houseMember.id")
+  List<Long> findIdsByCommunityId(@Param("communityId") String communityId);
+
+  @Query("select houseMember.id from HouseMember houseMember join houseMember.communityHouse house "
+      + "where house.houseId = :houseId and house.community.communityId = :communityId "
+      + "order by houseMember.id")
+  List<Long> findIdsByHouseIdAndCommunityId(@Param("houseId") String houseId,
+      @Param("communityId") String communityId);
+
+  @Query("select house.houseId as houseId, houseMember.name as name from HouseMember houseMember "
+      + "join houseMember.communityHouse house where house.houseId in :houseIds")
+  List<MemberNameRow> findMemberNamesByHouseIds(@Param("houseIds") Collection<String> houseIds);
+
+  @Modifying
+  @Query("update HouseMember houseMember set houseMember.communityHouse = null "
+      + "where houseMember.memberId = :memberId and houseMember.communityHouse in "
+      + "(select house from CommunityHouse house where house.houseId = :houseId)")
+  int detachFromHouse(@Param("memberId") String memberId, @Param("houseId") String houseId);
+
+  interface MemberNameRow {
+    String getHouseId();
+
+    String getName();
+  }
 }
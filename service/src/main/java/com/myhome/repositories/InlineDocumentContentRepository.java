@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the inline content of house member documents stored before their content moved into
+ * the document store, as left by db/move-house-member-document-content-to-files.sql.
+ *
+ * <p>Only documents without a content key still have inline content, so the inline column is
+ * never read once every document is migrated and the column is dropped.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class InlineDocumentContentRepository {
+  private static final String IDS_WITHOUT_CONTENT_KEY = "select id from house_member_document "
+      + "where content_key is null and id > ? order by id limit ?";
+  private static final String INLINE_CONTENT =
+      "select document_content from house_member_document where id = ?";
+  private static final String SET_CONTENT_KEY = "update house_member_document "
+      + "set content_key = ?, content_length = ? where id = ? and content_key is null";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Finds documents without a content key, in primary key order after the given one.
+   */
+  public List<Long> findIdsWithoutContentKey(long afterId, int limit) {
+    return jdbcTemplate.queryForList(IDS_WITHOUT_CONTENT_KEY, Long.class, afterId, limit);
+  }
+
+  /**
+   * @return inline content of the document, empty if it has none
+   */
+  public byte[] findInlineContent(long documentId) {
+    byte[] content = jdbcTemplate.queryForObject(INLINE_CONTENT,
+        (resultSet, row) -> resultSet.getBytes(1), documentId);
+    return content == null ? new byte[0] : content;
+  }
+
+  /**
+   * Refers the document to its content in the document store.
+   */
+  public void setContentKey(long documentId, String contentKey, long contentLength) {
+    jdbcTemplate.update(SET_CONTENT_KEY, contentKey, contentLength, documentId);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.domain.BulkPaymentTemplate;
+import java.sql.Date;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes payments scheduled in bulk with JDBC batches, bypassing the persistence context.
+ *
+ * <p>Identity keys keep Hibernate from batching inserts, and every payment only references its
+ * admin and member by primary key.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentBatchRepository {
+  private static final String INSERT_PAYMENT =
+      "insert into payment (payment_id, charge, type, description, recurring, due_date, "
+          + "admin_id, member_id) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts one payment from the template for each of the members, generating its payment id.
+   */
+  public void insert(BulkPaymentTemplate template, Long adminId, List<Long> memberIds,
+      int batchSize) {
+    jdbcTemplate.batchUpdate(INSERT_PAYMENT, memberIds, batchSize, (statement, memberId) -> {
+      statement.setString(1, UUID.randomUUID().toString());
+      statement.setBigDecimal(2, template.getCharge());
+      statement.setString(3, template.getType());
+      statement.setString(4, template.getDescription());
+      statement.setBoolean(5, template.isRecurring());
+      statement.setDate(6, Date.valueOf(template.getDueDate()));
+      statement.setLong(7, adminId);
+      statement.setLong(8, memberId);
+    });
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.domain.PaymentBalance.OwnerType;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the payment balances of house members and houses with JDBC, bypassing the
+ * persistence context.
+ *
+ * <p>Balances are changed by adding to them, so concurrent payments of the same member or house
+ * only serialize on its balance row. A missing row is created by the same merge statement that
+ * adds to an existing one.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentLedgerRepository {
+  // payment rows fetched per round trip while rebuilding balances
+  private static final int REBUILD_FETCH_SIZE = 500;
+  private static final String ADD_TO_BALANCE = "update payment_balance "
+      + "set total_charge = total_charge + ?, payment_count = payment_count + ? "
+      + "where owner_type = ? and owner_id = ?";
+  private static final String ADD_TO_MEMBER_BALANCE = "merge into payment_balance balance "
+      + "using (select owner.id as owner_id, cast(? as decimal(19, 2)) as total_charge, "
+      + "cast(? as bigint) as payment_count from house_member owner where owner.id = ?) delta "
+      + "on (balance.owner_type = 'MEMBER' and balance.owner_id = delta.owner_id) "
+      + "when matched then update set total_charge = balance.total_charge + delta.total_charge, "
+      + "payment_count = balance.payment_count + delta.payment_count "
+      + "when not matched then insert (owner_type, owner_id, total_charge, payment_count) "
+      + "values ('MEMBER', delta.owner_id, delta.total_charge, delta.payment_count)";
+  private static final String ADD_TO_HOUSE_BALANCE_OF_MEMBER = "merge into payment_balance "
+      + "balance using (select owner.community_house_id as owner_id, "
+      + "cast(? as decimal(19, 2)) as total_charge, cast(? as bigint) as payment_count "
+      + "from house_member owner where owner.id = ? and owner.community_house_id is not null) "
+      + "delta on (balance.owner_type = 'HOUSE' and balance.owner_id = delta.owner_id) "
+      + "when matched then update set total_charge = balance.total_charge + delta.total_charge, "
+      + "payment_count = balance.payment_count + delta.payment_count "
+      + "when not matched then insert (owner_type, owner_id, total_charge, payment_count) "
+      + "values ('HOUSE', delta.owner_id, delta.total_charge, delta.payment_count)";
+  private static final String CREATE_COMMUNITY_MEMBER_BALANCES = "merge into payment_balance "
+      + "balance using (select resident.id as owner_id from house_member resident "
+      + "join community_house house on resident.community_house_id = house.id "
+      + "where house.community_id = ?) owner "
+      + "on (balance.owner_type = 'MEMBER' and balance.owner_id = owner.owner_id) "
+      + "when not matched then insert (owner_type, owner_id, total_charge, payment_count) "
+      + "values ('MEMBER', owner.owner_id, 0, 0)";
+  private static final String CREATE_COMMUNITY_HOUSE_BALANCES = "merge into payment_balance "
+      + "balance using (select id as owner_id from community_house where community_id = ?) "
+      + "owner on (balance.owner_type = 'HOUSE' and balance.owner_id = owner.owner_id) "
+      + "when not matched then insert (owner_type, owner_id, total_charge, payment_count) "
+      + "values ('HOUSE', owner.owner_id, 0, 0)";
+  private static final String MEMBER_BALANCE = "select owner.id, balance.total_charge, "
+      + "balance.payment_count from house_member owner left join payment_balance balance "
+      + "on balance.owner_type = 'MEMBER' and balance.owner_id = owner.id "
+      + "where owner.member_id = ?";
+  private static final String HOUSE_BALANCE = "select owner.id, balance.total_charge, "
+      + "balance.payment_count from community_house owner left join payment_balance balance "
+      + "on balance.owner_type = 'HOUSE' and balance.owner_id = owner.id "
+      + "where owner.house_id = ?";
+  private static final String MEMBER_BALANCE_IN_HOUSE = "select resident.community_house_id, "
+      + "balance.total_charge, balance.payment_count from house_member resident "
+      + "join community_house house on resident.community_house_id = house.id "
+      + "join payment_balance balance "
+      + "on balance.owner_type = 'MEMBER' and balance.owner_id = resident.id "
+      + "where resident.member_id = ? and house.house_id = ?";
+  private static final String COMMUNITY_HOUSES =
+      "select id from community_house where community_id = ?";
+  private static final String COMMUNITY_MEMBERS = "select resident.id, "
+      + "resident.community_house_id from house_member resident join community_house house "
+      + "on resident.community_house_id = house.id where house.community_id = ?";
+  private static final String COMMUNITY_PAYMENTS = "select payment.member_id, payment.charge "
+      + "from payment join house_member resident on payment.member_id = resident.id "
+      + "join community_house house on resident.community_house_id = house.id "
+      + "where house.community_id = ?";
+  private static final String LOCK_COMMUNITY_BALANCES = "select owner_type, owner_id, "
+      + "total_charge, payment_count from payment_balance "
+      + "where (owner_type = 'MEMBER' and owner_id in (select resident.id "
+      + "from house_member resident join community_house house "
+      + "on resident.community_house_id = house.id where house.community_id = ?)) "
+      + "or (owner_type = 'HOUSE' and owner_id in "
+      + "(select id from community_house where community_id = ?)) for update";
+  private static final String SET_BALANCE = "update payment_balance "
+      + "set total_charge = ?, payment_count = ? where owner_type = ? and owner_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Adds the payments to the balances of their members and of the houses the members are in.
+   */
+  @Transactional
+  public void addPayments(List<MemberCharge> payments) {
+    Map<Long, Totals> totalsByMember = new LinkedHashMap<>();
+    for (MemberCharge payment : payments) {
+      totalsByMember.computeIfAbsent(payment.getMemberId(), memberId -> new Totals())
+          .add(payment.getCharge(), 1);
+    }
+    List<Object[]> rows = new ArrayList<>(totalsByMember.size());
+    totalsByMember.forEach((memberId, totals) ->
+        rows.add(new Object[] {totals.charge, totals.count, memberId}));
+
+    jdbcTemplate.batchUpdate(ADD_TO_MEMBER_BALANCE, rows);
+    jdbcTemplate.batchUpdate(ADD_TO_HOUSE_BALANCE_OF_MEMBER, rows);
+  }
+
+  /**
+   * Subtracts the balance of the member from the balance of the house, if the member is in it.
+   * Called before the member leaves the house.
+   */
+  @Transactional
+  public void removeMemberFromHouse(String memberId, String houseId) {
+    jdbcTemplate.query(MEMBER_BALANCE_IN_HOUSE, (RowCallbackHandler) resultSet ->
+        jdbcTemplate.update(ADD_TO_BALANCE, resultSet.getBigDecimal(2).negate(),
+            -resultSet.getLong(3), OwnerType.HOUSE.name(), resultSet.getLong(1)),
+        memberId, houseId);
+  }
+
+  /**
+   * @return balance of the member, or empty if the member does not exist
+   */
+  public Optional<PaymentBalance> findMemberBalance(String memberId) {
+    return findBalance(MEMBER_BALANCE, OwnerType.MEMBER, memberId);
+  }
+
+  /**
+   * @return balance of the house, or empty if the house does not exist
+   */
+  public Optional<PaymentBalance> findHouseBalance(String houseId) {
+    return findBalance(HOUSE_BALANCE, OwnerType.HOUSE, houseId);
+  }
+
+  /**
+   * Recomputes the balances of the members and houses of the community from its payments, which
+   * are streamed rather than loaded, and corrects the stored balances which differ.
+   *
+   * <p>The balances are created if missing and locked before the payments are read, so payments
+   * added concurrently are either read or added to the corrected balances once this commits.</p>
+   */
+  @Transactional
+  public BalanceRebuildReport rebuildCommunity(Long communityId) {
+    jdbcTemplate.update(CREATE_COMMUNITY_MEMBER_BALANCES, communityId);
+    jdbcTemplate.update(CREATE_COMMUNITY_HOUSE_BALANCES, communityId);
+    Map<Long, Totals> storedMembers = new HashMap<>();
+    Map<Long, Totals> storedHouses = new HashMap<>();
+    jdbcTemplate.query(LOCK_COMMUNITY_BALANCES, (RowCallbackHandler) resultSet -> {
+      Totals totals = new Totals();
+      totals.add(resultSet.getBigDecimal(3), resultSet.getLong(4));
+      (OwnerType.MEMBER.name().equals(resultSet.getString(1)) ? storedMembers : storedHouses)
+          .put(resultSet.getLong(2), totals);
+    }, communityId, communityId);
+
+    Map<Long, Totals> memberTotals = new HashMap<>();
+    Map<Long, Totals> houseTotals = new HashMap<>();
+    Map<Long, Long> houseIdsByMember = new HashMap<>();
+    jdbcTemplate.query(COMMUNITY_HOUSES,
+        (RowCallbackHandler) resultSet -> houseTotals.put(resultSet.getLong(1), new Totals()),
+        communityId);
+    jdbcTemplate.query(COMMUNITY_MEMBERS, (RowCallbackHandler) resultSet -> {
+      memberTotals.put(resultSet.getLong(1), new Totals());
+      houseIdsByMember.put(resultSet.getLong(1), resultSet.getLong(2));
+    }, communityId);
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(COMMUNITY_PAYMENTS);
+      statement.setFetchSize(REBUILD_FETCH_SIZE);
+      statement.setLong(1, communityId);
+      return statement;
+    }, (RowCallbackHandler) resultSet -> {
+      long memberId = resultSet.getLong(1);
+      BigDecimal charge = resultSet.getBigDecimal(2);
+      memberTotals.get(memberId).add(charge, 1);
+      houseTotals.get(houseIdsByMember.get(memberId)).add(charge, 1);
+    });
+
+    int corrected = correct(OwnerType.MEMBER, memberTotals, storedMembers)
+        + correct(OwnerType.HOUSE, houseTotals, storedHouses);
+    return new BalanceRebuildReport(memberTotals.size(), houseTotals.size(), corrected);
+  }
+
+  private int correct(OwnerType ownerType, Map<Long, Totals> expected,
+      Map<Long, Totals> stored) {
+    List<Object[]> updates = new ArrayList<>();
+    expected.forEach((ownerId, totals) -> {
+      Totals storedTotals = stored.get(ownerId);
+      // owners which joined the community after the balances were locked are left alone
+      if (storedTotals != null && !totals.matches(storedTotals)) {
+        updates.add(new Object[] {totals.charge, totals.count, ownerType.name(), ownerId});
+      }
+    });
+    if (!updates.isEmpty()) {
+      jdbcTemplate.batchUpdate(SET_BALANCE, updates);
+    }
+    return updates.size();
+  }
+
+  private Optional<PaymentBalance> findBalance(String query, OwnerType ownerType,
+      String ownerId) {
+    List<PaymentBalance> balances = jdbcTemplate.query(query,
+        (resultSet, row) -> toBalance(ownerType, resultSet), ownerId);
+    return balances.stream().findFirst();
+  }
+
+  private static PaymentBalance toBalance(OwnerType ownerType, ResultSet resultSet)
+      throws SQLException {
+    BigDecimal totalCharge = resultSet.getBigDecimal(2);
+    return new PaymentBalance(ownerType, resultSet.getLong(1),
+        totalCharge == null ? BigDecimal.ZERO : totalCharge, resultSet.getLong(3));
+  }
+
+  @Value
+  public static class MemberCharge {
+    long memberId;
+    BigDecimal charge;
+  }
+
+  private static class Totals {
+    private BigDecimal charge = BigDecimal.ZERO;
+    private long count;
+
+    void add(BigDecimal charge, long count) {
+      this.charge = this.charge.add(charge);
+      this.count += count;
+    }
+
+    boolean matches(Totals other) {
+      return charge.compareTo(other.charge) == 0 && count == other.count;
+    }
+  }
+}
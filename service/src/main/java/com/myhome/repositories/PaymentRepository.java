@@ -17,10 +17,23 @@ package com.myhome.repositories;
 
 import com.myhome.domain.Payment;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
   Optional<Payment> findByPaymentId(String paymentId);
 
   void deleteByPaymentId(String paymentId);
+
+  @EntityGraph(attributePaths = "admin")
+  Slice<Payment> findAllByAdmin_UserId(String adminId, Pageable pageable);
+
+  @EntityGraph(attributePaths = "admin")
+  Page<Payment> findByAdmin_UserId(String adminId, Pageable pageable);
+
+  @EntityGraph(attributePaths = "member")
+  Page<Payment> findByMember_MemberId(String memberId, Pageable pageable);
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.domain.PaymentSearchFilter;
+import com.myhome.domain.PaymentSummary;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Searches the payments of an admin, selecting only the columns of {@link PaymentSummary}.
+ *
+ * <p>Only the given criteria become predicates, so the query keeps matching the indexes of
+ * {@link com.myhome.domain.Payment} leading with the admin. Results are ordered by due date and
+ * read one row past the page to find out whether another page follows, without counting.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentSearchRepository {
+  private static final String SELECT_SUMMARIES =
+      "select new com.myhome.domain.PaymentSummary(payment.paymentId, houseMember.memberId, "
+          + "payment.type, payment.charge, payment.recurring, payment.dueDate) "
+          + "from Payment payment left join payment.member houseMember "
+          + "where payment.admin.userId = :adminId";
+  private static final String ORDER_BY_DUE_DATE = " order by payment.dueDate, payment.id";
+
+  private final EntityManager entityManager;
+
+  @Transactional(readOnly = true)
+  public Slice<PaymentSummary> searchByAdmin(String adminId, PaymentSearchFilter filter,
+      Pageable pageable) {
+    StringBuilder jpql = new StringBuilder(SELECT_SUMMARIES);
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("adminId", adminId);
+    addPredicate(jpql, parameters, "payment.type = :type", "type", filter.getType());
+    addPredicate(jpql, parameters, "payment.dueDate >= :dueDateFrom", "dueDateFrom",
+        filter.getDueDateFrom());
+    addPredicate(jpql, parameters, "payment.dueDate <= :dueDateTo", "dueDateTo",
+        filter.getDueDateTo());
+    addPredicate(jpql, parameters, "payment.recurring = :recurring", "recurring",
+        filter.getRecurring());
+    addPredicate(jpql, parameters, "payment.charge >= :minCharge", "minCharge",
+        filter.getMinCharge());
+    addPredicate(jpql, parameters, "payment.charge <= :maxCharge", "maxCharge",
+        filter.getMaxCharge());
+    jpql.append(ORDER_BY_DUE_DATE);
+
+    TypedQuery<PaymentSummary> query =
+        entityManager.createQuery(jpql.toString(), PaymentSummary.class);
+    parameters.forEach(query::setParameter);
+    List<PaymentSummary> summaries = query
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize() + 1)
+        .getResultList();
+    boolean hasNext = summaries.size() > pageable.getPageSize();
+    return new SliceImpl<>(hasNext ? summaries.subList(0, pageable.getPageSize()) : summaries,
+        pageable, hasNext);
+  }
+
+  private static void addPredicate(StringBuilder jpql, Map<String, Object> parameters,
+      String predicate, String name, Object value) {
+    if (value != null) {
+      jpql.append(" and ").append(predicate);
+      parameters.put(name, value);
+    }
+  }
+}
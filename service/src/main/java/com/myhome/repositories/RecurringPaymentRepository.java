@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.repositories.PaymentLedgerRepository.MemberCharge;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Finds recurring payments due for their next occurrence and inserts those occurrences with JDBC
+ * batches, bypassing the persistence context.
+ *
+ * <p>Every occurrence is copied from the payment it follows by an insert guarded against an
+ * existing next occurrence, so materializing a payment again inserts nothing. Inserted
+ * occurrences are added to the payment balances in the same transaction.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecurringPaymentRepository {
+  private static final String NO_NEXT_OCCURRENCE = "not exists (select 1 from payment next "
+      + "where next.previous_payment_id = previous.id)";
+  private static final String SELECT_DUE = "select previous.id, previous.due_date, "
+      + "previous.member_id, previous.charge "
+      + "from payment previous where previous.recurring = true and previous.id > ? "
+      + "and previous.due_date between ? and ? and " + NO_NEXT_OCCURRENCE
+      + " order by previous.id limit ?";
+  private static final String INSERT_NEXT_OCCURRENCE =
+      "insert into payment (payment_id, charge, type, description, recurring, due_date, "
+          + "admin_id, member_id, previous_payment_id) "
+          + "select ?, charge, type, description, recurring, ?, admin_id, member_id, id "
+          + "from payment previous where previous.id = ? and " + NO_NEXT_OCCURRENCE;
+  private static final String COUNT_PAYMENT =
+      "select count(*) from payment where payment_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PaymentLedgerRepository paymentLedgerRepository;
+
+  /**
+   * Finds recurring payments without a next occurrence, due within the given dates, in primary
+   * key order after the given one.
+   */
+  public List<DuePayment> findDue(long afterId, LocalDate from, LocalDate to, int limit) {
+    return jdbcTemplate.query(SELECT_DUE,
+        (resultSet, row) -> new DuePayment(resultSet.getLong(1),
+            resultSet.getDate(2).toLocalDate(), resultSet.getLong(3), resultSet.getBigDecimal(4)),
+        afterId, Date.valueOf(from), Date.valueOf(to), limit);
+  }
+
+  /**
+   * Inserts the next occurrence of each of the payments, one month after its due date.
+   *
+   * @return number of inserted occurrences
+   */
+  @Transactional
+  public int insertNextOccurrences(List<DuePayment> payments) {
+    List<Object[]> rows = new ArrayList<>(payments.size());
+    for (DuePayment payment : payments) {
+      rows.add(new Object[] {UUID.randomUUID().toString(),
+          Date.valueOf(payment.getDueDate().plusMonths(1)), payment.getId()});
+    }
+    int[] counts = jdbcTemplate.batchUpdate(INSERT_NEXT_OCCURRENCE, rows);
+    List<MemberCharge> charges = new ArrayList<>(payments.size());
+    for (int row = 0; row < counts.length; row++) {
+      String paymentId = (String) rows.get(row)[0];
+      if (counts[row] > 0 || counts[row] == Statement.SUCCESS_NO_INFO && isInserted(paymentId)) {
+        DuePayment payment = payments.get(row);
+        charges.add(new MemberCharge(payment.getMemberId(), payment.getCharge()));
+      }
+    }
+    if (!charges.isEmpty()) {
+      paymentLedgerRepository.addPayments(charges);
+    }
+    return charges.size();
+  }
+
+  // drivers may report success without a count, even for guarded inserts which inserted nothing
+  private boolean isInserted(String paymentId) {
+    return jdbcTemplate.queryForObject(COUNT_PAYMENT, Long.class, paymentId) > 0;
+  }
+
+  @Value
+  public static class DuePayment {
+    long id;
+    LocalDate dueDate;
+    long memberId;
+    BigDecimal charge;
+  }
+}
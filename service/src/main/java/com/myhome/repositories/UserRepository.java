@@ -17,11 +17,13 @@
 package com.myhome.repositories;
 
 import com.myhome.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -46,4 +48,52 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmailWithTokens(@Param("email") String email);
 
   List<User> findAllByCommunities_CommunityId(String communityId, Pageable pageable);
+
+  List<User> findAllByCommunities_CommunityIdAndIdGreaterThanOrderByIdAsc(String communityId,
+      Long id, Pageable pageable);
+
+  List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+  @Query("select user.userId as userId, user.encryptedPassword as encryptedPassword, "
+      + "user.membershipVersion as membershipVersion, "
+      + "community.communityId as adminCommunityId "
+      + "from User user left join user.communities community where user.email = :email")
+  List<CredentialsRow> findCredentialsByEmail(@Param("email") String email, Pageable pageable);
+
+  @Query("select user.id as id, user.userId as userId from User user "
+      + "where user.userId in :userIds")
+  List<UserIdRow> findIdsByUserIds(@Param("userIds") Collection<String> userIds);
+
+  @Query("select user.membershipVersion from User user where user.userId = :userId")
+  Optional<Long> findMembershipVersionByUserId(@Param("userId") String userId);
+
+  @Modifying
+  @Query("update User user set user.membershipVersion = user.membershipVersion + 1 "
+      + "where user.userId in :userIds")
+  int incrementMembershipVersions(@Param("userIds") Collection<String> userIds);
+
+  @Modifying
+  @Query("update User user set user.encryptedPassword = :newPassword "
+      + "where user.userId = :userId and user.encryptedPassword = :oldPassword")
+  int updateEncryptedPassword(@Param("userId") String userId,
+      @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
+
+  /**
+   * Credentials of a user joined with one of the communities administered by the user.
+   */
+  interface CredentialsRow {
+    String getUserId();
+
+    String getEncryptedPassword();
+
+    long getMembershipVersion();
+
+    String getAdminCommunityId();
+  }
+
+  interface UserIdRow {
+    Long getId();
+
+    String getUserId();
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} which asks for a new encoding whenever the cost of a stored
+ * hash is below its own strength.
+ *
+ * <p>Hashes of a higher cost are kept, as instances calibrated on different hardware would
+ * otherwise rehash the same password back and forth on every login.</p>
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+  private static final Pattern BCRYPT_PATTERN =
+      Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+  private final int strength;
+
+  public AdaptiveBCryptPasswordEncoder(int strength) {
+    super(strength);
+    this.strength = strength;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+    return matcher.matches() && Integer.parseInt(matcher.group(2)) < strength;
+  }
+}
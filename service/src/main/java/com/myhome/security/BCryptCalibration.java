@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BCrypt work factor chosen at startup, with the hash latency measured for it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BCryptCalibration {
+  private final int strength;
+  private final Duration hashLatency;
+  private final Duration targetLatency;
+  private final Instant calibratedAt;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the calibrated BCrypt work factor and the CPU time it costs per login.
+ */
+@Component
+@Endpoint(id = "bcrypt")
+@RequiredArgsConstructor
+public class BCryptCalibrationEndpoint {
+  private final BCryptCalibration calibration;
+
+  @ReadOperation
+  public Map<String, Object> calibration() {
+    double hashMillis = calibration.getHashLatency().toNanos() / 1_000_000.0;
+    Map<String, Object> details = new LinkedHashMap<>();
+    details.put("strength", calibration.getStrength());
+    details.put("hashLatencyMillis", hashMillis);
+    details.put("targetLatencyMillis", calibration.getTargetLatency().toMillis());
+    details.put("hashesPerSecondPerCore", hashMillis > 0 ? 1000 / hashMillis : null);
+    details.put("calibratedAt", calibration.getCalibratedAt().toString());
+    return details;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import com.myhome.configuration.properties.password.BCryptProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Finds the highest BCrypt work factor whose hash latency stays within the configured target on
+ * the current hardware.
+ *
+ * <p>Each additional round doubles the work, so strengths are measured upwards from the minimum
+ * only while the next one is expected to fit the target. A measurement takes the fastest of
+ * several hashes to filter out scheduling noise.</p>
+ */
+@Slf4j
+public class BCryptCalibrator {
+  private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+  private final BCryptProperties properties;
+  private final IntToLongFunction hashTimer;
+
+  public BCryptCalibrator(BCryptProperties properties) {
+    this(properties, BCryptCalibrator::timeHash);
+  }
+
+  BCryptCalibrator(BCryptProperties properties, IntToLongFunction hashTimer) {
+    if (properties.getMinStrength() < 4 || properties.getMaxStrength() > 31
+        || properties.getMinStrength() > properties.getMaxStrength()) {
+      throw new IllegalArgumentException("BCrypt strengths have to satisfy 4 <= "
+          + properties.getMinStrength() + " <= " + properties.getMaxStrength() + " <= 31");
+    }
+    this.properties = properties;
+    this.hashTimer = hashTimer;
+  }
+
+  public BCryptCalibration calibrate() {
+    long targetNanos = properties.getTargetLatency().toNanos();
+    // warm up the JIT so the first measurement is not inflated
+    measure(properties.getMinStrength());
+
+    int strength = properties.getMinStrength();
+    long latency = measure(strength);
+    while (strength < properties.getMaxStrength() && latency * 2 <= targetNanos) {
+      long nextLatency = measure(strength + 1);
+      if (nextLatency > targetNanos) {
+        break;
+      }
+      strength++;
+      latency = nextLatency;
+    }
+    if (latency > targetNanos) {
+      log.warn("BCrypt strength {} takes {} ms, above the target of {} ms", strength,
+          Duration.ofNanos(latency).toMillis(), properties.getTargetLatency().toMillis());
+    }
+    return new BCryptCalibration(strength, Duration.ofNanos(latency),
+        properties.getTargetLatency(), Instant.now());
+  }
+
+  private long measure(int strength) {
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < Math.max(properties.getSamples(), 1); i++) {
+      fastest = Math.min(fastest, hashTimer.applyAsLong(strength));
+    }
+    return fastest;
+  }
+
+  private static long timeHash(int strength) {
+    String salt = BCrypt.gensalt(strength);
+    long start = System.nanoTime();
+    BCrypt.hashpw(CALIBRATION_PASSWORD, salt);
+    return System.nanoTime() - start;
+  }
+}
@@ -1,66 +0,0 @@
-package com.myhome.security;
-
-import com.myhome.domain.User;
-import com.myhome.services.CommunityService;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-
-import javax.servlet.FilterChain;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.util.List;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-public class CommunityAuthorizationFilter extends BasicAuthenticationFilter {
-    private final CommunityService communityService;
-    private final String uuidPattern = "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
-    private final Pattern addAdminRequestPattern = Pattern.compile("/communities/" + uuidPattern + "/admins");
-
-
-    public CommunityAuthorizationFilter(AuthenticationManager authenticationManager,
-                                        CommunityService communityService) {
-        super(authenticationManager);
-        this.communityService = communityService;
-    }
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
-                                    FilterChain chain) throws IOException, ServletException {
-
-        Matcher urlMatcher = addAdminRequestPattern.matcher(request.getRequestURI());
-
-        if (urlMatcher.find() && !isUserCommunityAdmin(request)) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            return;
-        }
-
-        super.doFilterInternal(request, response, chain);
-    }
-
-    private boolean isUserCommunityAdmin(HttpServletRequest request) {
-        String userId = (String) SecurityContextHolder
-                .getContext().getAuthentication().getPrincipal();
-        String communityId = request
-                .getRequestURI().split("/")[2];
-        Optional<List<User>> optional = communityService
-                .findCommunityAdminsById(communityId, null);
-
-        if (optional.isPresent()) {
-            List<User> communityAdmins = optional.get();
-            User admin = communityAdmins
-                    .stream()
-                    .filter(communityAdmin -> communityAdmin.getUserId().equals(userId))
-                    .findFirst()
-                    .orElse(null);
-
-            return admin != null;
-        }
-
-        return false;
-    }
-}
\ No newline at end of file
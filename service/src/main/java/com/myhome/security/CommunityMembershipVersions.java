@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myhome.repositories.UserRepository;
+import com.myhome.utils.TransactionUtils;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Version stamps of the community admin memberships of each user.
+ *
+ * <p>The version of a user is stored with the user and incremented by the transaction of every
+ * change of the communities administered by the user. A token is stamped with the version read
+ * by the same query as its community claim, so the claim may be trusted while that version is
+ * still the stored one.</p>
+ *
+ * <p>Stored versions are cached briefly. Changes made by this instance evict them when they
+ * commit, while changes made by other instances are seen once the cached version expires.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityMembershipVersions {
+  private static final long VERSION_CACHE_SIZE = 10_000;
+  // bounds staleness of changes made outside of this instance
+  private static final long VERSION_CACHE_TTL_SECONDS = 10;
+
+  private final Cache<String, Long> versions = Caffeine.newBuilder()
+      .maximumSize(VERSION_CACHE_SIZE)
+      .expireAfterWrite(VERSION_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+      .build();
+
+  private final UserRepository userRepository;
+
+  public boolean isCurrent(String userId, long version) {
+    Long currentVersion = versions.get(userId,
+        id -> userRepository.findMembershipVersionByUserId(id).orElse(null));
+    return currentVersion != null && currentVersion == version;
+  }
+
+  /**
+   * Increments the versions of the users within the current transaction, so tokens issued
+   * before it are no longer current once it commits.
+   */
+  @Transactional
+  public void bump(Collection<String> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    userRepository.incrementMembershipVersions(userIds);
+    TransactionUtils.afterCommit(() -> versions.invalidateAll(userIds));
+  }
+}
@@ -75,6 +75,9 @@ public class MyHomeAuthorizationFilter extends BasicAuthenticationFilter {
     if (jwt.getUserId() == null) {
       return null;
     }
-    return new UsernamePasswordAuthenticationToken(jwt.getUserId(), null, Collections.emptyList());
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(jwt.getUserId(), null, Collections.emptyList());
+    authentication.setDetails(jwt);
+    return authentication;
   }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import com.myhome.configuration.properties.password.PasswordHashingProperties;
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password hashing on a dedicated pool sized to the available cores, so that hashing
+ * during login storms cannot occupy every servlet worker. Requests arriving while the bounded
+ * queue is full are rejected with {@link ServiceUnavailableException}.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor threadPoolExecutor;
+  private final ExecutorService executorService;
+  private final Counter rejectedCounter;
+  private final Duration retryAfter;
+
+  public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+      PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    int threads = properties.getThreads() > 0
+        ? properties.getThreads()
+        : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.passwordEncoder = passwordEncoder;
+    this.retryAfter = properties.getRetryAfter();
+    this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor,
+        "password.hashing", Collections.emptyList());
+    this.rejectedCounter = Counter.builder("password.hashing.rejected")
+        .description("Password hashing requests rejected because the queue was full")
+        .register(meterRegistry);
+  }
+
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * Tells whether the encoded password should be encoded again, which only inspects the hash
+   * and therefore runs on the calling thread.
+   */
+  public boolean upgradeEncoding(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T execute(Callable<T> task) {
+    Future<T> result;
+    try {
+      result = executorService.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      log.warn("Password hashing queue is full, rejecting request");
+      throw new ServiceUnavailableException("Too many login requests, try again later",
+          retryAfter);
+    }
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      result.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    threadPoolExecutor.shutdownNow();
+  }
+}
@@ -16,9 +16,15 @@
 
 package com.myhome.security;
 
-import com.myhome.security.filters.CommunityAuthorizationFilter;
+import com.myhome.configuration.properties.ratelimit.RateLimitProperties;
+import com.myhome.security.filters.RateLimitFilter;
+import com.myhome.security.filters.RouteAuthorizationFilter;
+import com.myhome.security.filters.RoutePolicy;
+import com.myhome.security.filters.RoutePolicyMatcher;
 import com.myhome.security.jwt.AppJwtEncoderDecoder;
 import com.myhome.services.CommunityService;
+import com.myhome.services.HouseService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -31,8 +37,6 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import javax.servlet.Filter;
-
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -40,20 +44,23 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
   private final Environment environment;
   private final UserDetailsService userDetailsService;
   private final CommunityService communityService;
+  private final HouseService houseService;
   private final PasswordEncoder passwordEncoder;
   private final AppJwtEncoderDecoder appJwtEncoderDecoder;
+  private final CommunityMembershipVersions membershipVersions;
+  private final RateLimitProperties rateLimitProperties;
+  private final MeterRegistry meterRegistry;
 
   @Override
   protected void configure(HttpSecurity http) throws Exception {
     http.cors().and().csrf().disable();
     http.headers().frameOptions().disable();
     http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
-    http.addFilterAfter(getCommunityFilter(), MyHomeAuthorizationFilter.class);
 
     http.authorizeRequests()
         .antMatchers(environment.getProperty("api.public.h2console.url.path"))
         .permitAll()
-        .antMatchers(environment.getProperty("api.public.actuator.url.path"))
+        .antMatchers(environment.getProperty("api.public.actuator.url.path", String[].class))
         .permitAll()
         .antMatchers(HttpMethod.POST, environment.getProperty("api.public.registration.url.path"))
         .permitAll()
@@ -74,11 +81,45 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
         .and()
         .addFilter(new MyHomeAuthorizationFilter(authenticationManager(), environment,
             appJwtEncoderDecoder))
-        .addFilterAfter(getCommunityFilter(), MyHomeAuthorizationFilter.class);
+        .addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry),
+            MyHomeAuthorizationFilter.class)
+        .addFilterAfter(getRouteAuthorizationFilter(), RateLimitFilter.class);
   }
 
-  private Filter getCommunityFilter() throws Exception {
-    return new CommunityAuthorizationFilter(authenticationManager(), communityService);
+  private RouteAuthorizationFilter getRouteAuthorizationFilter() {
+    RoutePolicyMatcher routePolicyMatcher = RoutePolicyMatcher.builder()
+        .route("/communities/{communityId}", RoutePolicy.COMMUNITY_ADMIN, HttpMethod.DELETE)
+        .route("/communities/{communityId}/admins", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.GET, HttpMethod.POST)
+        .route("/communities/{communityId}/admins/{adminId}", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.DELETE)
+        .route("/communities/{communityId}/admins/{adminId}/payments", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.GET, HttpMethod.POST)
+        .route("/communities/{communityId}/admins/{adminId}/payments/search",
+            RoutePolicy.COMMUNITY_ADMIN, HttpMethod.GET)
+        .route("/communities/{communityId}/amenities", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.GET, HttpMethod.POST)
+        .route("/communities/{communityId}/houses", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.GET, HttpMethod.POST)
+        .route("/communities/{communityId}/import", RoutePolicy.COMMUNITY_ADMIN, HttpMethod.POST)
+        .route("/communities/{communityId}/deletions", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.POST)
+        .route("/communities/{communityId}/houses/{houseId}", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.DELETE)
+        .route("/communities/{communityId}/balances/rebuild", RoutePolicy.COMMUNITY_ADMIN,
+            HttpMethod.POST)
+        .route("/houses/{houseId}", RoutePolicy.HOUSE_ADMIN, HttpMethod.GET)
+        .route("/houses/{houseId}/members", RoutePolicy.HOUSE_ADMIN,
+            HttpMethod.GET, HttpMethod.POST)
+        .route("/houses/{houseId}/members/{memberId}", RoutePolicy.HOUSE_ADMIN, HttpMethod.DELETE)
+        .route("/members/{memberId}/documents", RoutePolicy.MEMBER_ADMIN,
+            HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE)
+        .route("/houses/{houseId}/balance", RoutePolicy.HOUSE_ADMIN, HttpMethod.GET)
+        .route("/members/{memberId}/payments", RoutePolicy.MEMBER_ADMIN, HttpMethod.GET)
+        .route("/members/{memberId}/balance", RoutePolicy.MEMBER_ADMIN, HttpMethod.GET)
+        .build();
+    return new RouteAuthorizationFilter(routePolicyMatcher, communityService, houseService,
+        membershipVersions);
   }
 
   @Override
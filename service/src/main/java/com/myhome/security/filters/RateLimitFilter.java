@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myhome.configuration.properties.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Throttles requests with a {@link TokenBucket} per route group and client.
+ *
+ * <p>Clients are told apart by the authenticated user id, or by their address for requests
+ * without authentication such as login and registration. Every limited response carries the
+ * RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset headers, and requests exceeding the
+ * limit are answered with 429 and Retry-After.</p>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+  static final String LIMIT_HEADER = "RateLimit-Limit";
+  static final String REMAINING_HEADER = "RateLimit-Remaining";
+  static final String RESET_HEADER = "RateLimit-Reset";
+
+  private final List<LimitedGroup> groups = new ArrayList<>();
+  private final LongSupplier nanoClock;
+
+  public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, System::nanoTime);
+  }
+
+  RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry,
+      LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    if (properties.isEnabled()) {
+      for (RateLimitProperties.Group group : properties.getGroups()) {
+        groups.add(new LimitedGroup(group, properties, meterRegistry));
+      }
+    }
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain chain) throws IOException, ServletException {
+    LimitedGroup group = findGroup(request);
+    if (group == null) {
+      chain.doFilter(request, response);
+      return;
+    }
+    TokenBucket bucket = group.buckets.get(getClientKey(request),
+        key -> new TokenBucket(group.capacity, group.period, nanoClock.getAsLong()));
+    TokenBucket.Probe probe = bucket.tryConsume(nanoClock.getAsLong());
+
+    response.setHeader(LIMIT_HEADER, String.valueOf(probe.getLimit()));
+    response.setHeader(REMAINING_HEADER, String.valueOf(probe.getRemaining()));
+    response.setHeader(RESET_HEADER, String.valueOf(toSeconds(probe.getNanosUntilFull())));
+    if (!probe.isConsumed()) {
+      group.rejectedCounter.increment();
+      response.setHeader(HttpHeaders.RETRY_AFTER,
+          String.valueOf(Math.max(toSeconds(probe.getNanosUntilAllowed()), 1)));
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.getWriter().write("{\"message\":\"Too many requests, try again later\"}");
+      return;
+    }
+
+    chain.doFilter(request, response);
+  }
+
+  private LimitedGroup findGroup(HttpServletRequest request) {
+    for (LimitedGroup group : groups) {
+      if (group.requestMatcher.matches(request)) {
+        return group;
+      }
+    }
+    return null;
+  }
+
+  private static String getClientKey(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.isAuthenticated()
+        && !(authentication instanceof AnonymousAuthenticationToken)) {
+      return "user:" + authentication.getName();
+    }
+    return "address:" + request.getRemoteAddr();
+  }
+
+  private static long toSeconds(long nanos) {
+    return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+  }
+
+  private static class LimitedGroup {
+    private final RequestMatcher requestMatcher;
+    private final long capacity;
+    private final Duration period;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejectedCounter;
+
+    LimitedGroup(RateLimitProperties.Group group, RateLimitProperties properties,
+        MeterRegistry meterRegistry) {
+      if (group.getCapacity() <= 0 || group.getPeriod() == null || group.getPeriod().isZero()
+          || group.getPaths().isEmpty()) {
+        throw new IllegalArgumentException(
+            "Rate limit group " + group.getName() + " needs paths, a capacity and a period");
+      }
+      List<RequestMatcher> matchers = new ArrayList<>();
+      for (String path : group.getPaths()) {
+        if (group.getMethods().isEmpty()) {
+          matchers.add(new AntPathRequestMatcher(path));
+        } else {
+          group.getMethods().forEach(
+              method -> matchers.add(new AntPathRequestMatcher(path, method.name())));
+        }
+      }
+      this.requestMatcher = new OrRequestMatcher(matchers);
+      this.capacity = group.getCapacity();
+      this.period = group.getPeriod();
+      // an evicted bucket has to be full already, so eviction never grants extra requests
+      Duration idleTimeout = properties.getIdleTimeout().compareTo(period) > 0
+          ? properties.getIdleTimeout()
+          : period;
+      this.buckets = Caffeine.newBuilder()
+          .expireAfterAccess(idleTimeout)
+          .maximumSize(properties.getMaxBuckets())
+          .build();
+      this.rejectedCounter = Counter.builder("ratelimit.rejected")
+          .tag("group", group.getName())
+          .description("Requests rejected because their rate limit was exceeded")
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import com.myhome.security.CommunityMembershipVersions;
+import com.myhome.security.jwt.AppJwt;
+import com.myhome.services.CommunityService;
+import com.myhome.services.HouseService;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects requests to routes guarded by a {@link RoutePolicy} when the authenticated user does
+ * not administer the community owning the addressed resource.
+ *
+ * <p>Admin checks are answered from the community claim of the token while its membership
+ * version is current, and from the admin membership cache otherwise.</p>
+ */
+@RequiredArgsConstructor
+public class RouteAuthorizationFilter extends OncePerRequestFilter {
+  private final RoutePolicyMatcher routePolicyMatcher;
+  private final CommunityService communityService;
+  private final HouseService houseService;
+  private final CommunityMembershipVersions membershipVersions;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain chain) throws IOException, ServletException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null) {
+      RoutePolicyMatcher.RouteMatch routeMatch =
+          routePolicyMatcher.match(request.getMethod(), getPath(request));
+      if (routeMatch != null && !isAllowed(routeMatch, authentication)) {
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        return;
+      }
+    }
+
+    chain.doFilter(request, response);
+  }
+
+  private boolean isAllowed(RoutePolicyMatcher.RouteMatch routeMatch,
+      Authentication authentication) {
+    switch (routeMatch.getPolicy()) {
+      case COMMUNITY_ADMIN:
+        return isCommunityAdmin(routeMatch.getScopeId(), authentication);
+      case HOUSE_ADMIN:
+        return houseService.findCommunityIdByHouseId(routeMatch.getScopeId())
+            .map(communityId -> isCommunityAdmin(communityId, authentication))
+            .orElse(false);
+      case MEMBER_ADMIN:
+        return houseService.findCommunityIdByMemberId(routeMatch.getScopeId())
+            .map(communityId -> isCommunityAdmin(communityId, authentication))
+            .orElse(false);
+      default:
+        return false;
+    }
+  }
+
+  private boolean isCommunityAdmin(String communityId, Authentication authentication) {
+    String userId = (String) authentication.getPrincipal();
+    if (authentication.getDetails() instanceof AppJwt) {
+      AppJwt jwt = (AppJwt) authentication.getDetails();
+      if (jwt.getAdminCommunityIds() != null && jwt.getMembershipVersion() != null
+          && membershipVersions.isCurrent(userId, jwt.getMembershipVersion())) {
+        return jwt.getAdminCommunityIds().contains(communityId);
+      }
+    }
+    return communityService.isCommunityAdmin(communityId, userId);
+  }
+
+  private static String getPath(HttpServletRequest request) {
+    String pathInfo = request.getPathInfo();
+    return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+  }
+}
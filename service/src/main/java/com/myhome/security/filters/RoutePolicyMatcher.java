@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Route table of guarded endpoints, compiled into a trie of path segments.
+ *
+ * <p>Routes are registered as templates such as {@code /communities/{communityId}/admins}.
+ * Matching walks the request path once without splitting it. Literal segments take precedence
+ * over path variables, and empty segments such as a trailing slash are ignored.</p>
+ */
+public final class RoutePolicyMatcher {
+
+  private final Node root;
+  private final int maxDepth;
+
+  private RoutePolicyMatcher(Node root, int maxDepth) {
+    this.root = root;
+    this.maxDepth = maxDepth;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Finds the policy guarding the given request.
+   *
+   * @param method HTTP method of the request
+   * @param path request path within the application
+   * @return matched policy with the value of its scope variable, or null if the route is not
+   *     guarded
+   */
+  public RouteMatch match(String method, String path) {
+    HttpMethod httpMethod = HttpMethod.resolve(method);
+    if (httpMethod == null || path == null || path.isEmpty() || path.charAt(0) != '/') {
+      return null;
+    }
+    int[] segmentBounds = new int[maxDepth * 2];
+    Node node = find(root, path, 1, segmentBounds, 0);
+    if (node == null) {
+      return null;
+    }
+    Guard guard = node.guards.get(httpMethod);
+    if (guard == null) {
+      return null;
+    }
+    int scopeStart = segmentBounds[guard.scopeSegment * 2];
+    int scopeEnd = segmentBounds[guard.scopeSegment * 2 + 1];
+    return new RouteMatch(guard.policy, path.substring(scopeStart, scopeEnd));
+  }
+
+  private static Node find(Node node, String path, int segmentStart, int[] segmentBounds,
+      int depth) {
+    if (segmentStart >= path.length()) {
+      return node.guards.isEmpty() ? null : node;
+    }
+    int segmentEnd = path.indexOf('/', segmentStart);
+    if (segmentEnd < 0) {
+      segmentEnd = path.length();
+    }
+    int segmentLength = segmentEnd - segmentStart;
+    if (segmentLength == 0) {
+      // empty segments, e.g. a trailing slash, are skipped the same way as by request mapping
+      return find(node, path, segmentEnd + 1, segmentBounds, depth);
+    }
+    if (depth == segmentBounds.length / 2) {
+      return null;
+    }
+
+    for (int i = 0; i < node.literalChildren.size(); i++) {
+      Node child = node.literalChildren.get(i);
+      if (child.literal.length() == segmentLength
+          && path.regionMatches(segmentStart, child.literal, 0, segmentLength)) {
+        Node found = find(child, path, segmentEnd + 1, segmentBounds, depth + 1);
+        if (found != null) {
+          return found;
+        }
+      }
+    }
+    if (node.variableChild != null) {
+      segmentBounds[depth * 2] = segmentStart;
+      segmentBounds[depth * 2 + 1] = segmentEnd;
+      return find(node.variableChild, path, segmentEnd + 1, segmentBounds, depth + 1);
+    }
+    return null;
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class RouteMatch {
+    private final RoutePolicy policy;
+    private final String scopeId;
+  }
+
+  public static class Builder {
+    private final Node root = new Node(null);
+    private int maxDepth = 1;
+
+    /**
+     * Guards the route with the given policy for the given HTTP methods.
+     *
+     * @throws IllegalArgumentException if the template lacks the policy's scope variable or the
+     *     route is already guarded for one of the methods
+     */
+    public Builder route(String pathTemplate, RoutePolicy policy, HttpMethod... methods) {
+      String[] segments = pathTemplate.substring(1).split("/");
+      int scopeSegment = -1;
+      Node node = root;
+      for (int depth = 0; depth < segments.length; depth++) {
+        String segment = segments[depth];
+        if (segment.startsWith("{") && segment.endsWith("}")) {
+          if (segment.substring(1, segment.length() - 1).equals(policy.getScopeVariable())) {
+            scopeSegment = depth;
+          }
+          if (node.variableChild == null) {
+            node.variableChild = new Node(null);
+          }
+          node = node.variableChild;
+        } else {
+          node = node.literalChild(segment);
+        }
+      }
+      if (scopeSegment < 0) {
+        throw new IllegalArgumentException(
+            pathTemplate + " has no {" + policy.getScopeVariable() + "} variable");
+      }
+      for (HttpMethod method : methods) {
+        if (node.guards.putIfAbsent(method, new Guard(policy, scopeSegment)) != null) {
+          throw new IllegalArgumentException(method + " " + pathTemplate + " is already guarded");
+        }
+      }
+      maxDepth = Math.max(maxDepth, segments.length);
+      return this;
+    }
+
+    public RoutePolicyMatcher build() {
+      return new RoutePolicyMatcher(root, maxDepth);
+    }
+  }
+
+  private static class Node {
+    private final String literal;
+    private final List<Node> literalChildren = new ArrayList<>();
+    private final Map<HttpMethod, Guard> guards = new EnumMap<>(HttpMethod.class);
+    private Node variableChild;
+
+    Node(String literal) {
+      this.literal = literal;
+    }
+
+    Node literalChild(String segment) {
+      for (Node child : literalChildren) {
+        if (child.literal.equals(segment)) {
+          return child;
+        }
+      }
+      Node child = new Node(segment);
+      literalChildren.add(child);
+      return child;
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Guard {
+    private final RoutePolicy policy;
+    private final int scopeSegment;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens, refilled evenly over
+ * {@code period}.
+ *
+ * <p>The bucket is kept as the generic cell rate algorithm: its whole state is the time at which
+ * it will be full again, advanced by one emission interval per consumed token with a single
+ * compare-and-set. All times are {@link System#nanoTime()} readings.</p>
+ */
+class TokenBucket {
+  private final long capacity;
+  private final long periodNanos;
+  private final long intervalNanos;
+  private final AtomicLong fullAt;
+
+  TokenBucket(long capacity, Duration period, long nowNanos) {
+    this.capacity = capacity;
+    this.periodNanos = period.toNanos();
+    this.intervalNanos = Math.max(periodNanos / capacity, 1);
+    this.fullAt = new AtomicLong(nowNanos);
+  }
+
+  Probe tryConsume(long nowNanos) {
+    while (true) {
+      long currentFullAt = fullAt.get();
+      long refilledFullAt = currentFullAt - nowNanos > 0 ? currentFullAt : nowNanos;
+      long nextFullAt = refilledFullAt + intervalNanos;
+      long allowedAt = nextFullAt - periodNanos;
+      if (allowedAt - nowNanos > 0) {
+        return new Probe(false, capacity, 0, refilledFullAt - nowNanos, allowedAt - nowNanos);
+      }
+      if (fullAt.compareAndSet(currentFullAt, nextFullAt)) {
+        long remaining = (nowNanos + periodNanos - nextFullAt) / intervalNanos;
+        return new Probe(true, capacity, remaining, nextFullAt - nowNanos, 0);
+      }
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  static class Probe {
+    private final boolean consumed;
+    private final long limit;
+    private final long remaining;
+    private final long nanosUntilFull;
+    private final long nanosUntilAllowed;
+  }
+}
@@ -17,6 +17,7 @@
 package com.myhome.security.jwt;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -29,5 +30,12 @@ import lombok.ToString;
 @Getter
 public class AppJwt {
   private final String userId;
+  private final LocalDateTime issuedAt;
   private final LocalDateTime expiration;
+  /**
+   * Communities administered by the user when the token was issued, or null if the token does
+   * not carry the claim. Only valid while {@link #membershipVersion} is current.
+   */
+  private final Set<String> adminCommunityIds;
+  private final Long membershipVersion;
 }
\ No newline at end of file
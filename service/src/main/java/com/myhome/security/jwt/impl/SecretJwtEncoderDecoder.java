@@ -16,43 +16,190 @@
 
 package com.myhome.security.jwt.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.myhome.security.jwt.AppJwt;
 import com.myhome.security.jwt.AppJwtEncoderDecoder;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
  * Concrete implementation of {@link AppJwtEncoderDecoder}.
+ *
+ * <p>Signing keys and parsers are built once per secret. Successfully verified tokens are
+ * remembered by their SHA-256 digest until they expire, so a token presented again skips the
+ * signature verification.</p>
  */
 @Component
 @Profile("default")
-public class SecretJwtEncoderDecoder implements AppJwtEncoderDecoder {
+public class SecretJwtEncoderDecoder implements AppJwtEncoderDecoder, MeterBinder {
+
+  private static final long DEFAULT_MAX_CACHED_TOKENS = 10_000;
+  private static final String ADMIN_COMMUNITIES_CLAIM = "adm";
+  private static final String MEMBERSHIP_VERSION_CLAIM = "mv";
+
+  private final ConcurrentMap<String, SigningContext> signingContexts = new ConcurrentHashMap<>();
+  private final long maxCachedTokens;
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+
+  public SecretJwtEncoderDecoder() {
+    this(DEFAULT_MAX_CACHED_TOKENS);
+  }
+
+  @Autowired
+  public SecretJwtEncoderDecoder(@Value("${token.cache.maxSize}") long maxCachedTokens) {
+    this.maxCachedTokens = maxCachedTokens;
+  }
 
   @Override public AppJwt decode(String encodedJwt, String secret) {
-    Claims claims = Jwts.parserBuilder()
-        .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
-        .build()
+    SigningContext signingContext = getSigningContext(secret);
+    String tokenDigest = digest(encodedJwt);
+    AppJwt cachedJwt = signingContext.verifiedTokens.getIfPresent(tokenDigest);
+    if (cachedJwt != null) {
+      cacheHits.increment();
+      return cachedJwt;
+    }
+    cacheMisses.increment();
+
+    Claims claims = signingContext.parser
         .parseClaimsJws(encodedJwt)
         .getBody();
     String userId = claims.getSubject();
+    Date issuedAt = claims.getIssuedAt();
     Date expiration = claims.getExpiration();
-    return AppJwt.builder()
+    Collection<?> adminCommunityIds = claims.get(ADMIN_COMMUNITIES_CLAIM, Collection.class);
+    AppJwt jwt = AppJwt.builder()
         .userId(userId)
-        .expiration(expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
+        .issuedAt(issuedAt == null ? null : toLocalDateTime(issuedAt))
+        .expiration(toLocalDateTime(expiration))
+        .adminCommunityIds(adminCommunityIds == null ? null : toStringSet(adminCommunityIds))
+        .membershipVersion(claims.get(MEMBERSHIP_VERSION_CLAIM, Long.class))
         .build();
+    signingContext.verifiedTokens.put(tokenDigest, jwt);
+    return jwt;
   }
 
   @Override public String encode(AppJwt jwt, String secret) {
-    Date expiration = Date.from(jwt.getExpiration().atZone(ZoneId.systemDefault()).toInstant());
-    return Jwts.builder()
+    Date expiration = toDate(jwt.getExpiration());
+    JwtBuilder jwtBuilder = Jwts.builder()
         .setSubject(jwt.getUserId())
-        .setExpiration(expiration)
-        .signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS512).compact();
+        .setExpiration(expiration);
+    if (jwt.getIssuedAt() != null) {
+      jwtBuilder.setIssuedAt(toDate(jwt.getIssuedAt()));
+    }
+    if (jwt.getAdminCommunityIds() != null && jwt.getMembershipVersion() != null) {
+      jwtBuilder
+          .claim(ADMIN_COMMUNITIES_CLAIM, jwt.getAdminCommunityIds())
+          .claim(MEMBERSHIP_VERSION_CLAIM, jwt.getMembershipVersion());
+    }
+    return jwtBuilder.signWith(getSigningContext(secret).key, SignatureAlgorithm.HS512).compact();
+  }
+
+  @Override public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("jwt.decode.cache", cacheHits, LongAdder::sum)
+        .tag("result", "hit")
+        .description("Tokens answered from the verified token cache")
+        .register(registry);
+    FunctionCounter.builder("jwt.decode.cache", cacheMisses, LongAdder::sum)
+        .tag("result", "miss")
+        .description("Tokens which required signature verification")
+        .register(registry);
+  }
+
+  private SigningContext getSigningContext(String secret) {
+    return signingContexts.computeIfAbsent(secret,
+        newSecret -> new SigningContext(newSecret, maxCachedTokens));
+  }
+
+  private static Date toDate(LocalDateTime dateTime) {
+    return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+  }
+
+  private static LocalDateTime toLocalDateTime(Date date) {
+    return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+  }
+
+  private static Set<String> toStringSet(Collection<?> values) {
+    Set<String> strings = new HashSet<>(values.size());
+    values.forEach(value -> strings.add(String.valueOf(value)));
+    return strings;
+  }
+
+  private static String digest(String encodedJwt) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(encodedJwt.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+    }
+  }
+
+  private static class SigningContext {
+    private final Key key;
+    private final JwtParser parser;
+    private final Cache<String, AppJwt> verifiedTokens;
+
+    SigningContext(String secret, long maxCachedTokens) {
+      this.key = Keys.hmacShaKeyFor(secret.getBytes());
+      this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+      this.verifiedTokens = Caffeine.newBuilder()
+          .maximumSize(maxCachedTokens)
+          .expireAfter(new TokenExpiry())
+          .build();
+    }
+  }
+
+  /**
+   * Evicts cached tokens at the moment they expire, so an expired token is verified again and
+   * rejected by the parser.
+   */
+  private static class TokenExpiry implements Expiry<String, AppJwt> {
+
+    @Override
+    public long expireAfterCreate(String tokenDigest, AppJwt jwt, long currentTime) {
+      long nanosLeft = Duration.between(LocalDateTime.now(), jwt.getExpiration()).toNanos();
+      return Math.max(nanosLeft, 0);
+    }
+
+    @Override
+    public long expireAfterUpdate(String tokenDigest, AppJwt jwt, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String tokenDigest, AppJwt jwt, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
   }
 }
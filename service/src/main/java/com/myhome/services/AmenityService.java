@@ -28,9 +28,18 @@ public interface AmenityService {
 
   Optional<Amenity> getAmenityDetails(String amenityId);
 
+  Optional<Long> getAmenityVersion(String amenityId);
+
   boolean deleteAmenity(String amenityId);
 
   Set<Amenity> listAllAmenities(String communityId);
 
-  boolean updateAmenity(AmenityDto updatedAmenityDto);
+  /**
+   * Updates the amenity unless it was changed since the expected version.
+   *
+   * @param expectedVersion version the update is based on, or null to update any version
+   * @throws org.springframework.dao.OptimisticLockingFailureException if the amenity was changed
+   *     since the expected version
+   */
+  boolean updateAmenity(AmenityDto updatedAmenityDto, Long expectedVersion);
 }
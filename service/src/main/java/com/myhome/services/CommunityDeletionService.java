@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.myhome.services;
+
+import com.myhome.domain.CommunityDeletionJob;
+import java.util.Optional;
+
+public interface CommunityDeletionService {
+  /**
+   * Starts deleting the community in the background on behalf of the current user, or joins the
+   * deletion already running for it.
+   *
+   * @return the deletion job, or empty if the community does not exist
+   */
+  Optional<CommunityDeletionJob> startDeletion(String communityId);
+
+  /**
+   * @return the deletion job, or empty if it expired or was not requested by the current user
+   */
+  Optional<CommunityDeletionJob> getDeletion(String jobId);
+}
@@ -18,7 +18,9 @@ package com.myhome.services;
 
 import com.myhome.controllers.dto.CommunityDto;
 import com.myhome.domain.Community;
+import com.myhome.domain.CommunityAdminAssignment;
 import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.User;
 import java.util.List;
 import java.util.Optional;
@@ -32,17 +34,36 @@ public interface CommunityService {
 
   Set<Community> listAll(Pageable pageable);
 
+  KeysetPage<Community> listAll(Long afterId, int limit);
+
   Optional<Community> getCommunityDetailsById(String communityId);
 
+  Optional<Long> getCommunityVersion(String communityId);
+
   Optional<List<CommunityHouse>> findCommunityHousesById(String communityId, Pageable pageable);
 
+  Optional<KeysetPage<CommunityHouse>> findCommunityHousesById(String communityId, Long afterId,
+      int limit);
+
   Optional<List<User>> findCommunityAdminsById(String communityId, Pageable pageable);
 
+  Optional<KeysetPage<User>> findCommunityAdminsById(String communityId, Long afterId,
+      int limit);
+
   Optional<User> findCommunityAdminById(String adminId);
 
+  boolean isCommunityAdmin(String communityId, String userId);
+
   Optional<Community> getCommunityDetailsByIdWithAdmins(String communityId);
 
-  Optional<Community> addAdminsToCommunity(String communityId, Set<String> admins);
+  /**
+   * Makes the existing users among the given ids admins of the community.
+   *
+   * @return admins of the community and the ids of missing users, or empty if the community
+   *     does not exist
+   */
+  Optional<CommunityAdminAssignment> addAdminsToCommunity(String communityId,
+      Set<String> admins);
 
   Set<String> addHousesToCommunity(String communityId, Set<CommunityHouse> houses);
 
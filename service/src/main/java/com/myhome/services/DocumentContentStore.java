@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import lombok.Value;
+import org.springframework.core.io.Resource;
+
+/**
+ * Storage backend for document content. Content is addressed by its SHA-256 digest, so storing
+ * identical content twice keeps a single copy.
+ */
+public interface DocumentContentStore {
+
+  /**
+   * Stores the content produced by the writer unless content with the same digest is already
+   * stored. The content is streamed to the backend as it is written.
+   *
+   * <p>The stored content is pinned until it is released, so it is not deleted before the
+   * reference to it is committed.</p>
+   *
+   * @param maxLength content longer than this many bytes is discarded
+   * @return key and length of the stored content, or empty if the content was too long
+   */
+  Optional<StoredContent> store(ContentWriter writer, long maxLength) throws IOException;
+
+  Optional<Resource> load(String contentKey);
+
+  /**
+   * Releases a pin taken by storing the content.
+   */
+  void release(String contentKey);
+
+  /**
+   * Deletes the content unless it is pinned or still referenced. The reference check runs while
+   * the same content can neither be stored nor deleted concurrently.
+   *
+   * @return true if the content was deleted
+   */
+  boolean deleteIfUnreferenced(String contentKey, BooleanSupplier isReferenced)
+      throws IOException;
+
+  @FunctionalInterface
+  interface ContentWriter {
+    void writeTo(OutputStream outputStream) throws IOException;
+  }
+
+  @Value
+  class StoredContent {
+    String contentKey;
+    long contentLength;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services;
+
+import com.myhome.domain.HouseImportReport;
+import com.myhome.domain.HouseImportRow;
+import java.util.Iterator;
+import java.util.Optional;
+
+public interface HouseImportService {
+  /**
+   * Imports the rows into the community while they are read, one batch at a time.
+   *
+   * @return report of the import, or empty if the community does not exist
+   */
+  Optional<HouseImportReport> importHouses(String communityId, Iterator<HouseImportRow> rows);
+}
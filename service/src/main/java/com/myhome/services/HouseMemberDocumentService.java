@@ -16,8 +16,10 @@
 
 package com.myhome.services;
 
+import com.myhome.domain.DocumentRendition;
 import com.myhome.domain.HouseMemberDocument;
 import java.util.Optional;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface HouseMemberDocumentService {
@@ -26,6 +28,9 @@ public interface HouseMemberDocumentService {
 
   Optional<HouseMemberDocument> findHouseMemberDocument(String memberId);
 
+  Optional<Resource> findHouseMemberDocumentContent(HouseMemberDocument document,
+      DocumentRendition rendition);
+
   Optional<HouseMemberDocument> updateHouseMemberDocument(MultipartFile multipartFile,
       String memberId);
 
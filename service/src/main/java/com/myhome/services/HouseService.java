@@ -18,6 +18,7 @@ package com.myhome.services;
 
 import com.myhome.domain.CommunityHouse;
 import com.myhome.domain.HouseMember;
+import com.myhome.domain.KeysetPage;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,13 +29,26 @@ public interface HouseService {
 
   Set<CommunityHouse> listAllHouses(Pageable pageable);
 
+  KeysetPage<CommunityHouse> listAllHouses(Long afterId, int limit);
+
   Set<HouseMember> addHouseMembers(String houseId, Set<HouseMember> houseMembers);
 
   boolean deleteMemberFromHouse(String houseId, String memberId);
 
   Optional<CommunityHouse> getHouseDetailsById(String houseId);
 
+  Optional<Long> getHouseVersion(String houseId);
+
   Optional<List<HouseMember>> getHouseMembersById(String houseId, Pageable pageable);
 
+  Optional<KeysetPage<HouseMember>> getHouseMembersById(String houseId, Long afterId, int limit);
+
   Optional<List<HouseMember>> listHouseMembersForHousesOfUserId(String userId, Pageable pageable);
+
+  Optional<KeysetPage<HouseMember>> listHouseMembersForHousesOfUserId(String userId,
+      Long afterId, int limit);
+
+  Optional<String> findCommunityIdByHouseId(String houseId);
+
+  Optional<String> findCommunityIdByMemberId(String memberId);
 }
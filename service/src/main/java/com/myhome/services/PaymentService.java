@@ -17,12 +17,19 @@
 package com.myhome.services;
 
 import com.myhome.controllers.dto.PaymentDto;
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.BulkPaymentSummary;
+import com.myhome.domain.BulkPaymentTemplate;
 import com.myhome.domain.HouseMember;
 import com.myhome.domain.Payment;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.domain.PaymentParticipants;
+import com.myhome.domain.PaymentSearchFilter;
+import com.myhome.domain.PaymentSummary;
 import java.util.Optional;
-import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Interface for service layer
@@ -30,11 +37,45 @@ import org.springframework.data.domain.Pageable;
 public interface PaymentService {
   PaymentDto schedulePayment(PaymentDto request);
 
+  /**
+   * Schedules a payment from the template for every member of the community, or of the given
+   * house of it. Empty if the admin does not administer the community or the house is not in it.
+   */
+  Optional<BulkPaymentSummary> scheduleBulkPayments(String communityId, String adminId,
+      String houseId, BulkPaymentTemplate template);
+
+  /**
+   * Reads the running balance of the member. Empty if the member does not exist.
+   */
+  Optional<PaymentBalance> getMemberBalance(String memberId);
+
+  /**
+   * Reads the running balance of the current members of the house. Empty if the house does not
+   * exist.
+   */
+  Optional<PaymentBalance> getHouseBalance(String houseId);
+
+  /**
+   * Recomputes the balances of the community from its payments and corrects the stored ones.
+   * Empty if the community does not exist.
+   */
+  Optional<BalanceRebuildReport> rebuildBalances(String communityId);
+
   Optional<PaymentDto> getPaymentDetails(String paymentId);
 
-  Set<Payment> getPaymentsByMember(String memberId);
+  Page<Payment> getPaymentsByMember(String memberId, Pageable pageable);
 
   Page<Payment> getPaymentsByAdmin(String adminId, Pageable pageable);
 
+  Slice<Payment> getPaymentSliceByAdmin(String adminId, Pageable pageable);
+
+  Slice<PaymentSummary> searchPaymentsByAdmin(String adminId, PaymentSearchFilter filter,
+      Pageable pageable);
+
   Optional<HouseMember> getHouseMember(String memberId);
+
+  /**
+   * Finds the given member and admin, if the admin administers the community of the member.
+   */
+  Optional<PaymentParticipants> findPaymentParticipants(String memberId, String adminId);
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services;
+
+import java.time.LocalDate;
+
+public interface RecurringPaymentService {
+  /**
+   * Inserts the next occurrence of every recurring payment due within the window starting at the
+   * given date, resuming the last run if it was interrupted.
+   *
+   * @return number of inserted occurrences
+   */
+  int materializeDuePayments(LocalDate today);
+}
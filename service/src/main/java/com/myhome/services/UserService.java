@@ -17,6 +17,7 @@
 package com.myhome.services;
 
 import com.myhome.controllers.dto.UserDto;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.User;
 import java.util.Optional;
 import java.util.Set;
@@ -36,6 +37,8 @@ public interface UserService {
 
   Set<User> listAll(Pageable pageable);
 
+  KeysetPage<User> listAll(Long afterId, int limit);
+
   Optional<UserDto> getUserDetails(String userId);
 
   boolean requestResetPassword(ForgotPasswordRequest forgotPasswordRequest);
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.filesystem;
+
+import com.myhome.configuration.properties.files.DocumentStorageProperties;
+import com.myhome.services.DocumentContentStore;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps document content as files named by their SHA-256 digest below the configured directory.
+ *
+ * <p>Files are spread over subdirectories by the first two digest bytes, so no directory grows
+ * beyond a few thousand entries. New content is digested while it is streamed to a temporary
+ * file, which is then moved into place, so a concurrent reader never sees a partially written
+ * file.</p>
+ *
+ * <p>Reusing existing content and deleting it are serialized per digest, and stored content is
+ * pinned until released, so content reused by an upload whose document is not committed yet is
+ * never deleted by the removal of another document.</p>
+ */
+@Service
+public class FileSystemDocumentContentStore implements DocumentContentStore {
+
+  private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}");
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int CONTENT_LOCKS = 64;
+
+  private final Path directory;
+  private final Object[] contentLocks = new Object[CONTENT_LOCKS];
+  // stores of each content whose reference may not be committed yet
+  private final ConcurrentMap<String, Integer> pins = new ConcurrentHashMap<>();
+
+  public FileSystemDocumentContentStore(DocumentStorageProperties storageProperties) {
+    this.directory = storageProperties.getDirectory().toAbsolutePath().normalize();
+    for (int i = 0; i < CONTENT_LOCKS; i++) {
+      contentLocks[i] = new Object();
+    }
+  }
+
+  @Override
+  public Optional<StoredContent> store(ContentWriter writer, long maxLength) throws IOException {
+    Files.createDirectories(directory);
+    Path tempPath = Files.createTempFile(directory, "content", ".tmp");
+    try {
+      MessageDigest digest = newDigest();
+      LengthLimitingOutputStream contentStream = new LengthLimitingOutputStream(
+          new DigestOutputStream(Files.newOutputStream(tempPath), digest), maxLength);
+      try (OutputStream outputStream = new BufferedOutputStream(contentStream)) {
+        writer.writeTo(outputStream);
+      } catch (IOException e) {
+        // writers such as image encoders may wrap the failed write
+        if (!contentStream.lengthExceeded) {
+          throw e;
+        }
+      }
+      if (contentStream.lengthExceeded) {
+        return Optional.empty();
+      }
+      String contentKey = toHex(digest.digest());
+      Path contentPath = resolve(contentKey);
+      synchronized (lockFor(contentKey)) {
+        if (!Files.exists(contentPath)) {
+          Files.createDirectories(contentPath.getParent());
+          move(tempPath, contentPath);
+        }
+        pins.merge(contentKey, 1, Integer::sum);
+      }
+      return Optional.of(new StoredContent(contentKey, contentStream.length));
+    } finally {
+      Files.deleteIfExists(tempPath);
+    }
+  }
+
+  @Override
+  public Optional<Resource> load(String contentKey) {
+    if (!isValidKey(contentKey)) {
+      return Optional.empty();
+    }
+    Path contentPath = resolve(contentKey);
+    return Files.isRegularFile(contentPath)
+        ? Optional.of(new FileSystemResource(contentPath))
+        : Optional.empty();
+  }
+
+  @Override
+  public void release(String contentKey) {
+    pins.computeIfPresent(contentKey, (key, count) -> count > 1 ? count - 1 : null);
+  }
+
+  @Override
+  public boolean deleteIfUnreferenced(String contentKey, BooleanSupplier isReferenced)
+      throws IOException {
+    if (!isValidKey(contentKey)) {
+      return false;
+    }
+    synchronized (lockFor(contentKey)) {
+      if (pins.containsKey(contentKey) || isReferenced.getAsBoolean()) {
+        return false;
+      }
+      return Files.deleteIfExists(resolve(contentKey));
+    }
+  }
+
+  private Object lockFor(String contentKey) {
+    return contentLocks[(contentKey.hashCode() & Integer.MAX_VALUE) % CONTENT_LOCKS];
+  }
+
+  private Path resolve(String contentKey) {
+    return directory
+        .resolve(contentKey.substring(0, 2))
+        .resolve(contentKey.substring(2, 4))
+        .resolve(contentKey);
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      try {
+        Files.move(source, target);
+      } catch (FileAlreadyExistsException alreadyStored) {
+        // the same content was stored concurrently
+      }
+    }
+  }
+
+  private static boolean isValidKey(String contentKey) {
+    return contentKey != null && CONTENT_KEY.matcher(contentKey).matches();
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+    }
+  }
+
+  private static String toHex(byte[] hash) {
+    char[] hex = new char[hash.length * 2];
+    for (int i = 0; i < hash.length; i++) {
+      hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xf];
+    }
+    return new String(hex);
+  }
+
+  /**
+   * Counts the written bytes and fails the write which exceeds the limit.
+   */
+  private static class LengthLimitingOutputStream extends FilterOutputStream {
+    private final long maxLength;
+    private long length;
+    private boolean lengthExceeded;
+
+    LengthLimitingOutputStream(OutputStream outputStream, long maxLength) {
+      super(outputStream);
+      this.maxLength = maxLength;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      ensureCapacity(1);
+      out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      ensureCapacity(len);
+      out.write(b, off, len);
+    }
+
+    private void ensureCapacity(int len) throws IOException {
+      if (length + len > maxLength) {
+        lengthExceeded = true;
+        throw new IOException("Content exceeds " + maxLength + " bytes");
+      }
+      length += len;
+    }
+  }
+}
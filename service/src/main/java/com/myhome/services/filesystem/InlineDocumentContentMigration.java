@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.filesystem;
+
+import com.myhome.repositories.InlineDocumentContentRepository;
+import com.myhome.services.DocumentContentStore;
+import com.myhome.services.DocumentContentStore.StoredContent;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the inline content of house member documents into the {@link DocumentContentStore} on
+ * startup, for databases migrated by db/move-house-member-document-content-to-files.sql.
+ *
+ * <p>Every document without a content key gets its content stored and its key and length set,
+ * one document at a time. Documents stored since the migration always have a key, so later
+ * startups find nothing to move.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InlineDocumentContentMigration implements ApplicationRunner {
+  private static final int BATCH_SIZE = 100;
+
+  private final InlineDocumentContentRepository inlineDocumentContentRepository;
+  private final DocumentContentStore documentContentStore;
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    int migrated = 0;
+    long afterId = Long.MIN_VALUE;
+    List<Long> documentIds;
+    while (!(documentIds = inlineDocumentContentRepository
+        .findIdsWithoutContentKey(afterId, BATCH_SIZE)).isEmpty()) {
+      for (Long documentId : documentIds) {
+        migrate(documentId);
+      }
+      migrated += documentIds.size();
+      afterId = documentIds.get(documentIds.size() - 1);
+    }
+    if (migrated > 0) {
+      log.info("Moved the inline content of {} house member documents to the document store",
+          migrated);
+    }
+  }
+
+  private void migrate(long documentId) throws IOException {
+    byte[] content = inlineDocumentContentRepository.findInlineContent(documentId);
+    StoredContent storedContent = documentContentStore
+        .store(outputStream -> outputStream.write(content), Long.MAX_VALUE)
+        .orElseThrow(() -> new IllegalStateException("Document content was not stored"));
+    try {
+      inlineDocumentContentRepository.setContentKey(documentId,
+          storedContent.getContentKey(), storedContent.getContentLength());
+    } finally {
+      documentContentStore.release(storedContent.getContentKey());
+    }
+  }
+}
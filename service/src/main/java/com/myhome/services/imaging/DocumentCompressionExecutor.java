@@ -0,0 +1,296 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.imaging;
+
+import com.myhome.configuration.properties.files.DocumentCompressionProperties;
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
+import com.myhome.services.DocumentContentStore;
+import com.myhome.services.DocumentContentStore.StoredContent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Decodes uploaded document images and stores them re-encoded as JPEG on a dedicated pool sized
+ * to the available cores, so the heap held by decoded images is bounded by the pool size rather
+ * than by the number of concurrent uploads. Uploads arriving while the bounded queue is full are
+ * rejected with {@link ServiceUnavailableException}.
+ */
+@Slf4j
+@Component
+public class DocumentCompressionExecutor {
+  private final DocumentContentStore documentContentStore;
+  private final long compressionBorderSizeBytes;
+  private final float compressedImageQuality;
+  private final long maxImagePixels;
+  private final int maxImageDimension;
+  private final int mediumRenditionDimension;
+  private final int smallRenditionDimension;
+  private final ThreadPoolExecutor threadPoolExecutor;
+  private final ExecutorService executorService;
+  private final Counter rejectedCounter;
+  private final Duration retryAfter;
+
+  public DocumentCompressionExecutor(DocumentContentStore documentContentStore,
+      DocumentCompressionProperties properties,
+      @Value("${files.compressionBorderSizeKBytes}") int compressionBorderSizeKBytes,
+      @Value("${files.compressedImageQuality}") float compressedImageQuality,
+      MeterRegistry meterRegistry) {
+    int threads = properties.getThreads() > 0
+        ? properties.getThreads()
+        : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.documentContentStore = documentContentStore;
+    this.compressionBorderSizeBytes = DataSize.ofKilobytes(compressionBorderSizeKBytes).toBytes();
+    this.compressedImageQuality = compressedImageQuality;
+    this.maxImagePixels = properties.getMaxImagePixels();
+    this.maxImageDimension = properties.getMaxImageDimension();
+    this.mediumRenditionDimension = properties.getMediumRenditionDimension();
+    this.smallRenditionDimension = properties.getSmallRenditionDimension();
+    this.retryAfter = properties.getRetryAfter();
+    this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        runnable -> {
+          Thread thread =
+              new Thread(runnable, "document-compression-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor,
+        "document.compression", Collections.emptyList());
+    this.rejectedCounter = Counter.builder("document.compression.rejected")
+        .description("Document uploads rejected because the compression queue was full")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Stores the uploaded image as JPEG, compressed if the upload reaches the compression border,
+   * together with its medium and small renditions.
+   *
+   * @param uploadSize size of the upload in bytes
+   * @param maxLength encoded images longer than this many bytes are discarded
+   * @return stored renditions, or empty if the encoded image was too long
+   * @throws IOException if the upload is not a readable image or cannot be stored
+   */
+  public Optional<StoredRenditions> compressAndStore(InputStreamSource upload, long uploadSize,
+      long maxLength) throws IOException {
+    Future<Optional<StoredRenditions>> result;
+    try {
+      result = executorService.submit(() -> encodeAndStore(upload, uploadSize, maxLength));
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      log.warn("Document compression queue is full, rejecting upload");
+      throw new ServiceUnavailableException("Too many document uploads, try again later",
+          retryAfter);
+    }
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      result.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for document compression");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Document compression failed", e.getCause());
+    }
+  }
+
+  private Optional<StoredRenditions> encodeAndStore(InputStreamSource upload, long uploadSize,
+      long maxLength) throws IOException {
+    BufferedImage image = readImage(upload);
+    boolean compress = uploadSize >= compressionBorderSizeBytes;
+    Optional<StoredContent> original = documentContentStore.store(
+        outputStream -> writeImage(image, compress, outputStream), maxLength);
+    if (!original.isPresent()) {
+      return Optional.empty();
+    }
+    StoredContent medium = null;
+    try {
+      BufferedImage mediumImage = scaleDown(image, mediumRenditionDimension);
+      medium = storeRendition(mediumImage, image, original.get(), maxLength);
+      BufferedImage smallImage = scaleDown(mediumImage, smallRenditionDimension);
+      StoredContent small = storeRendition(smallImage, mediumImage, medium, maxLength);
+      return Optional.of(new StoredRenditions(original.get(), medium, small));
+    } catch (IOException | RuntimeException e) {
+      // no document will reference the renditions stored so far
+      documentContentStore.release(original.get().getContentKey());
+      if (medium != null && medium != original.get()) {
+        documentContentStore.release(medium.getContentKey());
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Stores a rendition unless the image was too small to be scaled down, in which case the
+   * content of the image it was scaled from is shared.
+   */
+  private StoredContent storeRendition(BufferedImage rendition, BufferedImage source,
+      StoredContent sourceContent, long maxLength) throws IOException {
+    if (rendition == source) {
+      return sourceContent;
+    }
+    return documentContentStore
+        .store(outputStream -> writeImage(rendition, false, outputStream), maxLength)
+        .orElse(sourceContent);
+  }
+
+  /**
+   * Scales the image down so its longest side fits the given dimension. The size is halved in
+   * steps, so the bilinear filter takes every source pixel into account.
+   */
+  private static BufferedImage scaleDown(BufferedImage image, int maxDimension) {
+    int longestSide = Math.max(image.getWidth(), image.getHeight());
+    if (longestSide <= maxDimension) {
+      return image;
+    }
+    int targetWidth = Math.max(1, (int) ((long) image.getWidth() * maxDimension / longestSide));
+    int targetHeight = Math.max(1, (int) ((long) image.getHeight() * maxDimension / longestSide));
+    BufferedImage scaled = image;
+    do {
+      int width = Math.max(scaled.getWidth() / 2, targetWidth);
+      int height = Math.max(scaled.getHeight() / 2, targetHeight);
+      BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+      Graphics2D graphics = resized.createGraphics();
+      try {
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+            RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(scaled, 0, 0, width, height, null);
+      } finally {
+        graphics.dispose();
+      }
+      scaled = resized;
+    } while (scaled.getWidth() != targetWidth || scaled.getHeight() != targetHeight);
+    return scaled;
+  }
+
+  /**
+   * Decodes the first image of the upload. The dimensions are read from the image header first,
+   * so uploads declaring more than the allowed number of pixels are rejected before any pixel
+   * is decoded, and large images are subsampled while decoding instead of being scaled down
+   * afterwards.
+   */
+  private BufferedImage readImage(InputStreamSource upload) throws IOException {
+    try (InputStream uploadStream = upload.getInputStream();
+        ImageInputStream imageInputStream = ImageIO.createImageInputStream(uploadStream)) {
+      Iterator<ImageReader> imageReaders = imageInputStream == null
+          ? Collections.emptyIterator()
+          : ImageIO.getImageReaders(imageInputStream);
+      if (!imageReaders.hasNext()) {
+        throw new IOException("Upload is not a readable image");
+      }
+      ImageReader imageReader = imageReaders.next();
+      try {
+        imageReader.setInput(imageInputStream, true, true);
+        int width = imageReader.getWidth(0);
+        int height = imageReader.getHeight(0);
+        if ((long) width * height > maxImagePixels) {
+          throw new IOException(
+              String.format("Upload declares %dx%d pixels, at most %d are allowed", width, height,
+                  maxImagePixels));
+        }
+        ImageReadParam param = imageReader.getDefaultReadParam();
+        int subsampling = getSubsampling(Math.max(width, height));
+        if (subsampling > 1) {
+          param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        return imageReader.read(0, param);
+      } finally {
+        imageReader.dispose();
+      }
+    }
+  }
+
+  private int getSubsampling(int dimension) {
+    return (dimension + maxImageDimension - 1) / maxImageDimension;
+  }
+
+  private void writeImage(BufferedImage image, boolean compress, OutputStream outputStream)
+      throws IOException {
+    if (!compress) {
+      ImageIO.write(image, "jpg", outputStream);
+      return;
+    }
+    try (ImageOutputStream imageOutStream = ImageIO.createImageOutputStream(outputStream)) {
+
+      ImageWriter imageWriter = ImageIO.getImageWritersByFormatName("jpg").next();
+      imageWriter.setOutput(imageOutStream);
+      ImageWriteParam param = imageWriter.getDefaultWriteParam();
+
+      if (param.canWriteCompressed()) {
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(compressedImageQuality);
+      }
+      try {
+        imageWriter.write(null, new IIOImage(image, null, null), param);
+      } finally {
+        imageWriter.dispose();
+      }
+    }
+  }
+
+  @lombok.Value
+  public static class StoredRenditions {
+    StoredContent original;
+    StoredContent medium;
+    StoredContent small;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    threadPoolExecutor.shutdownNow();
+  }
+}
@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -66,6 +67,11 @@ public class AmenitySDJpaService implements AmenityService {
     return amenityRepository.findByAmenityId(amenityId);
   }
 
+  @Override
+  public Optional<Long> getAmenityVersion(String amenityId) {
+    return amenityRepository.findVersionByAmenityId(amenityId);
+  }
+
   @Override
   public boolean deleteAmenity(String amenityId) {
     return amenityRepository.findByAmenityIdWithCommunity(amenityId)
@@ -86,9 +92,15 @@ public class AmenitySDJpaService implements AmenityService {
   }
 
   @Override
-  public boolean updateAmenity(AmenityDto updatedAmenity) {
+  public boolean updateAmenity(AmenityDto updatedAmenity, Long expectedVersion) {
     String amenityId = updatedAmenity.getAmenityId();
     return amenityRepository.findByAmenityId(amenityId)
+        .map(amenity -> {
+          if (expectedVersion != null && expectedVersion != amenity.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Amenity.class, amenityId);
+          }
+          return amenity;
+        })
         .map(amenity -> communityRepository.findByCommunityId(updatedAmenity.getCommunityId())
             .map(community -> {
               Amenity updated = new Amenity();
@@ -97,6 +109,8 @@ public class AmenitySDJpaService implements AmenityService {
               updated.setId(amenity.getId());
               updated.setAmenityId(amenityId);
               updated.setDescription(updatedAmenity.getDescription());
+              // the merge fails if the amenity was changed concurrently since it was read
+              updated.setVersion(amenity.getVersion());
               return updated;
             })
             .orElse(null))
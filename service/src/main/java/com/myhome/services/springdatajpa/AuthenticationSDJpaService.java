@@ -1,10 +1,12 @@
 package com.myhome.services.springdatajpa;
 
-import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.exceptions.CredentialsIncorrectException;
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
 import com.myhome.controllers.exceptions.UserNotFoundException;
 import com.myhome.domain.AuthenticationData;
+import com.myhome.domain.UserCredentials;
 import com.myhome.model.LoginRequest;
+import com.myhome.security.PasswordHashingExecutor;
 import com.myhome.security.jwt.AppJwt;
 import com.myhome.security.jwt.AppJwtEncoderDecoder;
 import com.myhome.services.AuthenticationService;
@@ -12,7 +14,6 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -21,45 +22,72 @@ public class AuthenticationSDJpaService implements AuthenticationService {
 
   private final Duration tokenExpirationTime;
   private final String tokenSecret;
+  private final int maxCommunityClaims;
 
   private final UserSDJpaService userSDJpaService;
   private final AppJwtEncoderDecoder appJwtEncoderDecoder;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingExecutor passwordHashingExecutor;
 
   public AuthenticationSDJpaService(@Value("${token.expiration_time}") Duration tokenExpirationTime,
       @Value("${token.secret}") String tokenSecret,
+      @Value("${token.communityClaims.maxCommunities}") int maxCommunityClaims,
       UserSDJpaService userSDJpaService,
       AppJwtEncoderDecoder appJwtEncoderDecoder,
-      PasswordEncoder passwordEncoder) {
+      PasswordHashingExecutor passwordHashingExecutor) {
     this.tokenExpirationTime = tokenExpirationTime;
     this.tokenSecret = tokenSecret;
+    this.maxCommunityClaims = maxCommunityClaims;
     this.userSDJpaService = userSDJpaService;
     this.appJwtEncoderDecoder = appJwtEncoderDecoder;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHashingExecutor = passwordHashingExecutor;
   }
 
   @Override
   public AuthenticationData login(LoginRequest loginRequest) {
     log.trace("Received login request");
-    final UserDto userDto = userSDJpaService.findUserByEmail(loginRequest.getEmail())
-        .orElseThrow(() -> new UserNotFoundException(loginRequest.getEmail()));
-    if (!isPasswordMatching(loginRequest.getPassword(), userDto.getEncryptedPassword())) {
-      throw new CredentialsIncorrectException(userDto.getUserId());
+    final UserCredentials credentials =
+        userSDJpaService.findCredentialsByEmail(loginRequest.getEmail(), maxCommunityClaims)
+            .orElseThrow(() -> new UserNotFoundException(loginRequest.getEmail()));
+    if (!isPasswordMatching(loginRequest.getPassword(), credentials.getEncryptedPassword())) {
+      throw new CredentialsIncorrectException(credentials.getUserId());
     }
-    final AppJwt jwtToken = createJwt(userDto);
+    rehashIfCostRaised(credentials, loginRequest.getPassword());
+    final AppJwt jwtToken = createJwt(credentials);
     final String encodedToken = appJwtEncoderDecoder.encode(jwtToken, tokenSecret);
-    return new AuthenticationData(encodedToken, userDto.getUserId());
+    return new AuthenticationData(encodedToken, credentials.getUserId());
   }
 
   private boolean isPasswordMatching(String requestPassword, String databasePassword) {
-    return passwordEncoder.matches(requestPassword, databasePassword);
+    return passwordHashingExecutor.matches(requestPassword, databasePassword);
   }
 
-  private AppJwt createJwt(UserDto userDto) {
-    final LocalDateTime expirationTime = LocalDateTime.now().plus(tokenExpirationTime);
-    return AppJwt.builder()
-        .userId(userDto.getUserId())
-        .expiration(expirationTime)
-        .build();
+  private void rehashIfCostRaised(UserCredentials credentials, String rawPassword) {
+    if (!passwordHashingExecutor.upgradeEncoding(credentials.getEncryptedPassword())) {
+      return;
+    }
+    try {
+      String newPassword = passwordHashingExecutor.encode(rawPassword);
+      userSDJpaService.updateEncryptedPassword(credentials.getUserId(),
+          credentials.getEncryptedPassword(), newPassword);
+    } catch (ServiceUnavailableException e) {
+      // the rehash is retried on a later login, it must not fail this one
+      log.debug("Skipping password rehash of user {}, hashing pool is saturated",
+          credentials.getUserId());
+    }
+  }
+
+  private AppJwt createJwt(UserCredentials credentials) {
+    final LocalDateTime issueTime = LocalDateTime.now();
+    final LocalDateTime expirationTime = issueTime.plus(tokenExpirationTime);
+    final AppJwt.AppJwtBuilder jwtBuilder = AppJwt.builder()
+        .userId(credentials.getUserId())
+        .issuedAt(issueTime)
+        .expiration(expirationTime);
+    if (maxCommunityClaims > 0 && credentials.getAdminCommunityIds() != null) {
+      jwtBuilder
+          .adminCommunityIds(credentials.getAdminCommunityIds())
+          .membershipVersion(credentials.getMembershipVersion());
+    }
+    return jwtBuilder.build();
   }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.myhome.services.springdatajpa;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myhome.configuration.properties.community.CommunityDeletionProperties;
+import com.myhome.domain.CommunityDeletionJob;
+import com.myhome.repositories.CommunityDeletionRepository;
+import com.myhome.repositories.CommunityHouseRepository;
+import com.myhome.repositories.CommunityRepository;
+import com.myhome.services.CommunityDeletionService;
+import com.myhome.services.CommunityService;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deletes communities on a single background thread. Houses are deleted in chunks, each in its
+ * own transaction, before the emptied community is deleted.
+ */
+@Slf4j
+@Service
+public class CommunityDeletionSDJpaService implements CommunityDeletionService {
+  private final CommunityRepository communityRepository;
+  private final CommunityHouseRepository communityHouseRepository;
+  private final CommunityDeletionRepository communityDeletionRepository;
+  private final CommunityService communityService;
+  private final int chunkSize;
+  private final Cache<String, CommunityDeletionJob> jobs;
+  private final ConcurrentMap<String, CommunityDeletionJob> runningJobs =
+      new ConcurrentHashMap<>();
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "community-deletion");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public CommunityDeletionSDJpaService(CommunityRepository communityRepository,
+      CommunityHouseRepository communityHouseRepository,
+      CommunityDeletionRepository communityDeletionRepository,
+      CommunityService communityService, CommunityDeletionProperties properties) {
+    this.communityRepository = communityRepository;
+    this.communityHouseRepository = communityHouseRepository;
+    this.communityDeletionRepository = communityDeletionRepository;
+    this.communityService = communityService;
+    this.chunkSize = properties.getChunkSize();
+    this.jobs = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getJobRetention())
+        .build();
+  }
+
+  @Override
+  public Optional<CommunityDeletionJob> startDeletion(String communityId) {
+    String userId = getCurrentUserId();
+    return communityRepository.findIdByCommunityId(communityId).map(id -> {
+      CommunityDeletionJob newJob = new CommunityDeletionJob(UUID.randomUUID().toString(),
+          communityId, communityHouseRepository.countByCommunity_Id(id));
+      CommunityDeletionJob runningJob = runningJobs.putIfAbsent(communityId, newJob);
+      CommunityDeletionJob job = runningJob == null ? newJob : runningJob;
+      job.requestedBy(userId);
+      if (runningJob == null) {
+        jobs.put(newJob.getJobId(), newJob);
+        executorService.execute(() -> delete(newJob, id));
+      }
+      return job;
+    });
+  }
+
+  @Override
+  public Optional<CommunityDeletionJob> getDeletion(String jobId) {
+    String userId = getCurrentUserId();
+    return Optional.ofNullable(jobs.getIfPresent(jobId))
+        .filter(job -> job.isVisibleTo(userId));
+  }
+
+  private void delete(CommunityDeletionJob job, Long communityId) {
+    try {
+      List<Long> houseIds;
+      while (!(houseIds = communityHouseRepository.findIdsByCommunityId(communityId,
+          PageRequest.of(0, chunkSize))).isEmpty()) {
+        job.housesDeleted(communityDeletionRepository.deleteHouses(houseIds));
+        // keeps long running jobs from expiring
+        jobs.put(job.getJobId(), job);
+      }
+      communityService.deleteCommunity(job.getCommunityId());
+      job.completed();
+      log.trace("deleted community with id[{}]", job.getCommunityId());
+    } catch (RuntimeException e) {
+      job.failed();
+      log.error("Failed to delete community with id[{}]", job.getCommunityId(), e);
+    } finally {
+      runningJobs.remove(job.getCommunityId(), job);
+      jobs.put(job.getJobId(), job);
+    }
+  }
+
+  private static String getCurrentUserId() {
+    return (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+}
@@ -16,25 +16,34 @@
 
 package com.myhome.services.springdatajpa;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.myhome.controllers.dto.CommunityDto;
 import com.myhome.controllers.dto.mapper.CommunityMapper;
 import com.myhome.domain.Community;
+import com.myhome.domain.CommunityAdminAssignment;
 import com.myhome.domain.CommunityHouse;
-import com.myhome.domain.HouseMember;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.User;
+import com.myhome.repositories.CommunityAdminLinkRepository;
+import com.myhome.repositories.CommunityDeletionRepository;
 import com.myhome.repositories.CommunityHouseRepository;
 import com.myhome.repositories.CommunityRepository;
 import com.myhome.repositories.UserRepository;
+import com.myhome.security.CommunityMembershipVersions;
 import com.myhome.services.CommunityService;
-import com.myhome.services.HouseService;
+import com.myhome.utils.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -44,19 +53,32 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Service
 public class CommunitySDJpaService implements CommunityService {
+  private static final long ADMIN_MEMBERSHIP_CACHE_SIZE = 10_000;
+  // bounds staleness of changes made outside of this instance
+  private static final long ADMIN_MEMBERSHIP_CACHE_TTL_SECONDS = 60;
+
+  private final Cache<AdminMembership, Boolean> adminMembershipCache = Caffeine.newBuilder()
+      .maximumSize(ADMIN_MEMBERSHIP_CACHE_SIZE)
+      .expireAfterWrite(ADMIN_MEMBERSHIP_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+      .build();
+
   private final CommunityRepository communityRepository;
   private final UserRepository communityAdminRepository;
   private final CommunityMapper communityMapper;
   private final CommunityHouseRepository communityHouseRepository;
-  private final HouseService houseService;
+  private final CommunityDeletionRepository communityDeletionRepository;
+  private final CommunityAdminLinkRepository communityAdminLinkRepository;
+  private final CommunityMembershipVersions membershipVersions;
 
   @Override
+  @Transactional
   public Community createCommunity(CommunityDto communityDto) {
     communityDto.setCommunityId(generateUniqueId());
     String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     Community community = addAdminToCommunity(communityMapper.communityDtoToCommunity(communityDto),
         userId);
     Community savedCommunity = communityRepository.save(community);
+    membershipVersions.bump(Collections.singleton(userId));
     log.trace("saved community with id[{}] to repository", savedCommunity.getId());
     return savedCommunity;
   }
@@ -78,6 +100,12 @@ public class CommunitySDJpaService implements CommunityService {
     return communityListSet;
   }
 
+  @Override
+  public KeysetPage<Community> listAll(Long afterId, int limit) {
+    return KeysetPage.of(communityRepository.findByIdGreaterThanOrderByIdAsc(
+        KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)), limit);
+  }
+
   @Override public Set<Community> listAll() {
     Set<Community> communities = new HashSet<>();
     communityRepository.findAll().forEach(communities::add);
@@ -95,6 +123,18 @@ public class CommunitySDJpaService implements CommunityService {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<KeysetPage<CommunityHouse>> findCommunityHousesById(String communityId,
+      Long afterId, int limit) {
+    if (communityRepository.existsByCommunityId(communityId)) {
+      return Optional.of(KeysetPage.of(
+          communityHouseRepository.findAllByCommunity_CommunityIdAndIdGreaterThanOrderByIdAsc(
+              communityId, KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)),
+          limit));
+    }
+    return Optional.empty();
+  }
+
   @Override
   public Optional<List<User>> findCommunityAdminsById(String communityId,
       Pageable pageable) {
@@ -107,35 +147,69 @@ public class CommunitySDJpaService implements CommunityService {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<KeysetPage<User>> findCommunityAdminsById(String communityId, Long afterId,
+      int limit) {
+    if (communityRepository.existsByCommunityId(communityId)) {
+      return Optional.of(KeysetPage.of(
+          communityAdminRepository.findAllByCommunities_CommunityIdAndIdGreaterThanOrderByIdAsc(
+              communityId, KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)),
+          limit));
+    }
+    return Optional.empty();
+  }
+
   @Override
   public Optional<User> findCommunityAdminById(String adminId) {
     return communityAdminRepository.findByUserId(adminId);
   }
 
+  @Override
+  public boolean isCommunityAdmin(String communityId, String userId) {
+    return adminMembershipCache.get(new AdminMembership(communityId, userId),
+        membership -> communityRepository.existsByCommunityIdAndAdmins_UserId(
+            membership.getCommunityId(), membership.getUserId()));
+  }
+
   @Override public Optional<Community> getCommunityDetailsById(String communityId) {
     return communityRepository.findByCommunityId(communityId);
   }
 
+  @Override
+  public Optional<Long> getCommunityVersion(String communityId) {
+    return communityRepository.findVersionByCommunityId(communityId);
+  }
+
   @Override
   public Optional<Community> getCommunityDetailsByIdWithAdmins(String communityId) {
     return communityRepository.findByCommunityIdWithAdmins(communityId);
   }
 
   @Override
-  public Optional<Community> addAdminsToCommunity(String communityId, Set<String> adminsIds) {
-    Optional<Community> communitySearch =
-        communityRepository.findByCommunityIdWithAdmins(communityId);
-
-    return communitySearch.map(community -> {
-      adminsIds.forEach(adminId -> {
-        communityAdminRepository.findByUserIdWithCommunities(adminId).map(admin -> {
-          admin.getCommunities().add(community);
-          community.getAdmins().add(communityAdminRepository.save(admin));
-          return admin;
-        });
-      });
-      return Optional.of(communityRepository.save(community));
-    }).orElseGet(Optional::empty);
+  @Transactional
+  public Optional<CommunityAdminAssignment> addAdminsToCommunity(String communityId,
+      Set<String> adminsIds) {
+    return communityRepository.findIdByCommunityId(communityId).map(id -> {
+      Set<String> adminIds = new HashSet<>(communityRepository.findAdminIdsById(id));
+      Set<String> missingAdminIds = new HashSet<>(adminsIds);
+      Set<String> addedAdminIds = new HashSet<>();
+      List<Long> addedUserIds = new ArrayList<>();
+      List<UserRepository.UserIdRow> users = adminsIds.isEmpty()
+          ? Collections.emptyList()
+          : communityAdminRepository.findIdsByUserIds(adminsIds);
+      for (UserRepository.UserIdRow user : users) {
+        missingAdminIds.remove(user.getUserId());
+        if (adminIds.add(user.getUserId())) {
+          addedAdminIds.add(user.getUserId());
+          addedUserIds.add(user.getId());
+        }
+      }
+      communityAdminLinkRepository.insertAdmins(id, addedUserIds);
+      membershipVersions.bump(addedAdminIds);
+      TransactionUtils.afterCommit(() -> addedAdminIds.forEach(adminId ->
+          adminMembershipCache.invalidate(new AdminMembership(communityId, adminId))));
+      return new CommunityAdminAssignment(adminIds, missingAdminIds);
+    });
   }
 
   @Override
@@ -163,13 +237,12 @@ public class CommunitySDJpaService implements CommunityService {
         }
       });
 
-      communityRepository.save(community);
-
       return addedIds;
     }).orElse(new HashSet<>());
   }
 
   @Override
+  @Transactional
   public boolean removeAdminFromCommunity(String communityId, String adminId) {
     Optional<Community> communitySearch =
         communityRepository.findByCommunityIdWithAdmins(communityId);
@@ -178,6 +251,9 @@ public class CommunitySDJpaService implements CommunityService {
           community.getAdmins().removeIf(admin -> admin.getUserId().equals(adminId));
       if (adminRemoved) {
         communityRepository.save(community);
+        membershipVersions.bump(Collections.singleton(adminId));
+        TransactionUtils.afterCommit(() ->
+            adminMembershipCache.invalidate(new AdminMembership(communityId, adminId)));
         return true;
       } else {
         return false;
@@ -188,16 +264,15 @@ public class CommunitySDJpaService implements CommunityService {
   @Override
   @Transactional
   public boolean deleteCommunity(String communityId) {
-    return communityRepository.findByCommunityIdWithHouses(communityId)
-        .map(community -> {
-          Set<String> houseIds = community.getHouses()
-              .stream()
-              .map(CommunityHouse::getHouseId)
-              .collect(Collectors.toSet());
-
-          houseIds.forEach(houseId -> removeHouseFromCommunityByHouseId(community, houseId));
-          communityRepository.delete(community);
-
+    return communityRepository.findIdByCommunityId(communityId)
+        .map(id -> {
+          List<String> adminIds = communityRepository.findAdminIdsById(id);
+          if (!communityDeletionRepository.deleteCommunity(id)) {
+            return false;
+          }
+          membershipVersions.bump(adminIds);
+          TransactionUtils.afterCommit(() -> adminMembershipCache.asMap().keySet()
+              .removeIf(membership -> membership.getCommunityId().equals(communityId)));
           return true;
         })
         .orElse(false);
@@ -207,31 +282,20 @@ public class CommunitySDJpaService implements CommunityService {
     return UUID.randomUUID().toString();
   }
 
+  @Value
+  private static class AdminMembership {
+    String communityId;
+    String userId;
+  }
+
   @Transactional
   @Override
   public boolean removeHouseFromCommunityByHouseId(Community community, String houseId) {
     if (community == null) {
       return false;
-    } else {
-      Optional<CommunityHouse> houseOptional =
-          communityHouseRepository.findByHouseIdWithHouseMembers(houseId);
-      return houseOptional.map(house -> {
-        Set<CommunityHouse> houses = community.getHouses();
-        houses.remove(
-            house); //remove the house before deleting house members because otherwise the Set relationship would be broken and remove would not work
-
-        Set<String> memberIds = house.getHouseMembers()
-            .stream()
-            .map(HouseMember::getMemberId)
-            .collect(
-                Collectors.toSet()); //streams are immutable so need to collect all the member IDs and then delete them from the house
-
-        memberIds.forEach(id -> houseService.deleteMemberFromHouse(houseId, id));
-
-        communityRepository.save(community);
-        communityHouseRepository.deleteByHouseId(houseId);
-        return true;
-      }).orElse(false);
     }
+    return communityHouseRepository.findIdByHouseIdAndCommunityId(houseId, community.getId())
+        .map(id -> communityDeletionRepository.deleteHouses(Collections.singletonList(id)) > 0)
+        .orElse(false);
   }
 }
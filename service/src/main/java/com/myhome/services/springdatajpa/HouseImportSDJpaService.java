@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.springdatajpa;
+
+import com.myhome.configuration.properties.importing.HouseImportProperties;
+import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseImportReport;
+import com.myhome.domain.HouseImportRow;
+import com.myhome.domain.HouseMember;
+import com.myhome.repositories.CommunityHouseRepository;
+import com.myhome.repositories.CommunityRepository;
+import com.myhome.repositories.HouseImportRepository;
+import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.services.HouseImportService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports houses and members in batches, so memory use depends on the batch size only.
+ *
+ * <p>Every batch looks up the houses it names and the members of those houses with one query
+ * each, and dedupes its rows against hash indexes of them. Houses written by earlier batches
+ * are found the same way.</p>
+ *
+ * <p>Every batch is written in a transaction of its own. A batch which cannot be written fails
+ * all of its rows and the import goes on with the next batch, while earlier batches stay
+ * written.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HouseImportSDJpaService implements HouseImportService {
+  // length of the name columns
+  private static final int MAX_NAME_LENGTH = 255;
+  private static final String BATCH_FAILED_MESSAGE = "Batch of rows could not be saved";
+
+  private final CommunityRepository communityRepository;
+  private final CommunityHouseRepository communityHouseRepository;
+  private final HouseMemberRepository houseMemberRepository;
+  private final HouseImportRepository houseImportRepository;
+  private final HouseImportProperties importProperties;
+
+  @Override
+  public Optional<HouseImportReport> importHouses(String communityId,
+      Iterator<HouseImportRow> rows) {
+    return communityRepository.findIdByCommunityId(communityId).map(communityPk -> {
+      HouseImportReport report = new HouseImportReport(importProperties.getMaxReportedErrors());
+      int batchSize = importProperties.getBatchSize();
+      List<HouseImportRow> batch = new ArrayList<>(batchSize);
+      while (rows.hasNext()) {
+        HouseImportRow row = rows.next();
+        String error = row.getError() != null ? row.getError() : validate(row);
+        if (error != null) {
+          report.rowFailed(row.getLine(), error);
+        } else {
+          batch.add(row);
+          if (batch.size() == batchSize) {
+            importBatch(communityPk, batch, report);
+            batch.clear();
+          }
+        }
+      }
+      if (!batch.isEmpty()) {
+        importBatch(communityPk, batch, report);
+      }
+      log.debug("Imported {} houses and {} members into community with id[{}]",
+          report.getHousesAdded(), report.getMembersAdded(), communityId);
+      return report;
+    });
+  }
+
+  private void importBatch(Long communityPk, List<HouseImportRow> batch,
+      HouseImportReport report) {
+    Set<String> houseNames = new HashSet<>();
+    batch.forEach(row -> houseNames.add(row.getHouseName()));
+    Map<String, String> houseIdsByName = new HashMap<>();
+    communityHouseRepository.findHouseIdsByNames(communityPk, houseNames)
+        .forEach(house -> houseIdsByName.putIfAbsent(house.getName(), house.getHouseId()));
+    Set<MemberKey> members = new HashSet<>();
+    if (!houseIdsByName.isEmpty()) {
+      houseMemberRepository.findMemberNamesByHouseIds(houseIdsByName.values())
+          .forEach(member -> members.add(new MemberKey(member.getHouseId(), member.getName())));
+    }
+
+    List<CommunityHouse> newHouses = new ArrayList<>();
+    List<HouseMember> newMembers = new ArrayList<>();
+    int rowsSkipped = 0;
+    for (HouseImportRow row : batch) {
+      boolean added = false;
+      String houseId = houseIdsByName.get(row.getHouseName());
+      if (houseId == null) {
+        houseId = generateUniqueId();
+        houseIdsByName.put(row.getHouseName(), houseId);
+        newHouses.add(new CommunityHouse().withHouseId(houseId).withName(row.getHouseName()));
+        added = true;
+      }
+      if (row.getMemberName() != null
+          && members.add(new MemberKey(houseId, row.getMemberName()))) {
+        HouseMember member = new HouseMember()
+            .withMemberId(generateUniqueId())
+            .withName(row.getMemberName());
+        member.setCommunityHouse(new CommunityHouse().withHouseId(houseId));
+        newMembers.add(member);
+        added = true;
+      }
+      if (!added) {
+        rowsSkipped++;
+      }
+    }
+
+    try {
+      houseImportRepository.insert(communityPk, newHouses, newMembers);
+    } catch (DataAccessException e) {
+      log.warn("Failed to import batch of rows from line {} into community with pk[{}]",
+          batch.get(0).getLine(), communityPk, e);
+      report.batchFailed();
+      batch.forEach(row -> report.rowFailed(row.getLine(), BATCH_FAILED_MESSAGE));
+      return;
+    }
+    report.housesAdded(newHouses.size());
+    report.membersAdded(newMembers.size());
+    report.rowsSkipped(rowsSkipped);
+  }
+
+  private static String validate(HouseImportRow row) {
+    if (row.getHouseName().isEmpty()) {
+      return "House name is empty";
+    }
+    if (row.getHouseName().length() > MAX_NAME_LENGTH
+        || row.getMemberName() != null && row.getMemberName().length() > MAX_NAME_LENGTH) {
+      return "Name is longer than " + MAX_NAME_LENGTH + " characters";
+    }
+    return null;
+  }
+
+  private static String generateUniqueId() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Value
+  private static class MemberKey {
+    String houseId;
+    String name;
+  }
+}
@@ -16,56 +16,74 @@
 
 package com.myhome.services.springdatajpa;
 
+import com.myhome.domain.DocumentRendition;
 import com.myhome.domain.HouseMember;
 import com.myhome.domain.HouseMemberDocument;
 import com.myhome.repositories.HouseMemberDocumentRepository;
 import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.services.DocumentContentStore;
 import com.myhome.services.HouseMemberDocumentService;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
+import com.myhome.services.imaging.DocumentCompressionExecutor;
+import com.myhome.services.imaging.DocumentCompressionExecutor.StoredRenditions;
+import com.myhome.utils.TransactionUtils;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.HashSet;
 import java.util.Optional;
-import javax.imageio.IIOImage;
-import javax.imageio.ImageIO;
-import javax.imageio.ImageWriteParam;
-import javax.imageio.ImageWriter;
-import javax.imageio.stream.ImageOutputStream;
+import java.util.Set;
+import javax.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 public class HouseMemberDocumentSDJpaService implements HouseMemberDocumentService {
 
   private final HouseMemberRepository houseMemberRepository;
   private final HouseMemberDocumentRepository houseMemberDocumentRepository;
-  @Value("${files.compressionBorderSizeKBytes}")
-  private int compressionBorderSizeKBytes;
+  private final DocumentContentStore documentContentStore;
+  private final DocumentCompressionExecutor documentCompressionExecutor;
+  private final TransactionTemplate transactionTemplate;
   @Value("${files.maxSizeKBytes}")
   private int maxFileSizeKBytes;
-  @Value("${files.compressedImageQuality}")
-  private float compressedImageQuality;
 
   public HouseMemberDocumentSDJpaService(HouseMemberRepository houseMemberRepository,
-      HouseMemberDocumentRepository houseMemberDocumentRepository) {
+      HouseMemberDocumentRepository houseMemberDocumentRepository,
+      DocumentContentStore documentContentStore,
+      DocumentCompressionExecutor documentCompressionExecutor,
+      PlatformTransactionManager transactionManager) {
     this.houseMemberRepository = houseMemberRepository;
     this.houseMemberDocumentRepository = houseMemberDocumentRepository;
+    this.documentContentStore = documentContentStore;
+    this.documentCompressionExecutor = documentCompressionExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
   @Override
   public Optional<HouseMemberDocument> findHouseMemberDocument(String memberId) {
-    return houseMemberRepository.findByMemberId(memberId)
-        .map(HouseMember::getHouseMemberDocument);
+    return houseMemberDocumentRepository.findByMemberId(memberId);
   }
 
   @Override
+  public Optional<Resource> findHouseMemberDocumentContent(HouseMemberDocument document,
+      DocumentRendition rendition) {
+    return documentContentStore.load(document.getContentKey(rendition));
+  }
+
+  @Override
+  @Transactional
   public boolean deleteHouseMemberDocument(String memberId) {
     return houseMemberRepository.findByMemberId(memberId).map(member -> {
-      if (member.getHouseMemberDocument() != null) {
+      HouseMemberDocument document = member.getHouseMemberDocument();
+      if (document != null) {
         member.setHouseMemberDocument(null);
         houseMemberRepository.save(member);
+        deleteContentAfterCommit(document);
         return true;
       }
       return false;
@@ -75,85 +93,108 @@ public class HouseMemberDocumentSDJpaService implements HouseMemberDocumentServi
   @Override
   public Optional<HouseMemberDocument> updateHouseMemberDocument(MultipartFile multipartFile,
       String memberId) {
-    return houseMemberRepository.findByMemberId(memberId).map(member -> {
-      Optional<HouseMemberDocument> houseMemberDocument = tryCreateDocument(multipartFile, member);
-      houseMemberDocument.ifPresent(document -> addDocumentToHouseMember(document, member));
-      return houseMemberDocument;
-    }).orElse(Optional.empty());
+    return storeHouseMemberDocument(multipartFile, memberId);
   }
 
   @Override
   public Optional<HouseMemberDocument> createHouseMemberDocument(MultipartFile multipartFile,
       String memberId) {
-    return houseMemberRepository.findByMemberId(memberId).map(member -> {
-      Optional<HouseMemberDocument> houseMemberDocument = tryCreateDocument(multipartFile, member);
-      houseMemberDocument.ifPresent(document -> addDocumentToHouseMember(document, member));
-      return houseMemberDocument;
-    }).orElse(Optional.empty());
+    return storeHouseMemberDocument(multipartFile, memberId);
   }
 
-  private Optional<HouseMemberDocument> tryCreateDocument(MultipartFile multipartFile,
-      HouseMember member) {
-
-    try (ByteArrayOutputStream imageByteStream = new ByteArrayOutputStream()) {
-      BufferedImage documentImage = getImageFromMultipartFile(multipartFile);
-      if (multipartFile.getSize() < DataSize.ofKilobytes(compressionBorderSizeKBytes).toBytes()) {
-        writeImageToByteStream(documentImage, imageByteStream);
-      } else {
-        compressImageToByteStream(documentImage, imageByteStream);
-      }
-      if (imageByteStream.size() < DataSize.ofKilobytes(maxFileSizeKBytes).toBytes()) {
-        HouseMemberDocument houseMemberDocument = saveHouseMemberDocument(imageByteStream,
-            String.format("member_%s_document.jpg", member.getMemberId()));
-        return Optional.of(houseMemberDocument);
-      } else {
-        return Optional.empty();
+  /**
+   * Compresses and stores the upload before a transaction is begun, so an upload waiting for or
+   * running in the compression pool holds no database connection. The document is then saved
+   * and linked to the member in a short transaction, and its stored content is deleted again if
+   * that transaction does not commit. The content stays pinned in the store until then.
+   */
+  private Optional<HouseMemberDocument> storeHouseMemberDocument(MultipartFile multipartFile,
+      String memberId) {
+    if (!houseMemberRepository.existsByMemberId(memberId)) {
+      return Optional.empty();
+    }
+    Optional<StoredRenditions> storedRenditions = tryCompressAndStore(multipartFile);
+    if (!storedRenditions.isPresent()) {
+      return Optional.empty();
+    }
+    boolean saved = false;
+    try {
+      Optional<HouseMemberDocument> houseMemberDocument = transactionTemplate.execute(status ->
+          houseMemberRepository.findByMemberId(memberId).map(member -> {
+            HouseMemberDocument document =
+                houseMemberDocumentRepository.save(newDocument(storedRenditions.get(), member));
+            addDocumentToHouseMember(document, member);
+            return document;
+          }));
+      saved = houseMemberDocument.isPresent();
+      return houseMemberDocument;
+    } finally {
+      Set<String> contentKeys = getContentKeys(storedRenditions.get());
+      contentKeys.forEach(documentContentStore::release);
+      if (!saved) {
+        deleteUnreferencedContent(contentKeys);
       }
+    }
+  }
+
+  private Optional<StoredRenditions> tryCompressAndStore(MultipartFile multipartFile) {
+    try {
+      return documentCompressionExecutor.compressAndStore(multipartFile, multipartFile.getSize(),
+          DataSize.ofKilobytes(maxFileSizeKBytes).toBytes());
     } catch (IOException e) {
       return Optional.empty();
     }
   }
 
-  private HouseMember addDocumentToHouseMember(HouseMemberDocument houseMemberDocument,
+  private static HouseMemberDocument newDocument(StoredRenditions renditions,
       HouseMember member) {
-    member.setHouseMemberDocument(houseMemberDocument);
-    return houseMemberRepository.save(member);
+    return new HouseMemberDocument(
+        String.format("member_%s_document.jpg", member.getMemberId()),
+        renditions.getOriginal().getContentKey(),
+        renditions.getOriginal().getContentLength(),
+        renditions.getMedium().getContentKey(),
+        renditions.getSmall().getContentKey());
   }
 
-  private HouseMemberDocument saveHouseMemberDocument(ByteArrayOutputStream imageByteStream,
-      String filename) {
-    HouseMemberDocument newDocument =
-        new HouseMemberDocument(filename, imageByteStream.toByteArray());
-    return houseMemberDocumentRepository.save(newDocument);
+  private HouseMember addDocumentToHouseMember(HouseMemberDocument houseMemberDocument,
+      HouseMember member) {
+    HouseMemberDocument replacedDocument = member.getHouseMemberDocument();
+    member.setHouseMemberDocument(houseMemberDocument);
+    HouseMember savedMember = houseMemberRepository.save(member);
+    if (replacedDocument != null) {
+      deleteContentAfterCommit(replacedDocument);
+    }
+    return savedMember;
   }
 
-  private void writeImageToByteStream(BufferedImage documentImage,
-      ByteArrayOutputStream imageByteStream)
-      throws IOException {
-    ImageIO.write(documentImage, "jpg", imageByteStream);
+  /**
+   * Removes the stored content of every rendition once the removal of its document is committed,
+   * unless identical content is still referenced by another document.
+   */
+  private void deleteContentAfterCommit(HouseMemberDocument document) {
+    Set<String> contentKeys = new HashSet<>();
+    for (DocumentRendition rendition : DocumentRendition.values()) {
+      contentKeys.add(document.getContentKey(rendition));
+    }
+    TransactionUtils.afterCommit(() -> deleteUnreferencedContent(contentKeys));
   }
 
-  private void compressImageToByteStream(BufferedImage bufferedImage,
-      ByteArrayOutputStream imageByteStream) throws IOException {
-
-    try (ImageOutputStream imageOutStream = ImageIO.createImageOutputStream(imageByteStream)) {
-
-      ImageWriter imageWriter = ImageIO.getImageWritersByFormatName("jpg").next();
-      imageWriter.setOutput(imageOutStream);
-      ImageWriteParam param = imageWriter.getDefaultWriteParam();
-
-      if (param.canWriteCompressed()) {
-        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-        param.setCompressionQuality(compressedImageQuality);
+  private void deleteUnreferencedContent(Set<String> contentKeys) {
+    contentKeys.forEach(contentKey -> {
+      try {
+        documentContentStore.deleteIfUnreferenced(contentKey,
+            () -> houseMemberDocumentRepository.isContentReferenced(contentKey));
+      } catch (IOException e) {
+        log.warn("Failed to delete unreferenced document content {}", contentKey, e);
       }
-      imageWriter.write(null, new IIOImage(bufferedImage, null, null), param);
-      imageWriter.dispose();
-    }
+    });
   }
 
-  private BufferedImage getImageFromMultipartFile(MultipartFile multipartFile) throws IOException {
-    try (InputStream multipartFileStream = multipartFile.getInputStream()) {
-      return ImageIO.read(multipartFileStream);
-    }
+  private static Set<String> getContentKeys(StoredRenditions renditions) {
+    Set<String> contentKeys = new HashSet<>();
+    contentKeys.add(renditions.getOriginal().getContentKey());
+    contentKeys.add(renditions.getMedium().getContentKey());
+    contentKeys.add(renditions.getSmall().getContentKey());
+    return contentKeys;
   }
 }
@@ -18,19 +18,21 @@ package com.myhome.services.springdatajpa;
 
 import com.myhome.domain.CommunityHouse;
 import com.myhome.domain.HouseMember;
+import com.myhome.domain.KeysetPage;
 import com.myhome.repositories.CommunityHouseRepository;
 import com.myhome.repositories.HouseMemberDocumentRepository;
 import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.repositories.PaymentLedgerRepository;
 import com.myhome.services.HouseService;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 @RequiredArgsConstructor
 @Service
@@ -38,6 +40,7 @@ public class HouseSDJpaService implements HouseService {
   private final HouseMemberRepository houseMemberRepository;
   private final HouseMemberDocumentRepository houseMemberDocumentRepository;
   private final CommunityHouseRepository communityHouseRepository;
+  private final PaymentLedgerRepository paymentLedgerRepository;
 
   private String generateUniqueId() {
     return UUID.randomUUID().toString();
@@ -57,43 +60,29 @@ public class HouseSDJpaService implements HouseService {
     return communityHouses;
   }
 
+  @Override
+  public KeysetPage<CommunityHouse> listAllHouses(Long afterId, int limit) {
+    return KeysetPage.of(communityHouseRepository.findByIdGreaterThanOrderByIdAsc(
+        KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)), limit);
+  }
+
   @Override public Set<HouseMember> addHouseMembers(String houseId, Set<HouseMember> houseMembers) {
     Optional<CommunityHouse> communityHouseOptional =
-        communityHouseRepository.findByHouseIdWithHouseMembers(houseId);
+        communityHouseRepository.findByHouseId(houseId);
     return communityHouseOptional.map(communityHouse -> {
       Set<HouseMember> savedMembers = new HashSet<>();
       houseMembers.forEach(member -> member.setMemberId(generateUniqueId()));
       houseMembers.forEach(member -> member.setCommunityHouse(communityHouse));
       houseMemberRepository.saveAll(houseMembers).forEach(savedMembers::add);
-
-      communityHouse.getHouseMembers().addAll(savedMembers);
-      communityHouseRepository.save(communityHouse);
       return savedMembers;
     }).orElse(new HashSet<>());
   }
 
   @Override
+  @Transactional
   public boolean deleteMemberFromHouse(String houseId, String memberId) {
-    Optional<CommunityHouse> communityHouseOptional =
-        communityHouseRepository.findByHouseIdWithHouseMembers(houseId);
-    return communityHouseOptional.map(communityHouse -> {
-      boolean isMemberRemoved = false;
-      if (!CollectionUtils.isEmpty(communityHouse.getHouseMembers())) {
-        Set<HouseMember> houseMembers = communityHouse.getHouseMembers();
-        for (HouseMember member : houseMembers) {
-          if (member.getMemberId().equals(memberId)) {
-            houseMembers.remove(member);
-            communityHouse.setHouseMembers(houseMembers);
-            communityHouseRepository.save(communityHouse);
-            member.setCommunityHouse(null);
-            houseMemberRepository.save(member);
-            isMemberRemoved = true;
-            break;
-          }
-        }
-      }
-      return isMemberRemoved;
-    }).orElse(false);
+    paymentLedgerRepository.removeMemberFromHouse(memberId, houseId);
+    return houseMemberRepository.detachFromHouse(memberId, houseId) > 0;
   }
 
   @Override
@@ -101,6 +90,11 @@ public class HouseSDJpaService implements HouseService {
     return communityHouseRepository.findByHouseId(houseId);
   }
 
+  @Override
+  public Optional<Long> getHouseVersion(String houseId) {
+    return communityHouseRepository.findVersionByHouseId(houseId);
+  }
+
   @Override
   public Optional<List<HouseMember>> getHouseMembersById(String houseId, Pageable pageable) {
     return Optional.ofNullable(
@@ -108,6 +102,15 @@ public class HouseSDJpaService implements HouseService {
     );
   }
 
+  @Override
+  public Optional<KeysetPage<HouseMember>> getHouseMembersById(String houseId, Long afterId,
+      int limit) {
+    return Optional.of(KeysetPage.of(
+        houseMemberRepository.findAllByCommunityHouse_HouseIdAndIdGreaterThanOrderByIdAsc(
+            houseId, KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)),
+        limit));
+  }
+
   @Override
   public Optional<List<HouseMember>> listHouseMembersForHousesOfUserId(String userId,
       Pageable pageable) {
@@ -115,4 +118,23 @@ public class HouseSDJpaService implements HouseService {
         houseMemberRepository.findAllByCommunityHouse_Community_Admins_UserId(userId, pageable)
     );
   }
+
+  @Override
+  public Optional<KeysetPage<HouseMember>> listHouseMembersForHousesOfUserId(String userId,
+      Long afterId, int limit) {
+    return Optional.of(KeysetPage.of(houseMemberRepository
+            .findAllByCommunityHouse_Community_Admins_UserIdAndIdGreaterThanOrderByIdAsc(
+                userId, KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)),
+        limit));
+  }
+
+  @Override
+  public Optional<String> findCommunityIdByHouseId(String houseId) {
+    return communityHouseRepository.findCommunityIdByHouseId(houseId);
+  }
+
+  @Override
+  public Optional<String> findCommunityIdByMemberId(String memberId) {
+    return houseMemberRepository.findCommunityIdByMemberId(memberId);
+  }
 }
@@ -16,27 +16,40 @@
 
 package com.myhome.services.springdatajpa;
 
+import com.myhome.configuration.properties.payments.BulkPaymentProperties;
 import com.myhome.controllers.dto.PaymentDto;
 import com.myhome.controllers.dto.mapper.PaymentMapper;
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.BulkPaymentSummary;
+import com.myhome.domain.BulkPaymentTemplate;
 import com.myhome.domain.HouseMember;
 import com.myhome.domain.Payment;
-import com.myhome.domain.User;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.domain.PaymentParticipants;
+import com.myhome.domain.PaymentSearchFilter;
+import com.myhome.domain.PaymentSummary;
+import com.myhome.repositories.CommunityHouseRepository;
+import com.myhome.repositories.CommunityRepository;
 import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.repositories.PaymentBatchRepository;
+import com.myhome.repositories.PaymentLedgerRepository;
+import com.myhome.repositories.PaymentLedgerRepository.MemberCharge;
 import com.myhome.repositories.PaymentRepository;
-import com.myhome.repositories.UserRepository;
+import com.myhome.repositories.PaymentSearchRepository;
 import com.myhome.services.PaymentService;
-import java.util.HashSet;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implements {@link PaymentService} and uses Spring Data JPA Repository to do its work
@@ -46,16 +59,74 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PaymentSDJpaService implements PaymentService {
   private final PaymentRepository paymentRepository;
-  private final UserRepository adminRepository;
   private final PaymentMapper paymentMapper;
   private final HouseMemberRepository houseMemberRepository;
+  private final PaymentSearchRepository paymentSearchRepository;
+  private final PaymentBatchRepository paymentBatchRepository;
+  private final CommunityRepository communityRepository;
+  private final CommunityHouseRepository communityHouseRepository;
+  private final BulkPaymentProperties bulkPaymentProperties;
+  private final PaymentLedgerRepository paymentLedgerRepository;
 
   @Override
+  @Transactional
   public PaymentDto schedulePayment(PaymentDto request) {
     generatePaymentId(request);
     return createPaymentInRepository(request);
   }
 
+  /**
+   * Schedules the payments in one transaction. Members are resolved to their primary keys with
+   * a single query and the payments are inserted with JDBC batches, so no entity is loaded.
+   */
+  @Override
+  @Transactional
+  public Optional<BulkPaymentSummary> scheduleBulkPayments(String communityId, String adminId,
+      String houseId, BulkPaymentTemplate template) {
+    return communityRepository.findAdminIdByCommunityIdAndUserId(communityId, adminId)
+        .flatMap(adminPk -> {
+          List<Long> memberIds = houseId == null
+              ? houseMemberRepository.findIdsByCommunityId(communityId)
+              : houseMemberRepository.findIdsByHouseIdAndCommunityId(houseId, communityId);
+          if (memberIds.isEmpty()) {
+            return houseId == null || isHouseInCommunity(houseId, communityId)
+                ? Optional.of(new BulkPaymentSummary(0, BigDecimal.ZERO))
+                : Optional.empty();
+          }
+          paymentBatchRepository.insert(template, adminPk, memberIds,
+              bulkPaymentProperties.getBatchSize());
+          paymentLedgerRepository.addPayments(memberIds.stream()
+              .map(memberId -> new MemberCharge(memberId, template.getCharge()))
+              .collect(Collectors.toList()));
+          log.debug("Scheduled {} payments of type[{}] in community with id[{}]",
+              memberIds.size(), template.getType(), communityId);
+          return Optional.of(new BulkPaymentSummary(memberIds.size(),
+              template.getCharge().multiply(BigDecimal.valueOf(memberIds.size()))));
+        });
+  }
+
+  private boolean isHouseInCommunity(String houseId, String communityId) {
+    return communityHouseRepository.findCommunityIdByHouseId(houseId)
+        .filter(communityId::equals)
+        .isPresent();
+  }
+
+  @Override
+  public Optional<PaymentBalance> getMemberBalance(String memberId) {
+    return paymentLedgerRepository.findMemberBalance(memberId);
+  }
+
+  @Override
+  public Optional<PaymentBalance> getHouseBalance(String houseId) {
+    return paymentLedgerRepository.findHouseBalance(houseId);
+  }
+
+  @Override
+  public Optional<BalanceRebuildReport> rebuildBalances(String communityId) {
+    return communityRepository.findIdByCommunityId(communityId)
+        .map(paymentLedgerRepository::rebuildCommunity);
+  }
+
   @Override
   public Optional<PaymentDto> getPaymentDetails(String paymentId) {
     return paymentRepository.findByPaymentId(paymentId)
@@ -68,42 +139,42 @@ public class PaymentSDJpaService implements PaymentService {
   }
 
   @Override
-  public Set<Payment> getPaymentsByMember(String memberId) {
-    ExampleMatcher ignoringMatcher = ExampleMatcher.matchingAll()
-        .withMatcher("memberId",
-            ExampleMatcher.GenericPropertyMatchers.startsWith().ignoreCase())
-        .withIgnorePaths("paymentId", "charge", "type", "description", "recurring", "dueDate",
-            "admin");
-
-    Example<Payment> paymentExample =
-        Example.of(new Payment(null, null, null, null, false, null, null,
-                new HouseMember().withMemberId(memberId)),
-            ignoringMatcher);
-
-    return new HashSet<>(paymentRepository.findAll(paymentExample));
+  public Optional<PaymentParticipants> findPaymentParticipants(String memberId,
+      String adminId) {
+    return houseMemberRepository.findPaymentParticipants(memberId, adminId);
+  }
+
+  @Override
+  public Page<Payment> getPaymentsByMember(String memberId, Pageable pageable) {
+    return paymentRepository.findByMember_MemberId(memberId, pageable);
   }
 
   @Override
   public Page<Payment> getPaymentsByAdmin(String adminId, Pageable pageable) {
-    ExampleMatcher ignoringMatcher = ExampleMatcher.matchingAll()
-        .withMatcher("adminId",
-            ExampleMatcher.GenericPropertyMatchers.startsWith().ignoreCase())
-        .withIgnorePaths("paymentId", "charge", "type", "description", "recurring", "dueDate",
-            "memberId");
-
-    Example<Payment> paymentExample =
-        Example.of(
-            new Payment(null, null, null, null, false, null, new User().withUserId(adminId), null),
-            ignoringMatcher);
-
-    return paymentRepository.findAll(paymentExample, pageable);
+    return paymentRepository.findByAdmin_UserId(adminId, pageable);
+  }
+
+  @Override
+  public Slice<Payment> getPaymentSliceByAdmin(String adminId, Pageable pageable) {
+    return paymentRepository.findAllByAdmin_UserId(adminId, pageable);
+  }
+
+  @Override
+  public Slice<PaymentSummary> searchPaymentsByAdmin(String adminId, PaymentSearchFilter filter,
+      Pageable pageable) {
+    return paymentSearchRepository.searchByAdmin(adminId, filter, pageable);
   }
 
+  /**
+   * Inserts the payment and adds it to the balances. Its admin and member carry only their
+   * primary keys, which is all the insert needs, and are neither loaded nor written.
+   */
   private PaymentDto createPaymentInRepository(PaymentDto request) {
     Payment payment = paymentMapper.paymentDtoToPayment(request);
 
-    adminRepository.save(payment.getAdmin());
     paymentRepository.save(payment);
+    paymentLedgerRepository.addPayments(Collections.singletonList(
+        new MemberCharge(payment.getMember().getId(), payment.getCharge())));
 
     return paymentMapper.paymentToPaymentDto(payment);
   }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.springdatajpa;
+
+import com.myhome.configuration.properties.payments.RecurringPaymentProperties;
+import com.myhome.domain.RecurringPaymentRun;
+import com.myhome.repositories.RecurringPaymentRepository;
+import com.myhome.repositories.RecurringPaymentRepository.DuePayment;
+import com.myhome.repositories.RecurringPaymentRunRepository;
+import com.myhome.services.RecurringPaymentService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Materializes the next occurrences of recurring payments on a pool sized to the available
+ * cores.
+ *
+ * <p>Due payments are read in primary key order, one wave of a chunk per thread at a time. Each
+ * chunk is inserted in its own transaction, and the high-water mark of the run is persisted once
+ * the whole wave is committed. A run interrupted mid-wave resumes at the start of that wave, and
+ * the chunks committed before are skipped as their payments already have a next occurrence.</p>
+ *
+ * <p>A new run covers the payments due from the run date on, or from the end of the window of
+ * the last run if it ended before that, so days the service was down are not skipped.</p>
+ */
+@Slf4j
+@Service
+public class RecurringPaymentSDJpaService implements RecurringPaymentService {
+  private final RecurringPaymentRepository recurringPaymentRepository;
+  private final RecurringPaymentRunRepository recurringPaymentRunRepository;
+  private final long windowDays;
+  private final int chunkSize;
+  private final int threads;
+  private final ExecutorService executorService;
+
+  public RecurringPaymentSDJpaService(RecurringPaymentRepository recurringPaymentRepository,
+      RecurringPaymentRunRepository recurringPaymentRunRepository,
+      RecurringPaymentProperties properties) {
+    AtomicInteger threadCount = new AtomicInteger();
+    this.recurringPaymentRepository = recurringPaymentRepository;
+    this.recurringPaymentRunRepository = recurringPaymentRunRepository;
+    this.windowDays = properties.getWindow().toDays();
+    this.chunkSize = properties.getChunkSize();
+    this.threads = properties.getThreads() > 0
+        ? properties.getThreads()
+        : Runtime.getRuntime().availableProcessors();
+    this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "recurring-payments-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Scheduled(cron = "${payments.recurring.cron}")
+  public void materializeScheduled() {
+    try {
+      materializeDuePayments(LocalDate.now());
+    } catch (RuntimeException e) {
+      log.error("Failed to materialize recurring payments", e);
+    }
+  }
+
+  @Override
+  public synchronized int materializeDuePayments(LocalDate today) {
+    RecurringPaymentRun run = startRun(today);
+    int materialized = 0;
+    List<DuePayment> wave;
+    while (!(wave = recurringPaymentRepository.findDue(run.getLastPaymentId(),
+        run.getWindowStart(), run.getWindowEnd(), chunkSize * threads)).isEmpty()) {
+      materialized += materialize(wave);
+      run.setLastPaymentId(wave.get(wave.size() - 1).getId());
+      run = recurringPaymentRunRepository.save(run);
+    }
+    run.setCompleted(true);
+    recurringPaymentRunRepository.save(run);
+    log.debug("Materialized {} recurring payments due from {} to {}", materialized,
+        run.getWindowStart(), run.getWindowEnd());
+    return materialized;
+  }
+
+  private RecurringPaymentRun startRun(LocalDate today) {
+    Optional<RecurringPaymentRun> lastRun =
+        recurringPaymentRunRepository.findFirstByOrderByIdDesc();
+    if (lastRun.isPresent() && !lastRun.get().isCompleted()) {
+      return lastRun.get();
+    }
+    LocalDate windowStart = lastRun
+        .map(run -> run.getWindowEnd().plusDays(1))
+        .filter(start -> start.isBefore(today))
+        .orElse(today);
+    return recurringPaymentRunRepository.save(
+        new RecurringPaymentRun(windowStart, today.plusDays(windowDays)));
+  }
+
+  private int materialize(List<DuePayment> wave) {
+    List<Callable<Integer>> chunks = new ArrayList<>();
+    for (int start = 0; start < wave.size(); start += chunkSize) {
+      List<DuePayment> chunk = wave.subList(start, Math.min(start + chunkSize, wave.size()));
+      chunks.add(() -> recurringPaymentRepository.insertNextOccurrences(chunk));
+    }
+    try {
+      int materialized = 0;
+      for (Future<Integer> chunk : executorService.invokeAll(chunks)) {
+        materialized += chunk.get();
+      }
+      return materialized;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while materializing recurring payments", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to materialize recurring payments", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+}
@@ -19,9 +19,11 @@ package com.myhome.services.springdatajpa;
 import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.dto.mapper.UserMapper;
 import com.myhome.domain.Community;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.SecurityToken;
 import com.myhome.domain.SecurityTokenType;
 import com.myhome.domain.User;
+import com.myhome.domain.UserCredentials;
 import com.myhome.model.ForgotPasswordRequest;
 import com.myhome.repositories.UserRepository;
 import com.myhome.services.MailService;
@@ -35,10 +37,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.transaction.Transactional;
 
 /**
  * Implements {@link UserService} and uses Spring Data JPA repository to does its work.
@@ -79,6 +84,12 @@ public class UserSDJpaService implements UserService {
     return userRepository.findAll(pageable).toSet();
   }
 
+  @Override
+  public KeysetPage<User> listAll(Long afterId, int limit) {
+    return KeysetPage.of(userRepository.findByIdGreaterThanOrderByIdAsc(
+        KeysetPage.seekAfter(afterId), KeysetPage.fetchLimit(limit)), limit);
+  }
+
   @Override
   public Optional<UserDto> getUserDetails(String userId) {
     Optional<User> userOptional = userRepository.findByUserIdWithCommunities(userId);
@@ -106,6 +117,39 @@ public class UserSDJpaService implements UserService {
         });
   }
 
+  /**
+   * Loads the credentials of a user together with up to {@code maxAdminCommunities} ids of the
+   * communities administered by the user, using a single query.
+   *
+   * @return credentials whose admin community ids are null if the user administers more
+   *     communities
+   */
+  public Optional<UserCredentials> findCredentialsByEmail(String userEmail,
+      int maxAdminCommunities) {
+    List<UserRepository.CredentialsRow> rows = userRepository.findCredentialsByEmail(userEmail,
+        PageRequest.of(0, maxAdminCommunities + 1));
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+    Set<String> adminCommunityIds = rows.stream()
+        .map(UserRepository.CredentialsRow::getAdminCommunityId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    UserRepository.CredentialsRow credentials = rows.get(0);
+    return Optional.of(new UserCredentials(credentials.getUserId(),
+        credentials.getEncryptedPassword(), credentials.getMembershipVersion(),
+        adminCommunityIds.size() <= maxAdminCommunities ? adminCommunityIds : null));
+  }
+
+  /**
+   * Replaces the password hash of a user, unless it was changed since {@code oldPassword} was
+   * read.
+   */
+  @Transactional
+  public boolean updateEncryptedPassword(String userId, String oldPassword, String newPassword) {
+    return userRepository.updateEncryptedPassword(userId, oldPassword, newPassword) > 0;
+  }
+
   @Override
   public boolean requestResetPassword(ForgotPasswordRequest forgotPasswordRequest) {
     return Optional.ofNullable(forgotPasswordRequest)
@@ -784,509 +784,6 @@ INSERT INTO "PUBLIC"."COMMUNITY_HOUSE"("ID", "HOUSE_ID", "NAME", "COMMUNITY_ID")
 (500, '7271093b-2893-4ebd-9472-d97556d3be4e', 'Test House 9', 7);
 
 
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSES"("COMMUNITY_ID", "HOUSES_ID") VALUES
-(0, 0),
-(0, 1),
-(10, 5),
-(10, 7),
-(10, 9),
-(10, 8),
-(10, 2),
-(10, 10),
-(10, 4),
-(10, 3),
-(10, 6),
-(27, 13),
-(27, 18),
-(27, 14),
-(27, 15),
-(27, 11),
-(27, 19),
-(27, 17),
-(27, 16),
-(27, 20),
-(27, 12),
-(1, 29),
-(1, 21),
-(1, 28),
-(1, 30),
-(1, 26),
-(1, 22),
-(1, 24),
-(1, 27),
-(1, 23),
-(1, 25),
-(22, 32),
-(22, 34),
-(22, 38),
-(22, 35),
-(22, 37),
-(22, 31),
-(22, 39),
-(22, 33),
-(22, 36),
-(22, 40),
-(48, 41),
-(48, 42),
-(48, 45),
-(48, 48),
-(48, 49),
-(48, 44),
-(48, 43),
-(48, 46),
-(48, 47),
-(48, 50),
-(24, 58),
-(24, 57),
-(24, 54),
-(24, 51),
-(24, 52),
-(24, 53),
-(24, 59),
-(24, 56),
-(24, 60),
-(24, 55),
-(19, 70),
-(19, 67),
-(19, 64),
-(19, 62),
-(19, 69),
-(19, 66),
-(19, 61),
-(19, 65),
-(19, 68),
-(19, 63),
-(4, 78),
-(4, 72),
-(4, 71),
-(4, 77),
-(4, 73),
-(4, 80),
-(4, 76),
-(4, 74),
-(4, 79),
-(4, 75),
-(26, 85),
-(26, 88),
-(26, 89),
-(26, 83),
-(26, 87),
-(26, 90),
-(26, 84),
-(26, 81),
-(26, 86),
-(26, 82),
-(29, 96),
-(29, 94),
-(29, 93),
-(29, 97),
-(29, 98),
-(29, 99),
-(29, 95),
-(29, 92),
-(29, 100),
-(29, 91),
-(13, 105),
-(13, 109),
-(13, 102),
-(13, 108),
-(13, 107),
-(13, 103),
-(13, 110),
-(13, 106),
-(13, 101),
-(13, 104),
-(40, 118),
-(40, 113),
-(40, 112),
-(40, 111),
-(40, 120),
-(40, 116),
-(40, 119),
-(40, 115),
-(40, 117),
-(40, 114),
-(20, 129),
-(20, 128),
-(20, 125),
-(20, 126),
-(20, 124),
-(20, 130),
-(20, 122),
-(20, 127),
-(20, 121),
-(20, 123),
-(44, 131),
-(44, 134),
-(44, 140),
-(44, 137),
-(44, 139),
-(44, 132),
-(44, 135),
-(44, 136),
-(44, 133),
-(44, 138),
-(23, 145),
-(23, 150),
-(23, 149),
-(23, 142),
-(23, 147),
-(23, 141),
-(23, 144),
-(23, 148),
-(23, 143),
-(23, 146),
-(14, 152),
-(14, 159),
-(14, 154),
-(14, 153),
-(14, 156),
-(14, 160),
-(14, 155),
-(14, 151),
-(14, 158),
-(14, 157),
-(6, 169),
-(6, 161),
-(6, 164),
-(6, 167),
-(6, 170),
-(6, 162),
-(6, 165),
-(6, 163),
-(6, 166),
-(6, 168),
-(36, 175),
-(36, 177),
-(36, 180),
-(36, 172),
-(36, 178),
-(36, 174),
-(36, 179),
-(36, 173),
-(36, 171),
-(36, 176),
-(25, 181),
-(25, 186),
-(25, 190),
-(25, 185),
-(25, 188),
-(25, 183),
-(25, 184),
-(25, 187),
-(25, 182),
-(25, 189),
-(15, 192),
-(15, 194),
-(15, 199),
-(15, 193),
-(15, 196),
-(15, 197),
-(15, 195),
-(15, 200),
-(15, 191),
-(15, 198),
-(9, 204),
-(9, 210),
-(9, 203),
-(9, 202),
-(9, 206),
-(9, 205),
-(9, 207),
-(9, 201),
-(9, 208),
-(9, 209),
-(42, 215),
-(42, 211),
-(42, 212),
-(42, 213),
-(42, 217),
-(42, 214),
-(42, 220),
-(42, 218),
-(42, 216),
-(42, 219),
-(18, 224),
-(18, 228),
-(18, 221),
-(18, 223),
-(18, 229),
-(18, 225),
-(18, 226),
-(18, 227),
-(18, 222),
-(18, 230),
-(2, 234),
-(2, 235),
-(2, 239),
-(2, 233),
-(2, 240),
-(2, 231),
-(2, 237),
-(2, 238),
-(2, 236),
-(2, 232),
-(37, 250),
-(37, 248),
-(37, 241),
-(37, 246),
-(37, 247),
-(37, 245),
-(37, 243),
-(37, 249),
-(37, 242),
-(37, 244),
-(28, 255),
-(28, 259),
-(28, 253),
-(28, 254),
-(28, 252),
-(28, 251),
-(28, 257),
-(28, 258),
-(28, 256),
-(28, 260),
-(35, 263),
-(35, 265),
-(35, 270),
-(35, 264),
-(35, 267),
-(35, 269),
-(35, 261),
-(35, 262),
-(35, 266),
-(35, 268),
-(41, 273),
-(41, 277),
-(41, 274),
-(41, 279),
-(41, 276),
-(41, 271),
-(41, 272),
-(41, 280),
-(41, 275),
-(41, 278),
-(21, 288),
-(21, 282),
-(21, 287),
-(21, 286),
-(21, 289),
-(21, 283),
-(21, 284),
-(21, 281),
-(21, 290),
-(21, 285),
-(33, 298),
-(33, 300),
-(33, 296),
-(33, 297),
-(33, 295),
-(33, 293),
-(33, 294),
-(33, 299),
-(33, 291),
-(33, 292),
-(12, 307),
-(12, 303),
-(12, 308),
-(12, 302),
-(12, 301),
-(12, 310),
-(12, 305),
-(12, 304),
-(12, 306),
-(12, 309),
-(49, 317),
-(49, 318),
-(49, 320),
-(49, 313),
-(49, 319),
-(49, 311),
-(49, 314),
-(49, 315),
-(49, 312),
-(49, 316),
-(39, 321),
-(39, 328),
-(39, 330),
-(39, 323),
-(39, 329),
-(39, 325),
-(39, 326),
-(39, 324),
-(39, 322),
-(39, 327),
-(8, 331),
-(8, 335),
-(8, 340),
-(8, 334),
-(8, 333),
-(8, 336),
-(8, 337),
-(8, 338),
-(8, 332),
-(8, 339),
-(11, 341),
-(11, 342),
-(11, 350),
-(11, 343),
-(11, 345),
-(11, 346),
-(11, 348),
-(11, 347),
-(11, 349),
-(11, 344),
-(30, 353),
-(30, 354),
-(30, 360),
-(30, 358),
-(30, 352),
-(30, 357),
-(30, 359),
-(30, 356),
-(30, 351),
-(30, 355),
-(46, 367),
-(46, 364),
-(46, 361),
-(46, 362),
-(46, 370),
-(46, 363),
-(46, 369),
-(46, 366),
-(46, 365),
-(46, 368),
-(47, 375),
-(47, 373),
-(47, 376),
-(47, 372),
-(47, 378),
-(47, 379),
-(47, 371),
-(47, 377),
-(47, 380),
-(47, 374),
-(3, 389),
-(3, 383);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSES"("COMMUNITY_ID", "HOUSES_ID") VALUES
-(3, 386),
-(3, 390),
-(3, 382),
-(3, 385),
-(3, 384),
-(3, 381),
-(3, 388),
-(3, 387),
-(38, 391),
-(38, 392),
-(38, 393),
-(38, 395),
-(38, 400),
-(38, 396),
-(38, 397),
-(38, 399),
-(38, 394),
-(38, 398),
-(16, 406),
-(16, 402),
-(16, 407),
-(16, 410),
-(16, 401),
-(16, 408),
-(16, 404),
-(16, 403),
-(16, 409),
-(16, 405),
-(32, 413),
-(32, 414),
-(32, 416),
-(32, 418),
-(32, 419),
-(32, 420),
-(32, 411),
-(32, 415),
-(32, 412),
-(32, 417),
-(31, 424),
-(31, 430),
-(31, 427),
-(31, 426),
-(31, 422),
-(31, 428),
-(31, 421),
-(31, 425),
-(31, 423),
-(31, 429),
-(34, 436),
-(34, 431),
-(34, 434),
-(34, 432),
-(34, 433),
-(34, 439),
-(34, 440),
-(34, 435),
-(34, 437),
-(34, 438),
-(43, 448),
-(43, 443),
-(43, 446),
-(43, 441),
-(43, 444),
-(43, 445),
-(43, 447),
-(43, 450),
-(43, 442),
-(43, 449),
-(50, 458),
-(50, 451),
-(50, 453),
-(50, 454),
-(50, 460),
-(50, 456),
-(50, 457),
-(50, 452),
-(50, 459),
-(50, 455),
-(5, 468),
-(5, 461),
-(5, 466),
-(5, 470),
-(5, 464),
-(5, 465),
-(5, 467),
-(5, 462),
-(5, 463),
-(5, 469),
-(17, 476),
-(17, 480),
-(17, 477),
-(17, 475),
-(17, 479),
-(17, 472),
-(17, 473),
-(17, 478),
-(17, 471),
-(17, 474),
-(45, 490),
-(45, 486),
-(45, 487),
-(45, 485),
-(45, 482),
-(45, 488),
-(45, 481),
-(45, 483),
-(45, 484),
-(45, 489),
-(7, 493),
-(7, 495),
-(7, 500),
-(7, 497),
-(7, 491),
-(7, 499),
-(7, 496),
-(7, 498),
-(7, 492),
-(7, 494);
 
 INSERT INTO "PUBLIC"."HOUSE_MEMBER"("ID", "MEMBER_ID", "NAME", "COMMUNITY_HOUSE_ID", "DOCUMENT_ID") VALUES
 (0, 'default-member-id-for-testing', 'MyHome default house member', 0, NULL),
@@ -6384,5023 +5881,6 @@ INSERT INTO "PUBLIC"."HOUSE_MEMBER"("ID", "MEMBER_ID", "NAME", "COMMUNITY_HOUSE_
 (5000, 'e64acbf4-bea1-442f-b719-adf0a54e9a8e', 'Test User 11', 436, NULL);
 
 
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(0, 0),
-(0 ,1),
-(251, 8),
-(251, 7),
-(251, 10),
-(251, 4),
-(251, 9),
-(251, 2),
-(251, 3),
-(251, 5),
-(251, 6),
-(287, 14),
-(287, 18),
-(287, 15),
-(287, 17),
-(287, 19),
-(287, 16),
-(287, 11),
-(287, 13),
-(287, 12),
-(287, 20),
-(250, 28),
-(250, 30),
-(250, 25),
-(250, 23),
-(250, 27),
-(250, 24),
-(250, 29),
-(250, 21),
-(250, 22),
-(250, 26),
-(220, 35),
-(220, 40),
-(220, 33),
-(220, 36),
-(220, 39),
-(220, 32),
-(220, 38),
-(220, 34),
-(220, 37),
-(220, 31),
-(166, 43),
-(166, 49),
-(166, 41),
-(166, 45),
-(166, 46),
-(166, 50),
-(166, 42),
-(166, 47),
-(166, 48),
-(166, 44),
-(400, 55),
-(400, 60),
-(400, 52),
-(400, 58),
-(400, 56),
-(400, 53),
-(400, 59),
-(400, 51),
-(400, 54),
-(400, 57),
-(180, 66),
-(180, 69),
-(180, 68),
-(180, 70),
-(180, 63),
-(180, 61),
-(180, 62),
-(180, 67),
-(180, 64),
-(180, 65),
-(184, 72),
-(184, 79),
-(184, 77),
-(184, 80),
-(184, 73),
-(184, 71),
-(184, 76),
-(184, 75),
-(184, 78),
-(184, 74),
-(432, 82),
-(432, 88),
-(432, 81),
-(432, 90),
-(432, 83),
-(432, 84),
-(432, 89),
-(432, 85),
-(432, 87),
-(432, 86),
-(303, 91),
-(303, 93),
-(303, 95),
-(303, 96),
-(303, 99),
-(303, 94),
-(303, 92),
-(303, 100),
-(303, 97),
-(303, 98),
-(468, 108),
-(468, 109),
-(468, 102),
-(468, 106),
-(468, 103),
-(468, 104),
-(468, 105),
-(468, 107),
-(468, 101),
-(468, 110),
-(274, 117),
-(274, 114),
-(274, 111),
-(274, 116),
-(274, 120),
-(274, 115),
-(274, 113),
-(274, 118),
-(274, 112),
-(274, 119),
-(265, 121),
-(265, 123),
-(265, 124),
-(265, 129),
-(265, 127),
-(265, 122),
-(265, 128),
-(265, 126),
-(265, 125),
-(265, 130),
-(487, 131),
-(487, 133),
-(487, 136),
-(487, 132),
-(487, 139),
-(487, 140),
-(487, 134),
-(487, 138),
-(487, 135),
-(487, 137),
-(244, 142),
-(244, 141),
-(244, 144),
-(244, 145),
-(244, 148),
-(244, 147),
-(244, 143),
-(244, 149),
-(244, 146),
-(244, 150),
-(295, 152),
-(295, 159),
-(295, 154),
-(295, 156),
-(295, 158),
-(295, 153),
-(295, 155),
-(295, 160),
-(295, 157),
-(295, 151),
-(209, 165),
-(209, 169),
-(209, 161),
-(209, 166),
-(209, 167),
-(209, 164),
-(209, 162),
-(209, 170),
-(209, 163),
-(209, 168),
-(120, 175),
-(120, 171),
-(120, 172),
-(120, 179),
-(120, 177),
-(120, 180),
-(120, 174),
-(120, 176),
-(120, 173),
-(120, 178),
-(281, 183),
-(281, 189),
-(281, 186),
-(281, 185),
-(281, 190),
-(281, 184),
-(281, 181),
-(281, 187),
-(281, 182),
-(281, 188),
-(124, 193),
-(124, 196),
-(124, 199),
-(124, 192),
-(124, 195),
-(124, 197),
-(124, 200),
-(124, 191),
-(124, 194),
-(124, 198),
-(96, 201),
-(96, 204),
-(96, 209),
-(96, 207),
-(96, 208),
-(96, 210),
-(96, 206),
-(96, 203),
-(96, 205),
-(96, 202),
-(293, 219),
-(293, 212),
-(293, 217),
-(293, 213),
-(293, 220),
-(293, 215),
-(293, 216),
-(293, 218),
-(293, 211),
-(293, 214),
-(215, 227),
-(215, 228),
-(215, 229),
-(215, 230),
-(215, 222),
-(215, 224),
-(215, 223),
-(215, 225),
-(215, 221),
-(215, 226),
-(315, 238),
-(315, 239),
-(315, 232),
-(315, 235),
-(315, 231),
-(315, 234),
-(315, 233),
-(315, 240),
-(315, 237),
-(315, 236),
-(358, 241),
-(358, 242),
-(358, 245),
-(358, 246),
-(358, 243),
-(358, 244),
-(358, 249),
-(358, 250),
-(358, 248),
-(358, 247),
-(140, 255),
-(140, 259),
-(140, 251),
-(140, 256),
-(140, 253),
-(140, 252),
-(140, 258),
-(140, 254),
-(140, 257),
-(140, 260),
-(71, 269),
-(71, 261),
-(71, 268),
-(71, 265),
-(71, 270),
-(71, 262),
-(71, 263),
-(71, 264),
-(71, 266),
-(71, 267),
-(264, 276),
-(264, 277),
-(264, 273),
-(264, 280),
-(264, 274),
-(264, 279),
-(264, 275),
-(264, 271),
-(264, 272),
-(264, 278),
-(393, 283),
-(393, 289),
-(393, 282),
-(393, 288),
-(393, 284),
-(393, 287),
-(393, 290),
-(393, 281),
-(393, 285),
-(393, 286),
-(90, 291),
-(90, 295),
-(90, 297),
-(90, 298),
-(90, 293),
-(90, 292),
-(90, 294),
-(90, 296),
-(90, 299),
-(90, 300),
-(113, 302),
-(113, 310),
-(113, 303),
-(113, 309),
-(113, 304),
-(113, 306),
-(113, 305),
-(113, 307),
-(113, 301),
-(113, 308),
-(439, 320),
-(439, 311),
-(439, 313),
-(439, 315),
-(439, 317),
-(439, 319),
-(439, 318),
-(439, 316),
-(439, 312),
-(439, 314),
-(44, 325),
-(44, 321),
-(44, 329),
-(44, 322),
-(44, 323),
-(44, 326),
-(44, 330),
-(44, 328),
-(44, 327),
-(44, 324),
-(2, 337),
-(2, 338),
-(2, 331),
-(2, 332),
-(2, 333),
-(2, 336),
-(2, 335),
-(2, 339),
-(2, 340),
-(2, 334),
-(266, 348),
-(266, 347),
-(266, 349),
-(266, 345),
-(266, 350),
-(266, 342),
-(266, 344),
-(266, 341);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(266, 346),
-(266, 343),
-(32, 351),
-(32, 360),
-(32, 353),
-(32, 355),
-(32, 358),
-(32, 354),
-(32, 352),
-(32, 356),
-(32, 357),
-(32, 359),
-(308, 364),
-(308, 365),
-(308, 367),
-(308, 362),
-(308, 370),
-(308, 368),
-(308, 369),
-(308, 361),
-(308, 366),
-(308, 363),
-(245, 371),
-(245, 379),
-(245, 372),
-(245, 373),
-(245, 374),
-(245, 375),
-(245, 377),
-(245, 376),
-(245, 380),
-(245, 378),
-(66, 381),
-(66, 385),
-(66, 382),
-(66, 388),
-(66, 384),
-(66, 386),
-(66, 383),
-(66, 387),
-(66, 389),
-(66, 390),
-(150, 395),
-(150, 398),
-(150, 399),
-(150, 400),
-(150, 397),
-(150, 393),
-(150, 392),
-(150, 394),
-(150, 391),
-(150, 396),
-(496, 401),
-(496, 409),
-(496, 403),
-(496, 404),
-(496, 402),
-(496, 405),
-(496, 406),
-(496, 407),
-(496, 408),
-(496, 410),
-(198, 420),
-(198, 411),
-(198, 414),
-(198, 416),
-(198, 418),
-(198, 413),
-(198, 415),
-(198, 412),
-(198, 417),
-(198, 419),
-(397, 426),
-(397, 422),
-(397, 427),
-(397, 424),
-(397, 425),
-(397, 423),
-(397, 430),
-(397, 429),
-(397, 428),
-(397, 421),
-(437, 431),
-(437, 437),
-(437, 438),
-(437, 432),
-(437, 434),
-(437, 440),
-(437, 435),
-(437, 439),
-(437, 433),
-(437, 436),
-(7, 442),
-(7, 447),
-(7, 449),
-(7, 444),
-(7, 441),
-(7, 445),
-(7, 448),
-(7, 450),
-(7, 443),
-(7, 446),
-(321, 456),
-(321, 452),
-(321, 455),
-(321, 458),
-(321, 453),
-(321, 460),
-(321, 457),
-(321, 459),
-(321, 454),
-(321, 451),
-(241, 470),
-(241, 463),
-(241, 462),
-(241, 467),
-(241, 468),
-(241, 466),
-(241, 461),
-(241, 469),
-(241, 464),
-(241, 465),
-(136, 474),
-(136, 473),
-(136, 477),
-(136, 475),
-(136, 471),
-(136, 476),
-(136, 478),
-(136, 472),
-(136, 479),
-(136, 480),
-(271, 481),
-(271, 485),
-(271, 486),
-(271, 483),
-(271, 482),
-(271, 490),
-(271, 488),
-(271, 489),
-(271, 484),
-(271, 487),
-(270, 493),
-(270, 497),
-(270, 499),
-(270, 498),
-(270, 496),
-(270, 500),
-(270, 495),
-(270, 494),
-(270, 492),
-(270, 491),
-(313, 507),
-(313, 510),
-(313, 505),
-(313, 508),
-(313, 502),
-(313, 509),
-(313, 503),
-(313, 504),
-(313, 506),
-(313, 501),
-(63, 511),
-(63, 518),
-(63, 515),
-(63, 520),
-(63, 512),
-(63, 516),
-(63, 513),
-(63, 519),
-(63, 517),
-(63, 514),
-(412, 521),
-(412, 522),
-(412, 528),
-(412, 527),
-(412, 523),
-(412, 525),
-(412, 530),
-(412, 524),
-(412, 526),
-(412, 529),
-(205, 539),
-(205, 540),
-(205, 537),
-(205, 532),
-(205, 531),
-(205, 533),
-(205, 535),
-(205, 538),
-(205, 536),
-(205, 534),
-(191, 542),
-(191, 541),
-(191, 545),
-(191, 543),
-(191, 547),
-(191, 548),
-(191, 544),
-(191, 546),
-(191, 549),
-(191, 550),
-(416, 559),
-(416, 558),
-(416, 553),
-(416, 557),
-(416, 555),
-(416, 556),
-(416, 552),
-(416, 560),
-(416, 551),
-(416, 554),
-(318, 567),
-(318, 561),
-(318, 565),
-(318, 566),
-(318, 562),
-(318, 568),
-(318, 563),
-(318, 570),
-(318, 564),
-(318, 569),
-(217, 571),
-(217, 577),
-(217, 575),
-(217, 574),
-(217, 572),
-(217, 579),
-(217, 573),
-(217, 576),
-(217, 578),
-(217, 580),
-(279, 590),
-(279, 582),
-(279, 586),
-(279, 585),
-(279, 584),
-(279, 588),
-(279, 581),
-(279, 583),
-(279, 587),
-(279, 589),
-(175, 591),
-(175, 596),
-(175, 592),
-(175, 593),
-(175, 594),
-(175, 598),
-(175, 595),
-(175, 599),
-(175, 600),
-(175, 597),
-(31, 603),
-(31, 606),
-(31, 602),
-(31, 607),
-(31, 604),
-(31, 609),
-(31, 601),
-(31, 605),
-(31, 608),
-(31, 610),
-(355, 615),
-(355, 611),
-(355, 612),
-(355, 613),
-(355, 620),
-(355, 614),
-(355, 617),
-(355, 616),
-(355, 618),
-(355, 619),
-(401, 628),
-(401, 629),
-(401, 621),
-(401, 626),
-(401, 623),
-(401, 625),
-(401, 630),
-(401, 622),
-(401, 624),
-(401, 627),
-(316, 634),
-(316, 637),
-(316, 639),
-(316, 631),
-(316, 640),
-(316, 638),
-(316, 632),
-(316, 635),
-(316, 633),
-(316, 636),
-(309, 647),
-(309, 643),
-(309, 646),
-(309, 649),
-(309, 641),
-(309, 650),
-(309, 648),
-(309, 644),
-(309, 645),
-(309, 642),
-(363, 657),
-(363, 652),
-(363, 653),
-(363, 659),
-(363, 651),
-(363, 658),
-(363, 660),
-(363, 655),
-(363, 656),
-(363, 654),
-(60, 664),
-(60, 666),
-(60, 665),
-(60, 662),
-(60, 663),
-(60, 669),
-(60, 667),
-(60, 661),
-(60, 668),
-(60, 670),
-(167, 672),
-(167, 673),
-(167, 677),
-(167, 671),
-(167, 674),
-(167, 675),
-(167, 676),
-(167, 679),
-(167, 680),
-(167, 678),
-(6, 684),
-(6, 687),
-(6, 685),
-(6, 689),
-(6, 682),
-(6, 690),
-(6, 681),
-(6, 686),
-(6, 688);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(6, 683),
-(47, 693),
-(47, 697),
-(47, 692),
-(47, 700),
-(47, 691),
-(47, 695),
-(47, 694),
-(47, 699),
-(47, 698),
-(47, 696),
-(472, 706),
-(472, 709),
-(472, 705),
-(472, 704),
-(472, 710),
-(472, 701),
-(472, 707),
-(472, 703),
-(472, 708),
-(472, 702),
-(181, 716),
-(181, 713),
-(181, 715),
-(181, 718),
-(181, 720),
-(181, 714),
-(181, 711),
-(181, 719),
-(181, 712),
-(181, 717),
-(173, 723),
-(173, 729),
-(173, 725),
-(173, 721),
-(173, 726),
-(173, 728),
-(173, 722),
-(173, 727),
-(173, 724),
-(173, 730),
-(218, 737),
-(218, 735),
-(218, 739),
-(218, 740),
-(218, 736),
-(218, 732),
-(218, 733),
-(218, 738),
-(218, 731),
-(218, 734),
-(280, 745),
-(280, 741),
-(280, 749),
-(280, 743),
-(280, 744),
-(280, 750),
-(280, 742),
-(280, 747),
-(280, 748),
-(280, 746),
-(414, 756),
-(414, 759),
-(414, 753),
-(414, 754),
-(414, 755),
-(414, 757),
-(414, 752),
-(414, 758),
-(414, 760),
-(414, 751),
-(77, 761),
-(77, 766),
-(77, 770),
-(77, 762),
-(77, 768),
-(77, 769),
-(77, 767),
-(77, 763),
-(77, 764),
-(77, 765),
-(421, 776),
-(421, 772),
-(421, 774),
-(421, 771),
-(421, 773),
-(421, 775),
-(421, 779),
-(421, 778),
-(421, 780),
-(421, 777),
-(263, 784),
-(263, 788),
-(263, 786),
-(263, 783),
-(263, 781),
-(263, 785),
-(263, 790),
-(263, 782),
-(263, 787),
-(263, 789),
-(499, 796),
-(499, 797),
-(499, 791),
-(499, 794),
-(499, 792),
-(499, 800),
-(499, 793),
-(499, 795),
-(499, 799),
-(499, 798),
-(456, 806),
-(456, 807),
-(456, 802),
-(456, 801),
-(456, 805),
-(456, 810),
-(456, 808),
-(456, 809),
-(456, 803),
-(456, 804),
-(111, 816),
-(111, 815),
-(111, 818),
-(111, 814),
-(111, 811),
-(111, 812),
-(111, 813),
-(111, 817),
-(111, 819),
-(111, 820),
-(407, 822),
-(407, 830),
-(407, 824),
-(407, 823),
-(407, 825),
-(407, 827),
-(407, 826),
-(407, 829),
-(407, 821),
-(407, 828),
-(170, 831),
-(170, 836),
-(170, 840),
-(170, 832),
-(170, 835),
-(170, 838),
-(170, 834),
-(170, 839),
-(170, 833),
-(170, 837),
-(359, 849),
-(359, 843),
-(359, 842),
-(359, 848),
-(359, 846),
-(359, 847),
-(359, 850),
-(359, 845),
-(359, 841),
-(359, 844),
-(460, 855),
-(460, 854),
-(460, 858),
-(460, 851),
-(460, 852),
-(460, 857),
-(460, 853),
-(460, 860),
-(460, 856),
-(460, 859),
-(221, 870),
-(221, 862),
-(221, 868),
-(221, 867),
-(221, 866),
-(221, 861),
-(221, 863),
-(221, 869),
-(221, 864),
-(221, 865),
-(285, 879),
-(285, 872),
-(285, 880),
-(285, 877),
-(285, 878),
-(285, 873),
-(285, 875),
-(285, 871),
-(285, 874),
-(285, 876),
-(91, 889),
-(91, 888),
-(91, 881),
-(91, 885),
-(91, 890),
-(91, 883),
-(91, 886),
-(91, 884),
-(91, 882),
-(91, 887),
-(348, 897),
-(348, 895),
-(348, 894),
-(348, 898),
-(348, 900),
-(348, 892),
-(348, 891),
-(348, 893),
-(348, 899),
-(348, 896),
-(212, 906),
-(212, 908),
-(212, 907),
-(212, 909),
-(212, 904),
-(212, 905),
-(212, 902),
-(212, 901),
-(212, 903),
-(212, 910),
-(37, 914),
-(37, 915),
-(37, 911),
-(37, 920),
-(37, 916),
-(37, 913),
-(37, 918),
-(37, 919),
-(37, 917),
-(37, 912),
-(194, 922),
-(194, 921),
-(194, 923),
-(194, 926),
-(194, 924),
-(194, 928),
-(194, 930),
-(194, 927),
-(194, 929),
-(194, 925),
-(13, 938),
-(13, 934),
-(13, 933),
-(13, 931),
-(13, 935),
-(13, 937),
-(13, 939),
-(13, 936),
-(13, 940),
-(13, 932),
-(145, 948),
-(145, 947),
-(145, 942),
-(145, 946),
-(145, 944),
-(145, 949),
-(145, 945),
-(145, 941),
-(145, 950),
-(145, 943),
-(337, 954),
-(337, 952),
-(337, 955),
-(337, 956),
-(337, 960),
-(337, 958),
-(337, 951),
-(337, 957),
-(337, 959),
-(337, 953),
-(489, 970),
-(489, 962),
-(489, 969),
-(489, 964),
-(489, 963),
-(489, 968),
-(489, 965),
-(489, 966),
-(489, 967),
-(489, 961),
-(471, 971),
-(471, 980),
-(471, 973),
-(471, 976),
-(471, 978),
-(471, 979),
-(471, 977),
-(471, 974),
-(471, 972),
-(471, 975),
-(445, 981),
-(445, 984),
-(445, 982),
-(445, 985),
-(445, 988),
-(445, 987),
-(445, 989),
-(445, 990),
-(445, 983),
-(445, 986),
-(383, 997),
-(383, 992),
-(383, 1000),
-(383, 996),
-(383, 999),
-(383, 993),
-(383, 995),
-(383, 994),
-(383, 991),
-(383, 998),
-(395, 1003),
-(395, 1001),
-(395, 1009),
-(395, 1002),
-(395, 1010),
-(395, 1007),
-(395, 1004),
-(395, 1008),
-(395, 1005),
-(395, 1006),
-(107, 1012),
-(107, 1011),
-(107, 1014),
-(107, 1018),
-(107, 1016),
-(107, 1017),
-(107, 1015),
-(107, 1013),
-(107, 1019),
-(107, 1020),
-(79, 1021),
-(79, 1022),
-(79, 1030),
-(79, 1026),
-(79, 1023);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(79, 1025),
-(79, 1028),
-(79, 1027),
-(79, 1029),
-(79, 1024),
-(70, 1031),
-(70, 1036),
-(70, 1033),
-(70, 1040),
-(70, 1035),
-(70, 1034),
-(70, 1032),
-(70, 1037),
-(70, 1038),
-(70, 1039),
-(53, 1049),
-(53, 1042),
-(53, 1043),
-(53, 1046),
-(53, 1045),
-(53, 1048),
-(53, 1050),
-(53, 1041),
-(53, 1044),
-(53, 1047),
-(302, 1059),
-(302, 1053),
-(302, 1055),
-(302, 1058),
-(302, 1060),
-(302, 1052),
-(302, 1051),
-(302, 1056),
-(302, 1057),
-(302, 1054),
-(25, 1061),
-(25, 1070),
-(25, 1067),
-(25, 1064),
-(25, 1068),
-(25, 1063),
-(25, 1066),
-(25, 1062),
-(25, 1065),
-(25, 1069),
-(121, 1075),
-(121, 1072),
-(121, 1080),
-(121, 1071),
-(121, 1078),
-(121, 1077),
-(121, 1079),
-(121, 1073),
-(121, 1076),
-(121, 1074),
-(319, 1086),
-(319, 1088),
-(319, 1087),
-(319, 1089),
-(319, 1082),
-(319, 1085),
-(319, 1084),
-(319, 1081),
-(319, 1090),
-(319, 1083),
-(450, 1100),
-(450, 1091),
-(450, 1098),
-(450, 1093),
-(450, 1096),
-(450, 1097),
-(450, 1092),
-(450, 1095),
-(450, 1094),
-(450, 1099),
-(424, 1108),
-(424, 1104),
-(424, 1106),
-(424, 1107),
-(424, 1105),
-(424, 1109),
-(424, 1101),
-(424, 1103),
-(424, 1102),
-(424, 1110),
-(165, 1118),
-(165, 1111),
-(165, 1113),
-(165, 1115),
-(165, 1120),
-(165, 1114),
-(165, 1119),
-(165, 1112),
-(165, 1116),
-(165, 1117),
-(476, 1125),
-(476, 1123),
-(476, 1129),
-(476, 1128),
-(476, 1124),
-(476, 1126),
-(476, 1121),
-(476, 1127),
-(476, 1122),
-(476, 1130),
-(346, 1133),
-(346, 1138),
-(346, 1139),
-(346, 1137),
-(346, 1134),
-(346, 1135),
-(346, 1136),
-(346, 1132),
-(346, 1131),
-(346, 1140),
-(473, 1141),
-(473, 1149),
-(473, 1150),
-(473, 1146),
-(473, 1147),
-(473, 1145),
-(473, 1142),
-(473, 1144),
-(473, 1148),
-(473, 1143),
-(105, 1156),
-(105, 1157),
-(105, 1151),
-(105, 1154),
-(105, 1155),
-(105, 1159),
-(105, 1153),
-(105, 1158),
-(105, 1152),
-(105, 1160),
-(52, 1167),
-(52, 1164),
-(52, 1165),
-(52, 1169),
-(52, 1170),
-(52, 1163),
-(52, 1162),
-(52, 1166),
-(52, 1161),
-(52, 1168),
-(74, 1175),
-(74, 1171),
-(74, 1178),
-(74, 1180),
-(74, 1173),
-(74, 1174),
-(74, 1177),
-(74, 1176),
-(74, 1172),
-(74, 1179),
-(125, 1182),
-(125, 1186),
-(125, 1181),
-(125, 1187),
-(125, 1184),
-(125, 1183),
-(125, 1188),
-(125, 1189),
-(125, 1190),
-(125, 1185),
-(452, 1198),
-(452, 1192),
-(452, 1193),
-(452, 1196),
-(452, 1191),
-(452, 1195),
-(452, 1194),
-(452, 1197),
-(452, 1200),
-(452, 1199),
-(260, 1208),
-(260, 1206),
-(260, 1202),
-(260, 1205),
-(260, 1209),
-(260, 1207),
-(260, 1204),
-(260, 1201),
-(260, 1203),
-(260, 1210),
-(490, 1216),
-(490, 1219),
-(490, 1211),
-(490, 1214),
-(490, 1218),
-(490, 1215),
-(490, 1220),
-(490, 1212),
-(490, 1213),
-(490, 1217),
-(154, 1221),
-(154, 1224),
-(154, 1230),
-(154, 1222),
-(154, 1228),
-(154, 1229),
-(154, 1223),
-(154, 1226),
-(154, 1225),
-(154, 1227),
-(195, 1236),
-(195, 1237),
-(195, 1240),
-(195, 1239),
-(195, 1232),
-(195, 1231),
-(195, 1233),
-(195, 1238),
-(195, 1234),
-(195, 1235),
-(206, 1242),
-(206, 1250),
-(206, 1245),
-(206, 1243),
-(206, 1241),
-(206, 1246),
-(206, 1247),
-(206, 1244),
-(206, 1248),
-(206, 1249),
-(307, 1255),
-(307, 1259),
-(307, 1260),
-(307, 1256),
-(307, 1251),
-(307, 1253),
-(307, 1254),
-(307, 1258),
-(307, 1257),
-(307, 1252),
-(413, 1263),
-(413, 1270),
-(413, 1262),
-(413, 1266),
-(413, 1269),
-(413, 1264),
-(413, 1267),
-(413, 1261),
-(413, 1268),
-(413, 1265),
-(261, 1277),
-(261, 1274),
-(261, 1276),
-(261, 1272),
-(261, 1271),
-(261, 1275),
-(261, 1280),
-(261, 1273),
-(261, 1279),
-(261, 1278),
-(88, 1288),
-(88, 1287),
-(88, 1286),
-(88, 1285),
-(88, 1284),
-(88, 1281),
-(88, 1282),
-(88, 1289),
-(88, 1290),
-(88, 1283),
-(196, 1294),
-(196, 1295),
-(196, 1291),
-(196, 1292),
-(196, 1300),
-(196, 1293),
-(196, 1297),
-(196, 1298),
-(196, 1299),
-(196, 1296),
-(76, 1306),
-(76, 1303),
-(76, 1305),
-(76, 1302),
-(76, 1304),
-(76, 1308),
-(76, 1310),
-(76, 1309),
-(76, 1301),
-(76, 1307),
-(92, 1313),
-(92, 1315),
-(92, 1316),
-(92, 1318),
-(92, 1320),
-(92, 1312),
-(92, 1319),
-(92, 1311),
-(92, 1314),
-(92, 1317),
-(392, 1323),
-(392, 1322),
-(392, 1326),
-(392, 1327),
-(392, 1321),
-(392, 1324),
-(392, 1325),
-(392, 1328),
-(392, 1329),
-(392, 1330),
-(187, 1337),
-(187, 1334),
-(187, 1339),
-(187, 1331),
-(187, 1332),
-(187, 1333),
-(187, 1335),
-(187, 1336),
-(187, 1340);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(187, 1338),
-(202, 1343),
-(202, 1348),
-(202, 1345),
-(202, 1342),
-(202, 1347),
-(202, 1341),
-(202, 1349),
-(202, 1344),
-(202, 1350),
-(202, 1346),
-(93, 1357),
-(93, 1351),
-(93, 1359),
-(93, 1353),
-(93, 1358),
-(93, 1360),
-(93, 1352),
-(93, 1354),
-(93, 1356),
-(93, 1355),
-(426, 1361),
-(426, 1363),
-(426, 1366),
-(426, 1365),
-(426, 1364),
-(426, 1368),
-(426, 1369),
-(426, 1362),
-(426, 1367),
-(426, 1370),
-(481, 1373),
-(481, 1374),
-(481, 1375),
-(481, 1372),
-(481, 1380),
-(481, 1377),
-(481, 1378),
-(481, 1379),
-(481, 1376),
-(481, 1371),
-(422, 1381),
-(422, 1384),
-(422, 1389),
-(422, 1388),
-(422, 1382),
-(422, 1387),
-(422, 1390),
-(422, 1386),
-(422, 1383),
-(422, 1385),
-(428, 1395),
-(428, 1399),
-(428, 1391),
-(428, 1396),
-(428, 1400),
-(428, 1398),
-(428, 1392),
-(428, 1397),
-(428, 1393),
-(428, 1394),
-(464, 1406),
-(464, 1410),
-(464, 1404),
-(464, 1402),
-(464, 1407),
-(464, 1408),
-(464, 1405),
-(464, 1403),
-(464, 1409),
-(464, 1401),
-(417, 1414),
-(417, 1417),
-(417, 1413),
-(417, 1420),
-(417, 1416),
-(417, 1418),
-(417, 1419),
-(417, 1415),
-(417, 1411),
-(417, 1412),
-(10, 1426),
-(10, 1427),
-(10, 1429),
-(10, 1423),
-(10, 1424),
-(10, 1421),
-(10, 1425),
-(10, 1422),
-(10, 1430),
-(10, 1428),
-(259, 1432),
-(259, 1440),
-(259, 1435),
-(259, 1433),
-(259, 1431),
-(259, 1436),
-(259, 1434),
-(259, 1439),
-(259, 1437),
-(259, 1438),
-(298, 1443),
-(298, 1441),
-(298, 1446),
-(298, 1449),
-(298, 1442),
-(298, 1447),
-(298, 1445),
-(298, 1448),
-(298, 1450),
-(298, 1444),
-(82, 1452),
-(82, 1454),
-(82, 1456),
-(82, 1459),
-(82, 1451),
-(82, 1458),
-(82, 1453),
-(82, 1455),
-(82, 1457),
-(82, 1460),
-(252, 1465),
-(252, 1467),
-(252, 1470),
-(252, 1466),
-(252, 1469),
-(252, 1464),
-(252, 1462),
-(252, 1463),
-(252, 1461),
-(252, 1468),
-(54, 1475),
-(54, 1476),
-(54, 1473),
-(54, 1472),
-(54, 1474),
-(54, 1471),
-(54, 1479),
-(54, 1480),
-(54, 1477),
-(54, 1478),
-(86, 1490),
-(86, 1486),
-(86, 1482),
-(86, 1481),
-(86, 1485),
-(86, 1483),
-(86, 1489),
-(86, 1484),
-(86, 1487),
-(86, 1488),
-(449, 1497),
-(449, 1493),
-(449, 1498),
-(449, 1491),
-(449, 1494),
-(449, 1496),
-(449, 1500),
-(449, 1492),
-(449, 1495),
-(449, 1499),
-(485, 1503),
-(485, 1507),
-(485, 1509),
-(485, 1510),
-(485, 1508),
-(485, 1502),
-(485, 1501),
-(485, 1505),
-(485, 1506),
-(485, 1504),
-(276, 1514),
-(276, 1520),
-(276, 1512),
-(276, 1519),
-(276, 1516),
-(276, 1513),
-(276, 1518),
-(276, 1511),
-(276, 1515),
-(276, 1517),
-(233, 1526),
-(233, 1525),
-(233, 1522),
-(233, 1521),
-(233, 1528),
-(233, 1527),
-(233, 1530),
-(233, 1524),
-(233, 1523),
-(233, 1529),
-(438, 1538),
-(438, 1539),
-(438, 1540),
-(438, 1534),
-(438, 1537),
-(438, 1533),
-(438, 1531),
-(438, 1536),
-(438, 1535),
-(438, 1532),
-(486, 1541),
-(486, 1547),
-(486, 1544),
-(486, 1546),
-(486, 1542),
-(486, 1550),
-(486, 1543),
-(486, 1548),
-(486, 1549),
-(486, 1545),
-(110, 1558),
-(110, 1555),
-(110, 1559),
-(110, 1560),
-(110, 1556),
-(110, 1557),
-(110, 1552),
-(110, 1553),
-(110, 1551),
-(110, 1554),
-(431, 1567),
-(431, 1562),
-(431, 1564),
-(431, 1563),
-(431, 1568),
-(431, 1569),
-(431, 1570),
-(431, 1565),
-(431, 1561),
-(431, 1566),
-(448, 1580),
-(448, 1577),
-(448, 1579),
-(448, 1574),
-(448, 1571),
-(448, 1578),
-(448, 1576),
-(448, 1572),
-(448, 1573),
-(448, 1575),
-(391, 1590),
-(391, 1582),
-(391, 1583),
-(391, 1584),
-(391, 1586),
-(391, 1589),
-(391, 1585),
-(391, 1587),
-(391, 1581),
-(391, 1588),
-(466, 1594),
-(466, 1591),
-(466, 1596),
-(466, 1597),
-(466, 1599),
-(466, 1592),
-(466, 1598),
-(466, 1593),
-(466, 1595),
-(466, 1600),
-(462, 1609),
-(462, 1610),
-(462, 1601),
-(462, 1606),
-(462, 1608),
-(462, 1603),
-(462, 1605),
-(462, 1604),
-(462, 1607),
-(462, 1602),
-(378, 1616),
-(378, 1615),
-(378, 1618),
-(378, 1614),
-(378, 1620),
-(378, 1617),
-(378, 1613),
-(378, 1611),
-(378, 1619),
-(378, 1612),
-(386, 1625),
-(386, 1627),
-(386, 1628),
-(386, 1626),
-(386, 1622),
-(386, 1621),
-(386, 1630),
-(386, 1623),
-(386, 1624),
-(386, 1629),
-(411, 1636),
-(411, 1634),
-(411, 1639),
-(411, 1631),
-(411, 1637),
-(411, 1638),
-(411, 1635),
-(411, 1640),
-(411, 1632),
-(411, 1633),
-(49, 1644),
-(49, 1650),
-(49, 1643),
-(49, 1641),
-(49, 1647),
-(49, 1648),
-(49, 1649),
-(49, 1645),
-(49, 1646),
-(49, 1642),
-(231, 1652),
-(231, 1657);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(231, 1659),
-(231, 1653),
-(231, 1654),
-(231, 1651),
-(231, 1655),
-(231, 1660),
-(231, 1656),
-(231, 1658),
-(257, 1664),
-(257, 1667),
-(257, 1663),
-(257, 1669),
-(257, 1666),
-(257, 1668),
-(257, 1665),
-(257, 1670),
-(257, 1662),
-(257, 1661),
-(362, 1671),
-(362, 1672),
-(362, 1674),
-(362, 1673),
-(362, 1676),
-(362, 1675),
-(362, 1678),
-(362, 1679),
-(362, 1677),
-(362, 1680),
-(461, 1682),
-(461, 1689),
-(461, 1684),
-(461, 1686),
-(461, 1688),
-(461, 1685),
-(461, 1690),
-(461, 1681),
-(461, 1683),
-(461, 1687),
-(344, 1691),
-(344, 1692),
-(344, 1694),
-(344, 1700),
-(344, 1696),
-(344, 1693),
-(344, 1697),
-(344, 1699),
-(344, 1698),
-(344, 1695),
-(457, 1705),
-(457, 1709),
-(457, 1708),
-(457, 1706),
-(457, 1703),
-(457, 1704),
-(457, 1701),
-(457, 1707),
-(457, 1710),
-(457, 1702),
-(128, 1712),
-(128, 1715),
-(128, 1716),
-(128, 1719),
-(128, 1718),
-(128, 1720),
-(128, 1711),
-(128, 1714),
-(128, 1717),
-(128, 1713),
-(385, 1727),
-(385, 1721),
-(385, 1728),
-(385, 1723),
-(385, 1729),
-(385, 1725),
-(385, 1724),
-(385, 1730),
-(385, 1722),
-(385, 1726),
-(418, 1733),
-(418, 1739),
-(418, 1736),
-(418, 1731),
-(418, 1737),
-(418, 1732),
-(418, 1740),
-(418, 1738),
-(418, 1735),
-(418, 1734),
-(137, 1750),
-(137, 1745),
-(137, 1741),
-(137, 1743),
-(137, 1746),
-(137, 1749),
-(137, 1748),
-(137, 1742),
-(137, 1744),
-(137, 1747),
-(317, 1758),
-(317, 1760),
-(317, 1755),
-(317, 1754),
-(317, 1753),
-(317, 1757),
-(317, 1759),
-(317, 1756),
-(317, 1752),
-(317, 1751),
-(9, 1761),
-(9, 1763),
-(9, 1762),
-(9, 1764),
-(9, 1769),
-(9, 1765),
-(9, 1768),
-(9, 1767),
-(9, 1766),
-(9, 1770),
-(30, 1773),
-(30, 1774),
-(30, 1779),
-(30, 1777),
-(30, 1776),
-(30, 1771),
-(30, 1780),
-(30, 1778),
-(30, 1775),
-(30, 1772),
-(42, 1786),
-(42, 1787),
-(42, 1789),
-(42, 1783),
-(42, 1784),
-(42, 1788),
-(42, 1790),
-(42, 1781),
-(42, 1782),
-(42, 1785),
-(410, 1799),
-(410, 1791),
-(410, 1795),
-(410, 1796),
-(410, 1797),
-(410, 1800),
-(410, 1792),
-(410, 1793),
-(410, 1794),
-(410, 1798),
-(80, 1806),
-(80, 1801),
-(80, 1804),
-(80, 1805),
-(80, 1808),
-(80, 1810),
-(80, 1803),
-(80, 1807),
-(80, 1802),
-(80, 1809),
-(139, 1812),
-(139, 1818),
-(139, 1819),
-(139, 1811),
-(139, 1817),
-(139, 1815),
-(139, 1813),
-(139, 1814),
-(139, 1816),
-(139, 1820),
-(334, 1821),
-(334, 1829),
-(334, 1822),
-(334, 1830),
-(334, 1828),
-(334, 1824),
-(334, 1827),
-(334, 1825),
-(334, 1823),
-(334, 1826),
-(446, 1835),
-(446, 1837),
-(446, 1833),
-(446, 1840),
-(446, 1832),
-(446, 1838),
-(446, 1831),
-(446, 1834),
-(446, 1836),
-(446, 1839),
-(163, 1843),
-(163, 1842),
-(163, 1850),
-(163, 1849),
-(163, 1846),
-(163, 1848),
-(163, 1845),
-(163, 1844),
-(163, 1847),
-(163, 1841),
-(342, 1856),
-(342, 1851),
-(342, 1855),
-(342, 1860),
-(342, 1858),
-(342, 1852),
-(342, 1853),
-(342, 1857),
-(342, 1859),
-(342, 1854),
-(369, 1866),
-(369, 1867),
-(369, 1870),
-(369, 1869),
-(369, 1861),
-(369, 1863),
-(369, 1864),
-(369, 1862),
-(369, 1865),
-(369, 1868),
-(371, 1878),
-(371, 1871),
-(371, 1872),
-(371, 1876),
-(371, 1873),
-(371, 1875),
-(371, 1880),
-(371, 1877),
-(371, 1874),
-(371, 1879),
-(294, 1885),
-(294, 1881),
-(294, 1886),
-(294, 1884),
-(294, 1882),
-(294, 1887),
-(294, 1883),
-(294, 1888),
-(294, 1889),
-(294, 1890),
-(430, 1894),
-(430, 1899),
-(430, 1898),
-(430, 1893),
-(430, 1895),
-(430, 1891),
-(430, 1896),
-(430, 1892),
-(430, 1897),
-(430, 1900),
-(273, 1905),
-(273, 1904),
-(273, 1906),
-(273, 1902),
-(273, 1907),
-(273, 1910),
-(273, 1909),
-(273, 1903),
-(273, 1908),
-(273, 1901),
-(119, 1915),
-(119, 1913),
-(119, 1917),
-(119, 1920),
-(119, 1911),
-(119, 1916),
-(119, 1912),
-(119, 1914),
-(119, 1918),
-(119, 1919),
-(127, 1921),
-(127, 1930),
-(127, 1922),
-(127, 1923),
-(127, 1926),
-(127, 1925),
-(127, 1924),
-(127, 1929),
-(127, 1927),
-(127, 1928),
-(122, 1940),
-(122, 1938),
-(122, 1933),
-(122, 1937),
-(122, 1931),
-(122, 1935),
-(122, 1932),
-(122, 1936),
-(122, 1939),
-(122, 1934),
-(28, 1942),
-(28, 1944),
-(28, 1949),
-(28, 1947),
-(28, 1941),
-(28, 1945),
-(28, 1950),
-(28, 1948),
-(28, 1946),
-(28, 1943),
-(442, 1958),
-(442, 1952),
-(442, 1956),
-(442, 1957),
-(442, 1951),
-(442, 1959),
-(442, 1960),
-(442, 1953),
-(442, 1955),
-(442, 1954),
-(171, 1963),
-(171, 1965),
-(171, 1964),
-(171, 1967),
-(171, 1968);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(171, 1969),
-(171, 1970),
-(171, 1962),
-(171, 1966),
-(171, 1961),
-(34, 1974),
-(34, 1972),
-(34, 1971),
-(34, 1978),
-(34, 1976),
-(34, 1980),
-(34, 1979),
-(34, 1973),
-(34, 1975),
-(34, 1977),
-(353, 1983),
-(353, 1984),
-(353, 1986),
-(353, 1990),
-(353, 1981),
-(353, 1985),
-(353, 1988),
-(353, 1987),
-(353, 1989),
-(353, 1982),
-(408, 1996),
-(408, 1998),
-(408, 1993),
-(408, 1995),
-(408, 2000),
-(408, 1991),
-(408, 1992),
-(408, 1997),
-(408, 1999),
-(408, 1994),
-(292, 2005),
-(292, 2002),
-(292, 2010),
-(292, 2001),
-(292, 2008),
-(292, 2009),
-(292, 2003),
-(292, 2006),
-(292, 2007),
-(292, 2004),
-(219, 2013),
-(219, 2018),
-(219, 2015),
-(219, 2016),
-(219, 2017),
-(219, 2020),
-(219, 2012),
-(219, 2011),
-(219, 2014),
-(219, 2019),
-(17, 2023),
-(17, 2028),
-(17, 2022),
-(17, 2024),
-(17, 2021),
-(17, 2027),
-(17, 2025),
-(17, 2026),
-(17, 2029),
-(17, 2030),
-(240, 2037),
-(240, 2038),
-(240, 2040),
-(240, 2039),
-(240, 2033),
-(240, 2035),
-(240, 2032),
-(240, 2034),
-(240, 2031),
-(240, 2036),
-(493, 2045),
-(493, 2047),
-(493, 2044),
-(493, 2048),
-(493, 2049),
-(493, 2043),
-(493, 2042),
-(493, 2046),
-(493, 2041),
-(493, 2050),
-(1, 2059),
-(1, 2051),
-(1, 2052),
-(1, 2056),
-(1, 2058),
-(1, 2057),
-(1, 2055),
-(1, 2060),
-(1, 2054),
-(1, 2053),
-(225, 2067),
-(225, 2066),
-(225, 2069),
-(225, 2061),
-(225, 2070),
-(225, 2062),
-(225, 2064),
-(225, 2065),
-(225, 2068),
-(225, 2063),
-(131, 2074),
-(131, 2072),
-(131, 2080),
-(131, 2076),
-(131, 2078),
-(131, 2073),
-(131, 2077),
-(131, 2075),
-(131, 2079),
-(131, 2071),
-(104, 2090),
-(104, 2081),
-(104, 2085),
-(104, 2089),
-(104, 2082),
-(104, 2083),
-(104, 2084),
-(104, 2086),
-(104, 2088),
-(104, 2087),
-(377, 2093),
-(377, 2099),
-(377, 2096),
-(377, 2094),
-(377, 2100),
-(377, 2092),
-(377, 2095),
-(377, 2097),
-(377, 2098),
-(377, 2091),
-(443, 2109),
-(443, 2104),
-(443, 2110),
-(443, 2103),
-(443, 2108),
-(443, 2101),
-(443, 2107),
-(443, 2105),
-(443, 2106),
-(443, 2102),
-(115, 2118),
-(115, 2114),
-(115, 2120),
-(115, 2113),
-(115, 2119),
-(115, 2111),
-(115, 2112),
-(115, 2117),
-(115, 2115),
-(115, 2116),
-(168, 2127),
-(168, 2122),
-(168, 2129),
-(168, 2125),
-(168, 2121),
-(168, 2123),
-(168, 2128),
-(168, 2126),
-(168, 2124),
-(168, 2130),
-(478, 2137),
-(478, 2135),
-(478, 2131),
-(478, 2139),
-(478, 2136),
-(478, 2140),
-(478, 2132),
-(478, 2138),
-(478, 2134),
-(478, 2133),
-(338, 2150),
-(338, 2145),
-(338, 2141),
-(338, 2149),
-(338, 2144),
-(338, 2143),
-(338, 2147),
-(338, 2148),
-(338, 2142),
-(338, 2146),
-(366, 2152),
-(366, 2153),
-(366, 2154),
-(366, 2156),
-(366, 2158),
-(366, 2159),
-(366, 2157),
-(366, 2151),
-(366, 2155),
-(366, 2160),
-(332, 2166),
-(332, 2169),
-(332, 2164),
-(332, 2161),
-(332, 2168),
-(332, 2165),
-(332, 2167),
-(332, 2162),
-(332, 2170),
-(332, 2163),
-(488, 2171),
-(488, 2173),
-(488, 2179),
-(488, 2177),
-(488, 2172),
-(488, 2176),
-(488, 2174),
-(488, 2178),
-(488, 2175),
-(488, 2180),
-(182, 2189),
-(182, 2185),
-(182, 2186),
-(182, 2183),
-(182, 2188),
-(182, 2187),
-(182, 2182),
-(182, 2190),
-(182, 2181),
-(182, 2184),
-(249, 2198),
-(249, 2197),
-(249, 2193),
-(249, 2196),
-(249, 2192),
-(249, 2200),
-(249, 2194),
-(249, 2191),
-(249, 2195),
-(249, 2199),
-(141, 2202),
-(141, 2201),
-(141, 2209),
-(141, 2203),
-(141, 2210),
-(141, 2205),
-(141, 2208),
-(141, 2207),
-(141, 2204),
-(141, 2206),
-(382, 2219),
-(382, 2211),
-(382, 2218),
-(382, 2215),
-(382, 2220),
-(382, 2212),
-(382, 2214),
-(382, 2213),
-(382, 2217),
-(382, 2216),
-(458, 2226),
-(458, 2221),
-(458, 2222),
-(458, 2229),
-(458, 2225),
-(458, 2230),
-(458, 2227),
-(458, 2223),
-(458, 2228),
-(458, 2224),
-(178, 2235),
-(178, 2234),
-(178, 2237),
-(178, 2231),
-(178, 2240),
-(178, 2232),
-(178, 2236),
-(178, 2238),
-(178, 2233),
-(178, 2239),
-(291, 2248),
-(291, 2245),
-(291, 2246),
-(291, 2247),
-(291, 2241),
-(291, 2243),
-(291, 2250),
-(291, 2249),
-(291, 2242),
-(291, 2244),
-(283, 2253),
-(283, 2257),
-(283, 2252),
-(283, 2260),
-(283, 2254),
-(283, 2259),
-(283, 2255),
-(283, 2258),
-(283, 2256),
-(283, 2251),
-(465, 2269),
-(465, 2263),
-(465, 2266),
-(465, 2268),
-(465, 2264),
-(465, 2262),
-(465, 2261),
-(465, 2267),
-(465, 2270),
-(465, 2265),
-(138, 2273),
-(138, 2279),
-(138, 2271),
-(138, 2272),
-(138, 2280),
-(138, 2274);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(138, 2276),
-(138, 2277),
-(138, 2278),
-(138, 2275),
-(123, 2281),
-(123, 2289),
-(123, 2288),
-(123, 2282),
-(123, 2286),
-(123, 2287),
-(123, 2285),
-(123, 2290),
-(123, 2283),
-(123, 2284),
-(18, 2300),
-(18, 2296),
-(18, 2292),
-(18, 2298),
-(18, 2293),
-(18, 2297),
-(18, 2294),
-(18, 2295),
-(18, 2291),
-(18, 2299),
-(306, 2306),
-(306, 2307),
-(306, 2308),
-(306, 2303),
-(306, 2304),
-(306, 2309),
-(306, 2302),
-(306, 2310),
-(306, 2301),
-(306, 2305),
-(38, 2314),
-(38, 2317),
-(38, 2312),
-(38, 2313),
-(38, 2316),
-(38, 2318),
-(38, 2319),
-(38, 2320),
-(38, 2311),
-(38, 2315),
-(479, 2323),
-(479, 2329),
-(479, 2321),
-(479, 2324),
-(479, 2322),
-(479, 2327),
-(479, 2328),
-(479, 2325),
-(479, 2330),
-(479, 2326),
-(183, 2332),
-(183, 2334),
-(183, 2335),
-(183, 2331),
-(183, 2333),
-(183, 2336),
-(183, 2340),
-(183, 2338),
-(183, 2339),
-(183, 2337),
-(197, 2348),
-(197, 2346),
-(197, 2349),
-(197, 2341),
-(197, 2342),
-(197, 2345),
-(197, 2350),
-(197, 2344),
-(197, 2347),
-(197, 2343),
-(24, 2356),
-(24, 2359),
-(24, 2354),
-(24, 2357),
-(24, 2355),
-(24, 2352),
-(24, 2351),
-(24, 2360),
-(24, 2353),
-(24, 2358),
-(447, 2368),
-(447, 2370),
-(447, 2363),
-(447, 2367),
-(447, 2366),
-(447, 2369),
-(447, 2365),
-(447, 2361),
-(447, 2362),
-(447, 2364),
-(114, 2374),
-(114, 2380),
-(114, 2375),
-(114, 2376),
-(114, 2377),
-(114, 2379),
-(114, 2378),
-(114, 2373),
-(114, 2371),
-(114, 2372),
-(329, 2381),
-(329, 2382),
-(329, 2386),
-(329, 2383),
-(329, 2385),
-(329, 2389),
-(329, 2387),
-(329, 2388),
-(329, 2384),
-(329, 2390),
-(157, 2394),
-(157, 2396),
-(157, 2395),
-(157, 2398),
-(157, 2399),
-(157, 2392),
-(157, 2400),
-(157, 2397),
-(157, 2391),
-(157, 2393),
-(415, 2405),
-(415, 2406),
-(415, 2404),
-(415, 2408),
-(415, 2401),
-(415, 2402),
-(415, 2409),
-(415, 2407),
-(415, 2410),
-(415, 2403),
-(253, 2413),
-(253, 2416),
-(253, 2419),
-(253, 2420),
-(253, 2414),
-(253, 2411),
-(253, 2412),
-(253, 2417),
-(253, 2418),
-(253, 2415),
-(116, 2422),
-(116, 2430),
-(116, 2428),
-(116, 2423),
-(116, 2425),
-(116, 2427),
-(116, 2426),
-(116, 2424),
-(116, 2429),
-(116, 2421),
-(109, 2432),
-(109, 2439),
-(109, 2436),
-(109, 2433),
-(109, 2437),
-(109, 2440),
-(109, 2431),
-(109, 2435),
-(109, 2434),
-(109, 2438),
-(349, 2443),
-(349, 2444),
-(349, 2448),
-(349, 2445),
-(349, 2446),
-(349, 2450),
-(349, 2449),
-(349, 2441),
-(349, 2447),
-(349, 2442),
-(73, 2451),
-(73, 2457),
-(73, 2458),
-(73, 2460),
-(73, 2455),
-(73, 2454),
-(73, 2456),
-(73, 2459),
-(73, 2453),
-(73, 2452),
-(207, 2470),
-(207, 2469),
-(207, 2465),
-(207, 2467),
-(207, 2462),
-(207, 2464),
-(207, 2463),
-(207, 2466),
-(207, 2468),
-(207, 2461),
-(301, 2474),
-(301, 2480),
-(301, 2473),
-(301, 2471),
-(301, 2475),
-(301, 2479),
-(301, 2476),
-(301, 2477),
-(301, 2478),
-(301, 2472),
-(435, 2482),
-(435, 2488),
-(435, 2483),
-(435, 2486),
-(435, 2490),
-(435, 2489),
-(435, 2481),
-(435, 2487),
-(435, 2484),
-(435, 2485),
-(339, 2493),
-(339, 2498),
-(339, 2500),
-(339, 2494),
-(339, 2496),
-(339, 2499),
-(339, 2491),
-(339, 2497),
-(339, 2492),
-(339, 2495),
-(453, 2509),
-(453, 2501),
-(453, 2503),
-(453, 2502),
-(453, 2510),
-(453, 2504),
-(453, 2506),
-(453, 2508),
-(453, 2505),
-(453, 2507),
-(4, 2516),
-(4, 2520),
-(4, 2518),
-(4, 2511),
-(4, 2512),
-(4, 2519),
-(4, 2515),
-(4, 2513),
-(4, 2517),
-(4, 2514),
-(216, 2524),
-(216, 2525),
-(216, 2527),
-(216, 2530),
-(216, 2522),
-(216, 2521),
-(216, 2528),
-(216, 2529),
-(216, 2523),
-(216, 2526),
-(340, 2534),
-(340, 2531),
-(340, 2533),
-(340, 2532),
-(340, 2540),
-(340, 2538),
-(340, 2536),
-(340, 2537),
-(340, 2535),
-(340, 2539),
-(469, 2544),
-(469, 2548),
-(469, 2545),
-(469, 2547),
-(469, 2550),
-(469, 2546),
-(469, 2541),
-(469, 2549),
-(469, 2542),
-(469, 2543),
-(133, 2556),
-(133, 2552),
-(133, 2558),
-(133, 2555),
-(133, 2553),
-(133, 2551),
-(133, 2559),
-(133, 2557),
-(133, 2560),
-(133, 2554),
-(327, 2569),
-(327, 2564),
-(327, 2561),
-(327, 2565),
-(327, 2570),
-(327, 2563),
-(327, 2566),
-(327, 2568),
-(327, 2562),
-(327, 2567),
-(248, 2579),
-(248, 2573),
-(248, 2572),
-(248, 2577),
-(248, 2571),
-(248, 2576),
-(248, 2578),
-(248, 2574),
-(248, 2580),
-(248, 2575),
-(347, 2587),
-(347, 2585),
-(347, 2583),
-(347, 2586),
-(347, 2588),
-(347, 2589),
-(347, 2582),
-(347, 2584),
-(347, 2581);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(347, 2590),
-(199, 2600),
-(199, 2593),
-(199, 2598),
-(199, 2599),
-(199, 2597),
-(199, 2592),
-(199, 2596),
-(199, 2595),
-(199, 2591),
-(199, 2594),
-(118, 2603),
-(118, 2607),
-(118, 2601),
-(118, 2605),
-(118, 2610),
-(118, 2602),
-(118, 2609),
-(118, 2606),
-(118, 2604),
-(118, 2608),
-(48, 2613),
-(48, 2616),
-(48, 2619),
-(48, 2614),
-(48, 2615),
-(48, 2620),
-(48, 2617),
-(48, 2611),
-(48, 2612),
-(48, 2618),
-(64, 2626),
-(64, 2621),
-(64, 2630),
-(64, 2622),
-(64, 2625),
-(64, 2624),
-(64, 2627),
-(64, 2623),
-(64, 2628),
-(64, 2629),
-(186, 2632),
-(186, 2637),
-(186, 2640),
-(186, 2639),
-(186, 2633),
-(186, 2635),
-(186, 2631),
-(186, 2638),
-(186, 2634),
-(186, 2636),
-(310, 2645),
-(310, 2648),
-(310, 2650),
-(310, 2644),
-(310, 2646),
-(310, 2642),
-(310, 2643),
-(310, 2641),
-(310, 2647),
-(310, 2649),
-(238, 2658),
-(238, 2659),
-(238, 2653),
-(238, 2651),
-(238, 2652),
-(238, 2660),
-(238, 2655),
-(238, 2654),
-(238, 2656),
-(238, 2657),
-(396, 2661),
-(396, 2665),
-(396, 2666),
-(396, 2664),
-(396, 2663),
-(396, 2668),
-(396, 2669),
-(396, 2667),
-(396, 2662),
-(396, 2670),
-(85, 2672),
-(85, 2675),
-(85, 2671),
-(85, 2674),
-(85, 2677),
-(85, 2673),
-(85, 2678),
-(85, 2679),
-(85, 2680),
-(85, 2676),
-(117, 2683),
-(117, 2684),
-(117, 2686),
-(117, 2690),
-(117, 2681),
-(117, 2682),
-(117, 2688),
-(117, 2689),
-(117, 2687),
-(117, 2685),
-(480, 2693),
-(480, 2698),
-(480, 2692),
-(480, 2696),
-(480, 2694),
-(480, 2700),
-(480, 2697),
-(480, 2691),
-(480, 2695),
-(480, 2699),
-(81, 2705),
-(81, 2703),
-(81, 2702),
-(81, 2707),
-(81, 2708),
-(81, 2701),
-(81, 2706),
-(81, 2709),
-(81, 2704),
-(81, 2710),
-(158, 2712),
-(158, 2718),
-(158, 2719),
-(158, 2715),
-(158, 2720),
-(158, 2714),
-(158, 2717),
-(158, 2711),
-(158, 2716),
-(158, 2713),
-(384, 2725),
-(384, 2728),
-(384, 2723),
-(384, 2730),
-(384, 2724),
-(384, 2721),
-(384, 2729),
-(384, 2726),
-(384, 2722),
-(384, 2727),
-(135, 2731),
-(135, 2737),
-(135, 2739),
-(135, 2738),
-(135, 2732),
-(135, 2736),
-(135, 2735),
-(135, 2733),
-(135, 2740),
-(135, 2734),
-(328, 2746),
-(328, 2747),
-(328, 2745),
-(328, 2748),
-(328, 2742),
-(328, 2741),
-(328, 2744),
-(328, 2749),
-(328, 2743),
-(328, 2750),
-(69, 2754),
-(69, 2758),
-(69, 2759),
-(69, 2755),
-(69, 2752),
-(69, 2756),
-(69, 2757),
-(69, 2751),
-(69, 2753),
-(69, 2760),
-(236, 2763),
-(236, 2769),
-(236, 2764),
-(236, 2767),
-(236, 2762),
-(236, 2761),
-(236, 2768),
-(236, 2766),
-(236, 2770),
-(236, 2765),
-(19, 2771),
-(19, 2778),
-(19, 2775),
-(19, 2772),
-(19, 2779),
-(19, 2780),
-(19, 2776),
-(19, 2774),
-(19, 2777),
-(19, 2773),
-(404, 2788),
-(404, 2790),
-(404, 2781),
-(404, 2784),
-(404, 2787),
-(404, 2785),
-(404, 2783),
-(404, 2786),
-(404, 2789),
-(404, 2782),
-(8, 2795),
-(8, 2797),
-(8, 2798),
-(8, 2794),
-(8, 2791),
-(8, 2793),
-(8, 2796),
-(8, 2792),
-(8, 2799),
-(8, 2800),
-(242, 2808),
-(242, 2805),
-(242, 2809),
-(242, 2803),
-(242, 2801),
-(242, 2802),
-(242, 2810),
-(242, 2807),
-(242, 2804),
-(242, 2806),
-(406, 2813),
-(406, 2812),
-(406, 2819),
-(406, 2816),
-(406, 2820),
-(406, 2811),
-(406, 2815),
-(406, 2817),
-(406, 2818),
-(406, 2814),
-(495, 2824),
-(495, 2823),
-(495, 2829),
-(495, 2826),
-(495, 2830),
-(495, 2822),
-(495, 2821),
-(495, 2827),
-(495, 2825),
-(495, 2828),
-(429, 2833),
-(429, 2836),
-(429, 2834),
-(429, 2839),
-(429, 2835),
-(429, 2837),
-(429, 2838),
-(429, 2831),
-(429, 2832),
-(429, 2840),
-(176, 2842),
-(176, 2845),
-(176, 2850),
-(176, 2846),
-(176, 2843),
-(176, 2844),
-(176, 2841),
-(176, 2849),
-(176, 2848),
-(176, 2847),
-(243, 2852),
-(243, 2858),
-(243, 2859),
-(243, 2856),
-(243, 2857),
-(243, 2855),
-(243, 2854),
-(243, 2851),
-(243, 2860),
-(243, 2853),
-(169, 2862),
-(169, 2861),
-(169, 2867),
-(169, 2870),
-(169, 2868),
-(169, 2863),
-(169, 2864),
-(169, 2865),
-(169, 2866),
-(169, 2869),
-(14, 2877),
-(14, 2878),
-(14, 2872),
-(14, 2880),
-(14, 2879),
-(14, 2871),
-(14, 2876),
-(14, 2873),
-(14, 2875),
-(14, 2874),
-(324, 2881),
-(324, 2890),
-(324, 2888),
-(324, 2882),
-(324, 2887),
-(324, 2886),
-(324, 2883),
-(324, 2884),
-(324, 2889),
-(324, 2885),
-(286, 2891),
-(286, 2898),
-(286, 2899),
-(286, 2900),
-(286, 2892),
-(286, 2896),
-(286, 2893),
-(286, 2894),
-(286, 2897),
-(286, 2895),
-(185, 2909),
-(185, 2902),
-(185, 2907),
-(185, 2906);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(185, 2905),
-(185, 2908),
-(185, 2903),
-(185, 2901),
-(185, 2904),
-(185, 2910),
-(144, 2915),
-(144, 2911),
-(144, 2916),
-(144, 2919),
-(144, 2914),
-(144, 2917),
-(144, 2918),
-(144, 2920),
-(144, 2913),
-(144, 2912),
-(226, 2928),
-(226, 2929),
-(226, 2923),
-(226, 2925),
-(226, 2930),
-(226, 2921),
-(226, 2926),
-(226, 2922),
-(226, 2927),
-(226, 2924),
-(146, 2937),
-(146, 2940),
-(146, 2935),
-(146, 2933),
-(146, 2931),
-(146, 2939),
-(146, 2932),
-(146, 2934),
-(146, 2938),
-(146, 2936),
-(156, 2945),
-(156, 2946),
-(156, 2942),
-(156, 2949),
-(156, 2950),
-(156, 2947),
-(156, 2941),
-(156, 2944),
-(156, 2943),
-(156, 2948),
-(277, 2951),
-(277, 2953),
-(277, 2957),
-(277, 2955),
-(277, 2958),
-(277, 2959),
-(277, 2960),
-(277, 2954),
-(277, 2952),
-(277, 2956),
-(312, 2968),
-(312, 2964),
-(312, 2965),
-(312, 2962),
-(312, 2961),
-(312, 2963),
-(312, 2966),
-(312, 2970),
-(312, 2967),
-(312, 2969),
-(323, 2973),
-(323, 2976),
-(323, 2977),
-(323, 2979),
-(323, 2980),
-(323, 2975),
-(323, 2974),
-(323, 2971),
-(323, 2972),
-(323, 2978),
-(354, 2987),
-(354, 2988),
-(354, 2981),
-(354, 2986),
-(354, 2983),
-(354, 2989),
-(354, 2982),
-(354, 2985),
-(354, 2984),
-(354, 2990),
-(335, 2998),
-(335, 2996),
-(335, 2995),
-(335, 3000),
-(335, 2991),
-(335, 2992),
-(335, 2997),
-(335, 2999),
-(335, 2993),
-(335, 2994),
-(365, 3004),
-(365, 3005),
-(365, 3002),
-(365, 3006),
-(365, 3001),
-(365, 3007),
-(365, 3009),
-(365, 3008),
-(365, 3010),
-(365, 3003),
-(419, 3016),
-(419, 3017),
-(419, 3018),
-(419, 3015),
-(419, 3019),
-(419, 3014),
-(419, 3020),
-(419, 3012),
-(419, 3013),
-(419, 3011),
-(425, 3025),
-(425, 3028),
-(425, 3022),
-(425, 3026),
-(425, 3027),
-(425, 3029),
-(425, 3030),
-(425, 3024),
-(425, 3021),
-(425, 3023),
-(57, 3040),
-(57, 3031),
-(57, 3033),
-(57, 3039),
-(57, 3036),
-(57, 3034),
-(57, 3035),
-(57, 3038),
-(57, 3037),
-(57, 3032),
-(179, 3041),
-(179, 3045),
-(179, 3042),
-(179, 3048),
-(179, 3043),
-(179, 3047),
-(179, 3049),
-(179, 3044),
-(179, 3046),
-(179, 3050),
-(375, 3060),
-(375, 3058),
-(375, 3057),
-(375, 3056),
-(375, 3054),
-(375, 3053),
-(375, 3051),
-(375, 3052),
-(375, 3055),
-(375, 3059),
-(22, 3069),
-(22, 3070),
-(22, 3067),
-(22, 3065),
-(22, 3066),
-(22, 3062),
-(22, 3061),
-(22, 3064),
-(22, 3068),
-(22, 3063),
-(463, 3078),
-(463, 3079),
-(463, 3080),
-(463, 3075),
-(463, 3073),
-(463, 3072),
-(463, 3074),
-(463, 3076),
-(463, 3077),
-(463, 3071),
-(367, 3087),
-(367, 3090),
-(367, 3081),
-(367, 3083),
-(367, 3089),
-(367, 3085),
-(367, 3084),
-(367, 3086),
-(367, 3088),
-(367, 3082),
-(21, 3094),
-(21, 3091),
-(21, 3096),
-(21, 3093),
-(21, 3100),
-(21, 3095),
-(21, 3092),
-(21, 3097),
-(21, 3098),
-(21, 3099),
-(434, 3101),
-(434, 3102),
-(434, 3109),
-(434, 3106),
-(434, 3105),
-(434, 3104),
-(434, 3108),
-(434, 3107),
-(434, 3103),
-(434, 3110),
-(360, 3112),
-(360, 3115),
-(360, 3113),
-(360, 3117),
-(360, 3119),
-(360, 3114),
-(360, 3116),
-(360, 3120),
-(360, 3111),
-(360, 3118),
-(356, 3122),
-(356, 3127),
-(356, 3124),
-(356, 3125),
-(356, 3128),
-(356, 3130),
-(356, 3123),
-(356, 3126),
-(356, 3121),
-(356, 3129),
-(229, 3132),
-(229, 3136),
-(229, 3133),
-(229, 3137),
-(229, 3139),
-(229, 3134),
-(229, 3138),
-(229, 3140),
-(229, 3131),
-(229, 3135),
-(234, 3143),
-(234, 3145),
-(234, 3150),
-(234, 3141),
-(234, 3147),
-(234, 3149),
-(234, 3144),
-(234, 3146),
-(234, 3142),
-(234, 3148),
-(102, 3156),
-(102, 3160),
-(102, 3153),
-(102, 3154),
-(102, 3158),
-(102, 3159),
-(102, 3151),
-(102, 3152),
-(102, 3155),
-(102, 3157),
-(269, 3162),
-(269, 3161),
-(269, 3170),
-(269, 3163),
-(269, 3167),
-(269, 3168),
-(269, 3169),
-(269, 3164),
-(269, 3166),
-(269, 3165),
-(474, 3180),
-(474, 3174),
-(474, 3178),
-(474, 3179),
-(474, 3172),
-(474, 3176),
-(474, 3171),
-(474, 3173),
-(474, 3177),
-(474, 3175),
-(26, 3183),
-(26, 3185),
-(26, 3186),
-(26, 3181),
-(26, 3189),
-(26, 3182),
-(26, 3184),
-(26, 3188),
-(26, 3190),
-(26, 3187),
-(210, 3192),
-(210, 3195),
-(210, 3191),
-(210, 3197),
-(210, 3199),
-(210, 3194),
-(210, 3196),
-(210, 3200),
-(210, 3193),
-(210, 3198),
-(224, 3208),
-(224, 3210),
-(224, 3204),
-(224, 3201),
-(224, 3203),
-(224, 3202),
-(224, 3205),
-(224, 3209),
-(224, 3206),
-(224, 3207),
-(172, 3212),
-(172, 3216),
-(172, 3214),
-(172, 3220),
-(172, 3218);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(172, 3211),
-(172, 3213),
-(172, 3219),
-(172, 3215),
-(172, 3217),
-(376, 3228),
-(376, 3224),
-(376, 3230),
-(376, 3222),
-(376, 3229),
-(376, 3223),
-(376, 3226),
-(376, 3227),
-(376, 3221),
-(376, 3225),
-(409, 3233),
-(409, 3235),
-(409, 3239),
-(409, 3237),
-(409, 3240),
-(409, 3238),
-(409, 3232),
-(409, 3236),
-(409, 3231),
-(409, 3234),
-(41, 3247),
-(41, 3248),
-(41, 3242),
-(41, 3244),
-(41, 3245),
-(41, 3246),
-(41, 3241),
-(41, 3250),
-(41, 3249),
-(41, 3243),
-(237, 3255),
-(237, 3253),
-(237, 3254),
-(237, 3252),
-(237, 3256),
-(237, 3258),
-(237, 3257),
-(237, 3251),
-(237, 3259),
-(237, 3260),
-(98, 3261),
-(98, 3262),
-(98, 3266),
-(98, 3264),
-(98, 3269),
-(98, 3270),
-(98, 3267),
-(98, 3268),
-(98, 3265),
-(98, 3263),
-(352, 3272),
-(352, 3279),
-(352, 3274),
-(352, 3276),
-(352, 3275),
-(352, 3277),
-(352, 3278),
-(352, 3271),
-(352, 3280),
-(352, 3273),
-(423, 3282),
-(423, 3284),
-(423, 3287),
-(423, 3288),
-(423, 3290),
-(423, 3283),
-(423, 3285),
-(423, 3286),
-(423, 3289),
-(423, 3281),
-(258, 3292),
-(258, 3299),
-(258, 3297),
-(258, 3293),
-(258, 3300),
-(258, 3295),
-(258, 3291),
-(258, 3294),
-(258, 3298),
-(258, 3296),
-(164, 3308),
-(164, 3310),
-(164, 3306),
-(164, 3303),
-(164, 3301),
-(164, 3302),
-(164, 3307),
-(164, 3309),
-(164, 3305),
-(164, 3304),
-(62, 3312),
-(62, 3313),
-(62, 3320),
-(62, 3316),
-(62, 3318),
-(62, 3311),
-(62, 3315),
-(62, 3317),
-(62, 3319),
-(62, 3314),
-(75, 3328),
-(75, 3321),
-(75, 3324),
-(75, 3326),
-(75, 3330),
-(75, 3323),
-(75, 3327),
-(75, 3322),
-(75, 3325),
-(75, 3329),
-(174, 3338),
-(174, 3336),
-(174, 3337),
-(174, 3333),
-(174, 3340),
-(174, 3335),
-(174, 3339),
-(174, 3331),
-(174, 3332),
-(174, 3334),
-(40, 3345),
-(40, 3344),
-(40, 3347),
-(40, 3341),
-(40, 3342),
-(40, 3343),
-(40, 3349),
-(40, 3348),
-(40, 3350),
-(40, 3346),
-(201, 3360),
-(201, 3351),
-(201, 3352),
-(201, 3356),
-(201, 3354),
-(201, 3353),
-(201, 3359),
-(201, 3357),
-(201, 3355),
-(201, 3358),
-(149, 3362),
-(149, 3364),
-(149, 3363),
-(149, 3369),
-(149, 3365),
-(149, 3367),
-(149, 3366),
-(149, 3361),
-(149, 3368),
-(149, 3370),
-(381, 3374),
-(381, 3375),
-(381, 3378),
-(381, 3379),
-(381, 3372),
-(381, 3371),
-(381, 3376),
-(381, 3380),
-(381, 3373),
-(381, 3377),
-(16, 3382),
-(16, 3383),
-(16, 3384),
-(16, 3385),
-(16, 3389),
-(16, 3386),
-(16, 3381),
-(16, 3390),
-(16, 3387),
-(16, 3388),
-(326, 3392),
-(326, 3393),
-(326, 3391),
-(326, 3397),
-(326, 3394),
-(326, 3398),
-(326, 3400),
-(326, 3396),
-(326, 3399),
-(326, 3395),
-(204, 3404),
-(204, 3406),
-(204, 3409),
-(204, 3405),
-(204, 3410),
-(204, 3402),
-(204, 3407),
-(204, 3401),
-(204, 3403),
-(204, 3408),
-(12, 3413),
-(12, 3417),
-(12, 3418),
-(12, 3420),
-(12, 3415),
-(12, 3419),
-(12, 3412),
-(12, 3411),
-(12, 3414),
-(12, 3416),
-(97, 3426),
-(97, 3425),
-(97, 3422),
-(97, 3427),
-(97, 3423),
-(97, 3429),
-(97, 3421),
-(97, 3428),
-(97, 3430),
-(97, 3424),
-(320, 3434),
-(320, 3436),
-(320, 3438),
-(320, 3433),
-(320, 3435),
-(320, 3431),
-(320, 3439),
-(320, 3440),
-(320, 3432),
-(320, 3437),
-(45, 3441),
-(45, 3443),
-(45, 3445),
-(45, 3444),
-(45, 3446),
-(45, 3449),
-(45, 3447),
-(45, 3448),
-(45, 3450),
-(45, 3442),
-(374, 3460),
-(374, 3459),
-(374, 3454),
-(374, 3452),
-(374, 3451),
-(374, 3455),
-(374, 3456),
-(374, 3457),
-(374, 3458),
-(374, 3453),
-(65, 3463),
-(65, 3464),
-(65, 3468),
-(65, 3469),
-(65, 3465),
-(65, 3461),
-(65, 3466),
-(65, 3467),
-(65, 3470),
-(65, 3462),
-(61, 3474),
-(61, 3472),
-(61, 3479),
-(61, 3471),
-(61, 3475),
-(61, 3476),
-(61, 3480),
-(61, 3477),
-(61, 3473),
-(61, 3478),
-(350, 3487),
-(350, 3485),
-(350, 3489),
-(350, 3482),
-(350, 3488),
-(350, 3486),
-(350, 3484),
-(350, 3481),
-(350, 3483),
-(350, 3490),
-(336, 3491),
-(336, 3493),
-(336, 3496),
-(336, 3498),
-(336, 3492),
-(336, 3494),
-(336, 3495),
-(336, 3500),
-(336, 3497),
-(336, 3499),
-(296, 3510),
-(296, 3502),
-(296, 3508),
-(296, 3501),
-(296, 3509),
-(296, 3505),
-(296, 3504),
-(296, 3506),
-(296, 3507),
-(296, 3503),
-(498, 3514),
-(498, 3519),
-(498, 3513),
-(498, 3516),
-(498, 3515),
-(498, 3512),
-(498, 3518),
-(498, 3511),
-(498, 3520),
-(498, 3517),
-(288, 3521),
-(288, 3530),
-(288, 3524),
-(288, 3526),
-(288, 3527),
-(288, 3523),
-(288, 3528),
-(288, 3525),
-(288, 3522),
-(288, 3529),
-(223, 3532);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(223, 3536),
-(223, 3533),
-(223, 3537),
-(223, 3540),
-(223, 3538),
-(223, 3531),
-(223, 3535),
-(223, 3534),
-(223, 3539),
-(364, 3545),
-(364, 3550),
-(364, 3546),
-(364, 3543),
-(364, 3549),
-(364, 3542),
-(364, 3544),
-(364, 3547),
-(364, 3548),
-(364, 3541),
-(255, 3553),
-(255, 3556),
-(255, 3554),
-(255, 3555),
-(255, 3551),
-(255, 3558),
-(255, 3557),
-(255, 3560),
-(255, 3552),
-(255, 3559),
-(343, 3563),
-(343, 3568),
-(343, 3566),
-(343, 3564),
-(343, 3569),
-(343, 3567),
-(343, 3570),
-(343, 3562),
-(343, 3565),
-(343, 3561),
-(87, 3571),
-(87, 3575),
-(87, 3572),
-(87, 3577),
-(87, 3578),
-(87, 3574),
-(87, 3576),
-(87, 3580),
-(87, 3579),
-(87, 3573),
-(420, 3583),
-(420, 3590),
-(420, 3581),
-(420, 3586),
-(420, 3588),
-(420, 3582),
-(420, 3587),
-(420, 3585),
-(420, 3589),
-(420, 3584),
-(89, 3591),
-(89, 3598),
-(89, 3597),
-(89, 3595),
-(89, 3596),
-(89, 3600),
-(89, 3594),
-(89, 3599),
-(89, 3592),
-(89, 3593),
-(27, 3602),
-(27, 3605),
-(27, 3601),
-(27, 3610),
-(27, 3606),
-(27, 3607),
-(27, 3608),
-(27, 3603),
-(27, 3604),
-(27, 3609),
-(494, 3611),
-(494, 3617),
-(494, 3612),
-(494, 3614),
-(494, 3615),
-(494, 3616),
-(494, 3619),
-(494, 3620),
-(494, 3618),
-(494, 3613),
-(200, 3627),
-(200, 3629),
-(200, 3625),
-(200, 3626),
-(200, 3621),
-(200, 3623),
-(200, 3624),
-(200, 3630),
-(200, 3622),
-(200, 3628),
-(331, 3635),
-(331, 3634),
-(331, 3638),
-(331, 3632),
-(331, 3637),
-(331, 3640),
-(331, 3631),
-(331, 3636),
-(331, 3633),
-(331, 3639),
-(108, 3647),
-(108, 3649),
-(108, 3641),
-(108, 3643),
-(108, 3642),
-(108, 3648),
-(108, 3650),
-(108, 3644),
-(108, 3646),
-(108, 3645),
-(370, 3654),
-(370, 3658),
-(370, 3660),
-(370, 3656),
-(370, 3653),
-(370, 3657),
-(370, 3652),
-(370, 3659),
-(370, 3651),
-(370, 3655),
-(208, 3661),
-(208, 3669),
-(208, 3662),
-(208, 3665),
-(208, 3663),
-(208, 3670),
-(208, 3668),
-(208, 3666),
-(208, 3667),
-(208, 3664),
-(403, 3680),
-(403, 3674),
-(403, 3671),
-(403, 3672),
-(403, 3677),
-(403, 3673),
-(403, 3679),
-(403, 3678),
-(403, 3675),
-(403, 3676),
-(390, 3690),
-(390, 3682),
-(390, 3683),
-(390, 3685),
-(390, 3684),
-(390, 3686),
-(390, 3687),
-(390, 3681),
-(390, 3688),
-(390, 3689),
-(300, 3700),
-(300, 3693),
-(300, 3695),
-(300, 3694),
-(300, 3697),
-(300, 3699),
-(300, 3692),
-(300, 3691),
-(300, 3696),
-(300, 3698),
-(29, 3702),
-(29, 3708),
-(29, 3710),
-(29, 3701),
-(29, 3705),
-(29, 3707),
-(29, 3703),
-(29, 3709),
-(29, 3704),
-(29, 3706),
-(72, 3713),
-(72, 3715),
-(72, 3711),
-(72, 3717),
-(72, 3716),
-(72, 3719),
-(72, 3720),
-(72, 3712),
-(72, 3714),
-(72, 3718),
-(459, 3723),
-(459, 3728),
-(459, 3729),
-(459, 3730),
-(459, 3721),
-(459, 3726),
-(459, 3724),
-(459, 3727),
-(459, 3725),
-(459, 3722),
-(230, 3736),
-(230, 3738),
-(230, 3740),
-(230, 3739),
-(230, 3737),
-(230, 3733),
-(230, 3731),
-(230, 3732),
-(230, 3734),
-(230, 3735),
-(373, 3742),
-(373, 3743),
-(373, 3749),
-(373, 3747),
-(373, 3746),
-(373, 3748),
-(373, 3744),
-(373, 3745),
-(373, 3750),
-(373, 3741),
-(387, 3758),
-(387, 3754),
-(387, 3756),
-(387, 3757),
-(387, 3752),
-(387, 3759),
-(387, 3751),
-(387, 3755),
-(387, 3753),
-(387, 3760),
-(351, 3769),
-(351, 3768),
-(351, 3770),
-(351, 3761),
-(351, 3764),
-(351, 3766),
-(351, 3763),
-(351, 3765),
-(351, 3767),
-(351, 3762),
-(33, 3778),
-(33, 3780),
-(33, 3773),
-(33, 3774),
-(33, 3771),
-(33, 3777),
-(33, 3772),
-(33, 3779),
-(33, 3776),
-(33, 3775),
-(189, 3783),
-(189, 3784),
-(189, 3790),
-(189, 3781),
-(189, 3786),
-(189, 3789),
-(189, 3782),
-(189, 3787),
-(189, 3785),
-(189, 3788),
-(43, 3791),
-(43, 3799),
-(43, 3800),
-(43, 3797),
-(43, 3798),
-(43, 3795),
-(43, 3796),
-(43, 3792),
-(43, 3794),
-(43, 3793),
-(83, 3801),
-(83, 3806),
-(83, 3804),
-(83, 3809),
-(83, 3810),
-(83, 3802),
-(83, 3803),
-(83, 3805),
-(83, 3808),
-(83, 3807),
-(477, 3814),
-(477, 3811),
-(477, 3815),
-(477, 3817),
-(477, 3818),
-(477, 3819),
-(477, 3813),
-(477, 3812),
-(477, 3816),
-(477, 3820),
-(211, 3825),
-(211, 3828),
-(211, 3827),
-(211, 3822),
-(211, 3824),
-(211, 3826),
-(211, 3829),
-(211, 3821),
-(211, 3830),
-(211, 3823),
-(497, 3837),
-(497, 3835),
-(497, 3833),
-(497, 3838),
-(497, 3831),
-(497, 3832),
-(497, 3840),
-(497, 3834),
-(497, 3836),
-(497, 3839),
-(132, 3842),
-(132, 3846),
-(132, 3847),
-(132, 3850),
-(132, 3845);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(132, 3849),
-(132, 3843),
-(132, 3841),
-(132, 3844),
-(132, 3848),
-(325, 3853),
-(325, 3860),
-(325, 3859),
-(325, 3855),
-(325, 3858),
-(325, 3851),
-(325, 3857),
-(325, 3854),
-(325, 3852),
-(325, 3856),
-(177, 3861),
-(177, 3867),
-(177, 3865),
-(177, 3862),
-(177, 3866),
-(177, 3863),
-(177, 3869),
-(177, 3868),
-(177, 3864),
-(177, 3870),
-(345, 3875),
-(345, 3873),
-(345, 3880),
-(345, 3876),
-(345, 3872),
-(345, 3871),
-(345, 3874),
-(345, 3879),
-(345, 3878),
-(345, 3877),
-(112, 3888),
-(112, 3886),
-(112, 3882),
-(112, 3883),
-(112, 3890),
-(112, 3884),
-(112, 3885),
-(112, 3887),
-(112, 3881),
-(112, 3889),
-(193, 3893),
-(193, 3898),
-(193, 3897),
-(193, 3896),
-(193, 3899),
-(193, 3894),
-(193, 3900),
-(193, 3892),
-(193, 3891),
-(193, 3895),
-(58, 3910),
-(58, 3905),
-(58, 3909),
-(58, 3907),
-(58, 3901),
-(58, 3904),
-(58, 3906),
-(58, 3902),
-(58, 3903),
-(58, 3908),
-(372, 3917),
-(372, 3919),
-(372, 3912),
-(372, 3911),
-(372, 3913),
-(372, 3916),
-(372, 3918),
-(372, 3915),
-(372, 3920),
-(372, 3914),
-(246, 3928),
-(246, 3923),
-(246, 3921),
-(246, 3926),
-(246, 3930),
-(246, 3927),
-(246, 3922),
-(246, 3925),
-(246, 3924),
-(246, 3929),
-(484, 3932),
-(484, 3937),
-(484, 3931),
-(484, 3933),
-(484, 3934),
-(484, 3935),
-(484, 3940),
-(484, 3939),
-(484, 3938),
-(484, 3936),
-(333, 3943),
-(333, 3941),
-(333, 3949),
-(333, 3942),
-(333, 3944),
-(333, 3948),
-(333, 3946),
-(333, 3945),
-(333, 3947),
-(333, 3950),
-(162, 3953),
-(162, 3952),
-(162, 3959),
-(162, 3954),
-(162, 3955),
-(162, 3951),
-(162, 3956),
-(162, 3957),
-(162, 3958),
-(162, 3960),
-(99, 3968),
-(99, 3964),
-(99, 3965),
-(99, 3970),
-(99, 3962),
-(99, 3966),
-(99, 3969),
-(99, 3961),
-(99, 3963),
-(99, 3967),
-(15, 3978),
-(15, 3972),
-(15, 3973),
-(15, 3971),
-(15, 3977),
-(15, 3974),
-(15, 3976),
-(15, 3980),
-(15, 3975),
-(15, 3979),
-(475, 3989),
-(475, 3982),
-(475, 3983),
-(475, 3990),
-(475, 3984),
-(475, 3986),
-(475, 3981),
-(475, 3985),
-(475, 3987),
-(475, 3988),
-(78, 3991),
-(78, 3992),
-(78, 3998),
-(78, 3996),
-(78, 4000),
-(78, 3994),
-(78, 3995),
-(78, 3999),
-(78, 3993),
-(78, 3997),
-(56, 4010),
-(56, 4002),
-(56, 4006),
-(56, 4001),
-(56, 4005),
-(56, 4003),
-(56, 4008),
-(56, 4009),
-(56, 4004),
-(56, 4007),
-(152, 4011),
-(152, 4020),
-(152, 4018),
-(152, 4013),
-(152, 4012),
-(152, 4015),
-(152, 4019),
-(152, 4014),
-(152, 4017),
-(152, 4016),
-(235, 4029),
-(235, 4030),
-(235, 4023),
-(235, 4028),
-(235, 4024),
-(235, 4026),
-(235, 4022),
-(235, 4027),
-(235, 4021),
-(235, 4025),
-(402, 4034),
-(402, 4031),
-(402, 4036),
-(402, 4037),
-(402, 4038),
-(402, 4040),
-(402, 4033),
-(402, 4032),
-(402, 4035),
-(402, 4039),
-(147, 4046),
-(147, 4047),
-(147, 4042),
-(147, 4049),
-(147, 4045),
-(147, 4050),
-(147, 4044),
-(147, 4043),
-(147, 4041),
-(147, 4048),
-(254, 4052),
-(254, 4054),
-(254, 4051),
-(254, 4059),
-(254, 4060),
-(254, 4056),
-(254, 4057),
-(254, 4055),
-(254, 4053),
-(254, 4058),
-(305, 4068),
-(305, 4064),
-(305, 4067),
-(305, 4061),
-(305, 4063),
-(305, 4065),
-(305, 4066),
-(305, 4069),
-(305, 4070),
-(305, 4062),
-(380, 4076),
-(380, 4080),
-(380, 4073),
-(380, 4079),
-(380, 4078),
-(380, 4077),
-(380, 4071),
-(380, 4075),
-(380, 4072),
-(380, 4074),
-(203, 4087),
-(203, 4085),
-(203, 4088),
-(203, 4084),
-(203, 4081),
-(203, 4086),
-(203, 4090),
-(203, 4089),
-(203, 4083),
-(203, 4082),
-(227, 4100),
-(227, 4096),
-(227, 4093),
-(227, 4092),
-(227, 4091),
-(227, 4094),
-(227, 4097),
-(227, 4098),
-(227, 4099),
-(227, 4095),
-(23, 4104),
-(23, 4102),
-(23, 4105),
-(23, 4109),
-(23, 4103),
-(23, 4106),
-(23, 4107),
-(23, 4108),
-(23, 4101),
-(23, 4110),
-(388, 4115),
-(388, 4119),
-(388, 4117),
-(388, 4116),
-(388, 4113),
-(388, 4118),
-(388, 4114),
-(388, 4120),
-(388, 4111),
-(388, 4112),
-(470, 4126),
-(470, 4123),
-(470, 4129),
-(470, 4121),
-(470, 4125),
-(470, 4122),
-(470, 4128),
-(470, 4127),
-(470, 4124),
-(470, 4130),
-(275, 4137),
-(275, 4134),
-(275, 4131),
-(275, 4136),
-(275, 4138),
-(275, 4132),
-(275, 4135),
-(275, 4139),
-(275, 4133),
-(275, 4140),
-(155, 4150),
-(155, 4148),
-(155, 4141),
-(155, 4147),
-(155, 4143),
-(155, 4149),
-(155, 4146),
-(155, 4144),
-(155, 4145),
-(155, 4142),
-(161, 4151),
-(161, 4156),
-(161, 4158),
-(161, 4159),
-(161, 4160),
-(161, 4157),
-(161, 4154),
-(161, 4153);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(161, 4155),
-(161, 4152),
-(213, 4166),
-(213, 4167),
-(213, 4165),
-(213, 4168),
-(213, 4161),
-(213, 4162),
-(213, 4170),
-(213, 4164),
-(213, 4169),
-(213, 4163),
-(151, 4173),
-(151, 4175),
-(151, 4177),
-(151, 4176),
-(151, 4179),
-(151, 4172),
-(151, 4178),
-(151, 4171),
-(151, 4180),
-(151, 4174),
-(454, 4183),
-(454, 4190),
-(454, 4185),
-(454, 4186),
-(454, 4182),
-(454, 4184),
-(454, 4187),
-(454, 4188),
-(454, 4181),
-(454, 4189),
-(304, 4193),
-(304, 4199),
-(304, 4200),
-(304, 4198),
-(304, 4197),
-(304, 4195),
-(304, 4192),
-(304, 4191),
-(304, 4194),
-(304, 4196),
-(67, 4205),
-(67, 4208),
-(67, 4209),
-(67, 4206),
-(67, 4207),
-(67, 4201),
-(67, 4202),
-(67, 4210),
-(67, 4203),
-(67, 4204),
-(100, 4216),
-(100, 4218),
-(100, 4211),
-(100, 4217),
-(100, 4215),
-(100, 4212),
-(100, 4213),
-(100, 4220),
-(100, 4214),
-(100, 4219),
-(405, 4227),
-(405, 4221),
-(405, 4225),
-(405, 4224),
-(405, 4228),
-(405, 4223),
-(405, 4226),
-(405, 4230),
-(405, 4222),
-(405, 4229),
-(130, 4237),
-(130, 4238),
-(130, 4231),
-(130, 4235),
-(130, 4236),
-(130, 4240),
-(130, 4232),
-(130, 4239),
-(130, 4233),
-(130, 4234),
-(368, 4247),
-(368, 4242),
-(368, 4243),
-(368, 4249),
-(368, 4244),
-(368, 4241),
-(368, 4250),
-(368, 4245),
-(368, 4248),
-(368, 4246),
-(297, 4260),
-(297, 4257),
-(297, 4254),
-(297, 4255),
-(297, 4259),
-(297, 4258),
-(297, 4251),
-(297, 4252),
-(297, 4253),
-(297, 4256),
-(129, 4266),
-(129, 4267),
-(129, 4264),
-(129, 4268),
-(129, 4269),
-(129, 4262),
-(129, 4265),
-(129, 4270),
-(129, 4263),
-(129, 4261),
-(322, 4274),
-(322, 4276),
-(322, 4273),
-(322, 4275),
-(322, 4271),
-(322, 4277),
-(322, 4272),
-(322, 4278),
-(322, 4279),
-(322, 4280),
-(153, 4290),
-(153, 4283),
-(153, 4286),
-(153, 4287),
-(153, 4285),
-(153, 4289),
-(153, 4288),
-(153, 4282),
-(153, 4281),
-(153, 4284),
-(35, 4293),
-(35, 4297),
-(35, 4291),
-(35, 4292),
-(35, 4298),
-(35, 4295),
-(35, 4296),
-(35, 4299),
-(35, 4294),
-(35, 4300),
-(103, 4306),
-(103, 4309),
-(103, 4304),
-(103, 4310),
-(103, 4302),
-(103, 4301),
-(103, 4305),
-(103, 4303),
-(103, 4307),
-(103, 4308),
-(282, 4319),
-(282, 4318),
-(282, 4317),
-(282, 4314),
-(282, 4320),
-(282, 4315),
-(282, 4313),
-(282, 4316),
-(282, 4312),
-(282, 4311),
-(500, 4321),
-(500, 4323),
-(500, 4324),
-(500, 4327),
-(500, 4326),
-(500, 4322),
-(500, 4325),
-(500, 4328),
-(500, 4329),
-(500, 4330),
-(95, 4333),
-(95, 4337),
-(95, 4332),
-(95, 4339),
-(95, 4340),
-(95, 4331),
-(95, 4335),
-(95, 4338),
-(95, 4334),
-(95, 4336),
-(126, 4347),
-(126, 4349),
-(126, 4341),
-(126, 4342),
-(126, 4350),
-(126, 4345),
-(126, 4348),
-(126, 4343),
-(126, 4344),
-(126, 4346),
-(5, 4353),
-(5, 4351),
-(5, 4352),
-(5, 4360),
-(5, 4355),
-(5, 4359),
-(5, 4357),
-(5, 4358),
-(5, 4354),
-(5, 4356),
-(268, 4364),
-(268, 4368),
-(268, 4367),
-(268, 4362),
-(268, 4369),
-(268, 4363),
-(268, 4370),
-(268, 4366),
-(268, 4361),
-(268, 4365),
-(284, 4380),
-(284, 4373),
-(284, 4379),
-(284, 4376),
-(284, 4371),
-(284, 4374),
-(284, 4372),
-(284, 4377),
-(284, 4378),
-(284, 4375),
-(311, 4389),
-(311, 4388),
-(311, 4382),
-(311, 4381),
-(311, 4383),
-(311, 4385),
-(311, 4390),
-(311, 4386),
-(311, 4384),
-(311, 4387),
-(314, 4393),
-(314, 4392),
-(314, 4391),
-(314, 4398),
-(314, 4394),
-(314, 4396),
-(314, 4399),
-(314, 4395),
-(314, 4397),
-(314, 4400),
-(394, 4409),
-(394, 4401),
-(394, 4403),
-(394, 4406),
-(394, 4410),
-(394, 4408),
-(394, 4404),
-(394, 4407),
-(394, 4405),
-(394, 4402),
-(289, 4419),
-(289, 4417),
-(289, 4415),
-(289, 4416),
-(289, 4420),
-(289, 4413),
-(289, 4414),
-(289, 4411),
-(289, 4412),
-(289, 4418),
-(228, 4426),
-(228, 4421),
-(228, 4423),
-(228, 4424),
-(228, 4429),
-(228, 4430),
-(228, 4422),
-(228, 4427),
-(228, 4428),
-(228, 4425),
-(361, 4431),
-(361, 4434),
-(361, 4433),
-(361, 4436),
-(361, 4439),
-(361, 4432),
-(361, 4440),
-(361, 4437),
-(361, 4435),
-(361, 4438),
-(106, 4442),
-(106, 4448),
-(106, 4443),
-(106, 4447),
-(106, 4444),
-(106, 4449),
-(106, 4446),
-(106, 4441),
-(106, 4445),
-(106, 4450),
-(148, 4456),
-(148, 4451),
-(148, 4455),
-(148, 4458),
-(148, 4459),
-(148, 4454),
-(148, 4453),
-(148, 4460),
-(148, 4457),
-(148, 4452),
-(278, 4470),
-(278, 4464),
-(278, 4463),
-(278, 4465),
-(278, 4461),
-(278, 4467),
-(278, 4468),
-(278, 4466),
-(278, 4469),
-(278, 4462);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(491, 4474),
-(491, 4473),
-(491, 4478),
-(491, 4476),
-(491, 4471),
-(491, 4477),
-(491, 4472),
-(491, 4475),
-(491, 4480),
-(491, 4479),
-(389, 4486),
-(389, 4488),
-(389, 4485),
-(389, 4490),
-(389, 4483),
-(389, 4484),
-(389, 4481),
-(389, 4487),
-(389, 4489),
-(389, 4482),
-(94, 4491),
-(94, 4500),
-(94, 4495),
-(94, 4498),
-(94, 4493),
-(94, 4496),
-(94, 4494),
-(94, 4499),
-(94, 4492),
-(94, 4497),
-(20, 4504),
-(20, 4509),
-(20, 4501),
-(20, 4502),
-(20, 4510),
-(20, 4506),
-(20, 4503),
-(20, 4505),
-(20, 4507),
-(20, 4508),
-(59, 4515),
-(59, 4517),
-(59, 4516),
-(59, 4514),
-(59, 4520),
-(59, 4511),
-(59, 4518),
-(59, 4513),
-(59, 4519),
-(59, 4512),
-(239, 4526),
-(239, 4527),
-(239, 4529),
-(239, 4524),
-(239, 4521),
-(239, 4523),
-(239, 4525),
-(239, 4528),
-(239, 4530),
-(239, 4522),
-(188, 4533),
-(188, 4540),
-(188, 4532),
-(188, 4535),
-(188, 4536),
-(188, 4539),
-(188, 4537),
-(188, 4534),
-(188, 4538),
-(188, 4531),
-(84, 4550),
-(84, 4543),
-(84, 4542),
-(84, 4544),
-(84, 4548),
-(84, 4549),
-(84, 4545),
-(84, 4547),
-(84, 4541),
-(84, 4546),
-(267, 4552),
-(267, 4560),
-(267, 4551),
-(267, 4553),
-(267, 4554),
-(267, 4558),
-(267, 4557),
-(267, 4559),
-(267, 4555),
-(267, 4556),
-(39, 4563),
-(39, 4566),
-(39, 4569),
-(39, 4567),
-(39, 4570),
-(39, 4565),
-(39, 4561),
-(39, 4562),
-(39, 4564),
-(39, 4568),
-(379, 4580),
-(379, 4573),
-(379, 4578),
-(379, 4574),
-(379, 4575),
-(379, 4579),
-(379, 4571),
-(379, 4572),
-(379, 4576),
-(379, 4577),
-(159, 4582),
-(159, 4589),
-(159, 4585),
-(159, 4581),
-(159, 4586),
-(159, 4590),
-(159, 4583),
-(159, 4588),
-(159, 4587),
-(159, 4584),
-(101, 4591),
-(101, 4595),
-(101, 4593),
-(101, 4599),
-(101, 4594),
-(101, 4600),
-(101, 4596),
-(101, 4592),
-(101, 4597),
-(101, 4598),
-(46, 4608),
-(46, 4602),
-(46, 4604),
-(46, 4601),
-(46, 4605),
-(46, 4610),
-(46, 4607),
-(46, 4606),
-(46, 4603),
-(46, 4609),
-(3, 4611),
-(3, 4619),
-(3, 4620),
-(3, 4614),
-(3, 4612),
-(3, 4613),
-(3, 4615),
-(3, 4616),
-(3, 4617),
-(3, 4618),
-(190, 4621),
-(190, 4623),
-(190, 4627),
-(190, 4626),
-(190, 4630),
-(190, 4624),
-(190, 4625),
-(190, 4628),
-(190, 4622),
-(190, 4629),
-(433, 4636),
-(433, 4632),
-(433, 4640),
-(433, 4631),
-(433, 4638),
-(433, 4633),
-(433, 4634),
-(433, 4639),
-(433, 4635),
-(433, 4637),
-(142, 4645),
-(142, 4643),
-(142, 4646),
-(142, 4641),
-(142, 4644),
-(142, 4642),
-(142, 4650),
-(142, 4649),
-(142, 4648),
-(142, 4647),
-(427, 4657),
-(427, 4660),
-(427, 4655),
-(427, 4658),
-(427, 4659),
-(427, 4652),
-(427, 4653),
-(427, 4656),
-(427, 4651),
-(427, 4654),
-(482, 4667),
-(482, 4661),
-(482, 4663),
-(482, 4668),
-(482, 4665),
-(482, 4666),
-(482, 4662),
-(482, 4670),
-(482, 4664),
-(482, 4669),
-(455, 4676),
-(455, 4677),
-(455, 4678),
-(455, 4680),
-(455, 4671),
-(455, 4679),
-(455, 4675),
-(455, 4673),
-(455, 4674),
-(455, 4672),
-(290, 4687),
-(290, 4689),
-(290, 4690),
-(290, 4686),
-(290, 4684),
-(290, 4683),
-(290, 4682),
-(290, 4688),
-(290, 4681),
-(290, 4685),
-(256, 4697),
-(256, 4691),
-(256, 4695),
-(256, 4694),
-(256, 4693),
-(256, 4698),
-(256, 4696),
-(256, 4692),
-(256, 4699),
-(256, 4700),
-(134, 4701),
-(134, 4705),
-(134, 4703),
-(134, 4706),
-(134, 4704),
-(134, 4708),
-(134, 4709),
-(134, 4702),
-(134, 4707),
-(134, 4710),
-(467, 4712),
-(467, 4711),
-(467, 4713),
-(467, 4716),
-(467, 4718),
-(467, 4719),
-(467, 4717),
-(467, 4720),
-(467, 4714),
-(467, 4715),
-(51, 4728),
-(51, 4722),
-(51, 4729),
-(51, 4726),
-(51, 4730),
-(51, 4721),
-(51, 4724),
-(51, 4727),
-(51, 4723),
-(51, 4725),
-(483, 4736),
-(483, 4737),
-(483, 4733),
-(483, 4734),
-(483, 4735),
-(483, 4738),
-(483, 4731),
-(483, 4740),
-(483, 4732),
-(483, 4739),
-(299, 4742),
-(299, 4747),
-(299, 4748),
-(299, 4743),
-(299, 4750),
-(299, 4746),
-(299, 4744),
-(299, 4745),
-(299, 4741),
-(299, 4749),
-(440, 4758),
-(440, 4760),
-(440, 4754),
-(440, 4756),
-(440, 4753),
-(440, 4759),
-(440, 4755),
-(440, 4757),
-(440, 4752),
-(440, 4751),
-(11, 4765),
-(11, 4769),
-(11, 4766),
-(11, 4770),
-(11, 4762),
-(11, 4761),
-(11, 4767),
-(11, 4768),
-(11, 4763),
-(11, 4764),
-(451, 4772),
-(451, 4776),
-(451, 4780),
-(451, 4777),
-(451, 4779),
-(451, 4774),
-(451, 4773),
-(451, 4775),
-(451, 4778),
-(451, 4771),
-(441, 4789),
-(441, 4781),
-(441, 4785),
-(441, 4790),
-(441, 4783),
-(441, 4782);
-INSERT INTO "PUBLIC"."COMMUNITY_HOUSE_HOUSE_MEMBERS"("COMMUNITY_HOUSE_ID", "HOUSE_MEMBERS_ID") VALUES
-(441, 4786),
-(441, 4788),
-(441, 4787),
-(441, 4784),
-(192, 4793),
-(192, 4799),
-(192, 4797),
-(192, 4794),
-(192, 4795),
-(192, 4791),
-(192, 4796),
-(192, 4800),
-(192, 4792),
-(192, 4798),
-(160, 4807),
-(160, 4804),
-(160, 4801),
-(160, 4802),
-(160, 4808),
-(160, 4806),
-(160, 4805),
-(160, 4809),
-(160, 4810),
-(160, 4803),
-(55, 4811),
-(55, 4820),
-(55, 4812),
-(55, 4813),
-(55, 4817),
-(55, 4814),
-(55, 4818),
-(55, 4819),
-(55, 4815),
-(55, 4816),
-(399, 4821),
-(399, 4824),
-(399, 4826),
-(399, 4827),
-(399, 4828),
-(399, 4823),
-(399, 4829),
-(399, 4822),
-(399, 4825),
-(399, 4830),
-(143, 4837),
-(143, 4835),
-(143, 4836),
-(143, 4834),
-(143, 4839),
-(143, 4833),
-(143, 4840),
-(143, 4838),
-(143, 4831),
-(143, 4832),
-(68, 4848),
-(68, 4849),
-(68, 4841),
-(68, 4844),
-(68, 4847),
-(68, 4842),
-(68, 4850),
-(68, 4843),
-(68, 4845),
-(68, 4846),
-(36, 4856),
-(36, 4857),
-(36, 4854),
-(36, 4858),
-(36, 4855),
-(36, 4851),
-(36, 4852),
-(36, 4853),
-(36, 4859),
-(36, 4860),
-(262, 4862),
-(262, 4861),
-(262, 4868),
-(262, 4864),
-(262, 4863),
-(262, 4865),
-(262, 4869),
-(262, 4870),
-(262, 4867),
-(262, 4866),
-(330, 4871),
-(330, 4878),
-(330, 4875),
-(330, 4876),
-(330, 4872),
-(330, 4877),
-(330, 4874),
-(330, 4880),
-(330, 4879),
-(330, 4873),
-(398, 4882),
-(398, 4885),
-(398, 4888),
-(398, 4886),
-(398, 4890),
-(398, 4883),
-(398, 4887),
-(398, 4889),
-(398, 4884),
-(398, 4881),
-(444, 4891),
-(444, 4897),
-(444, 4892),
-(444, 4900),
-(444, 4893),
-(444, 4895),
-(444, 4898),
-(444, 4899),
-(444, 4894),
-(444, 4896),
-(272, 4902),
-(272, 4910),
-(272, 4901),
-(272, 4909),
-(272, 4905),
-(272, 4908),
-(272, 4903),
-(272, 4906),
-(272, 4907),
-(272, 4904),
-(214, 4911),
-(214, 4912),
-(214, 4913),
-(214, 4917),
-(214, 4918),
-(214, 4920),
-(214, 4916),
-(214, 4919),
-(214, 4914),
-(214, 4915),
-(232, 4925),
-(232, 4923),
-(232, 4930),
-(232, 4926),
-(232, 4928),
-(232, 4929),
-(232, 4922),
-(232, 4924),
-(232, 4921),
-(232, 4927),
-(50, 4931),
-(50, 4939),
-(50, 4934),
-(50, 4938),
-(50, 4933),
-(50, 4935),
-(50, 4937),
-(50, 4940),
-(50, 4936),
-(50, 4932),
-(492, 4941),
-(492, 4942),
-(492, 4946),
-(492, 4947),
-(492, 4943),
-(492, 4945),
-(492, 4944),
-(492, 4948),
-(492, 4949),
-(492, 4950),
-(247, 4960),
-(247, 4951),
-(247, 4955),
-(247, 4957),
-(247, 4954),
-(247, 4953),
-(247, 4952),
-(247, 4956),
-(247, 4958),
-(247, 4959),
-(222, 4961),
-(222, 4969),
-(222, 4970),
-(222, 4963),
-(222, 4962),
-(222, 4964),
-(222, 4966),
-(222, 4965),
-(222, 4968),
-(222, 4967),
-(341, 4973),
-(341, 4971),
-(341, 4978),
-(341, 4975),
-(341, 4974),
-(341, 4976),
-(341, 4980),
-(341, 4972),
-(341, 4979),
-(341, 4977),
-(357, 4981),
-(357, 4984),
-(357, 4982),
-(357, 4986),
-(357, 4988),
-(357, 4989),
-(357, 4990),
-(357, 4985),
-(357, 4987),
-(357, 4983),
-(436, 4992),
-(436, 4991),
-(436, 4997),
-(436, 4998),
-(436, 5000),
-(436, 4995),
-(436, 4993),
-(436, 4996),
-(436, 4994),
-(436, 4999);
 INSERT INTO "PUBLIC"."AMENITY_BOOKING_ITEM"("ID","AMENITY_BOOKING_ITEM_ID", "BOOKING_START_DATE","BOOKING_END_DATE","AMENITY_ID","BOOKING_USER_ID") VALUES
 (0, '7f8c2547-fcd5-42fe-8fcb-32c4d5a55c5d', '2020-10-10 10:00', '2020-10-10 10:30', 1, 0),
 (1, 'f71ea3a1-fe94-4f73-9d5d-6e830df42c5e', '2020-10-10 10:30', '2020-10-10 11:00', 0, 1);
\ No newline at end of file
@@ -0,0 +1,5 @@
+-- Adds the keys of the downscaled renditions of house member documents. Documents stored
+-- before have no renditions and are served in their original size for every rendition.
+
+alter table house_member_document add column medium_content_key varchar(64);
+alter table house_member_document add column small_content_key varchar(64);
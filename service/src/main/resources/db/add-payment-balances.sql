@@ -0,0 +1,24 @@
+-- Adds the running payment balances of house members and houses, and fills them from the
+-- existing payments. A house balance covers the payments of its current members.
+
+create table payment_balance (
+  id bigint generated by default as identity primary key,
+  owner_type varchar(255) not null,
+  owner_id bigint not null,
+  total_charge decimal(19, 2) not null,
+  payment_count bigint not null,
+  constraint payment_balance_owner_key unique (owner_type, owner_id)
+);
+
+insert into payment_balance (owner_type, owner_id, total_charge, payment_count)
+select 'MEMBER', member_id, sum(charge), count(*)
+from payment
+where member_id is not null
+group by member_id;
+
+insert into payment_balance (owner_type, owner_id, total_charge, payment_count)
+select 'HOUSE', house_member.community_house_id, sum(payment.charge), count(*)
+from payment
+join house_member on payment.member_id = house_member.id
+where house_member.community_house_id is not null
+group by house_member.community_house_id;
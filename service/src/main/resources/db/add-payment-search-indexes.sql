@@ -0,0 +1,5 @@
+-- Adds the indexes listing and searching payments by admin or member in due date order.
+
+create index payment_admin_due_date_idx on payment (admin_id, due_date);
+create index payment_admin_type_due_date_idx on payment (admin_id, type, due_date);
+create index payment_member_due_date_idx on payment (member_id, due_date);
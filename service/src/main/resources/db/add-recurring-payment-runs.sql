@@ -0,0 +1,14 @@
+-- Links the next occurrence of a recurring payment to the payment it follows, and adds the runs
+-- of the recurring payment materialization with their high-water marks.
+
+alter table payment add column previous_payment_id bigint;
+alter table payment add constraint payment_previous_payment_id_key unique (previous_payment_id);
+
+create table recurring_payment_run (
+  id bigint generated by default as identity primary key,
+  window_start date not null,
+  window_end date not null,
+  last_payment_id bigint not null,
+  completed boolean not null,
+  version bigint
+);
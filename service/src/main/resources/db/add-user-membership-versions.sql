@@ -0,0 +1,5 @@
+-- Adds the version of the community admin memberships of every user, which tokens carry with
+-- their community claim. Existing tokens carry versions of a per-instance counter instead, so
+-- their claims are not trusted and their admin checks fall back to the database.
+
+alter table "user" add column membership_version bigint default 0 not null;
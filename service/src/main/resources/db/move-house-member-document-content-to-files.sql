@@ -0,0 +1,16 @@
+-- Migrates databases created while house member documents kept their content inline in
+-- house_member_document.document_content. Run the statements in two steps:
+--
+-- 1. Add the metadata columns, then start the service. On startup it writes the content of
+--    every document without a content_key into the document store and sets content_key and
+--    content_length, logging the number of documents it moved.
+-- 2. Once every document has a content_key, drop the inline content. The first statement fails
+--    while a document has none, which keeps its inline content.
+
+alter table house_member_document add column content_key varchar(64);
+alter table house_member_document add column content_length bigint;
+
+-- step 2
+alter table house_member_document alter column content_key set not null;
+alter table house_member_document alter column content_length set not null;
+alter table house_member_document drop column document_content;
@@ -0,0 +1,25 @@
+-- Migrates databases created before houses, members and amenities referenced their parents
+-- only by foreign key. Memberships found only in the former join tables are copied into the
+-- foreign keys before the join tables are dropped.
+
+update community_house set community_id =
+    (select community_id from community_houses where houses_id = community_house.id)
+where community_id is null
+  and exists (select 1 from community_houses where houses_id = community_house.id);
+
+update house_member set community_house_id =
+    (select community_house_id from community_house_house_members
+     where house_members_id = house_member.id)
+where community_house_id is null
+  and exists (select 1 from community_house_house_members
+              where house_members_id = house_member.id);
+
+update amenity set community_house_id =
+    (select community_house_id from community_house_amenities
+     where amenities_id = amenity.id)
+where community_house_id is null
+  and exists (select 1 from community_house_amenities where amenities_id = amenity.id);
+
+drop table community_houses;
+drop table community_house_house_members;
+drop table community_house_amenities;
@@ -34,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -121,7 +122,7 @@ class AmenityControllerTest {
 
     // when
     ResponseEntity<GetAmenityDetailsResponse> response =
-        amenityController.getAmenityDetails(TEST_AMENITY_ID);
+        amenityController.getAmenityDetails(TEST_AMENITY_ID, null);
 
     // then
     assertEquals(expectedResponseBody, response.getBody());
@@ -138,7 +139,7 @@ class AmenityControllerTest {
 
     // when
     ResponseEntity<GetAmenityDetailsResponse> response =
-        amenityController.getAmenityDetails(TEST_AMENITY_ID);
+        amenityController.getAmenityDetails(TEST_AMENITY_ID, null);
 
     // then
     assertNull(response.getBody());
@@ -185,17 +186,17 @@ class AmenityControllerTest {
 
     given(amenityApiMapper.updateAmenityRequestToAmenityDto(request))
         .willReturn(amenityDto);
-    given(amenitySDJpaService.updateAmenity(amenityDto))
+    given(amenitySDJpaService.updateAmenity(amenityDto, null))
         .willReturn(true);
 
     // when
     ResponseEntity<Void> responseEntity =
-        amenityController.updateAmenity(TEST_AMENITY_ID, request);
+        amenityController.updateAmenity(TEST_AMENITY_ID, request, null);
 
     // then
     assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
     verify(amenityApiMapper).updateAmenityRequestToAmenityDto(request);
-    verify(amenitySDJpaService).updateAmenity(amenityDto);
+    verify(amenitySDJpaService).updateAmenity(amenityDto, null);
   }
 
   @Test
@@ -206,17 +207,93 @@ class AmenityControllerTest {
 
     given(amenityApiMapper.updateAmenityRequestToAmenityDto(request))
         .willReturn(amenityDto);
-    given(amenitySDJpaService.updateAmenity(amenityDto))
+    given(amenitySDJpaService.updateAmenity(amenityDto, null))
         .willReturn(false);
 
     // when
     ResponseEntity<Void> responseEntity =
-        amenityController.updateAmenity(TEST_AMENITY_ID, request);
+        amenityController.updateAmenity(TEST_AMENITY_ID, request, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
     verify(amenityApiMapper).updateAmenityRequestToAmenityDto(request);
-    verify(amenitySDJpaService).updateAmenity(amenityDto);
+    verify(amenitySDJpaService).updateAmenity(amenityDto, null);
+  }
+
+  @Test
+  void getAmenityDetailsNotModified() {
+    // given
+    given(amenitySDJpaService.getAmenityVersion(TEST_AMENITY_ID))
+        .willReturn(Optional.of(3L));
+
+    // when
+    ResponseEntity<GetAmenityDetailsResponse> response =
+        amenityController.getAmenityDetails(TEST_AMENITY_ID, "\"1\", W/\"3\"");
+
+    // then
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertEquals("\"3\"", response.getHeaders().getETag());
+    assertNull(response.getBody());
+    verify(amenitySDJpaService, never()).getAmenityDetails(TEST_AMENITY_ID);
+  }
+
+  @Test
+  void getAmenityDetailsModified() {
+    // given
+    Amenity testAmenity = getTestAmenity();
+    testAmenity.setVersion(4L);
+    GetAmenityDetailsResponse expectedResponseBody = new GetAmenityDetailsResponse()
+        .amenityId(testAmenity.getAmenityId());
+
+    given(amenitySDJpaService.getAmenityVersion(TEST_AMENITY_ID))
+        .willReturn(Optional.of(4L));
+    given(amenitySDJpaService.getAmenityDetails(TEST_AMENITY_ID))
+        .willReturn(Optional.of(testAmenity));
+    given(amenityApiMapper.amenityToAmenityDetailsResponse(testAmenity))
+        .willReturn(expectedResponseBody);
+
+    // when
+    ResponseEntity<GetAmenityDetailsResponse> response =
+        amenityController.getAmenityDetails(TEST_AMENITY_ID, "\"3\"");
+
+    // then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("\"4\"", response.getHeaders().getETag());
+    assertEquals(expectedResponseBody, response.getBody());
+  }
+
+  @Test
+  void shouldNotUpdateAmenityIfVersionIsStale() {
+    // given
+    AmenityDto amenityDto = getTestAmenityDto();
+    UpdateAmenityRequest request = getUpdateAmenityRequest();
+
+    given(amenityApiMapper.updateAmenityRequestToAmenityDto(request))
+        .willReturn(amenityDto);
+    given(amenitySDJpaService.updateAmenity(amenityDto, 1L))
+        .willThrow(new ObjectOptimisticLockingFailureException(Amenity.class, TEST_AMENITY_ID));
+
+    // when
+    ResponseEntity<Void> responseEntity =
+        amenityController.updateAmenity(TEST_AMENITY_ID, request, "\"1\"");
+
+    // then
+    assertEquals(HttpStatus.PRECONDITION_FAILED, responseEntity.getStatusCode());
+    verify(amenitySDJpaService).updateAmenity(amenityDto, 1L);
+  }
+
+  @Test
+  void shouldNotUpdateAmenityIfEntityTagIsMalformed() {
+    // given
+    UpdateAmenityRequest request = getUpdateAmenityRequest();
+
+    // when
+    ResponseEntity<Void> responseEntity =
+        amenityController.updateAmenity(TEST_AMENITY_ID, request, "W/\"1\"");
+
+    // then
+    assertEquals(HttpStatus.PRECONDITION_FAILED, responseEntity.getStatusCode());
+    verify(amenitySDJpaService, never()).updateAmenity(any(), any());
   }
 
   private Amenity getTestAmenity() {
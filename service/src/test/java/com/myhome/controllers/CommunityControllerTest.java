@@ -17,15 +17,24 @@
 package com.myhome.controllers;
 
 import com.myhome.controllers.dto.CommunityDto;
+import com.myhome.controllers.dto.PageCursor;
 import com.myhome.controllers.dto.UserDto;
+import com.myhome.controllers.exceptions.InvalidPageCursorException;
 import com.myhome.controllers.mapper.CommunityApiMapper;
+import com.myhome.controllers.request.HouseImportRowReader;
 import com.myhome.domain.Community;
+import com.myhome.domain.CommunityAdminAssignment;
+import com.myhome.domain.CommunityDeletionJob;
 import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseImportReport;
+import com.myhome.domain.HouseImportRow;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.User;
 import com.myhome.model.AddCommunityAdminRequest;
 import com.myhome.model.AddCommunityAdminResponse;
 import com.myhome.model.AddCommunityHouseRequest;
 import com.myhome.model.AddCommunityHouseResponse;
+import com.myhome.model.CommunityDeletionJobResponse;
 import com.myhome.model.CommunityHouseName;
 import com.myhome.model.CreateCommunityRequest;
 import com.myhome.model.CreateCommunityResponse;
@@ -33,19 +42,30 @@ import com.myhome.model.GetCommunityDetailsResponse;
 import com.myhome.model.GetCommunityDetailsResponseCommunity;
 import com.myhome.model.GetHouseDetailsResponse;
 import com.myhome.model.GetHouseDetailsResponseCommunityHouse;
+import com.myhome.model.ImportCommunityHousesResponse;
 import com.myhome.model.ListCommunityAdminsResponse;
 import com.myhome.model.ListCommunityAdminsResponseCommunityAdmin;
+import com.myhome.services.CommunityDeletionService;
 import com.myhome.services.CommunityService;
+import com.myhome.services.HouseImportService;
+import com.myhome.utils.PageInfo;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -54,6 +74,10 @@ import org.springframework.http.ResponseEntity;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -69,6 +93,8 @@ class CommunityControllerTest {
   private static final String COMMUNITY_NAME = "Test Community";
   private static final String COMMUNITY_ID = "3";
   private static final String COMMUNITY_DISTRICT = "Wonderland";
+  private static final String DELETION_JOB_ID = "4";
+  private static final String MISSING_ADMIN_ID = "5";
 
   @Mock
   private CommunityService communityService;
@@ -76,6 +102,12 @@ class CommunityControllerTest {
   @Mock
   private CommunityApiMapper communityApiMapper;
 
+  @Mock
+  private HouseImportService houseImportService;
+
+  @Mock
+  private CommunityDeletionService communityDeletionService;
+
   @InjectMocks
   private CommunityController communityController;
 
@@ -106,15 +138,15 @@ class CommunityControllerTest {
 
   private CommunityHouse createTestCommunityHouse(Community community) {
     return new CommunityHouse(community, COMMUNITY_HOUSE_NAME, COMMUNITY_HOUSE_ID, new HashSet<>(),
-        new HashSet<>());
+        new HashSet<>(), 0L);
   }
 
   private Community createTestCommunity() {
     Community community =
         new Community(new HashSet<>(), new HashSet<>(), COMMUNITY_NAME, COMMUNITY_ID,
-            COMMUNITY_DISTRICT, new HashSet<>());
+            COMMUNITY_DISTRICT, new HashSet<>(), 0L);
     User admin = new User(COMMUNITY_ADMIN_NAME, COMMUNITY_ADMIN_ID, COMMUNITY_ADMIN_EMAIL, true,
-        COMMUNITY_ADMIN_PASSWORD, new HashSet<>(), null);
+        COMMUNITY_ADMIN_PASSWORD, new HashSet<>(), null, 0);
     community.getAdmins().add(admin);
     community.getHouses().add(createTestCommunityHouse(community));
     admin.getCommunities().add(community);
@@ -181,7 +213,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<GetCommunityDetailsResponse> responseEntity =
-        communityController.listAllCommunity(pageable);
+        communityController.listAllCommunity(pageable, null);
 
     // then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -190,6 +222,88 @@ class CommunityControllerTest {
     verify(communityService).listAll(pageable);
   }
 
+  @Test
+  void shouldListCommunitiesAfterCursor() {
+    // given
+    Community first = createTestCommunity();
+    first.setId(5L);
+    Community second = createTestCommunity();
+    second.setId(7L);
+    List<Community> fetched = new ArrayList<>();
+    fetched.add(first);
+    fetched.add(second);
+    KeysetPage<Community> page = KeysetPage.of(fetched, 1);
+
+    GetCommunityDetailsResponseCommunity communityDetails =
+        new GetCommunityDetailsResponseCommunity()
+            .communityId(COMMUNITY_ID)
+            .name(COMMUNITY_NAME)
+            .district(COMMUNITY_DISTRICT);
+    String cursor = PageCursor.encode(3L);
+
+    given(communityService.listAll(3L, 1))
+        .willReturn(page);
+    given(communityApiMapper.communityListToRestApiResponseCommunityList(page.getContent()))
+        .willReturn(singletonList(communityDetails));
+
+    // when
+    ResponseEntity<GetCommunityDetailsResponse> responseEntity =
+        communityController.listAllCommunity(PageRequest.of(4, 1), cursor);
+
+    // then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(singletonList(communityDetails),
+        new ArrayList<>(responseEntity.getBody().getCommunities()));
+    assertEquals(PageInfo.ofCursor(1, PageCursor.encode(5L)),
+        responseEntity.getBody().getPageInfo());
+    verify(communityService, never()).listAll(any(Pageable.class));
+  }
+
+  @Test
+  void shouldListFirstCommunitiesForEmptyCursor() {
+    // given
+    KeysetPage<Community> page = KeysetPage.of(new ArrayList<>(), 2);
+    given(communityService.listAll(null, 2))
+        .willReturn(page);
+    given(communityApiMapper.communityListToRestApiResponseCommunityList(page.getContent()))
+        .willReturn(new ArrayList<>());
+
+    // when
+    ResponseEntity<GetCommunityDetailsResponse> responseEntity =
+        communityController.listAllCommunity(PageRequest.of(0, 2), "");
+
+    // then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertNull(responseEntity.getBody().getPageInfo().getNextCursor());
+    verify(communityService).listAll(null, 2);
+  }
+
+  @Test
+  void shouldRejectInvalidCursor() {
+    // given
+    Pageable pageable = PageRequest.of(0, 2);
+
+    // when and then
+    assertThrows(InvalidPageCursorException.class,
+        () -> communityController.listAllCommunity(pageable, "not-a-cursor"));
+    verifyNoInteractions(communityService);
+  }
+
+  @Test
+  void shouldNotListCommunityAdminsAfterCursorIfCommunityNotExists() {
+    // given
+    given(communityService.findCommunityAdminsById(COMMUNITY_ID, null, 2))
+        .willReturn(Optional.empty());
+
+    // when
+    ResponseEntity<ListCommunityAdminsResponse> responseEntity =
+        communityController.listCommunityAdmins(COMMUNITY_ID, PageRequest.of(0, 2), "");
+
+    // then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verifyNoInteractions(communityApiMapper);
+  }
+
   @Test
   void shouldGetCommunityDetailsSuccessfully() {
     // given
@@ -215,7 +329,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<GetCommunityDetailsResponse> responseEntity =
-        communityController.listCommunityDetails(COMMUNITY_ID);
+        communityController.listCommunityDetails(COMMUNITY_ID, null);
 
     // then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -232,7 +346,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<GetCommunityDetailsResponse> responseEntity =
-        communityController.listCommunityDetails(COMMUNITY_ID);
+        communityController.listCommunityDetails(COMMUNITY_ID, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -269,7 +383,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<ListCommunityAdminsResponse> responseEntity =
-        communityController.listCommunityAdmins(COMMUNITY_ID, pageable);
+        communityController.listCommunityAdmins(COMMUNITY_ID, pageable, null);
 
     // then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -288,7 +402,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<ListCommunityAdminsResponse> responseEntity =
-        communityController.listCommunityAdmins(COMMUNITY_ID, pageable);
+        communityController.listCommunityAdmins(COMMUNITY_ID, pageable, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -307,11 +421,18 @@ class CommunityControllerTest {
       addRequest.getAdmins().add(admin.getUserId());
     }
 
+    addRequest.getAdmins().add(MISSING_ADMIN_ID);
+
     Set<String> adminIds = addRequest.getAdmins();
-    AddCommunityAdminResponse response = new AddCommunityAdminResponse().admins(adminIds);
+    Set<String> addedAdminIds = new HashSet<>(adminIds);
+    addedAdminIds.remove(MISSING_ADMIN_ID);
+    AddCommunityAdminResponse response = new AddCommunityAdminResponse()
+        .admins(addedAdminIds)
+        .missingAdmins(Collections.singleton(MISSING_ADMIN_ID));
 
     given(communityService.addAdminsToCommunity(COMMUNITY_ID, adminIds))
-        .willReturn(Optional.of(community));
+        .willReturn(Optional.of(new CommunityAdminAssignment(addedAdminIds,
+            Collections.singleton(MISSING_ADMIN_ID))));
 
     // when
     ResponseEntity<AddCommunityAdminResponse> responseEntity =
@@ -369,7 +490,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<GetHouseDetailsResponse> responseEntity =
-        communityController.listCommunityHouses(COMMUNITY_ID, pageable);
+        communityController.listCommunityHouses(COMMUNITY_ID, pageable, null);
 
     //then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -387,7 +508,7 @@ class CommunityControllerTest {
 
     // when
     ResponseEntity<GetHouseDetailsResponse> responseEntity =
-        communityController.listCommunityHouses(COMMUNITY_ID, pageable);
+        communityController.listCommunityHouses(COMMUNITY_ID, pageable, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -570,6 +691,62 @@ class CommunityControllerTest {
     verify(communityService).deleteCommunity(COMMUNITY_ID);
   }
 
+  @Test
+  void shouldStartCommunityDeletion() {
+    // given
+    CommunityDeletionJob job = new CommunityDeletionJob(DELETION_JOB_ID, COMMUNITY_ID, 2);
+    CommunityDeletionJobResponse jobResponse = new CommunityDeletionJobResponse()
+        .jobId(DELETION_JOB_ID)
+        .communityId(COMMUNITY_ID)
+        .status(CommunityDeletionJobResponse.StatusEnum.RUNNING)
+        .housesTotal(2L)
+        .housesDeleted(0L);
+    given(communityDeletionService.startDeletion(COMMUNITY_ID))
+        .willReturn(Optional.of(job));
+    given(communityApiMapper.communityDeletionJobToRestApiResponse(job))
+        .willReturn(jobResponse);
+
+    // when
+    ResponseEntity<CommunityDeletionJobResponse> responseEntity =
+        communityController.startCommunityDeletion(COMMUNITY_ID);
+
+    // then
+    assertEquals(HttpStatus.ACCEPTED, responseEntity.getStatusCode());
+    assertEquals(URI.create("/community-deletions/" + DELETION_JOB_ID),
+        responseEntity.getHeaders().getLocation());
+    assertEquals(jobResponse, responseEntity.getBody());
+  }
+
+  @Test
+  void shouldNotStartCommunityDeletionIfCommunityNotExists() {
+    // given
+    given(communityDeletionService.startDeletion(COMMUNITY_ID))
+        .willReturn(Optional.empty());
+
+    // when
+    ResponseEntity<CommunityDeletionJobResponse> responseEntity =
+        communityController.startCommunityDeletion(COMMUNITY_ID);
+
+    // then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verifyNoInteractions(communityApiMapper);
+  }
+
+  @Test
+  void shouldNotGetCommunityDeletionIfNotVisible() {
+    // given
+    given(communityDeletionService.getDeletion(DELETION_JOB_ID))
+        .willReturn(Optional.empty());
+
+    // when
+    ResponseEntity<CommunityDeletionJobResponse> responseEntity =
+        communityController.getCommunityDeletion(DELETION_JOB_ID);
+
+    // then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verify(communityDeletionService).getDeletion(DELETION_JOB_ID);
+  }
+
   private CommunityHouse getMockCommunityHouse() {
     CommunityHouse communityHouse = new CommunityHouse();
     communityHouse.setName(COMMUNITY_HOUSE_NAME);
@@ -582,9 +759,9 @@ class CommunityControllerTest {
   private Community getMockCommunity(Set<User> admins) {
     Community community =
         new Community(admins, new HashSet<>(), COMMUNITY_NAME, COMMUNITY_ID,
-            COMMUNITY_DISTRICT, new HashSet<>());
+            COMMUNITY_DISTRICT, new HashSet<>(), 0L);
     User admin = new User(COMMUNITY_ADMIN_NAME, COMMUNITY_ADMIN_ID, COMMUNITY_ADMIN_EMAIL, true,
-        COMMUNITY_ADMIN_PASSWORD, new HashSet<>(), new HashSet<>());
+        COMMUNITY_ADMIN_PASSWORD, new HashSet<>(), new HashSet<>(), 0);
     community.getAdmins().add(admin);
     admin.getCommunities().add(community);
 
@@ -594,4 +771,48 @@ class CommunityControllerTest {
 
     return community;
   }
+
+  @Test
+  void shouldImportCommunityHouses() {
+    // given
+    InputStreamResource rows = new InputStreamResource(new ByteArrayInputStream(
+        ("house,member\n" + COMMUNITY_HOUSE_NAME + ",Alice\n").getBytes(StandardCharsets.UTF_8)));
+    HouseImportReport report = new HouseImportReport(10);
+    report.housesAdded(1);
+    report.membersAdded(1);
+    ImportCommunityHousesResponse response = new ImportCommunityHousesResponse()
+        .housesAdded(1L)
+        .membersAdded(1L);
+    ArgumentCaptor<Iterator<HouseImportRow>> rowsCaptor = ArgumentCaptor.forClass(Iterator.class);
+    given(houseImportService.importHouses(eq(COMMUNITY_ID), rowsCaptor.capture()))
+        .willReturn(Optional.of(report));
+    given(communityApiMapper.houseImportReportToRestApiResponse(report))
+        .willReturn(response);
+
+    // when
+    ResponseEntity<ImportCommunityHousesResponse> responseEntity =
+        communityController.importCommunityHouses(COMMUNITY_ID, rows);
+
+    // then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(response, responseEntity.getBody());
+    assertTrue(rowsCaptor.getValue() instanceof HouseImportRowReader);
+  }
+
+  @Test
+  void shouldNotImportCommunityHousesIfCommunityNotExists() {
+    // given
+    InputStreamResource rows = new InputStreamResource(new ByteArrayInputStream(
+        "{\"house\": \"House\"}\n".getBytes(StandardCharsets.UTF_8)));
+    given(houseImportService.importHouses(eq(COMMUNITY_ID), any()))
+        .willReturn(Optional.empty());
+
+    // when
+    ResponseEntity<ImportCommunityHousesResponse> responseEntity =
+        communityController.importCommunityHouses(COMMUNITY_ID, rows);
+
+    // then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verifyNoInteractions(communityApiMapper);
+  }
 }
@@ -88,7 +88,7 @@ class HouseControllerTest {
         .willReturn(testHousesResponse);
 
     // when
-    ResponseEntity<GetHouseDetailsResponse> response = houseController.listAllHouses(null);
+    ResponseEntity<GetHouseDetailsResponse> response = houseController.listAllHouses(null, null);
 
     // then
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -114,7 +114,7 @@ class HouseControllerTest {
 
     // when
     ResponseEntity<GetHouseDetailsResponse> response =
-        houseController.getHouseDetails(TEST_HOUSE_ID);
+        houseController.getHouseDetails(TEST_HOUSE_ID, null);
 
     // then
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -133,7 +133,7 @@ class HouseControllerTest {
 
     // when
     ResponseEntity<GetHouseDetailsResponse> response =
-        houseController.getHouseDetails(TEST_HOUSE_ID);
+        houseController.getHouseDetails(TEST_HOUSE_ID, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -164,7 +164,7 @@ class HouseControllerTest {
 
     // when
     ResponseEntity<ListHouseMembersResponse> response =
-        houseController.listAllMembersOfHouse(TEST_HOUSE_ID, null);
+        houseController.listAllMembersOfHouse(TEST_HOUSE_ID, null, null);
 
     // then
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -182,7 +182,7 @@ class HouseControllerTest {
 
     // when
     ResponseEntity<ListHouseMembersResponse> response =
-        houseController.listAllMembersOfHouse(TEST_HOUSE_ID, null);
+        houseController.listAllMembersOfHouse(TEST_HOUSE_ID, null, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
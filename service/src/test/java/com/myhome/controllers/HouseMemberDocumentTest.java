@@ -16,6 +16,7 @@
 
 package com.myhome.controllers;
 
+import com.myhome.domain.DocumentRendition;
 import com.myhome.domain.HouseMemberDocument;
 import com.myhome.services.HouseMemberDocumentService;
 import java.util.Optional;
@@ -24,14 +25,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class HouseMemberDocumentTest {
 
@@ -40,7 +46,9 @@ class HouseMemberDocumentTest {
   private static final MockMultipartFile MULTIPART_FILE =
       new MockMultipartFile("memberDocument", new byte[0]);
   private static final HouseMemberDocument MEMBER_DOCUMENT =
-      new HouseMemberDocument(MULTIPART_FILE.getName(), new byte[0]);
+      new HouseMemberDocument(MULTIPART_FILE.getName(), "test-content-key", 0,
+          "test-medium-content-key", "test-small-content-key");
+  private static final Resource MEMBER_DOCUMENT_CONTENT = new ByteArrayResource(new byte[0]);
 
   @Mock
   private HouseMemberDocumentService houseMemberDocumentService;
@@ -58,14 +66,76 @@ class HouseMemberDocumentTest {
     // given
     given(houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID))
         .willReturn(Optional.of(MEMBER_DOCUMENT));
+    given(houseMemberDocumentService.findHouseMemberDocumentContent(MEMBER_DOCUMENT,
+        DocumentRendition.ORIGINAL))
+        .willReturn(Optional.of(MEMBER_DOCUMENT_CONTENT));
     // when
-    ResponseEntity<byte[]> responseEntity =
-        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID);
+    ResponseEntity<Resource> responseEntity =
+        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID, "original", null);
     //then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
-    assertEquals(MEMBER_DOCUMENT.getDocumentContent(), responseEntity.getBody());
+    assertEquals(MEMBER_DOCUMENT_CONTENT, responseEntity.getBody());
     assertEquals(MediaType.IMAGE_JPEG, responseEntity.getHeaders().getContentType());
     verify(houseMemberDocumentService).findHouseMemberDocument(MEMBER_ID);
+    verify(houseMemberDocumentService)
+        .findHouseMemberDocumentContent(MEMBER_DOCUMENT, DocumentRendition.ORIGINAL);
+  }
+
+  @Test
+  void shouldGetDocumentNotModified() {
+    // given
+    given(houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID))
+        .willReturn(Optional.of(MEMBER_DOCUMENT));
+    // when
+    ResponseEntity<Resource> responseEntity = houseMemberDocumentController.getHouseMemberDocument(
+        MEMBER_ID, "original", "\"" + MEMBER_DOCUMENT.getContentKey() + "\"");
+    //then
+    assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+    assertEquals("\"" + MEMBER_DOCUMENT.getContentKey() + "\"",
+        responseEntity.getHeaders().getETag());
+    verify(houseMemberDocumentService, never()).findHouseMemberDocumentContent(any(), any());
+  }
+
+  @Test
+  void shouldGetDocumentRendition() {
+    // given
+    given(houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID))
+        .willReturn(Optional.of(MEMBER_DOCUMENT));
+    given(houseMemberDocumentService.findHouseMemberDocumentContent(MEMBER_DOCUMENT,
+        DocumentRendition.SMALL))
+        .willReturn(Optional.of(MEMBER_DOCUMENT_CONTENT));
+    // when
+    ResponseEntity<Resource> responseEntity =
+        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID, "small", null);
+    //then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(MEMBER_DOCUMENT_CONTENT, responseEntity.getBody());
+    assertEquals("\"test-small-content-key\"", responseEntity.getHeaders().getETag());
+  }
+
+  @Test
+  void shouldRejectUnknownDocumentSize() {
+    // when
+    ResponseEntity<Resource> responseEntity =
+        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID, "huge", null);
+    //then
+    assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    verifyNoInteractions(houseMemberDocumentService);
+  }
+
+  @Test
+  void shouldGetDocumentContentMissing() {
+    // given
+    given(houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID))
+        .willReturn(Optional.of(MEMBER_DOCUMENT));
+    given(houseMemberDocumentService.findHouseMemberDocumentContent(MEMBER_DOCUMENT,
+        DocumentRendition.ORIGINAL))
+        .willReturn(Optional.empty());
+    // when
+    ResponseEntity<Resource> responseEntity =
+        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID, "original", null);
+    //then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
   }
 
   @Test
@@ -74,8 +144,8 @@ class HouseMemberDocumentTest {
     given(houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID))
         .willReturn(Optional.empty());
     // when
-    ResponseEntity<byte[]> responseEntity =
-        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID);
+    ResponseEntity<Resource> responseEntity =
+        houseMemberDocumentController.getHouseMemberDocument(MEMBER_ID, "original", null);
     //then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
     verify(houseMemberDocumentService).findHouseMemberDocument(MEMBER_ID);
@@ -87,7 +157,7 @@ class HouseMemberDocumentTest {
     given(houseMemberDocumentService.createHouseMemberDocument(MULTIPART_FILE, MEMBER_ID))
         .willReturn(Optional.of(MEMBER_DOCUMENT));
     // when
-    ResponseEntity<byte[]> responseEntity =
+    ResponseEntity<Resource> responseEntity =
         houseMemberDocumentController.uploadHouseMemberDocument(MEMBER_ID, MULTIPART_FILE);
     //then
     assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
@@ -100,7 +170,7 @@ class HouseMemberDocumentTest {
     given(houseMemberDocumentService.createHouseMemberDocument(MULTIPART_FILE, MEMBER_ID))
         .willReturn(Optional.empty());
     // when
-    ResponseEntity<byte[]> responseEntity =
+    ResponseEntity<Resource> responseEntity =
         houseMemberDocumentController.uploadHouseMemberDocument(MEMBER_ID, MULTIPART_FILE);
     //then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -113,7 +183,7 @@ class HouseMemberDocumentTest {
     given(houseMemberDocumentService.updateHouseMemberDocument(MULTIPART_FILE, MEMBER_ID))
         .willReturn(Optional.of(MEMBER_DOCUMENT));
     // when
-    ResponseEntity<byte[]> responseEntity =
+    ResponseEntity<Resource> responseEntity =
         houseMemberDocumentController.updateHouseMemberDocument(MEMBER_ID, MULTIPART_FILE);
     //then
     assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
@@ -126,7 +196,7 @@ class HouseMemberDocumentTest {
     given(houseMemberDocumentService.updateHouseMemberDocument(MULTIPART_FILE, MEMBER_ID))
         .willReturn(Optional.empty());
     // when
-    ResponseEntity<byte[]> responseEntity =
+    ResponseEntity<Resource> responseEntity =
         houseMemberDocumentController.updateHouseMemberDocument(MEMBER_ID, MULTIPART_FILE);
     //then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
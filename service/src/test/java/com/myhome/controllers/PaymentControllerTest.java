@@ -21,17 +21,31 @@ import com.myhome.controllers.dto.PaymentDto;
 import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.mapper.SchedulePaymentApiMapper;
 import com.myhome.controllers.request.EnrichedSchedulePaymentRequest;
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.BulkPaymentSummary;
+import com.myhome.domain.BulkPaymentTemplate;
 import com.myhome.domain.Community;
+import com.myhome.domain.CommunityAdminAssignment;
 import com.myhome.domain.CommunityHouse;
 import com.myhome.domain.HouseMember;
 import com.myhome.domain.HouseMemberDocument;
 import com.myhome.domain.Payment;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.domain.PaymentParticipants;
+import com.myhome.domain.PaymentSearchFilter;
+import com.myhome.domain.PaymentSummary;
 import com.myhome.domain.User;
 import com.myhome.model.AdminPayment;
+import com.myhome.model.BulkSchedulePaymentRequest;
+import com.myhome.model.BulkSchedulePaymentResponse;
 import com.myhome.model.HouseMemberDto;
 import com.myhome.model.ListAdminPaymentsResponse;
 import com.myhome.model.ListMemberPaymentsResponse;
 import com.myhome.model.MemberPayment;
+import com.myhome.model.PaymentBalanceResponse;
+import com.myhome.model.PaymentSearchResult;
+import com.myhome.model.RebuildBalancesResponse;
+import com.myhome.model.SearchPaymentsResponse;
 import com.myhome.services.CommunityService;
 import com.myhome.services.PaymentService;
 import com.myhome.utils.PageInfo;
@@ -46,19 +60,26 @@ import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -141,9 +162,9 @@ class PaymentControllerTest {
   private Community getMockCommunity(Set<User> admins) {
     Community community =
         new Community(admins, new HashSet<>(), TEST_COMMUNITY_NAME, TEST_COMMUNITY_ID,
-            TEST_COMMUNITY_DISTRICT, new HashSet<>());
+            TEST_COMMUNITY_DISTRICT, new HashSet<>(), 0L);
     User admin = new User(COMMUNITY_ADMIN_NAME, TEST_ADMIN_ID, COMMUNITY_ADMIN_EMAIL, false,
-        COMMUNITY_ADMIN_PASSWORD, new HashSet<>(), new HashSet<>());
+        COMMUNITY_ADMIN_PASSWORD, new HashSet<>(), new HashSet<>(), 0);
     community.getAdmins().add(admin);
     admin.getCommunities().add(community);
 
@@ -166,14 +187,14 @@ class PaymentControllerTest {
   private Payment getMockPayment() {
     User admin =
         new User(TEST_ADMIN_NAME, TEST_ADMIN_ID, TEST_ADMIN_EMAIL, false, TEST_ADMIN_PASSWORD,
-            new HashSet<>(), new HashSet<>());
+            new HashSet<>(), new HashSet<>(), 0);
     Community community = getMockCommunity(new HashSet<>());
     community.getAdmins().add(admin);
     admin.getCommunities().add(community);
     return new Payment(TEST_ID, TEST_CHARGE, TEST_TYPE, TEST_DESCRIPTION, TEST_RECURRING,
         LocalDate.parse(TEST_DUE_DATE, DateTimeFormatter.ofPattern("yyyy-MM-dd")), admin,
         new HouseMember(TEST_MEMBER_ID, new HouseMemberDocument(), TEST_MEMBER_NAME,
-            new CommunityHouse()));
+            new CommunityHouse()), null);
   }
 
   @Test
@@ -191,10 +212,8 @@ class PaymentControllerTest {
 
     EnrichedSchedulePaymentRequest enrichedRequest =
         new EnrichedSchedulePaymentRequest(TEST_TYPE, TEST_DESCRIPTION, TEST_RECURRING, TEST_CHARGE,
-            TEST_DUE_DATE, TEST_ADMIN_ID, 1L, TEST_ADMIN_NAME, TEST_ADMIN_EMAIL,
-            TEST_ADMIN_PASSWORD, new HashSet<>(Collections.singletonList(TEST_COMMUNITY_ID)),
-            TEST_MEMBER_ID,
-            2L, "", TEST_MEMBER_NAME, COMMUNITY_HOUSE_ID);
+            TEST_DUE_DATE, TEST_ADMIN_ID, 1L, TEST_MEMBER_ID, 2L);
+    PaymentParticipants participants = new PaymentParticipants(1L, 2L);
     PaymentDto paymentDto = createTestPaymentDto();
     com.myhome.model.SchedulePaymentResponse response =
         new com.myhome.model.SchedulePaymentResponse()
@@ -207,16 +226,9 @@ class PaymentControllerTest {
             .adminId(TEST_ADMIN_ID)
             .memberId(TEST_MEMBER_ID);
 
-    Community community = getMockCommunity(new HashSet<>());
-
-    HouseMember member = new HouseMember(TEST_MEMBER_ID, null, TEST_MEMBER_NAME,
-        community.getHouses().iterator().next());
-
-    community.getHouses().iterator().next().getHouseMembers().add(member);
-
-    User admin = community.getAdmins().iterator().next();
-
-    given(paymentApiMapper.enrichSchedulePaymentRequest(request, admin, member))
+    given(paymentService.findPaymentParticipants(TEST_MEMBER_ID, TEST_ADMIN_ID))
+        .willReturn(Optional.of(participants));
+    given(paymentApiMapper.enrichSchedulePaymentRequest(request, participants))
         .willReturn(enrichedRequest);
     given(paymentApiMapper.enrichedSchedulePaymentRequestToPaymentDto(enrichedRequest))
         .willReturn(paymentDto);
@@ -224,10 +236,6 @@ class PaymentControllerTest {
         .willReturn(paymentDto);
     given(paymentApiMapper.paymentToSchedulePaymentResponse(paymentDto))
         .willReturn(response);
-    given(paymentService.getHouseMember(TEST_MEMBER_ID))
-        .willReturn(Optional.of(member));
-    given(communityService.findCommunityAdminById(TEST_ADMIN_ID))
-        .willReturn(Optional.of(community.getAdmins().iterator().next()));
 
     //when
     ResponseEntity<com.myhome.model.SchedulePaymentResponse> responseEntity =
@@ -236,11 +244,13 @@ class PaymentControllerTest {
     //then
     assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
     assertEquals(response, responseEntity.getBody());
-    verify(paymentApiMapper).enrichSchedulePaymentRequest(request, admin, member);
+    verify(paymentService).findPaymentParticipants(TEST_MEMBER_ID, TEST_ADMIN_ID);
+    verify(paymentApiMapper).enrichSchedulePaymentRequest(request, participants);
     verify(paymentApiMapper).enrichedSchedulePaymentRequestToPaymentDto(enrichedRequest);
     verify(paymentService).schedulePayment(paymentDto);
     verify(paymentApiMapper).paymentToSchedulePaymentResponse(paymentDto);
-    verify(paymentService).getHouseMember(TEST_MEMBER_ID);
+    verify(paymentService, never()).getHouseMember(TEST_MEMBER_ID);
+    verifyNoInteractions(communityService);
   }
 
   @Test
@@ -372,9 +382,11 @@ class PaymentControllerTest {
     //then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
     assertNull(responseEntity.getBody());
+    verify(paymentService).findPaymentParticipants(TEST_MEMBER_ID, TEST_ADMIN_ID);
     verify(paymentService).getHouseMember(TEST_MEMBER_ID);
     verifyNoInteractions(paymentApiMapper);
     verify(communityService).findCommunityAdminById(TEST_ADMIN_ID);
+    verify(paymentService, never()).schedulePayment(any());
   }
 
   @Test
@@ -433,7 +445,7 @@ class PaymentControllerTest {
 
     //when
     ResponseEntity<ListMemberPaymentsResponse> responseEntity =
-        paymentController.listAllMemberPayments(TEST_MEMBER_ID);
+        paymentController.listAllMemberPayments(TEST_MEMBER_ID, TEST_PAGEABLE);
 
     //then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -456,9 +468,10 @@ class PaymentControllerTest {
     Set<Payment> payments = new HashSet<>();
     Payment mockPayment = getMockPayment();
     payments.add(mockPayment);
+    PageImpl<Payment> page = new PageImpl<>(new ArrayList<>(payments));
 
-    given(paymentService.getPaymentsByMember(TEST_MEMBER_ID))
-        .willReturn(payments);
+    given(paymentService.getPaymentsByMember(TEST_MEMBER_ID, TEST_PAGEABLE))
+        .willReturn(page);
 
     Set<MemberPayment> paymentResponses = new HashSet<>();
     paymentResponses.add(
@@ -468,20 +481,21 @@ class PaymentControllerTest {
             .charge(TEST_CHARGE)
             .dueDate(TEST_DUE_DATE));
 
-    ListMemberPaymentsResponse expectedResponse =
-        new ListMemberPaymentsResponse().payments(paymentResponses);
+    ListMemberPaymentsResponse expectedResponse = new ListMemberPaymentsResponse()
+        .payments(paymentResponses)
+        .pageInfo(PageInfo.of(TEST_PAGEABLE, page));
 
     given(paymentApiMapper.memberPaymentSetToRestApiResponseMemberPaymentSet(payments))
         .willReturn(paymentResponses);
 
     // when
     ResponseEntity<ListMemberPaymentsResponse> responseEntity =
-        paymentController.listAllMemberPayments(TEST_MEMBER_ID);
+        paymentController.listAllMemberPayments(TEST_MEMBER_ID, TEST_PAGEABLE);
 
     // then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
     assertEquals(responseEntity.getBody(), expectedResponse);
-    verify(paymentService).getPaymentsByMember(TEST_MEMBER_ID);
+    verify(paymentService).getPaymentsByMember(TEST_MEMBER_ID, TEST_PAGEABLE);
     verify(paymentApiMapper).memberPaymentSetToRestApiResponseMemberPaymentSet(payments);
   }
 
@@ -522,7 +536,7 @@ class PaymentControllerTest {
     given(paymentService.getPaymentsByAdmin(TEST_ADMIN_ID, TEST_PAGEABLE))
         .willReturn(new PageImpl<>(payments));
     given(communityService.addAdminsToCommunity(TEST_ID, adminIds))
-        .willReturn(Optional.of(community));
+        .willReturn(Optional.of(new CommunityAdminAssignment(adminIds, new HashSet<>())));
 
     Set<AdminPayment> responsePayments = new HashSet<>();
     responsePayments.add(
@@ -543,7 +557,7 @@ class PaymentControllerTest {
     //when
     ResponseEntity<ListAdminPaymentsResponse> responseEntity =
         paymentController.listAllAdminScheduledPayments(TEST_ID, TEST_ADMIN_ID,
-            TEST_PAGEABLE);
+            TEST_PAGEABLE, false);
 
     //then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -554,6 +568,34 @@ class PaymentControllerTest {
         new HashSet<>(payments));
   }
 
+  @Test
+  void shouldGetAdminPaymentsSliceWithoutTotals() {
+    //given
+    List<Payment> payments = new ArrayList<>();
+    payments.add(getMockPayment());
+    Community community = getMockCommunity(new HashSet<>());
+    SliceImpl<Payment> slice = new SliceImpl<>(payments, TEST_PAGEABLE, true);
+
+    given(communityService.getCommunityDetailsByIdWithAdmins(TEST_ID))
+        .willReturn(Optional.of(community));
+    given(paymentService.getPaymentSliceByAdmin(TEST_ADMIN_ID, TEST_PAGEABLE))
+        .willReturn(slice);
+    given(paymentApiMapper.adminPaymentSetToRestApiResponseAdminPaymentSet(new HashSet<>(payments)))
+        .willReturn(new HashSet<>());
+
+    //when
+    ResponseEntity<ListAdminPaymentsResponse> responseEntity =
+        paymentController.listAllAdminScheduledPayments(TEST_ID, TEST_ADMIN_ID,
+            TEST_PAGEABLE, true);
+
+    //then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(PageInfo.ofSlice(TEST_PAGEABLE, slice), responseEntity.getBody().getPageInfo());
+    assertTrue(responseEntity.getBody().getPageInfo().isHasNext());
+    assertNull(responseEntity.getBody().getPageInfo().getTotalElements());
+    verify(paymentService, never()).getPaymentsByAdmin(TEST_ADMIN_ID, TEST_PAGEABLE);
+  }
+
   @Test
   void shouldReturnNotFoundWhenAdminIsNotInCommunity() {
     //given
@@ -565,7 +607,7 @@ class PaymentControllerTest {
     //when
     ResponseEntity<ListAdminPaymentsResponse> responseEntity =
         paymentController.listAllAdminScheduledPayments(TEST_ID, notAdminFromCommunity,
-            TEST_PAGEABLE);
+            TEST_PAGEABLE, false);
 
     //then
     assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -586,7 +628,7 @@ class PaymentControllerTest {
     final RuntimeException runtimeException = assertThrows(
         RuntimeException.class,
         () -> paymentController.listAllAdminScheduledPayments(TEST_ID, TEST_ADMIN_ID,
-            TEST_PAGEABLE)
+            TEST_PAGEABLE, false)
     );
 
     //then
@@ -595,4 +637,186 @@ class PaymentControllerTest {
     verifyNoInteractions(paymentService);
     verifyNoInteractions(paymentApiMapper);
   }
+
+  @Test
+  void shouldSearchAdminPayments() {
+    //given
+    Community community = getMockCommunity(new HashSet<>());
+    LocalDate dueDateFrom = LocalDate.parse(TEST_DUE_DATE);
+    PaymentSearchFilter filter = PaymentSearchFilter.builder()
+        .dueDateFrom(dueDateFrom)
+        .type(TEST_TYPE)
+        .minCharge(TEST_CHARGE)
+        .build();
+    List<PaymentSummary> summaries = Collections.singletonList(
+        new PaymentSummary(TEST_ID, TEST_MEMBER_ID, TEST_TYPE, TEST_CHARGE, TEST_RECURRING,
+            dueDateFrom));
+    SliceImpl<PaymentSummary> slice = new SliceImpl<>(summaries, TEST_PAGEABLE, true);
+    List<PaymentSearchResult> results = Collections.singletonList(new PaymentSearchResult()
+        .paymentId(TEST_ID)
+        .memberId(TEST_MEMBER_ID)
+        .type(TEST_TYPE)
+        .charge(TEST_CHARGE)
+        .recurring(TEST_RECURRING)
+        .dueDate(TEST_DUE_DATE));
+
+    given(communityService.getCommunityDetailsByIdWithAdmins(TEST_ID))
+        .willReturn(Optional.of(community));
+    given(paymentService.searchPaymentsByAdmin(eq(TEST_ADMIN_ID), any(), eq(TEST_PAGEABLE)))
+        .willReturn(slice);
+    given(paymentApiMapper.paymentSummariesToPaymentSearchResults(summaries))
+        .willReturn(results);
+
+    //when
+    ResponseEntity<SearchPaymentsResponse> responseEntity =
+        paymentController.searchAdminPayments(TEST_ID, TEST_ADMIN_ID, dueDateFrom, null,
+            TEST_TYPE, null, TEST_CHARGE, null, TEST_PAGEABLE);
+
+    //then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(results, responseEntity.getBody().getPayments());
+    assertEquals(PageInfo.ofSlice(TEST_PAGEABLE, slice), responseEntity.getBody().getPageInfo());
+    ArgumentCaptor<PaymentSearchFilter> filterCaptor =
+        ArgumentCaptor.forClass(PaymentSearchFilter.class);
+    verify(paymentService).searchPaymentsByAdmin(eq(TEST_ADMIN_ID), filterCaptor.capture(),
+        eq(TEST_PAGEABLE));
+    assertEquals(dueDateFrom, filterCaptor.getValue().getDueDateFrom());
+    assertNull(filterCaptor.getValue().getDueDateTo());
+    assertEquals(TEST_TYPE, filterCaptor.getValue().getType());
+    assertNull(filterCaptor.getValue().getRecurring());
+    assertEquals(TEST_CHARGE, filterCaptor.getValue().getMinCharge());
+    assertNull(filterCaptor.getValue().getMaxCharge());
+  }
+
+  @Test
+  void shouldNotSearchPaymentsWhenAdminIsNotInCommunity() {
+    //given
+    Community community = getMockCommunity(new HashSet<>());
+    given(communityService.getCommunityDetailsByIdWithAdmins(TEST_ID))
+        .willReturn(Optional.of(community));
+
+    //when
+    ResponseEntity<SearchPaymentsResponse> responseEntity =
+        paymentController.searchAdminPayments(TEST_ID, "2", null, null, null, null, null, null,
+            TEST_PAGEABLE);
+
+    //then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verifyNoInteractions(paymentService);
+  }
+
+  @Test
+  void shouldScheduleBulkPayments() {
+    //given
+    BulkSchedulePaymentRequest request = new BulkSchedulePaymentRequest()
+        .type(TEST_TYPE)
+        .description(TEST_DESCRIPTION)
+        .charge(TEST_CHARGE)
+        .dueDate(LocalDate.parse(TEST_DUE_DATE))
+        .houseId(COMMUNITY_HOUSE_ID);
+    BulkPaymentSummary summary = new BulkPaymentSummary(2, TEST_CHARGE.multiply(BigDecimal.valueOf(2)));
+    BulkSchedulePaymentResponse response = new BulkSchedulePaymentResponse()
+        .scheduledPayments(2)
+        .totalCharge(summary.getTotalCharge());
+
+    given(paymentService.scheduleBulkPayments(eq(TEST_COMMUNITY_ID), eq(TEST_ADMIN_ID),
+        eq(COMMUNITY_HOUSE_ID), any())).willReturn(Optional.of(summary));
+    given(paymentApiMapper.bulkPaymentSummaryToBulkSchedulePaymentResponse(summary))
+        .willReturn(response);
+
+    //when
+    ResponseEntity<BulkSchedulePaymentResponse> responseEntity =
+        paymentController.scheduleBulkPayments(TEST_COMMUNITY_ID, TEST_ADMIN_ID, request);
+
+    //then
+    assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
+    assertEquals(response, responseEntity.getBody());
+    ArgumentCaptor<BulkPaymentTemplate> templateCaptor =
+        ArgumentCaptor.forClass(BulkPaymentTemplate.class);
+    verify(paymentService).scheduleBulkPayments(eq(TEST_COMMUNITY_ID), eq(TEST_ADMIN_ID),
+        eq(COMMUNITY_HOUSE_ID), templateCaptor.capture());
+    assertEquals(TEST_TYPE, templateCaptor.getValue().getType());
+    assertEquals(TEST_DESCRIPTION, templateCaptor.getValue().getDescription());
+    assertEquals(TEST_CHARGE, templateCaptor.getValue().getCharge());
+    assertEquals(LocalDate.parse(TEST_DUE_DATE), templateCaptor.getValue().getDueDate());
+    assertFalse(templateCaptor.getValue().isRecurring());
+  }
+
+  @Test
+  void shouldNotScheduleBulkPaymentsWhenAdminIsNotInCommunity() {
+    //given
+    BulkSchedulePaymentRequest request = new BulkSchedulePaymentRequest()
+        .type(TEST_TYPE)
+        .description(TEST_DESCRIPTION)
+        .charge(TEST_CHARGE)
+        .dueDate(LocalDate.parse(TEST_DUE_DATE));
+
+    given(paymentService.scheduleBulkPayments(eq(TEST_COMMUNITY_ID), eq(TEST_ADMIN_ID),
+        eq(null), any())).willReturn(Optional.empty());
+
+    //when
+    ResponseEntity<BulkSchedulePaymentResponse> responseEntity =
+        paymentController.scheduleBulkPayments(TEST_COMMUNITY_ID, TEST_ADMIN_ID, request);
+
+    //then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verifyNoInteractions(paymentApiMapper);
+  }
+
+  @Test
+  void shouldGetMemberBalance() {
+    //given
+    PaymentBalance balance =
+        new PaymentBalance(PaymentBalance.OwnerType.MEMBER, 1L, TEST_CHARGE, 1);
+    PaymentBalanceResponse response = new PaymentBalanceResponse()
+        .totalCharge(TEST_CHARGE)
+        .paymentCount(1L);
+
+    given(paymentService.getMemberBalance(TEST_MEMBER_ID)).willReturn(Optional.of(balance));
+    given(paymentApiMapper.paymentBalanceToPaymentBalanceResponse(balance)).willReturn(response);
+
+    //when
+    ResponseEntity<PaymentBalanceResponse> responseEntity =
+        paymentController.getMemberBalance(TEST_MEMBER_ID);
+
+    //then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(response, responseEntity.getBody());
+  }
+
+  @Test
+  void shouldNotGetHouseBalanceWhenHouseNotExists() {
+    //given
+    given(paymentService.getHouseBalance(COMMUNITY_HOUSE_ID)).willReturn(Optional.empty());
+
+    //when
+    ResponseEntity<PaymentBalanceResponse> responseEntity =
+        paymentController.getHouseBalance(COMMUNITY_HOUSE_ID);
+
+    //then
+    assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    verifyNoInteractions(paymentApiMapper);
+  }
+
+  @Test
+  void shouldRebuildBalances() {
+    //given
+    BalanceRebuildReport report = new BalanceRebuildReport(3, 1, 2);
+    RebuildBalancesResponse response = new RebuildBalancesResponse()
+        .membersChecked(3)
+        .housesChecked(1)
+        .balancesCorrected(2);
+
+    given(paymentService.rebuildBalances(TEST_COMMUNITY_ID)).willReturn(Optional.of(report));
+    given(paymentApiMapper.balanceRebuildReportToRebuildBalancesResponse(report))
+        .willReturn(response);
+
+    //when
+    ResponseEntity<RebuildBalancesResponse> responseEntity =
+        paymentController.rebuildBalances(TEST_COMMUNITY_ID);
+
+    //then
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(response, responseEntity.getBody());
+  }
 }
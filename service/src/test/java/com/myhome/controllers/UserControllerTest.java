@@ -125,7 +125,8 @@ class UserControllerTest {
     PageRequest pageRequest = PageRequest.of(start, limit);
 
     Set<User> users = new HashSet<>();
-    users.add(new User(TEST_NAME, TEST_ID, TEST_EMAIL, false, TEST_PASSWORD, new HashSet<>(), new HashSet<>()));
+    users.add(new User(TEST_NAME, TEST_ID, TEST_EMAIL, false, TEST_PASSWORD, new HashSet<>(),
+        new HashSet<>(), 0));
 
     Set<GetUserDetailsResponseUser> responseUsers = new HashSet<>();
     responseUsers.add(
@@ -145,7 +146,7 @@ class UserControllerTest {
 
     // when
     ResponseEntity<GetUserDetailsResponse> responseEntity =
-        userController.listAllUsers(pageRequest);
+        userController.listAllUsers(pageRequest, null);
 
     // then
     assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -277,7 +278,7 @@ class UserControllerTest {
 
     // when
     ResponseEntity<ListHouseMembersResponse> response =
-        userController.listAllHousemates(userId, pageRequest);
+        userController.listAllHousemates(userId, pageRequest, null);
 
     // then
     assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -317,7 +318,7 @@ class UserControllerTest {
 
     // when
     ResponseEntity<ListHouseMembersResponse> response =
-        userController.listAllHousemates(userId, pageRequest);
+        userController.listAllHousemates(userId, pageRequest, null);
 
     // then
     assertEquals(HttpStatus.OK, response.getStatusCode());
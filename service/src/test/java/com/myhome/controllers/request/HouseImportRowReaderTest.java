@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.controllers.request;
+
+import com.myhome.controllers.exceptions.InvalidHouseImportException;
+import com.myhome.domain.HouseImportRow;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HouseImportRowReaderTest {
+
+  @Test
+  void readCsvRows() {
+    // given
+    String csv = "Member,House\n"
+        + "Alice,House 1\n"
+        + "\n"
+        + "\"Bob \"\"Junior\"\"\",\"House, 2\"\n"
+        + ",House 3\n";
+
+    // when
+    List<HouseImportRow> rows = readAll(csv);
+
+    // then
+    assertEquals(3, rows.size());
+    assertRow(rows.get(0), 2, "House 1", "Alice");
+    assertRow(rows.get(1), 4, "House, 2", "Bob \"Junior\"");
+    assertRow(rows.get(2), 5, "House 3", null);
+  }
+
+  @Test
+  void readMalformedCsvRows() {
+    // given
+    String csv = "member,house\n"
+        + "Alice\n"
+        + "\"House 1,Bob\n";
+
+    // when
+    List<HouseImportRow> rows = readAll(csv);
+
+    // then
+    assertEquals(2, rows.size());
+    assertEquals(2, rows.get(0).getLine());
+    assertEquals("Missing house column", rows.get(0).getError());
+    assertEquals(3, rows.get(1).getLine());
+    assertEquals("Unterminated quoted field", rows.get(1).getError());
+  }
+
+  @Test
+  void readCsvWithoutHouseColumn() {
+    // when and then
+    assertThrows(InvalidHouseImportException.class,
+        () -> HouseImportRowReader.open(stream("name,member\nHouse 1,Alice\n")));
+  }
+
+  @Test
+  void readJsonRows() {
+    // given
+    String ndjson = "\n"
+        + "{\"house\": \"House 1\", \"member\": \"Alice\"}\n"
+        + "{\"house\": \"House 2\"}\n"
+        + "{\"house\": 2}\n"
+        + "[\"House 3\"]\n"
+        + "{\"house\": \n";
+
+    // when
+    List<HouseImportRow> rows = readAll(ndjson);
+
+    // then
+    assertEquals(5, rows.size());
+    assertRow(rows.get(0), 2, "House 1", "Alice");
+    assertRow(rows.get(1), 3, "House 2", null);
+    assertEquals("Field house is not a string", rows.get(2).getError());
+    assertEquals("Row is not a JSON object", rows.get(3).getError());
+    assertEquals("Malformed JSON", rows.get(4).getError());
+    assertEquals(6, rows.get(4).getLine());
+  }
+
+  @Test
+  void readEmptyInput() {
+    // when and then
+    assertEquals(0, readAll("\n\n").size());
+  }
+
+  private static void assertRow(HouseImportRow row, long line, String houseName,
+      String memberName) {
+    assertNull(row.getError());
+    assertEquals(line, row.getLine());
+    assertEquals(houseName, row.getHouseName());
+    assertEquals(memberName, row.getMemberName());
+  }
+
+  private static List<HouseImportRow> readAll(String content) {
+    List<HouseImportRow> rows = new ArrayList<>();
+    try (HouseImportRowReader reader = HouseImportRowReader.open(stream(content))) {
+      reader.forEachRemaining(rows::add);
+    }
+    return rows;
+  }
+
+  private static ByteArrayInputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the guarded admin link inserts against the embedded database, with the communities and
+ * users of data.sql.
+ */
+@DataJpaTest
+@Import(CommunityAdminLinkRepository.class)
+class CommunityAdminLinkRepositoryTest {
+
+  // community administered by user 1 only, from data.sql
+  private static final long TEST_COMMUNITY_PK = 1L;
+
+  @Autowired
+  private CommunityAdminLinkRepository communityAdminLinkRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void insertAdminsSkipsExistingLinks() {
+    // when
+    communityAdminLinkRepository.insertAdmins(TEST_COMMUNITY_PK, Arrays.asList(0L, 1L, 2L));
+    communityAdminLinkRepository.insertAdmins(TEST_COMMUNITY_PK, Collections.singletonList(2L));
+
+    // then
+    List<Long> adminIds = jdbcTemplate.queryForList("select admins_id from community_admins "
+        + "where communities_id = ? order by admins_id", Long.class, TEST_COMMUNITY_PK);
+    assertEquals(Arrays.asList(0L, 1L, 2L), adminIds);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.repositories.PaymentLedgerRepository.MemberCharge;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the set-based deletions against the embedded database, with the communities, houses and
+ * members of data.sql.
+ */
+@DataJpaTest
+@Import({CommunityDeletionRepository.class, PaymentLedgerRepository.class})
+class CommunityDeletionRepositoryTest {
+
+  // community with its house and members from data.sql
+  private static final long TEST_COMMUNITY_PK = 0L;
+  private static final long TEST_HOUSE_PK = 0L;
+  private static final long TEST_MEMBER_PK = 0L;
+  private static final long OTHER_MEMBER_PK = 1L;
+  private static final String TEST_MEMBER_ID = "default-member-id-for-testing";
+
+  @Autowired
+  private CommunityDeletionRepository communityDeletionRepository;
+
+  @Autowired
+  private PaymentLedgerRepository paymentLedgerRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private List<Long> houseIds;
+
+  @BeforeEach
+  void setUp() {
+    houseIds = jdbcTemplate.queryForList("select id from community_house where community_id = ?",
+        Long.class, TEST_COMMUNITY_PK);
+    paymentLedgerRepository.addPayments(Arrays.asList(
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("10.00")),
+        new MemberCharge(OTHER_MEMBER_PK, new BigDecimal("2.00"))));
+    // balances of the houses without payments
+    jdbcTemplate.update("insert into payment_balance "
+        + "(owner_type, owner_id, total_charge, payment_count) "
+        + "select 'HOUSE', id, 0, 0 from community_house "
+        + "where community_id = ? and id <> ?", TEST_COMMUNITY_PK, TEST_HOUSE_PK);
+  }
+
+  @Test
+  void deleteHousesDeletesTheirBalances() {
+    // when
+    int deleted = communityDeletionRepository.deleteHouses(
+        Collections.singletonList(TEST_HOUSE_PK));
+
+    // then
+    assertEquals(1, deleted);
+    assertEquals(0, countHouseBalances(Collections.singletonList(TEST_HOUSE_PK)));
+    assertEquals(houseIds.size() - 1, countHouseBalances(houseIds));
+    assertMemberBalanceKept();
+  }
+
+  @Test
+  void deleteCommunityDeletesBalancesOfItsHouses() {
+    // when
+    boolean deleted = communityDeletionRepository.deleteCommunity(TEST_COMMUNITY_PK);
+
+    // then
+    assertTrue(deleted);
+    assertEquals(0, countHouseBalances(houseIds));
+    assertMemberBalanceKept();
+  }
+
+  // members leave their houses with their balances, which the house balances no longer include
+  private void assertMemberBalanceKept() {
+    assertEquals(new BigDecimal("10.00"),
+        paymentLedgerRepository.findMemberBalance(TEST_MEMBER_ID).get().getTotalCharge());
+  }
+
+  private int countHouseBalances(List<Long> ids) {
+    return jdbcTemplate.queryForObject("select count(*) from payment_balance "
+            + "where owner_type = 'HOUSE' and owner_id in ("
+            + String.join(",", Collections.nCopies(ids.size(), "?")) + ")",
+        Long.class, ids.toArray()).intValue();
+  }
+}
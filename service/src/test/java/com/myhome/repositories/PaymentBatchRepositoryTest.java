@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.domain.BulkPaymentTemplate;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the payment batch inserts against the embedded database, with the admin and members of
+ * data.sql.
+ */
+@DataJpaTest
+@Import(PaymentBatchRepository.class)
+class PaymentBatchRepositoryTest {
+
+  // admin and members from data.sql
+  private static final long TEST_ADMIN_PK = 0L;
+  private static final List<Long> TEST_MEMBER_PKS = Arrays.asList(0L, 1L, 3091L);
+  private static final String TEST_TYPE = "batch-test-fee";
+
+  @Autowired
+  private PaymentBatchRepository paymentBatchRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void insertWritesOnePaymentPerMemberAcrossBatches() {
+    // given
+    BulkPaymentTemplate template = BulkPaymentTemplate.builder()
+        .type(TEST_TYPE)
+        .description("batch test payment")
+        .charge(new BigDecimal("7.25"))
+        .dueDate(LocalDate.of(2020, 3, 1))
+        .recurring(true)
+        .build();
+
+    // when
+    paymentBatchRepository.insert(template, TEST_ADMIN_PK, TEST_MEMBER_PKS, 2);
+
+    // then
+    List<Map<String, Object>> payments = jdbcTemplate.queryForList("select member_id, admin_id, "
+        + "charge, due_date, recurring, payment_id from payment where type = ? "
+        + "order by member_id", TEST_TYPE);
+    assertEquals(TEST_MEMBER_PKS.size(), payments.size());
+    for (int i = 0; i < payments.size(); i++) {
+      Map<String, Object> payment = payments.get(i);
+      assertEquals(TEST_MEMBER_PKS.get(i), ((Number) payment.get("MEMBER_ID")).longValue());
+      assertEquals(TEST_ADMIN_PK, ((Number) payment.get("ADMIN_ID")).longValue());
+      assertEquals(new BigDecimal("7.25"), payment.get("CHARGE"));
+      assertEquals(Date.valueOf(template.getDueDate()), payment.get("DUE_DATE"));
+      assertEquals(true, payment.get("RECURRING"));
+    }
+    assertEquals(TEST_MEMBER_PKS.size(), jdbcTemplate.queryForObject(
+        "select count(distinct payment_id) from payment where type = ?", Long.class, TEST_TYPE)
+        .intValue());
+  }
+}
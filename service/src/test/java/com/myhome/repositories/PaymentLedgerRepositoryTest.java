@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.repositories.PaymentLedgerRepository.MemberCharge;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the ledger statements against the embedded database, with the houses and members of
+ * data.sql.
+ */
+@DataJpaTest
+@Import(PaymentLedgerRepository.class)
+class PaymentLedgerRepositoryTest {
+
+  // community, house and members from data.sql
+  private static final long TEST_COMMUNITY_PK = 0L;
+  private static final String TEST_HOUSE_ID = "default-house-id-for-testing";
+  private static final long TEST_MEMBER_PK = 0L;
+  private static final String TEST_MEMBER_ID = "default-member-id-for-testing";
+  private static final long OTHER_MEMBER_PK = 1L;
+  private static final String OTHER_MEMBER_ID = "d296cfc2-35ed-4a72-8e29-a235a69165c5";
+  private static final long TEST_ADMIN_PK = 0L;
+
+  @Autowired
+  private PaymentLedgerRepository paymentLedgerRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void addPaymentsCreatesAndAddsToBalances() {
+    // when
+    paymentLedgerRepository.addPayments(Arrays.asList(
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("10.00")),
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("5.50")),
+        new MemberCharge(OTHER_MEMBER_PK, new BigDecimal("2.00"))));
+    paymentLedgerRepository.addPayments(Collections.singletonList(
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("1.25"))));
+
+    // then
+    assertBalance(paymentLedgerRepository.findMemberBalance(TEST_MEMBER_ID).get(), "16.75", 3);
+    assertBalance(paymentLedgerRepository.findMemberBalance(OTHER_MEMBER_ID).get(), "2.00", 1);
+    assertBalance(paymentLedgerRepository.findHouseBalance(TEST_HOUSE_ID).get(), "18.75", 4);
+  }
+
+  @Test
+  void removeMemberFromHouseSubtractsItsBalance() {
+    // given
+    paymentLedgerRepository.addPayments(Arrays.asList(
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("10.00")),
+        new MemberCharge(OTHER_MEMBER_PK, new BigDecimal("2.00"))));
+
+    // when
+    paymentLedgerRepository.removeMemberFromHouse(TEST_MEMBER_ID, TEST_HOUSE_ID);
+
+    // then
+    assertBalance(paymentLedgerRepository.findHouseBalance(TEST_HOUSE_ID).get(), "2.00", 1);
+    assertBalance(paymentLedgerRepository.findMemberBalance(TEST_MEMBER_ID).get(), "10.00", 1);
+  }
+
+  @Test
+  void rebuildCommunityCorrectsOnlyDriftedBalances() {
+    // given
+    insertPayment(TEST_MEMBER_PK, "10.00");
+    insertPayment(TEST_MEMBER_PK, "5.00");
+    insertPayment(OTHER_MEMBER_PK, "2.00");
+    paymentLedgerRepository.addPayments(Arrays.asList(
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("10.00")),
+        new MemberCharge(TEST_MEMBER_PK, new BigDecimal("5.00")),
+        new MemberCharge(OTHER_MEMBER_PK, new BigDecimal("2.00"))));
+    jdbcTemplate.update("update payment_balance set total_charge = total_charge + 1 "
+        + "where owner_type = 'MEMBER' and owner_id = ?", TEST_MEMBER_PK);
+
+    // when
+    BalanceRebuildReport report = paymentLedgerRepository.rebuildCommunity(TEST_COMMUNITY_PK);
+
+    // then
+    assertEquals(1, report.getBalancesCorrected());
+    assertBalance(paymentLedgerRepository.findMemberBalance(TEST_MEMBER_ID).get(), "15.00", 2);
+    assertBalance(paymentLedgerRepository.findMemberBalance(OTHER_MEMBER_ID).get(), "2.00", 1);
+    assertBalance(paymentLedgerRepository.findHouseBalance(TEST_HOUSE_ID).get(), "17.00", 3);
+  }
+
+  @Test
+  void rebuildCommunityCreatesMissingBalances() {
+    // given
+    insertPayment(TEST_MEMBER_PK, "10.00");
+
+    // when
+    BalanceRebuildReport report = paymentLedgerRepository.rebuildCommunity(TEST_COMMUNITY_PK);
+    Long balanceRows = jdbcTemplate.queryForObject("select count(*) from payment_balance "
+        + "where owner_type = 'HOUSE' and owner_id in "
+        + "(select id from community_house where community_id = ?)", Long.class,
+        TEST_COMMUNITY_PK);
+
+    // then
+    assertEquals(report.getHousesChecked(), balanceRows.intValue());
+    assertBalance(paymentLedgerRepository.findMemberBalance(TEST_MEMBER_ID).get(), "10.00", 1);
+    assertBalance(paymentLedgerRepository.findMemberBalance(OTHER_MEMBER_ID).get(), "0.00", 0);
+    assertBalance(paymentLedgerRepository.findHouseBalance(TEST_HOUSE_ID).get(), "10.00", 1);
+  }
+
+  private void insertPayment(long memberId, String charge) {
+    jdbcTemplate.update("insert into payment (payment_id, charge, type, description, "
+            + "recurring, due_date, admin_id, member_id) values (?, ?, ?, ?, ?, ?, ?, ?)",
+        UUID.randomUUID().toString(), new BigDecimal(charge), "ledger-test",
+        "ledger test payment", false, Date.valueOf(LocalDate.of(2020, 1, 1)), TEST_ADMIN_PK,
+        memberId);
+  }
+
+  private static void assertBalance(PaymentBalance balance, String totalCharge,
+      long paymentCount) {
+    assertEquals(new BigDecimal(totalCharge), balance.getTotalCharge());
+    assertEquals(paymentCount, balance.getPaymentCount());
+  }
+}
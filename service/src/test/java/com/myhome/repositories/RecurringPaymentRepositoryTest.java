@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import com.myhome.repositories.RecurringPaymentRepository.DuePayment;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the guarded occurrence inserts against the embedded database, with the members of
+ * data.sql.
+ */
+@DataJpaTest
+@Import({RecurringPaymentRepository.class, PaymentLedgerRepository.class})
+class RecurringPaymentRepositoryTest {
+
+  // admin and member from data.sql
+  private static final long TEST_ADMIN_PK = 0L;
+  private static final long TEST_MEMBER_PK = 0L;
+  private static final String TEST_MEMBER_ID = "default-member-id-for-testing";
+  private static final LocalDate TEST_DUE_DATE = LocalDate.of(2020, 1, 15);
+
+  @Autowired
+  private RecurringPaymentRepository recurringPaymentRepository;
+
+  @Autowired
+  private PaymentLedgerRepository paymentLedgerRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void insertNextOccurrencesCopiesDuePaymentsOnce() {
+    // given
+    long paymentId = insertPayment(true, TEST_DUE_DATE);
+    insertPayment(false, TEST_DUE_DATE);
+    List<DuePayment> duePayments = recurringPaymentRepository.findDue(0L,
+        TEST_DUE_DATE.minusDays(1), TEST_DUE_DATE.plusDays(1), 10);
+
+    // when
+    int inserted = recurringPaymentRepository.insertNextOccurrences(duePayments);
+    int insertedAgain = recurringPaymentRepository.insertNextOccurrences(duePayments);
+
+    // then
+    assertEquals(1, duePayments.size());
+    assertEquals(paymentId, duePayments.get(0).getId());
+    assertEquals(1, inserted);
+    assertEquals(0, insertedAgain);
+    assertEquals(Date.valueOf(TEST_DUE_DATE.plusMonths(1)), jdbcTemplate.queryForObject(
+        "select due_date from payment where previous_payment_id = ?", Date.class, paymentId));
+    assertEquals(1, paymentLedgerRepository.findMemberBalance(TEST_MEMBER_ID).get()
+        .getPaymentCount());
+    // and the copied payment is no longer due
+    assertTrue(recurringPaymentRepository.findDue(0L, TEST_DUE_DATE.minusDays(1),
+        TEST_DUE_DATE.plusDays(1), 10).isEmpty());
+  }
+
+  private long insertPayment(boolean recurring, LocalDate dueDate) {
+    String paymentId = UUID.randomUUID().toString();
+    jdbcTemplate.update("insert into payment (payment_id, charge, type, description, "
+            + "recurring, due_date, admin_id, member_id) values (?, ?, ?, ?, ?, ?, ?, ?)",
+        paymentId, new BigDecimal("12.50"), "recurring-test", "recurring test payment",
+        recurring, Date.valueOf(dueDate), TEST_ADMIN_PK, TEST_MEMBER_PK);
+    return jdbcTemplate.queryForObject("select id from payment where payment_id = ?",
+        Long.class, paymentId);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.repositories;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the membership version statements against the embedded database, with the users of
+ * data.sql.
+ */
+@DataJpaTest
+class UserRepositoryTest {
+
+  // test user from data.sql
+  private static final String TEST_USER_ID = "default-user-id-for-testing";
+  private static final String TEST_EMAIL = "test@test.com";
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Test
+  void incrementMembershipVersions() {
+    // given
+    long version = userRepository.findMembershipVersionByUserId(TEST_USER_ID).get();
+
+    // when
+    int updated = userRepository.incrementMembershipVersions(
+        Collections.singleton(TEST_USER_ID));
+
+    // then
+    assertEquals(1, updated);
+    assertEquals(version + 1,
+        (long) userRepository.findMembershipVersionByUserId(TEST_USER_ID).get());
+    List<UserRepository.CredentialsRow> credentials =
+        userRepository.findCredentialsByEmail(TEST_EMAIL, PageRequest.of(0, 1));
+    assertFalse(credentials.isEmpty());
+    assertEquals(version + 1, credentials.get(0).getMembershipVersion());
+  }
+}
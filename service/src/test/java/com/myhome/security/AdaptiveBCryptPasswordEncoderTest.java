@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+  private static final String TEST_PASSWORD = "test-password";
+
+  private final AdaptiveBCryptPasswordEncoder passwordEncoder =
+      new AdaptiveBCryptPasswordEncoder(5);
+
+  @Test
+  void upgradeEncodingOfCurrentCost() {
+    // given
+    String encodedPassword = passwordEncoder.encode(TEST_PASSWORD);
+
+    // when and then
+    assertFalse(passwordEncoder.upgradeEncoding(encodedPassword));
+  }
+
+  @Test
+  void upgradeEncodingOfLowerCost() {
+    // given
+    String weakerPassword = new BCryptPasswordEncoder(4).encode(TEST_PASSWORD);
+
+    // when and then
+    assertTrue(passwordEncoder.upgradeEncoding(weakerPassword));
+  }
+
+  @Test
+  void upgradeEncodingKeepsHigherCost() {
+    // given
+    String strongerPassword = new BCryptPasswordEncoder(6).encode(TEST_PASSWORD);
+
+    // when and then
+    assertFalse(passwordEncoder.upgradeEncoding(strongerPassword));
+    assertTrue(passwordEncoder.matches(TEST_PASSWORD, strongerPassword));
+  }
+
+  @Test
+  void upgradeEncodingOfInvalidHash() {
+    // when and then
+    assertFalse(passwordEncoder.upgradeEncoding(null));
+    assertFalse(passwordEncoder.upgradeEncoding("not-a-bcrypt-hash"));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import com.myhome.configuration.properties.password.BCryptProperties;
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BCryptCalibratorTest {
+
+  private static final Duration TEST_TARGET_LATENCY = Duration.ofMillis(80);
+
+  // a hash at strength 4 takes 1 ms and every further round doubles it
+  private static final IntToLongFunction DOUBLING_TIMER =
+      strength -> Duration.ofMillis(1L << (strength - 4)).toNanos();
+
+  @Test
+  void calibratePicksHighestStrengthWithinTarget() {
+    // given
+    BCryptCalibrator calibrator = new BCryptCalibrator(getProperties(4, 16), DOUBLING_TIMER);
+
+    // when
+    BCryptCalibration calibration = calibrator.calibrate();
+
+    // then
+    assertEquals(10, calibration.getStrength());
+    assertEquals(Duration.ofMillis(64), calibration.getHashLatency());
+    assertEquals(TEST_TARGET_LATENCY, calibration.getTargetLatency());
+  }
+
+  @Test
+  void calibrateStopsAtMaxStrength() {
+    // given
+    BCryptCalibrator calibrator = new BCryptCalibrator(getProperties(4, 8), DOUBLING_TIMER);
+
+    // when
+    BCryptCalibration calibration = calibrator.calibrate();
+
+    // then
+    assertEquals(8, calibration.getStrength());
+  }
+
+  @Test
+  void calibrateKeepsMinStrengthAboveTarget() {
+    // given
+    BCryptCalibrator calibrator = new BCryptCalibrator(getProperties(12, 16), DOUBLING_TIMER);
+
+    // when
+    BCryptCalibration calibration = calibrator.calibrate();
+
+    // then
+    assertEquals(12, calibration.getStrength());
+    assertEquals(Duration.ofMillis(256), calibration.getHashLatency());
+  }
+
+  @Test
+  void calibrateUsesFastestSample() {
+    // given
+    long[] calls = new long[1];
+    IntToLongFunction noisyTimer = strength -> DOUBLING_TIMER.applyAsLong(strength)
+        * (calls[0]++ % 3 == 0 ? 4 : 1);
+    BCryptCalibrator calibrator = new BCryptCalibrator(getProperties(4, 16), noisyTimer);
+
+    // when
+    BCryptCalibration calibration = calibrator.calibrate();
+
+    // then
+    assertEquals(10, calibration.getStrength());
+  }
+
+  @Test
+  void calibratorRejectsInvalidStrengths() {
+    // when and then
+    assertThrows(IllegalArgumentException.class,
+        () -> new BCryptCalibrator(getProperties(3, 10), DOUBLING_TIMER));
+    assertThrows(IllegalArgumentException.class,
+        () -> new BCryptCalibrator(getProperties(12, 10), DOUBLING_TIMER));
+  }
+
+  private BCryptProperties getProperties(int minStrength, int maxStrength) {
+    BCryptProperties properties = new BCryptProperties();
+    properties.setTargetLatency(TEST_TARGET_LATENCY);
+    properties.setMinStrength(minStrength);
+    properties.setMaxStrength(maxStrength);
+    properties.setSamples(3);
+    return properties;
+  }
+}
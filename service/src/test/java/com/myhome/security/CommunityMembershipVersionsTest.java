@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import com.myhome.repositories.UserRepository;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CommunityMembershipVersionsTest {
+
+  private static final String TEST_USER_ID = "test-user-id";
+  private static final long TEST_VERSION = 3L;
+
+  @Mock
+  private UserRepository userRepository;
+
+  private CommunityMembershipVersions membershipVersions;
+
+  @BeforeEach
+  private void init() {
+    MockitoAnnotations.initMocks(this);
+    membershipVersions = new CommunityMembershipVersions(userRepository);
+  }
+
+  @Test
+  void tokenIsCurrentWhileVersionIsStored() {
+    // given
+    given(userRepository.findMembershipVersionByUserId(TEST_USER_ID))
+        .willReturn(Optional.of(TEST_VERSION));
+
+    // when and then
+    assertTrue(membershipVersions.isCurrent(TEST_USER_ID, TEST_VERSION));
+    assertFalse(membershipVersions.isCurrent(TEST_USER_ID, TEST_VERSION - 1));
+    verify(userRepository).findMembershipVersionByUserId(TEST_USER_ID);
+  }
+
+  @Test
+  void tokenOfMissingUserIsNotCurrent() {
+    // given
+    given(userRepository.findMembershipVersionByUserId(TEST_USER_ID))
+        .willReturn(Optional.empty());
+
+    // when and then
+    assertFalse(membershipVersions.isCurrent(TEST_USER_ID, TEST_VERSION));
+  }
+
+  @Test
+  void bumpIncrementsStoredVersionAndEvictsCachedOne() {
+    // given
+    Set<String> userIds = Collections.singleton(TEST_USER_ID);
+    given(userRepository.findMembershipVersionByUserId(TEST_USER_ID))
+        .willReturn(Optional.of(TEST_VERSION), Optional.of(TEST_VERSION + 1));
+    assertTrue(membershipVersions.isCurrent(TEST_USER_ID, TEST_VERSION));
+
+    // when
+    membershipVersions.bump(userIds);
+
+    // then
+    verify(userRepository).incrementMembershipVersions(userIds);
+    assertFalse(membershipVersions.isCurrent(TEST_USER_ID, TEST_VERSION));
+    verify(userRepository, times(2)).findMembershipVersionByUserId(TEST_USER_ID);
+  }
+
+  @Test
+  void bumpWithoutUsers() {
+    // when
+    membershipVersions.bump(Collections.emptySet());
+
+    // then
+    verifyNoInteractions(userRepository);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security;
+
+import com.myhome.configuration.properties.password.PasswordHashingProperties;
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PasswordHashingExecutorTest {
+
+  private static final String TEST_PASSWORD = "test-password";
+  private static final String TEST_ENCODED_PASSWORD = "test-encoded-password";
+  private static final Duration TEST_RETRY_AFTER = Duration.ofSeconds(3);
+
+  private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private PasswordHashingExecutor passwordHashingExecutor;
+
+  @BeforeEach
+  void init() {
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.setThreads(1);
+    properties.setQueueCapacity(1);
+    properties.setRetryAfter(TEST_RETRY_AFTER);
+    passwordHashingExecutor =
+        new PasswordHashingExecutor(passwordEncoder, properties, meterRegistry);
+  }
+
+  @AfterEach
+  void shutdown() {
+    passwordHashingExecutor.shutdown();
+  }
+
+  @Test
+  void matchesOnHashingPool() {
+    // given
+    given(passwordEncoder.matches(TEST_PASSWORD, TEST_ENCODED_PASSWORD))
+        .willAnswer(invocation -> Thread.currentThread().getName().startsWith("password-hashing"));
+
+    // when
+    boolean matches = passwordHashingExecutor.matches(TEST_PASSWORD, TEST_ENCODED_PASSWORD);
+
+    // then
+    assertTrue(matches);
+    assertEquals(1, meterRegistry.get("executor").tag("name", "password.hashing").timer().count());
+  }
+
+  @Test
+  void matchesRejectedWhenQueueIsFull() throws Exception {
+    // given
+    CountDownLatch hashingStarted = new CountDownLatch(1);
+    CountDownLatch releaseHashing = new CountDownLatch(1);
+    given(passwordEncoder.matches(any(), any())).willAnswer(invocation -> {
+      hashingStarted.countDown();
+      releaseHashing.await(10, TimeUnit.SECONDS);
+      return true;
+    });
+    CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+        () -> passwordHashingExecutor.matches(TEST_PASSWORD, TEST_ENCODED_PASSWORD));
+    assertTrue(hashingStarted.await(10, TimeUnit.SECONDS));
+    CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+        () -> passwordHashingExecutor.matches(TEST_PASSWORD, TEST_ENCODED_PASSWORD));
+    for (int i = 0; i < 1000 && meterRegistry.get("executor.queued").gauge().value() < 1; i++) {
+      Thread.sleep(10);
+    }
+
+    // when
+    ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+        () -> passwordHashingExecutor.matches(TEST_PASSWORD, TEST_ENCODED_PASSWORD));
+    releaseHashing.countDown();
+
+    // then
+    assertEquals(TEST_RETRY_AFTER, exception.getRetryAfter());
+    assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+    assertTrue(running.get(10, TimeUnit.SECONDS));
+    assertTrue(queued.get(10, TimeUnit.SECONDS));
+  }
+}
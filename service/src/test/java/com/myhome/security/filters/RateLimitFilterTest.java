@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import com.myhome.configuration.properties.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RateLimitFilterTest {
+
+  private static final String TEST_LOGIN_PATH = "/auth/login";
+  private static final String TEST_API_PATH = "/communities";
+  private static final String TEST_USER_ID = "test-user-id";
+
+  private final AtomicLong nanoClock = new AtomicLong();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FilterChain chain = mock(FilterChain.class);
+  private final RateLimitFilter rateLimitFilter =
+      new RateLimitFilter(getProperties(true), meterRegistry, nanoClock::get);
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void limitLoginByClientAddress() throws Exception {
+    // given
+    rateLimitFilter.doFilter(getRequest("POST", TEST_LOGIN_PATH, "10.0.0.1"),
+        new MockHttpServletResponse(), chain);
+    rateLimitFilter.doFilter(getRequest("POST", TEST_LOGIN_PATH, "10.0.0.1"),
+        new MockHttpServletResponse(), chain);
+
+    // when
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    rateLimitFilter.doFilter(getRequest("POST", TEST_LOGIN_PATH, "10.0.0.1"), rejected, chain);
+    MockHttpServletResponse otherClient = new MockHttpServletResponse();
+    rateLimitFilter.doFilter(getRequest("POST", TEST_LOGIN_PATH, "10.0.0.2"), otherClient, chain);
+
+    // then
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+    assertEquals("2", rejected.getHeader(RateLimitFilter.LIMIT_HEADER));
+    assertEquals("0", rejected.getHeader(RateLimitFilter.REMAINING_HEADER));
+    assertEquals("60", rejected.getHeader(RateLimitFilter.RESET_HEADER));
+    assertEquals("30", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals(HttpStatus.OK.value(), otherClient.getStatus());
+    assertEquals("1", otherClient.getHeader(RateLimitFilter.REMAINING_HEADER));
+    verify(chain, times(3)).doFilter(any(), any());
+    assertEquals(1, meterRegistry.counter("ratelimit.rejected", "group", "login").count());
+  }
+
+  @Test
+  void limitAuthenticatedRequestsByUser() throws Exception {
+    // given
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(TEST_USER_ID, null, Collections.emptyList()));
+    for (int i = 0; i < 3; i++) {
+      rateLimitFilter.doFilter(getRequest("GET", TEST_API_PATH, "10.0.0." + i),
+          new MockHttpServletResponse(), chain);
+    }
+
+    // when
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    rateLimitFilter.doFilter(getRequest("GET", TEST_API_PATH, "10.0.0.9"), rejected, chain);
+    nanoClock.addAndGet(Duration.ofSeconds(20).toNanos());
+    MockHttpServletResponse refilled = new MockHttpServletResponse();
+    rateLimitFilter.doFilter(getRequest("GET", TEST_API_PATH, "10.0.0.9"), refilled, chain);
+
+    // then
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+    assertEquals(HttpStatus.OK.value(), refilled.getStatus());
+    verify(chain, times(4)).doFilter(any(), any());
+  }
+
+  @Test
+  void passUnmatchedRequests() throws Exception {
+    // given
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    rateLimitFilter.doFilter(getRequest("GET", "/swagger/api.yaml", "10.0.0.1"), response,
+        chain);
+
+    // then
+    assertNull(response.getHeader(RateLimitFilter.LIMIT_HEADER));
+    verify(chain).doFilter(any(), any());
+  }
+
+  @Test
+  void passAllRequestsWhenDisabled() throws Exception {
+    // given
+    RateLimitFilter disabledFilter =
+        new RateLimitFilter(getProperties(false), meterRegistry, nanoClock::get);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      disabledFilter.doFilter(getRequest("POST", TEST_LOGIN_PATH, "10.0.0.1"),
+          new MockHttpServletResponse(), chain);
+    }
+
+    // then
+    verify(chain, times(5)).doFilter(any(), any());
+  }
+
+  private MockHttpServletRequest getRequest(String method, String path, String remoteAddress) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setServletPath(path);
+    request.setRemoteAddr(remoteAddress);
+    return request;
+  }
+
+  private RateLimitProperties getProperties(boolean enabled) {
+    RateLimitProperties.Group login = new RateLimitProperties.Group();
+    login.setName("login");
+    login.setPaths(Collections.singletonList(TEST_LOGIN_PATH));
+    login.setMethods(EnumSet.of(HttpMethod.POST));
+    login.setCapacity(2);
+    login.setPeriod(Duration.ofMinutes(1));
+
+    RateLimitProperties.Group api = new RateLimitProperties.Group();
+    api.setName("api");
+    api.setPaths(Collections.singletonList("/communities/**"));
+    api.setCapacity(3);
+    api.setPeriod(Duration.ofMinutes(1));
+
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setEnabled(enabled);
+    properties.setIdleTimeout(Duration.ofMinutes(10));
+    properties.setMaxBuckets(100);
+    properties.getGroups().add(login);
+    properties.getGroups().add(api);
+    return properties;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoutePolicyMatcherTest {
+
+  private static final String TEST_COMMUNITY_ID = "test-community-id";
+  private static final String TEST_HOUSE_ID = "test-house-id";
+  private static final String TEST_MEMBER_ID = "test-member-id";
+
+  private final RoutePolicyMatcher routePolicyMatcher = RoutePolicyMatcher.builder()
+      .route("/communities/{communityId}/admins", RoutePolicy.COMMUNITY_ADMIN,
+          HttpMethod.GET, HttpMethod.POST)
+      .route("/communities/{communityId}/houses/{houseId}", RoutePolicy.COMMUNITY_ADMIN,
+          HttpMethod.DELETE)
+      .route("/houses/{houseId}/members/{memberId}", RoutePolicy.HOUSE_ADMIN, HttpMethod.DELETE)
+      .route("/members/{memberId}/documents", RoutePolicy.MEMBER_ADMIN, HttpMethod.POST)
+      .build();
+
+  @Test
+  void matchCommunityRoute() {
+    // when
+    RoutePolicyMatcher.RouteMatch routeMatch =
+        routePolicyMatcher.match("POST", "/communities/" + TEST_COMMUNITY_ID + "/admins");
+
+    // then
+    assertEquals(RoutePolicy.COMMUNITY_ADMIN, routeMatch.getPolicy());
+    assertEquals(TEST_COMMUNITY_ID, routeMatch.getScopeId());
+  }
+
+  @Test
+  void matchExtractsPolicyScopeVariable() {
+    // when
+    RoutePolicyMatcher.RouteMatch communityMatch = routePolicyMatcher.match("DELETE",
+        "/communities/" + TEST_COMMUNITY_ID + "/houses/" + TEST_HOUSE_ID);
+    RoutePolicyMatcher.RouteMatch houseMatch = routePolicyMatcher.match("DELETE",
+        "/houses/" + TEST_HOUSE_ID + "/members/" + TEST_MEMBER_ID);
+    RoutePolicyMatcher.RouteMatch memberMatch =
+        routePolicyMatcher.match("POST", "/members/" + TEST_MEMBER_ID + "/documents");
+
+    // then
+    assertEquals(TEST_COMMUNITY_ID, communityMatch.getScopeId());
+    assertEquals(RoutePolicy.HOUSE_ADMIN, houseMatch.getPolicy());
+    assertEquals(TEST_HOUSE_ID, houseMatch.getScopeId());
+    assertEquals(RoutePolicy.MEMBER_ADMIN, memberMatch.getPolicy());
+    assertEquals(TEST_MEMBER_ID, memberMatch.getScopeId());
+  }
+
+  @Test
+  void matchIgnoresEmptySegments() {
+    // when
+    RoutePolicyMatcher.RouteMatch trailingSlashMatch =
+        routePolicyMatcher.match("GET", "/communities/" + TEST_COMMUNITY_ID + "/admins/");
+    RoutePolicyMatcher.RouteMatch doubleSlashMatch =
+        routePolicyMatcher.match("GET", "/communities//" + TEST_COMMUNITY_ID + "/admins");
+
+    // then
+    assertEquals(TEST_COMMUNITY_ID, trailingSlashMatch.getScopeId());
+    assertEquals(TEST_COMMUNITY_ID, doubleSlashMatch.getScopeId());
+  }
+
+  @Test
+  void matchUnguardedRoutes() {
+    // when and then
+    assertNull(routePolicyMatcher.match("DELETE", "/communities/" + TEST_COMMUNITY_ID + "/admins"));
+    assertNull(routePolicyMatcher.match("GET", "/communities/" + TEST_COMMUNITY_ID));
+    assertNull(routePolicyMatcher.match("GET", "/communities/" + TEST_COMMUNITY_ID + "/houses"));
+    assertNull(routePolicyMatcher.match("GET",
+        "/communities/" + TEST_COMMUNITY_ID + "/admins/" + TEST_MEMBER_ID + "/payments/extra"));
+    assertNull(routePolicyMatcher.match("GET", "/"));
+    assertNull(routePolicyMatcher.match("UNKNOWN", "/members/" + TEST_MEMBER_ID + "/documents"));
+  }
+
+  @Test
+  void routeWithoutScopeVariable() {
+    // given
+    RoutePolicyMatcher.Builder builder = RoutePolicyMatcher.builder();
+
+    // when and then
+    assertThrows(IllegalArgumentException.class,
+        () -> builder.route("/houses/{houseId}", RoutePolicy.COMMUNITY_ADMIN, HttpMethod.GET));
+  }
+}
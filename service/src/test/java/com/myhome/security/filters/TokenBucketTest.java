@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.security.filters;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+  private static final long TEST_CAPACITY = 3;
+  private static final Duration TEST_PERIOD = Duration.ofSeconds(3);
+  // an arbitrary nanoTime reading, which may be negative
+  private static final long TEST_START = -5_000_000_000L;
+
+  private final TokenBucket tokenBucket = new TokenBucket(TEST_CAPACITY, TEST_PERIOD, TEST_START);
+
+  @Test
+  void consumeUpToCapacity() {
+    // when
+    TokenBucket.Probe first = tokenBucket.tryConsume(TEST_START);
+    TokenBucket.Probe second = tokenBucket.tryConsume(TEST_START);
+    TokenBucket.Probe third = tokenBucket.tryConsume(TEST_START);
+    TokenBucket.Probe rejected = tokenBucket.tryConsume(TEST_START);
+
+    // then
+    assertTrue(first.isConsumed());
+    assertEquals(2, first.getRemaining());
+    assertEquals(TEST_CAPACITY, first.getLimit());
+    assertTrue(second.isConsumed());
+    assertTrue(third.isConsumed());
+    assertEquals(0, third.getRemaining());
+    assertEquals(TEST_PERIOD.toNanos(), third.getNanosUntilFull());
+    assertFalse(rejected.isConsumed());
+    assertEquals(Duration.ofSeconds(1).toNanos(), rejected.getNanosUntilAllowed());
+  }
+
+  @Test
+  void refillEvenlyOverPeriod() {
+    // given
+    for (int i = 0; i < TEST_CAPACITY; i++) {
+      tokenBucket.tryConsume(TEST_START);
+    }
+
+    // when
+    TokenBucket.Probe tooEarly = tokenBucket.tryConsume(TEST_START + 999_999_999L);
+    TokenBucket.Probe refilled = tokenBucket.tryConsume(TEST_START + 1_000_000_000L);
+
+    // then
+    assertFalse(tooEarly.isConsumed());
+    assertTrue(refilled.isConsumed());
+    assertEquals(0, refilled.getRemaining());
+  }
+
+  @Test
+  void idleBucketDoesNotExceedCapacity() {
+    // given
+    tokenBucket.tryConsume(TEST_START);
+
+    // when
+    TokenBucket.Probe probe = tokenBucket.tryConsume(TEST_START + Duration.ofHours(1).toNanos());
+
+    // then
+    assertTrue(probe.isConsumed());
+    assertEquals(TEST_CAPACITY - 1, probe.getRemaining());
+  }
+}
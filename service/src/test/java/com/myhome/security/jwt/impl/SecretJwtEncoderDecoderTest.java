@@ -18,8 +18,14 @@ package com.myhome.security.jwt.impl;
 
 import com.myhome.security.jwt.AppJwt;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import io.jsonwebtoken.security.WeakKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +42,7 @@ class SecretJwtEncoderDecoderTest {
       + "secretsecretsecretsecretsecretsecretsecretsecret"
       + "secretsecretsecretsecretsecretsecretsecretsecret"
       + "secretsecretsecretsecretsecretsecretsecretsecret";
+  private static final String OTHER_VALID_SECRET = VALID_SECRET.toUpperCase();
 
   @Test
   void jwtEncodeSuccess() {
@@ -86,4 +93,80 @@ class SecretJwtEncoderDecoderTest {
     Assertions.assertThrows(ExpiredJwtException.class,
         () -> jwtEncoderDecoder.decode(EXPIRED_JWT, VALID_SECRET));
   }
-}
\ No newline at end of file
+
+  @Test
+  void jwtDecodeRepeatedTokenFromCache() {
+    // given
+    SecretJwtEncoderDecoder jwtEncoderDecoder = new SecretJwtEncoderDecoder();
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    jwtEncoderDecoder.bindTo(meterRegistry);
+    AppJwt appJwt =
+        AppJwt.builder().userId(TEST_USER_ID).expiration(LocalDateTime.now().plusHours(1)).build();
+    String encodedJwt = jwtEncoderDecoder.encode(appJwt, VALID_SECRET);
+
+    // when
+    AppJwt firstDecodedJwt = jwtEncoderDecoder.decode(encodedJwt, VALID_SECRET);
+    AppJwt secondDecodedJwt = jwtEncoderDecoder.decode(encodedJwt, VALID_SECRET);
+
+    // then
+    Assertions.assertSame(firstDecodedJwt, secondDecodedJwt);
+    Assertions.assertEquals(1.0,
+        meterRegistry.get("jwt.decode.cache").tag("result", "hit").functionCounter().count());
+    Assertions.assertEquals(1.0,
+        meterRegistry.get("jwt.decode.cache").tag("result", "miss").functionCounter().count());
+  }
+
+  @Test
+  void jwtDecodeCachedTokenFailWithOtherSecret() {
+    // given
+    SecretJwtEncoderDecoder jwtEncoderDecoder = new SecretJwtEncoderDecoder();
+    AppJwt appJwt =
+        AppJwt.builder().userId(TEST_USER_ID).expiration(LocalDateTime.now().plusHours(1)).build();
+    String encodedJwt = jwtEncoderDecoder.encode(appJwt, VALID_SECRET);
+    jwtEncoderDecoder.decode(encodedJwt, VALID_SECRET);
+
+    // when and then
+    Assertions.assertThrows(SignatureException.class,
+        () -> jwtEncoderDecoder.decode(encodedJwt, OTHER_VALID_SECRET));
+  }
+
+  @Test
+  void jwtDecodeCommunityClaims() {
+    // given
+    SecretJwtEncoderDecoder jwtEncoderDecoder = new SecretJwtEncoderDecoder();
+    Set<String> communityIds = new HashSet<>(Arrays.asList("first-community", "second-community"));
+    LocalDateTime issuedAt = LocalDateTime.now().withNano(0);
+    AppJwt appJwt = AppJwt.builder()
+        .userId(TEST_USER_ID)
+        .issuedAt(issuedAt)
+        .expiration(LocalDateTime.now().plusHours(1))
+        .adminCommunityIds(communityIds)
+        .membershipVersion(Long.MAX_VALUE)
+        .build();
+    String encodedJwt = jwtEncoderDecoder.encode(appJwt, VALID_SECRET);
+
+    // when
+    AppJwt decodedJwt = jwtEncoderDecoder.decode(encodedJwt, VALID_SECRET);
+
+    // then
+    Assertions.assertEquals(communityIds, decodedJwt.getAdminCommunityIds());
+    Assertions.assertEquals(Long.MAX_VALUE, decodedJwt.getMembershipVersion());
+    Assertions.assertEquals(issuedAt, decodedJwt.getIssuedAt());
+  }
+
+  @Test
+  void jwtDecodeWithoutCommunityClaims() {
+    // given
+    SecretJwtEncoderDecoder jwtEncoderDecoder = new SecretJwtEncoderDecoder();
+    AppJwt appJwt =
+        AppJwt.builder().userId(TEST_USER_ID).expiration(LocalDateTime.now().plusHours(1)).build();
+    String encodedJwt = jwtEncoderDecoder.encode(appJwt, VALID_SECRET);
+
+    // when
+    AppJwt decodedJwt = jwtEncoderDecoder.decode(encodedJwt, VALID_SECRET);
+
+    // then
+    Assertions.assertNull(decodedJwt.getAdminCommunityIds());
+    Assertions.assertNull(decodedJwt.getMembershipVersion());
+  }
+}
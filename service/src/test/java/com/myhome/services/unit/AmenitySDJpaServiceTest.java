@@ -35,10 +35,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -219,7 +221,7 @@ class AmenitySDJpaServiceTest {
         .willReturn(updatedAmenity);
 
     // when
-    boolean result = amenitySDJpaService.updateAmenity(updated);
+    boolean result = amenitySDJpaService.updateAmenity(updated, null);
 
     // then
     assertTrue(result);
@@ -235,7 +237,7 @@ class AmenitySDJpaServiceTest {
         .willReturn(Optional.empty());
 
     // when
-    boolean result = amenitySDJpaService.updateAmenity(getTestAmenityDto());
+    boolean result = amenitySDJpaService.updateAmenity(getTestAmenityDto(), null);
 
     // then
     assertFalse(result);
@@ -260,7 +262,7 @@ class AmenitySDJpaServiceTest {
         .willReturn(null);
 
     // when
-    boolean result = amenitySDJpaService.updateAmenity(updatedDto);
+    boolean result = amenitySDJpaService.updateAmenity(updatedDto, null);
 
     // then
     assertFalse(result);
@@ -282,7 +284,7 @@ class AmenitySDJpaServiceTest {
         .willReturn(Optional.empty());
 
     // when
-    boolean result = amenitySDJpaService.updateAmenity(updatedDto);
+    boolean result = amenitySDJpaService.updateAmenity(updatedDto, null);
 
     // then
     assertFalse(result);
@@ -291,6 +293,25 @@ class AmenitySDJpaServiceTest {
     verifyNoMoreInteractions(amenityRepository);
   }
 
+  @Test
+  void shouldNotUpdateAmenityIfVersionDoesNotMatch() {
+    // given
+    Amenity communityAmenity =
+        TestUtils.AmenityHelpers.getTestAmenity(TEST_AMENITY_ID, TEST_AMENITY_DESCRIPTION);
+    communityAmenity.setVersion(2L);
+    AmenityDto updatedDto = getTestAmenityDto();
+
+    given(amenityRepository.findByAmenityId(TEST_AMENITY_ID))
+        .willReturn(Optional.of(communityAmenity));
+
+    // when and then
+    assertThrows(OptimisticLockingFailureException.class,
+        () -> amenitySDJpaService.updateAmenity(updatedDto, 1L));
+    verify(amenityRepository).findByAmenityId(TEST_AMENITY_ID);
+    verifyNoMoreInteractions(amenityRepository);
+    verifyNoInteractions(communityRepository);
+  }
+
   private AmenityDto getTestAmenityDto() {
     Long TEST_AMENITY_ENTITY_ID = 1L;
 
@@ -1,59 +1,69 @@
 package com.myhome.services.unit;
 
-import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.exceptions.CredentialsIncorrectException;
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
 import com.myhome.controllers.exceptions.UserNotFoundException;
 import com.myhome.domain.AuthenticationData;
+import com.myhome.domain.UserCredentials;
 import com.myhome.model.LoginRequest;
+import com.myhome.security.PasswordHashingExecutor;
 import com.myhome.security.jwt.AppJwt;
 import com.myhome.security.jwt.AppJwtEncoderDecoder;
 import com.myhome.services.springdatajpa.AuthenticationSDJpaService;
 import com.myhome.services.springdatajpa.UserSDJpaService;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class AuthenticationSDJpaServiceTest {
 
   private final String USER_ID = "test-user-id";
-  private final String USERNAME = "test-user-name";
   private final String USER_EMAIL = "test-user-email";
   private final String USER_PASSWORD = "test-user-password";
+  private final String NEW_USER_PASSWORD = "test-user-new-password";
   private final String REQUEST_PASSWORD = "test-request-password";
   private final Duration TOKEN_LIFETIME = Duration.ofDays(1);
   private final String SECRET = "secret";
+  private final int MAX_COMMUNITY_CLAIMS = 2;
+  private final long MEMBERSHIP_VERSION = 7L;
 
   @Mock
   private final UserSDJpaService userSDJpaService = mock(UserSDJpaService.class);
   @Mock
   private final AppJwtEncoderDecoder appJwtEncoderDecoder = mock(AppJwtEncoderDecoder.class);
   @Mock
-  private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+  private final PasswordHashingExecutor passwordHashingExecutor =
+      mock(PasswordHashingExecutor.class);
   private final AuthenticationSDJpaService authenticationSDJpaService =
-      new AuthenticationSDJpaService(TOKEN_LIFETIME, SECRET, userSDJpaService, appJwtEncoderDecoder,
-          passwordEncoder);
+      new AuthenticationSDJpaService(TOKEN_LIFETIME, SECRET, MAX_COMMUNITY_CLAIMS,
+          userSDJpaService, appJwtEncoderDecoder, passwordHashingExecutor);
 
   @Test
   void loginSuccess() {
     // given
     LoginRequest request = getDefaultLoginRequest();
-    UserDto userDto = getDefaultUserDtoRequest();
-    AppJwt appJwt = getDefaultJwtToken(userDto);
+    UserCredentials credentials = getDefaultCredentials(null);
+    AppJwt appJwt = getDefaultJwtToken(credentials);
     String encodedJwt = appJwtEncoderDecoder.encode(appJwt, SECRET);
-    given(userSDJpaService.findUserByEmail(request.getEmail()))
-        .willReturn(Optional.of(userDto));
-    given(passwordEncoder.matches(request.getPassword(), userDto.getEncryptedPassword()))
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(credentials));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
         .willReturn(true);
     given(appJwtEncoderDecoder.encode(appJwt, SECRET))
         .willReturn(encodedJwt);
@@ -63,18 +73,115 @@ public class AuthenticationSDJpaServiceTest {
 
     // then
     assertNotNull(authenticationData);
-    assertEquals(authenticationData.getUserId(), userDto.getUserId());
+    assertEquals(authenticationData.getUserId(), USER_ID);
     assertEquals(authenticationData.getJwtToken(), encodedJwt);
-    verify(userSDJpaService).findUserByEmail(request.getEmail());
-    verify(passwordEncoder).matches(request.getPassword(), userDto.getEncryptedPassword());
+    verify(userSDJpaService).findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS);
+    verify(passwordHashingExecutor).matches(request.getPassword(), USER_PASSWORD);
     verify(appJwtEncoderDecoder).encode(appJwt, SECRET);
   }
 
+  @Test
+  void loginEmbedsAdministeredCommunities() {
+    // given
+    LoginRequest request = getDefaultLoginRequest();
+    Set<String> communityIds = Collections.singleton("test-community-id");
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(getDefaultCredentials(communityIds)));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
+        .willReturn(true);
+    ArgumentCaptor<AppJwt> jwtCaptor = ArgumentCaptor.forClass(AppJwt.class);
+
+    // when
+    authenticationSDJpaService.login(request);
+
+    // then
+    verify(appJwtEncoderDecoder).encode(jwtCaptor.capture(), eq(SECRET));
+    assertEquals(communityIds, jwtCaptor.getValue().getAdminCommunityIds());
+    assertEquals(MEMBERSHIP_VERSION, jwtCaptor.getValue().getMembershipVersion());
+  }
+
+  @Test
+  void loginSkipsClaimsForTooManyCommunities() {
+    // given
+    LoginRequest request = getDefaultLoginRequest();
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(getDefaultCredentials(null)));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
+        .willReturn(true);
+    ArgumentCaptor<AppJwt> jwtCaptor = ArgumentCaptor.forClass(AppJwt.class);
+
+    // when
+    authenticationSDJpaService.login(request);
+
+    // then
+    verify(appJwtEncoderDecoder).encode(jwtCaptor.capture(), eq(SECRET));
+    assertNull(jwtCaptor.getValue().getAdminCommunityIds());
+    assertNull(jwtCaptor.getValue().getMembershipVersion());
+  }
+
+  @Test
+  void loginRehashesPasswordWithDifferentCost() {
+    // given
+    LoginRequest request = getDefaultLoginRequest();
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(getDefaultCredentials(null)));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
+        .willReturn(true);
+    given(passwordHashingExecutor.upgradeEncoding(USER_PASSWORD))
+        .willReturn(true);
+    given(passwordHashingExecutor.encode(request.getPassword()))
+        .willReturn(NEW_USER_PASSWORD);
+
+    // when
+    authenticationSDJpaService.login(request);
+
+    // then
+    verify(userSDJpaService).updateEncryptedPassword(USER_ID, USER_PASSWORD, NEW_USER_PASSWORD);
+  }
+
+  @Test
+  void loginKeepsPasswordWithCurrentCost() {
+    // given
+    LoginRequest request = getDefaultLoginRequest();
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(getDefaultCredentials(null)));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
+        .willReturn(true);
+
+    // when
+    authenticationSDJpaService.login(request);
+
+    // then
+    verify(passwordHashingExecutor, never()).encode(any());
+    verify(userSDJpaService, never()).updateEncryptedPassword(any(), any(), any());
+  }
+
+  @Test
+  void loginSucceedsWhenRehashIsRejected() {
+    // given
+    LoginRequest request = getDefaultLoginRequest();
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(getDefaultCredentials(null)));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
+        .willReturn(true);
+    given(passwordHashingExecutor.upgradeEncoding(USER_PASSWORD))
+        .willReturn(true);
+    given(passwordHashingExecutor.encode(request.getPassword()))
+        .willThrow(new ServiceUnavailableException("busy", Duration.ofSeconds(1)));
+
+    // when
+    AuthenticationData authenticationData = authenticationSDJpaService.login(request);
+
+    // then
+    assertEquals(USER_ID, authenticationData.getUserId());
+    verify(userSDJpaService, never()).updateEncryptedPassword(any(), any(), any());
+  }
+
   @Test
   void loginUserNotFound() {
     // given
     LoginRequest request = getDefaultLoginRequest();
-    given(userSDJpaService.findUserByEmail(request.getEmail()))
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
         .willReturn(Optional.empty());
 
     // when and then
@@ -86,10 +193,9 @@ public class AuthenticationSDJpaServiceTest {
   void loginCredentialsAreIncorrect() {
     // given
     LoginRequest request = getDefaultLoginRequest();
-    UserDto userDto = getDefaultUserDtoRequest();
-    given(userSDJpaService.findUserByEmail(request.getEmail()))
-        .willReturn(Optional.of(userDto));
-    given(passwordEncoder.matches(request.getPassword(), userDto.getEncryptedPassword()))
+    given(userSDJpaService.findCredentialsByEmail(request.getEmail(), MAX_COMMUNITY_CLAIMS))
+        .willReturn(Optional.of(getDefaultCredentials(null)));
+    given(passwordHashingExecutor.matches(request.getPassword(), USER_PASSWORD))
         .willReturn(false);
 
     // when and then
@@ -101,20 +207,14 @@ public class AuthenticationSDJpaServiceTest {
     return new LoginRequest().email(USER_EMAIL).password(REQUEST_PASSWORD);
   }
 
-  private UserDto getDefaultUserDtoRequest() {
-    return UserDto.builder()
-        .userId(USER_ID)
-        .name(USERNAME)
-        .email(USER_EMAIL)
-        .encryptedPassword(USER_PASSWORD)
-        .communityIds(new HashSet<>())
-        .build();
+  private UserCredentials getDefaultCredentials(Set<String> adminCommunityIds) {
+    return new UserCredentials(USER_ID, USER_PASSWORD, MEMBERSHIP_VERSION, adminCommunityIds);
   }
 
-  private AppJwt getDefaultJwtToken(UserDto userDto) {
+  private AppJwt getDefaultJwtToken(UserCredentials credentials) {
     final LocalDateTime expirationTime = LocalDateTime.now().plus(TOKEN_LIFETIME);
     return AppJwt.builder()
-        .userId(userDto.getUserId())
+        .userId(credentials.getUserId())
         .expiration(expirationTime)
         .build();
   }
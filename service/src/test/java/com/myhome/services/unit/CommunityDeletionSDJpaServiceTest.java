@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.myhome.services.unit;
+
+import com.myhome.configuration.properties.community.CommunityDeletionProperties;
+import com.myhome.domain.CommunityDeletionJob;
+import com.myhome.repositories.CommunityDeletionRepository;
+import com.myhome.repositories.CommunityHouseRepository;
+import com.myhome.repositories.CommunityRepository;
+import com.myhome.services.CommunityService;
+import com.myhome.services.springdatajpa.CommunityDeletionSDJpaService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CommunityDeletionSDJpaServiceTest {
+
+  private static final String TEST_COMMUNITY_ID = "test-community-id";
+  private static final Long TEST_COMMUNITY_PK = 7L;
+  private static final String TEST_USER_ID = "test-user-id";
+  private static final String OTHER_USER_ID = "other-user-id";
+  private static final int TEST_CHUNK_SIZE = 2;
+
+  @Mock
+  private CommunityRepository communityRepository;
+  @Mock
+  private CommunityHouseRepository communityHouseRepository;
+  @Mock
+  private CommunityDeletionRepository communityDeletionRepository;
+  @Mock
+  private CommunityService communityService;
+
+  private CommunityDeletionSDJpaService communityDeletionSDJpaService;
+
+  @BeforeEach
+  private void init() {
+    MockitoAnnotations.initMocks(this);
+    CommunityDeletionProperties deletionProperties = new CommunityDeletionProperties();
+    deletionProperties.setChunkSize(TEST_CHUNK_SIZE);
+    deletionProperties.setJobRetention(Duration.ofMinutes(1));
+    communityDeletionSDJpaService = new CommunityDeletionSDJpaService(communityRepository,
+        communityHouseRepository, communityDeletionRepository, communityService,
+        deletionProperties);
+    authenticateAs(TEST_USER_ID);
+  }
+
+  @AfterEach
+  private void shutdown() {
+    communityDeletionSDJpaService.shutdown();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void startDeletionDeletesHousesInChunks() throws InterruptedException {
+    // given
+    List<Long> firstChunk = Arrays.asList(1L, 2L);
+    List<Long> lastChunk = Collections.singletonList(3L);
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityHouseRepository.countByCommunity_Id(TEST_COMMUNITY_PK))
+        .willReturn(3L);
+    given(communityHouseRepository.findIdsByCommunityId(TEST_COMMUNITY_PK,
+        PageRequest.of(0, TEST_CHUNK_SIZE)))
+        .willReturn(firstChunk, lastChunk, Collections.emptyList());
+    given(communityDeletionRepository.deleteHouses(firstChunk))
+        .willReturn(2);
+    given(communityDeletionRepository.deleteHouses(lastChunk))
+        .willReturn(1);
+    given(communityService.deleteCommunity(TEST_COMMUNITY_ID))
+        .willReturn(true);
+
+    // when
+    CommunityDeletionJob job =
+        communityDeletionSDJpaService.startDeletion(TEST_COMMUNITY_ID).get();
+    awaitFinished(job);
+
+    // then
+    assertEquals(CommunityDeletionJob.Status.COMPLETED, job.getStatus());
+    assertEquals(3L, job.getHousesTotal());
+    assertEquals(3L, job.getHousesDeleted());
+    verify(communityDeletionRepository).deleteHouses(firstChunk);
+    verify(communityDeletionRepository).deleteHouses(lastChunk);
+    verify(communityService).deleteCommunity(TEST_COMMUNITY_ID);
+    assertSame(job, communityDeletionSDJpaService.getDeletion(job.getJobId()).get());
+  }
+
+  @Test
+  void startDeletionCommunityNotExists() {
+    // given
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.empty());
+
+    // when
+    Optional<CommunityDeletionJob> job =
+        communityDeletionSDJpaService.startDeletion(TEST_COMMUNITY_ID);
+
+    // then
+    assertFalse(job.isPresent());
+    verifyNoInteractions(communityHouseRepository, communityDeletionRepository,
+        communityService);
+  }
+
+  @Test
+  void startDeletionFailed() throws InterruptedException {
+    // given
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityHouseRepository.findIdsByCommunityId(TEST_COMMUNITY_PK,
+        PageRequest.of(0, TEST_CHUNK_SIZE)))
+        .willReturn(Collections.singletonList(1L));
+    given(communityDeletionRepository.deleteHouses(anyList()))
+        .willThrow(new IllegalStateException("test failure"));
+
+    // when
+    CommunityDeletionJob job =
+        communityDeletionSDJpaService.startDeletion(TEST_COMMUNITY_ID).get();
+    awaitFinished(job);
+
+    // then
+    assertEquals(CommunityDeletionJob.Status.FAILED, job.getStatus());
+    verify(communityService, never()).deleteCommunity(TEST_COMMUNITY_ID);
+  }
+
+  @Test
+  void getDeletionOnlyForRequestingUsers() throws InterruptedException {
+    // given
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityHouseRepository.findIdsByCommunityId(TEST_COMMUNITY_PK,
+        PageRequest.of(0, TEST_CHUNK_SIZE)))
+        .willReturn(Collections.emptyList());
+    CommunityDeletionJob job =
+        communityDeletionSDJpaService.startDeletion(TEST_COMMUNITY_ID).get();
+    awaitFinished(job);
+
+    // when
+    authenticateAs(OTHER_USER_ID);
+    Optional<CommunityDeletionJob> otherUserJob =
+        communityDeletionSDJpaService.getDeletion(job.getJobId());
+    authenticateAs(TEST_USER_ID);
+    Optional<CommunityDeletionJob> requestingUserJob =
+        communityDeletionSDJpaService.getDeletion(job.getJobId());
+
+    // then
+    assertFalse(otherUserJob.isPresent());
+    assertTrue(requestingUserJob.isPresent());
+  }
+
+  private static void authenticateAs(String userId) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList()));
+  }
+
+  private static void awaitFinished(CommunityDeletionJob job) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (job.getStatus() == CommunityDeletionJob.Status.RUNNING
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
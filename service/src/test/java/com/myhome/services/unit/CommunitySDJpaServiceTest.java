@@ -20,15 +20,19 @@ import helpers.TestUtils;
 import com.myhome.controllers.dto.CommunityDto;
 import com.myhome.controllers.dto.mapper.CommunityMapper;
 import com.myhome.domain.Community;
+import com.myhome.domain.CommunityAdminAssignment;
 import com.myhome.domain.CommunityHouse;
-import com.myhome.domain.HouseMember;
+import com.myhome.domain.KeysetPage;
 import com.myhome.domain.User;
+import com.myhome.repositories.CommunityAdminLinkRepository;
+import com.myhome.repositories.CommunityDeletionRepository;
 import com.myhome.repositories.CommunityHouseRepository;
 import com.myhome.repositories.CommunityRepository;
 import com.myhome.repositories.UserRepository;
-import com.myhome.services.HouseService;
+import com.myhome.security.CommunityMembershipVersions;
 import com.myhome.services.springdatajpa.CommunitySDJpaService;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -41,16 +45,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -62,7 +69,6 @@ public class CommunitySDJpaServiceTest {
 
   private final int TEST_ADMINS_COUNT = 2;
   private final int TEST_HOUSES_COUNT = 2;
-  private final int TEST_HOUSE_MEMBERS_COUNT = 2;
   private final int TEST_COMMUNITIES_COUNT = 2;
 
   private final String TEST_ADMIN_ID = "test-admin-id";
@@ -70,6 +76,9 @@ public class CommunitySDJpaServiceTest {
   private final String TEST_ADMIN_EMAIL = "test-user-email";
   private final String TEST_ADMIN_PASSWORD = "test-user-password";
   private final String TEST_HOUSE_ID = "test-house-id";
+  private final String TEST_MISSING_ADMIN_ID = "test-missing-admin-id";
+  private final Long TEST_COMMUNITY_PK = 1L;
+  private final Long TEST_HOUSE_PK = 2L;
 
   @Mock
   private CommunityRepository communityRepository;
@@ -80,7 +89,11 @@ public class CommunitySDJpaServiceTest {
   @Mock
   private CommunityHouseRepository communityHouseRepository;
   @Mock
-  private HouseService houseService;
+  private CommunityDeletionRepository communityDeletionRepository;
+  @Mock
+  private CommunityAdminLinkRepository communityAdminLinkRepository;
+  @Mock
+  private CommunityMembershipVersions membershipVersions;
 
   @InjectMocks
   private CommunitySDJpaService communitySDJpaService;
@@ -98,7 +111,8 @@ public class CommunitySDJpaServiceTest {
         false,
         TEST_ADMIN_PASSWORD,
         new HashSet<>(),
-        new HashSet<>());
+        new HashSet<>(),
+        0);
   }
 
   @Test
@@ -116,6 +130,43 @@ public class CommunitySDJpaServiceTest {
     verify(communityRepository).findAll();
   }
 
+  @Test
+  void listCommunitiesAfterKey() {
+    // given
+    List<Community> fetched = new ArrayList<>(
+        TestUtils.CommunityHelpers.getTestCommunities(TEST_COMMUNITIES_COUNT + 1));
+    for (int i = 0; i < fetched.size(); i++) {
+      fetched.get(i).setId(10L + i);
+    }
+    given(communityRepository.findByIdGreaterThanOrderByIdAsc(9L,
+        PageRequest.of(0, TEST_COMMUNITIES_COUNT + 1)))
+        .willReturn(fetched);
+
+    // when
+    KeysetPage<Community> resultPage = communitySDJpaService.listAll(9L, TEST_COMMUNITIES_COUNT);
+
+    // then
+    assertEquals(fetched.subList(0, TEST_COMMUNITIES_COUNT), resultPage.getContent());
+    assertEquals(11L, resultPage.getNextKey());
+  }
+
+  @Test
+  void listFirstCommunitiesLastPage() {
+    // given
+    List<Community> fetched = new ArrayList<>(
+        TestUtils.CommunityHelpers.getTestCommunities(TEST_COMMUNITIES_COUNT));
+    given(communityRepository.findByIdGreaterThanOrderByIdAsc(Long.MIN_VALUE,
+        PageRequest.of(0, TEST_COMMUNITIES_COUNT + 1)))
+        .willReturn(fetched);
+
+    // when
+    KeysetPage<Community> resultPage = communitySDJpaService.listAll(null, TEST_COMMUNITIES_COUNT);
+
+    // then
+    assertEquals(fetched, resultPage.getContent());
+    assertNull(resultPage.getNextKey());
+  }
+
   @Test
   void createCommunity() {
     // given
@@ -223,49 +274,147 @@ public class CommunitySDJpaServiceTest {
   @Test
   void addAdminsToCommunity() {
     // given
-    Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
     Set<User> adminToAdd = TestUtils.UserHelpers.getTestUsers(TEST_ADMINS_COUNT);
     Set<String> adminToAddIds = adminToAdd.stream()
         .map(admin -> admin.getUserId())
         .collect(Collectors.toSet());
+    Set<String> requestedIds = new HashSet<>(adminToAddIds);
+    requestedIds.add(TEST_ADMIN_ID);
+    requestedIds.add(TEST_MISSING_ADMIN_ID);
+    List<UserRepository.UserIdRow> users = new ArrayList<>();
+    users.add(userIdRow(1L, TEST_ADMIN_ID));
+    long userId = 2;
+    for (String adminId : adminToAddIds) {
+      users.add(userIdRow(userId++, adminId));
+    }
+
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityRepository.findAdminIdsById(TEST_COMMUNITY_PK))
+        .willReturn(Collections.singletonList(TEST_ADMIN_ID));
+    given(communityAdminRepository.findIdsByUserIds(requestedIds))
+        .willReturn(users);
 
-    given(communityRepository.findByCommunityIdWithAdmins(TEST_COMMUNITY_ID))
-        .willReturn(Optional.of(testCommunity));
-    given(communityRepository.save(testCommunity))
-        .willReturn(testCommunity);
-    adminToAdd.forEach(admin -> {
-      given(communityAdminRepository.findByUserIdWithCommunities(admin.getUserId()))
-          .willReturn(Optional.of(admin));
-    });
-    adminToAdd.forEach(admin -> {
-      given(communityAdminRepository.save(admin))
-          .willReturn(admin);
-    });
     // when
-    Optional<Community> updatedCommunityOptional =
-        communitySDJpaService.addAdminsToCommunity(TEST_COMMUNITY_ID, adminToAddIds);
+    Optional<CommunityAdminAssignment> assignmentOptional =
+        communitySDJpaService.addAdminsToCommunity(TEST_COMMUNITY_ID, requestedIds);
 
     // then
-    assertTrue(updatedCommunityOptional.isPresent());
-    adminToAdd.forEach(admin -> assertTrue(admin.getCommunities().contains(testCommunity)));
-    verify(communityRepository).findByCommunityIdWithAdmins(TEST_COMMUNITY_ID);
-    adminToAdd.forEach(
-        admin -> verify(communityAdminRepository).findByUserIdWithCommunities(admin.getUserId()));
+    assertTrue(assignmentOptional.isPresent());
+    Set<String> expectedAdminIds = new HashSet<>(adminToAddIds);
+    expectedAdminIds.add(TEST_ADMIN_ID);
+    assertEquals(expectedAdminIds, assignmentOptional.get().getAdminIds());
+    assertEquals(Collections.singleton(TEST_MISSING_ADMIN_ID),
+        assignmentOptional.get().getMissingAdminIds());
+    verify(communityAdminLinkRepository).insertAdmins(TEST_COMMUNITY_PK, Arrays.asList(2L, 3L));
+    verify(membershipVersions).bump(adminToAddIds);
   }
 
   @Test
   void addAdminsToCommunityNotExist() {
     // given
-    given(communityRepository.findByCommunityIdWithAdmins(TEST_COMMUNITY_ID))
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
         .willReturn(Optional.empty());
 
     // when
-    Optional<Community> updatedCommunityOptional =
-        communitySDJpaService.addAdminsToCommunity(TEST_COMMUNITY_ID, any());
+    Optional<CommunityAdminAssignment> assignmentOptional =
+        communitySDJpaService.addAdminsToCommunity(TEST_COMMUNITY_ID,
+            Collections.singleton(TEST_ADMIN_ID));
 
     // then
-    assertFalse(updatedCommunityOptional.isPresent());
-    verify(communityRepository).findByCommunityIdWithAdmins(TEST_COMMUNITY_ID);
+    assertFalse(assignmentOptional.isPresent());
+    verify(communityRepository).findIdByCommunityId(TEST_COMMUNITY_ID);
+    verifyNoInteractions(communityAdminRepository, communityAdminLinkRepository);
+  }
+
+  @Test
+  void isCommunityAdminCachesMembership() {
+    // given
+    given(communityRepository.existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID))
+        .willReturn(true);
+
+    // when
+    boolean firstCheck = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+    boolean secondCheck = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // then
+    assertTrue(firstCheck);
+    assertTrue(secondCheck);
+    verify(communityRepository).existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID);
+  }
+
+  @Test
+  void isCommunityAdminAfterAdminAdded() {
+    // given
+    given(communityRepository.existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID))
+        .willReturn(false, true);
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityRepository.findAdminIdsById(TEST_COMMUNITY_PK))
+        .willReturn(Collections.emptyList());
+    given(communityAdminRepository.findIdsByUserIds(Collections.singleton(TEST_ADMIN_ID)))
+        .willReturn(Collections.singletonList(userIdRow(1L, TEST_ADMIN_ID)));
+    boolean adminBefore = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // when
+    communitySDJpaService.addAdminsToCommunity(TEST_COMMUNITY_ID,
+        Collections.singleton(TEST_ADMIN_ID));
+    boolean adminAfter = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // then
+    assertFalse(adminBefore);
+    assertTrue(adminAfter);
+    verify(communityRepository, times(2)).existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID);
+  }
+
+  @Test
+  void isCommunityAdminAfterAdminRemoved() {
+    // given
+    Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
+    testCommunity.getAdmins().add(getTestAdmin());
+    given(communityRepository.existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID))
+        .willReturn(true, false);
+    given(communityRepository.findByCommunityIdWithAdmins(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(testCommunity));
+    boolean adminBefore = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // when
+    communitySDJpaService.removeAdminFromCommunity(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+    boolean adminAfter = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // then
+    assertTrue(adminBefore);
+    assertFalse(adminAfter);
+    verify(communityRepository, times(2)).existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID);
+  }
+
+  @Test
+  void isCommunityAdminAfterCommunityDeleted() {
+    // given
+    given(communityRepository.existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID))
+        .willReturn(true, false);
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityDeletionRepository.deleteCommunity(TEST_COMMUNITY_PK))
+        .willReturn(true);
+    boolean adminBefore = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // when
+    communitySDJpaService.deleteCommunity(TEST_COMMUNITY_ID);
+    boolean adminAfter = communitySDJpaService.isCommunityAdmin(TEST_COMMUNITY_ID, TEST_ADMIN_ID);
+
+    // then
+    assertTrue(adminBefore);
+    assertFalse(adminAfter);
+    verify(communityRepository, times(2)).existsByCommunityIdAndAdmins_UserId(TEST_COMMUNITY_ID,
+        TEST_ADMIN_ID);
   }
 
   @Test
@@ -330,6 +479,7 @@ public class CommunitySDJpaServiceTest {
     housesToAdd.forEach(house -> {
       verify(communityHouseRepository).save(house);
     });
+    verify(communityRepository, never()).save(any());
   }
 
   @Test
@@ -360,8 +510,6 @@ public class CommunitySDJpaServiceTest {
 
     given(communityRepository.findByCommunityIdWithHouses(TEST_COMMUNITY_ID))
         .willReturn(Optional.of(testCommunity));
-    given(communityRepository.save(testCommunity))
-        .willReturn(testCommunity);
     houses.forEach(house -> given(communityHouseRepository.save(house)).willReturn(house));
 
     // when
@@ -371,7 +519,7 @@ public class CommunitySDJpaServiceTest {
     // then
     assertTrue(addedHousesIds.isEmpty());
     verify(communityRepository).findByCommunityIdWithHouses(TEST_COMMUNITY_ID);
-    verify(communityRepository).save(testCommunity);
+    verify(communityRepository, never()).save(any());
     verify(communityHouseRepository, never()).save(any());
   }
 
@@ -395,6 +543,7 @@ public class CommunitySDJpaServiceTest {
     assertTrue(adminRemoved);
     verify(communityRepository).findByCommunityIdWithAdmins(TEST_COMMUNITY_ID);
     verify(communityRepository).save(testCommunity);
+    verify(membershipVersions).bump(Collections.singleton(TEST_ADMIN_ID));
   }
 
   @Test
@@ -436,37 +585,28 @@ public class CommunitySDJpaServiceTest {
   @Test
   void deleteCommunity() {
     // given
-    Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
-    Set<CommunityHouse> testCommunityHouses = TestUtils.CommunityHouseHelpers.getTestHouses(TEST_HOUSES_COUNT);
-    testCommunity.setHouses(testCommunityHouses);
-
-    given(communityRepository.findByCommunityIdWithHouses(TEST_COMMUNITY_ID))
-        .willReturn(Optional.of(testCommunity));
-    testCommunityHouses.forEach(house -> {
-      given(communityHouseRepository.findByHouseId(house.getHouseId()))
-          .willReturn(Optional.of(house));
-    });
-
-    testCommunityHouses.forEach(house -> {
-      given(communityHouseRepository.findByHouseId(house.getHouseId()))
-          .willReturn(Optional.of(house));
-    });
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityRepository.findAdminIdsById(TEST_COMMUNITY_PK))
+        .willReturn(Collections.singletonList(TEST_ADMIN_ID));
+    given(communityDeletionRepository.deleteCommunity(TEST_COMMUNITY_PK))
+        .willReturn(true);
 
     // when
     boolean communityDeleted = communitySDJpaService.deleteCommunity(TEST_COMMUNITY_ID);
 
     // then
     assertTrue(communityDeleted);
-    verify(communityRepository).findByCommunityIdWithHouses(TEST_COMMUNITY_ID);
-    verify(communityRepository).delete(testCommunity);
+    verify(communityDeletionRepository).deleteCommunity(TEST_COMMUNITY_PK);
+    verify(membershipVersions).bump(Collections.singletonList(TEST_ADMIN_ID));
+    verify(communityRepository, never()).findByCommunityIdWithHouses(TEST_COMMUNITY_ID);
+    verifyNoInteractions(communityHouseRepository);
   }
 
   @Test
   void deleteCommunityNotExists() {
     // given
-    Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
-
-    given(communityRepository.findByCommunityIdWithHouses(TEST_COMMUNITY_ID))
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
         .willReturn(Optional.empty());
 
     // when
@@ -474,24 +614,40 @@ public class CommunitySDJpaServiceTest {
 
     // then
     assertFalse(communityDeleted);
-    verify(communityRepository).findByCommunityIdWithHouses(TEST_COMMUNITY_ID);
-    verify(communityHouseRepository, never()).deleteByHouseId(any());
-    verify(communityRepository, never()).delete(testCommunity);
+    verify(communityRepository).findIdByCommunityId(TEST_COMMUNITY_ID);
+    verifyNoInteractions(communityDeletionRepository);
+    verifyNoInteractions(membershipVersions);
+  }
+
+  @Test
+  void deleteCommunityDeletedConcurrently() {
+    // given
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityRepository.findAdminIdsById(TEST_COMMUNITY_PK))
+        .willReturn(Collections.emptyList());
+    given(communityDeletionRepository.deleteCommunity(TEST_COMMUNITY_PK))
+        .willReturn(false);
+
+    // when
+    boolean communityDeleted = communitySDJpaService.deleteCommunity(TEST_COMMUNITY_ID);
+
+    // then
+    assertFalse(communityDeleted);
+    verifyNoInteractions(membershipVersions);
   }
 
   @Test
   void removeHouseFromCommunityByHouseId() {
     // given
     Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
-    CommunityHouse testHouse = TestUtils.CommunityHouseHelpers.getTestCommunityHouse(TEST_HOUSE_ID);
-    Set<HouseMember> testHouseMembers = TestUtils.HouseMemberHelpers.getTestHouseMembers(TEST_HOUSE_MEMBERS_COUNT);
-    testHouse.setHouseMembers(testHouseMembers);
-    testCommunity.getHouses().add(testHouse);
+    testCommunity.setId(TEST_COMMUNITY_PK);
 
-    given(communityRepository.findByCommunityIdWithHouses(TEST_COMMUNITY_ID))
-        .willReturn(Optional.of(testCommunity));
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(TEST_HOUSE_ID))
-        .willReturn(Optional.of(testHouse));
+    given(communityHouseRepository.findIdByHouseIdAndCommunityId(TEST_HOUSE_ID,
+        TEST_COMMUNITY_PK))
+        .willReturn(Optional.of(TEST_HOUSE_PK));
+    given(communityDeletionRepository.deleteHouses(Collections.singletonList(TEST_HOUSE_PK)))
+        .willReturn(1);
 
     // when
     boolean houseDeleted =
@@ -499,40 +655,30 @@ public class CommunitySDJpaServiceTest {
 
     // then
     assertTrue(houseDeleted);
-    assertFalse(testCommunity.getHouses().contains(testHouse));
-    verify(communityRepository).save(testCommunity);
-    testHouse.getHouseMembers()
-        .forEach(houseMember -> verify(houseService).deleteMemberFromHouse(TEST_HOUSE_ID,
-            houseMember.getMemberId()));
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(TEST_HOUSE_ID);
-    verify(communityHouseRepository).deleteByHouseId(TEST_HOUSE_ID);
+    verify(communityDeletionRepository).deleteHouses(Collections.singletonList(TEST_HOUSE_PK));
+    verify(communityRepository, never()).save(testCommunity);
   }
 
   @Test
   void removeHouseFromCommunityByHouseIdCommunityNotExists() {
-    // given
-    Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
-
-    given(communityRepository.findByCommunityIdWithHouses(TEST_COMMUNITY_ID))
-        .willReturn(Optional.empty());
-
     // when
     boolean houseDeleted =
         communitySDJpaService.removeHouseFromCommunityByHouseId(null, TEST_HOUSE_ID);
 
     // then
     assertFalse(houseDeleted);
-    verify(communityHouseRepository, never()).findByHouseId(TEST_HOUSE_ID);
-    verifyNoInteractions(houseService);
-    verify(communityRepository, never()).save(testCommunity);
+    verifyNoInteractions(communityHouseRepository);
+    verifyNoInteractions(communityDeletionRepository);
   }
 
   @Test
   void removeHouseFromCommunityByHouseIdHouseNotExists() {
     // given
     Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
+    testCommunity.setId(TEST_COMMUNITY_PK);
 
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(TEST_HOUSE_ID))
+    given(communityHouseRepository.findIdByHouseIdAndCommunityId(TEST_HOUSE_ID,
+        TEST_COMMUNITY_PK))
         .willReturn(Optional.empty());
 
     // when
@@ -541,18 +687,24 @@ public class CommunitySDJpaServiceTest {
 
     // then
     assertFalse(houseDeleted);
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(TEST_HOUSE_ID);
-    verifyNoInteractions(houseService);
-    verify(communityRepository, never()).save(testCommunity);
+    verify(communityHouseRepository).findIdByHouseIdAndCommunityId(TEST_HOUSE_ID,
+        TEST_COMMUNITY_PK);
+    verifyNoInteractions(communityDeletionRepository);
   }
 
   @Test
   void removeHouseFromCommunityByHouseIdHouseNotInCommunity() {
     // given
     Community testCommunity = TestUtils.CommunityHelpers.getTestCommunity();
+    testCommunity.setId(TEST_COMMUNITY_PK);
 
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(TEST_HOUSE_ID))
+    // the house exists, but in another community
+    given(communityHouseRepository.findIdByHouseIdAndCommunityId(TEST_HOUSE_ID,
+        TEST_COMMUNITY_PK))
         .willReturn(Optional.empty());
+    given(communityHouseRepository.findByHouseId(TEST_HOUSE_ID))
+        .willReturn(
+            Optional.of(TestUtils.CommunityHouseHelpers.getTestCommunityHouse(TEST_HOUSE_ID)));
 
     // when
     boolean houseDeleted =
@@ -560,9 +712,21 @@ public class CommunitySDJpaServiceTest {
 
     // then
     assertFalse(houseDeleted);
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(TEST_HOUSE_ID);
-    verifyNoInteractions(houseService);
-    verify(communityRepository, never()).save(testCommunity);
+    verifyNoInteractions(communityDeletionRepository);
+  }
+
+  private static UserRepository.UserIdRow userIdRow(Long id, String userId) {
+    return new UserRepository.UserIdRow() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getUserId() {
+        return userId;
+      }
+    };
   }
 
   private CommunityDto getTestCommunityDto() {
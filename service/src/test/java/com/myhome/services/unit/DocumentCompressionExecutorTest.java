@@ -0,0 +1,314 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.unit;
+
+import com.myhome.configuration.properties.files.DocumentCompressionProperties;
+import com.myhome.controllers.exceptions.ServiceUnavailableException;
+import com.myhome.services.DocumentContentStore;
+import com.myhome.services.DocumentContentStore.ContentWriter;
+import com.myhome.services.DocumentContentStore.StoredContent;
+import com.myhome.services.imaging.DocumentCompressionExecutor;
+import com.myhome.services.imaging.DocumentCompressionExecutor.StoredRenditions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DocumentCompressionExecutorTest {
+
+  private static final int COMPRESSION_BORDER_SIZE_KB = 64;
+  private static final float COMPRESSED_IMAGE_QUALITY = 0.1f;
+  private static final long MAX_LENGTH = 1024 * 1024;
+  private static final Duration TEST_RETRY_AFTER = Duration.ofSeconds(3);
+  private static final long MAX_IMAGE_PIXELS = 1_000_000;
+  private static final int MAX_IMAGE_DIMENSION = 100;
+  private static final int MEDIUM_RENDITION_DIMENSION = 60;
+  private static final int SMALL_RENDITION_DIMENSION = 20;
+
+  private final DocumentContentStore documentContentStore = mock(DocumentContentStore.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private DocumentCompressionExecutor documentCompressionExecutor;
+  private List<byte[]> storedContents;
+  private String storingThreadName;
+
+  @BeforeEach
+  void init() throws IOException {
+    DocumentCompressionProperties properties = new DocumentCompressionProperties();
+    properties.setThreads(1);
+    properties.setQueueCapacity(1);
+    properties.setRetryAfter(TEST_RETRY_AFTER);
+    properties.setMaxImagePixels(MAX_IMAGE_PIXELS);
+    properties.setMaxImageDimension(MAX_IMAGE_DIMENSION);
+    properties.setMediumRenditionDimension(MEDIUM_RENDITION_DIMENSION);
+    properties.setSmallRenditionDimension(SMALL_RENDITION_DIMENSION);
+    documentCompressionExecutor = new DocumentCompressionExecutor(documentContentStore,
+        properties, COMPRESSION_BORDER_SIZE_KB, COMPRESSED_IMAGE_QUALITY, meterRegistry);
+    storedContents = new ArrayList<>();
+    given(documentContentStore.store(any(), anyLong())).willAnswer(invocation -> {
+      storingThreadName = Thread.currentThread().getName();
+      ByteArrayOutputStream storedBytes = new ByteArrayOutputStream();
+      invocation.<ContentWriter>getArgument(0).writeTo(storedBytes);
+      storedContents.add(storedBytes.toByteArray());
+      return Optional.of(
+          new StoredContent("test-content-key-" + storedContents.size(), storedBytes.size()));
+    });
+  }
+
+  @AfterEach
+  void shutdown() {
+    documentCompressionExecutor.shutdown();
+  }
+
+  @Test
+  void storesImageOnCompressionPool() throws IOException {
+    // given
+    byte[] upload = getNoiseImage(40, 30);
+
+    // when
+    Optional<StoredRenditions> storedRenditions = documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH);
+
+    // then
+    assertEquals(storedContents.get(0).length,
+        storedRenditions.get().getOriginal().getContentLength());
+    BufferedImage storedImage = readStoredImage(0);
+    assertEquals(40, storedImage.getWidth());
+    assertEquals(30, storedImage.getHeight());
+    assertTrue(storingThreadName.startsWith("document-compression"));
+    assertEquals(1,
+        meterRegistry.get("executor").tag("name", "document.compression").timer().count());
+  }
+
+  @Test
+  void compressesUploadsReachingCompressionBorder() throws IOException {
+    // given
+    byte[] upload = getNoiseImage(200, 200);
+    long compressionBorder = COMPRESSION_BORDER_SIZE_KB * 1024;
+
+    // when
+    long plainLength = documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), compressionBorder - 1, MAX_LENGTH)
+        .get().getOriginal().getContentLength();
+    storedContents.clear();
+    long compressedLength = documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), compressionBorder, MAX_LENGTH)
+        .get().getOriginal().getContentLength();
+
+    // then
+    assertTrue(compressedLength < plainLength);
+  }
+
+  @Test
+  void rejectsUnreadableUpload() throws IOException {
+    // given
+    ByteArrayResource upload = new ByteArrayResource(new byte[] {1, 2, 3});
+
+    // when and then
+    assertThrows(IOException.class,
+        () -> documentCompressionExecutor.compressAndStore(upload, 3, MAX_LENGTH));
+    verify(documentContentStore, never()).store(any(), anyLong());
+  }
+
+  @Test
+  void rejectsImageDeclaringTooManyPixels() throws IOException {
+    // given
+    byte[] upload = withDeclaredDimensions(getNoiseImage(10, 10), 30000, 30000);
+
+    // when
+    IOException exception = assertThrows(IOException.class, () -> documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH));
+
+    // then
+    assertTrue(exception.getMessage().contains("30000x30000"));
+    verify(documentContentStore, never()).store(any(), anyLong());
+  }
+
+  @Test
+  void subsamplesLargeImagesWhileDecoding() throws IOException {
+    // given
+    byte[] upload = getNoiseImage(250, 120);
+
+    // when
+    documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH);
+
+    // then
+    BufferedImage storedImage = readStoredImage(0);
+    assertEquals(84, storedImage.getWidth());
+    assertEquals(40, storedImage.getHeight());
+  }
+
+  @Test
+  void storesDownscaledRenditions() throws IOException {
+    // given
+    byte[] upload = getNoiseImage(100, 50);
+
+    // when
+    StoredRenditions storedRenditions = documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH).get();
+
+    // then
+    assertEquals(3, storedContents.size());
+    assertEquals("test-content-key-1", storedRenditions.getOriginal().getContentKey());
+    assertEquals("test-content-key-2", storedRenditions.getMedium().getContentKey());
+    assertEquals("test-content-key-3", storedRenditions.getSmall().getContentKey());
+    assertEquals(60, readStoredImage(1).getWidth());
+    assertEquals(30, readStoredImage(1).getHeight());
+    assertEquals(20, readStoredImage(2).getWidth());
+    assertEquals(10, readStoredImage(2).getHeight());
+  }
+
+  @Test
+  void releasesStoredRenditionsWhenLaterRenditionFails() throws IOException {
+    // given
+    byte[] upload = getNoiseImage(100, 50);
+    willReturn(Optional.of(new StoredContent("test-content-key-1", 10)),
+        Optional.of(new StoredContent("test-content-key-2", 5)))
+        .willThrow(new IOException("test-failure"))
+        .given(documentContentStore).store(any(), anyLong());
+
+    // when
+    assertThrows(IOException.class, () -> documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH));
+
+    // then
+    verify(documentContentStore).release("test-content-key-1");
+    verify(documentContentStore).release("test-content-key-2");
+  }
+
+  @Test
+  void sharesContentOfImagesTooSmallToScaleDown() throws IOException {
+    // given
+    byte[] upload = getNoiseImage(40, 30);
+
+    // when
+    StoredRenditions storedRenditions = documentCompressionExecutor
+        .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH).get();
+
+    // then
+    assertEquals(2, storedContents.size());
+    assertEquals(storedRenditions.getOriginal(), storedRenditions.getMedium());
+    assertEquals("test-content-key-2", storedRenditions.getSmall().getContentKey());
+    assertEquals(20, readStoredImage(1).getWidth());
+    assertEquals(15, readStoredImage(1).getHeight());
+  }
+
+  @Test
+  void rejectsUploadsWhenQueueIsFull() throws Exception {
+    // given
+    byte[] upload = getNoiseImage(10, 10);
+    CountDownLatch storeStarted = new CountDownLatch(1);
+    CountDownLatch releaseStore = new CountDownLatch(1);
+    willAnswer(invocation -> {
+      storeStarted.countDown();
+      releaseStore.await(10, TimeUnit.SECONDS);
+      return Optional.of(new StoredContent("test-content-key", upload.length));
+    }).given(documentContentStore).store(any(), anyLong());
+    CompletableFuture<Optional<StoredRenditions>> running = compressAsync(upload);
+    assertTrue(storeStarted.await(10, TimeUnit.SECONDS));
+    CompletableFuture<Optional<StoredRenditions>> queued = compressAsync(upload);
+    for (int i = 0; i < 1000 && meterRegistry.get("executor.queued").gauge().value() < 1; i++) {
+      Thread.sleep(10);
+    }
+
+    // when
+    ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+        () -> documentCompressionExecutor
+            .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH));
+    releaseStore.countDown();
+
+    // then
+    assertEquals(TEST_RETRY_AFTER, exception.getRetryAfter());
+    assertEquals(1, meterRegistry.get("document.compression.rejected").counter().count());
+    assertTrue(running.get(10, TimeUnit.SECONDS).isPresent());
+    assertTrue(queued.get(10, TimeUnit.SECONDS).isPresent());
+  }
+
+  private CompletableFuture<Optional<StoredRenditions>> compressAsync(byte[] upload) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return documentCompressionExecutor
+            .compressAndStore(new ByteArrayResource(upload), upload.length, MAX_LENGTH);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  private BufferedImage readStoredImage(int index) throws IOException {
+    return ImageIO.read(new ByteArrayInputStream(storedContents.get(index)));
+  }
+
+  /**
+   * Rewrites the frame header of a baseline JPEG, so that it declares other dimensions than its
+   * pixel data.
+   */
+  private static byte[] withDeclaredDimensions(byte[] jpeg, int width, int height) {
+    byte[] patched = jpeg.clone();
+    for (int i = 2; i + 8 < patched.length; i++) {
+      if ((patched[i] & 0xff) == 0xff && (patched[i + 1] & 0xff) == 0xc0) {
+        patched[i + 5] = (byte) (height >> 8);
+        patched[i + 6] = (byte) height;
+        patched[i + 7] = (byte) (width >> 8);
+        patched[i + 8] = (byte) width;
+        return patched;
+      }
+    }
+    throw new IllegalArgumentException("No baseline frame header found");
+  }
+
+  private static byte[] getNoiseImage(int width, int height) throws IOException {
+    Random random = new Random(0);
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        image.setRGB(x, y, random.nextInt());
+      }
+    }
+    try (ByteArrayOutputStream imageBytes = new ByteArrayOutputStream()) {
+      ImageIO.write(image, "jpg", imageBytes);
+      return imageBytes.toByteArray();
+    }
+  }
+}
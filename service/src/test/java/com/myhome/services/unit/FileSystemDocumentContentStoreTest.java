@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.unit;
+
+import com.myhome.configuration.properties.files.DocumentStorageProperties;
+import com.myhome.services.DocumentContentStore.StoredContent;
+import com.myhome.services.filesystem.FileSystemDocumentContentStore;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemDocumentContentStoreTest {
+
+  private static final byte[] TEST_CONTENT = "test-content".getBytes(StandardCharsets.UTF_8);
+  // SHA-256 of TEST_CONTENT
+  private static final String TEST_CONTENT_KEY =
+      "0a3666a0710c08aa6d0de92ce72beeb5b93124cce1bf3701c9d6cdeb543cb73e";
+
+  @TempDir
+  Path storageDirectory;
+
+  private FileSystemDocumentContentStore documentContentStore;
+
+  @BeforeEach
+  void setUp() {
+    DocumentStorageProperties storageProperties = new DocumentStorageProperties();
+    storageProperties.setDirectory(storageDirectory);
+    documentContentStore = new FileSystemDocumentContentStore(storageProperties);
+  }
+
+  @Test
+  void storeAddressesContentByDigest() throws IOException {
+    // when
+    String contentKey = store(TEST_CONTENT);
+    Optional<Resource> content = documentContentStore.load(contentKey);
+
+    // then
+    assertEquals(TEST_CONTENT_KEY, contentKey);
+    assertTrue(content.isPresent());
+    try (InputStream contentStream = content.get().getInputStream()) {
+      assertArrayEquals(TEST_CONTENT, StreamUtils.copyToByteArray(contentStream));
+    }
+  }
+
+  @Test
+  void storeKeepsSingleCopyOfIdenticalContent() throws IOException {
+    // when
+    String firstKey = store(TEST_CONTENT);
+    String secondKey = store(TEST_CONTENT.clone());
+    String otherKey = store(new byte[] {1, 2, 3});
+
+    // then
+    assertEquals(firstKey, secondKey);
+    assertNotEquals(firstKey, otherKey);
+    assertEquals(2, countStoredFiles());
+  }
+
+  @Test
+  void storeStreamsWrittenContent() throws IOException {
+    // when
+    Optional<StoredContent> storedContent = documentContentStore.store(outputStream -> {
+      outputStream.write(TEST_CONTENT, 0, 4);
+      for (int i = 4; i < TEST_CONTENT.length; i++) {
+        outputStream.write(TEST_CONTENT[i]);
+      }
+    }, TEST_CONTENT.length);
+
+    // then
+    assertEquals(Optional.of(new StoredContent(TEST_CONTENT_KEY, TEST_CONTENT.length)),
+        storedContent);
+    assertEquals(1, countStoredFiles());
+  }
+
+  @Test
+  void storeDiscardsContentExceedingMaxLength() throws IOException {
+    // when
+    Optional<StoredContent> storedContent =
+        documentContentStore.store(outputStream -> outputStream.write(TEST_CONTENT),
+            TEST_CONTENT.length - 1);
+
+    // then
+    assertFalse(storedContent.isPresent());
+    assertEquals(0, countStoredFiles());
+  }
+
+  @Test
+  void storeRemovesPartialContentIfWriterFails() throws IOException {
+    // when
+    assertThrows(IOException.class, () -> documentContentStore.store(outputStream -> {
+      outputStream.write(TEST_CONTENT);
+      throw new IOException("test-failure");
+    }, Long.MAX_VALUE));
+
+    // then
+    assertEquals(0, countStoredFiles());
+  }
+
+  @Test
+  void deleteRemovesReleasedUnreferencedContent() throws IOException {
+    // given
+    String contentKey = store(TEST_CONTENT);
+    documentContentStore.release(contentKey);
+
+    // when
+    boolean deleted = documentContentStore.deleteIfUnreferenced(contentKey, () -> false);
+
+    // then
+    assertTrue(deleted);
+    assertFalse(documentContentStore.load(contentKey).isPresent());
+    assertEquals(0, countStoredFiles());
+  }
+
+  @Test
+  void deleteKeepsReferencedContent() throws IOException {
+    // given
+    String contentKey = store(TEST_CONTENT);
+    documentContentStore.release(contentKey);
+
+    // when
+    boolean deleted = documentContentStore.deleteIfUnreferenced(contentKey, () -> true);
+
+    // then
+    assertFalse(deleted);
+    assertTrue(documentContentStore.load(contentKey).isPresent());
+  }
+
+  @Test
+  void deleteKeepsContentReusedByPendingUpload() throws IOException {
+    // given content stored by a committed document and reused by a pending upload
+    String contentKey = store(TEST_CONTENT);
+    documentContentStore.release(contentKey);
+    store(TEST_CONTENT);
+
+    // when the committed document is removed
+    boolean deleted = documentContentStore.deleteIfUnreferenced(contentKey, () -> false);
+
+    // then the content stays until the pending upload releases it
+    assertFalse(deleted);
+    assertTrue(documentContentStore.load(contentKey).isPresent());
+    documentContentStore.release(contentKey);
+    assertTrue(documentContentStore.deleteIfUnreferenced(contentKey, () -> false));
+  }
+
+  @Test
+  void loadRejectsKeysOutsideStore() throws IOException {
+    // given
+    store(TEST_CONTENT);
+
+    // when and then
+    assertFalse(documentContentStore.load("../" + TEST_CONTENT_KEY).isPresent());
+    assertFalse(documentContentStore.load(TEST_CONTENT_KEY.toUpperCase()).isPresent());
+    assertFalse(documentContentStore.load(null).isPresent());
+  }
+
+  private String store(byte[] content) throws IOException {
+    return documentContentStore.store(outputStream -> outputStream.write(content), Long.MAX_VALUE)
+        .get()
+        .getContentKey();
+  }
+
+  private long countStoredFiles() throws IOException {
+    try (Stream<Path> files = Files.walk(storageDirectory)) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+}
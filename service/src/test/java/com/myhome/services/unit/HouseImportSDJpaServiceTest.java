@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.unit;
+
+import com.myhome.configuration.properties.importing.HouseImportProperties;
+import com.myhome.domain.CommunityHouse;
+import com.myhome.domain.HouseImportReport;
+import com.myhome.domain.HouseImportRow;
+import com.myhome.domain.HouseMember;
+import com.myhome.repositories.CommunityHouseRepository;
+import com.myhome.repositories.CommunityRepository;
+import com.myhome.repositories.HouseImportRepository;
+import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.services.springdatajpa.HouseImportSDJpaService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class HouseImportSDJpaServiceTest {
+
+  private static final String TEST_COMMUNITY_ID = "test-community-id";
+  private static final Long TEST_COMMUNITY_PK = 7L;
+  private static final String TEST_HOUSE_ID = "test-house-id";
+
+  @Mock
+  private CommunityRepository communityRepository;
+  @Mock
+  private CommunityHouseRepository communityHouseRepository;
+  @Mock
+  private HouseMemberRepository houseMemberRepository;
+  @Mock
+  private HouseImportRepository houseImportRepository;
+
+  private HouseImportSDJpaService houseImportSDJpaService;
+
+  @BeforeEach
+  private void init() {
+    MockitoAnnotations.initMocks(this);
+    HouseImportProperties importProperties = new HouseImportProperties();
+    importProperties.setBatchSize(2);
+    importProperties.setMaxReportedErrors(1);
+    houseImportSDJpaService = new HouseImportSDJpaService(communityRepository,
+        communityHouseRepository, houseMemberRepository, houseImportRepository,
+        importProperties);
+  }
+
+  @Test
+  void importHousesInBatches() {
+    // given
+    List<HouseImportRow> rows = Arrays.asList(
+        HouseImportRow.of(2, "House 1", "Alice"),
+        HouseImportRow.of(3, "House 1", "Alice"),
+        HouseImportRow.failed(4, "Malformed JSON"),
+        HouseImportRow.of(5, "", "Carol"),
+        HouseImportRow.of(6, "House 2", "Bob"));
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    given(communityHouseRepository.findHouseIdsByNames(TEST_COMMUNITY_PK,
+        Collections.singleton("House 1")))
+        .willReturn(Collections.emptyList());
+    given(communityHouseRepository.findHouseIdsByNames(TEST_COMMUNITY_PK,
+        Collections.singleton("House 2")))
+        .willReturn(Collections.singletonList(getHouseIdRow("House 2", TEST_HOUSE_ID)));
+    given(houseMemberRepository.findMemberNamesByHouseIds(anyCollection()))
+        .willReturn(Collections.singletonList(getMemberNameRow(TEST_HOUSE_ID, "Bob")));
+
+    // when
+    Optional<HouseImportReport> reportOptional =
+        houseImportSDJpaService.importHouses(TEST_COMMUNITY_ID, rows.iterator());
+
+    // then
+    assertTrue(reportOptional.isPresent());
+    HouseImportReport report = reportOptional.get();
+    assertEquals(1, report.getHousesAdded());
+    assertEquals(1, report.getMembersAdded());
+    assertEquals(2, report.getRowsSkipped());
+    assertEquals(2, report.getRowsFailed());
+    assertEquals(1, report.getErrors().size());
+    assertEquals(4, report.getErrors().get(0).getLine());
+
+    ArgumentCaptor<List<CommunityHouse>> housesCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<HouseMember>> membersCaptor = ArgumentCaptor.forClass(List.class);
+    verify(houseImportRepository, times(2)).insert(any(), housesCaptor.capture(),
+        membersCaptor.capture());
+    List<CommunityHouse> firstBatchHouses = housesCaptor.getAllValues().get(0);
+    List<HouseMember> firstBatchMembers = membersCaptor.getAllValues().get(0);
+    assertEquals(1, firstBatchHouses.size());
+    assertEquals("House 1", firstBatchHouses.get(0).getName());
+    assertEquals(1, firstBatchMembers.size());
+    assertEquals("Alice", firstBatchMembers.get(0).getName());
+    assertEquals(firstBatchHouses.get(0).getHouseId(),
+        firstBatchMembers.get(0).getCommunityHouse().getHouseId());
+    assertTrue(housesCaptor.getAllValues().get(1).isEmpty());
+    assertTrue(membersCaptor.getAllValues().get(1).isEmpty());
+    verify(houseMemberRepository).findMemberNamesByHouseIds(anyCollection());
+  }
+
+  @Test
+  void importHousesFailsRowsOfFailedBatch() {
+    // given
+    List<HouseImportRow> rows = Arrays.asList(
+        HouseImportRow.of(2, "House 1", "Alice"),
+        HouseImportRow.of(3, "House 2", "Bob"),
+        HouseImportRow.of(4, "House 3", "Carol"));
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.of(TEST_COMMUNITY_PK));
+    willThrow(new DataIntegrityViolationException("duplicate house id"))
+        .willDoNothing()
+        .given(houseImportRepository).insert(any(), any(), any());
+
+    // when
+    Optional<HouseImportReport> reportOptional =
+        houseImportSDJpaService.importHouses(TEST_COMMUNITY_ID, rows.iterator());
+
+    // then
+    assertTrue(reportOptional.isPresent());
+    HouseImportReport report = reportOptional.get();
+    assertEquals(1, report.getHousesAdded());
+    assertEquals(1, report.getMembersAdded());
+    assertEquals(0, report.getRowsSkipped());
+    assertEquals(2, report.getRowsFailed());
+    assertEquals(1, report.getBatchesFailed());
+    assertEquals(1, report.getErrors().size());
+    assertEquals(2, report.getErrors().get(0).getLine());
+    verify(houseImportRepository, times(2)).insert(any(), any(), any());
+  }
+
+  @Test
+  void importHousesCommunityNotExists() {
+    // given
+    given(communityRepository.findIdByCommunityId(TEST_COMMUNITY_ID))
+        .willReturn(Optional.empty());
+
+    // when
+    Optional<HouseImportReport> reportOptional = houseImportSDJpaService.importHouses(
+        TEST_COMMUNITY_ID, Collections.singletonList(HouseImportRow.of(1, "House 1", null))
+            .iterator());
+
+    // then
+    assertFalse(reportOptional.isPresent());
+    verifyNoInteractions(communityHouseRepository);
+    verifyNoInteractions(houseImportRepository);
+  }
+
+  private CommunityHouseRepository.HouseIdRow getHouseIdRow(String name, String houseId) {
+    return new CommunityHouseRepository.HouseIdRow() {
+      @Override public String getName() {
+        return name;
+      }
+
+      @Override public String getHouseId() {
+        return houseId;
+      }
+    };
+  }
+
+  private HouseMemberRepository.MemberNameRow getMemberNameRow(String houseId, String name) {
+    return new HouseMemberRepository.MemberNameRow() {
+      @Override public String getHouseId() {
+        return houseId;
+      }
+
+      @Override public String getName() {
+        return name;
+      }
+    };
+  }
+}
@@ -17,42 +17,61 @@
 package com.myhome.services.unit;
 
 import helpers.TestUtils;
+import com.myhome.domain.DocumentRendition;
 import com.myhome.domain.HouseMember;
 import com.myhome.domain.HouseMemberDocument;
 import com.myhome.repositories.HouseMemberDocumentRepository;
 import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.services.DocumentContentStore;
+import com.myhome.services.DocumentContentStore.StoredContent;
+import com.myhome.services.imaging.DocumentCompressionExecutor;
+import com.myhome.services.imaging.DocumentCompressionExecutor.StoredRenditions;
 import com.myhome.services.springdatajpa.HouseMemberDocumentSDJpaService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class HouseMemberDocumentServiceTest {
 
   private static final String MEMBER_ID = "test-member-id";
   private static final String MEMBER_NAME = "test-member-name";
+  private static final String MEMBER_DOCUMENT_CONTENT_KEY = "test-content-key";
+  private static final String MEMBER_DOCUMENT_SMALL_CONTENT_KEY = "test-small-content-key";
+  private static final String NEW_CONTENT_KEY = "new-test-content-key";
+  private static final String NEW_MEDIUM_CONTENT_KEY = "new-test-medium-content-key";
+  private static final String NEW_SMALL_CONTENT_KEY = "new-test-small-content-key";
   private static final HouseMemberDocument MEMBER_DOCUMENT =
-      new HouseMemberDocument("test-file-name", new byte[0]);
-  private static final int COMPRESSION_BORDER_SIZE_KB = 99;
+      new HouseMemberDocument("test-file-name", MEMBER_DOCUMENT_CONTENT_KEY, 0,
+          MEMBER_DOCUMENT_CONTENT_KEY, MEMBER_DOCUMENT_SMALL_CONTENT_KEY);
   private static final int MAX_FILE_SIZE_KB = 1;
-  private static final long COMPRESSED_IMAGE_QUALITY = (long) 0.99;
+  private static final long MAX_FILE_SIZE_BYTES = 1024;
 
   @Mock
   private HouseMemberRepository houseMemberRepository;
@@ -60,25 +79,38 @@ public class HouseMemberDocumentServiceTest {
   @Mock
   private HouseMemberDocumentRepository houseMemberDocumentRepository;
 
+  @Mock
+  private DocumentContentStore documentContentStore;
+
+  @Mock
+  private DocumentCompressionExecutor documentCompressionExecutor;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @InjectMocks
   private HouseMemberDocumentSDJpaService houseMemberDocumentService;
 
+  private final List<String> deletedContentKeys = new ArrayList<>();
+
   @BeforeEach
-  private void init() {
+  private void init() throws IOException {
     MockitoAnnotations.initMocks(this);
-    ReflectionTestUtils.setField(houseMemberDocumentService, "compressionBorderSizeKBytes",
-        COMPRESSION_BORDER_SIZE_KB);
+    given(documentContentStore.deleteIfUnreferenced(anyString(), any())).willAnswer(invocation -> {
+      boolean referenced = invocation.<BooleanSupplier>getArgument(1).getAsBoolean();
+      if (!referenced) {
+        deletedContentKeys.add(invocation.getArgument(0));
+      }
+      return !referenced;
+    });
     ReflectionTestUtils.setField(houseMemberDocumentService, "maxFileSizeKBytes", MAX_FILE_SIZE_KB);
-    ReflectionTestUtils.setField(houseMemberDocumentService, "compressedImageQuality",
-        COMPRESSED_IMAGE_QUALITY);
   }
 
   @Test
   void findMemberDocumentSuccess() {
     // given
-    HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
-    given(houseMemberRepository.findByMemberId(MEMBER_ID))
-        .willReturn(Optional.of(testMember));
+    given(houseMemberDocumentRepository.findByMemberId(MEMBER_ID))
+        .willReturn(Optional.of(MEMBER_DOCUMENT));
     // when
     Optional<HouseMemberDocument> houseMemberDocument =
         houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID);
@@ -86,40 +118,76 @@ public class HouseMemberDocumentServiceTest {
     // then
     assertTrue(houseMemberDocument.isPresent());
     assertEquals(MEMBER_DOCUMENT, houseMemberDocument.get());
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verify(houseMemberDocumentRepository).findByMemberId(MEMBER_ID);
+    verifyNoInteractions(houseMemberRepository);
   }
 
   @Test
   void findMemberDocumentNoDocumentPresent() {
     // given
-    HouseMember testMember = new HouseMember(MEMBER_ID, null, MEMBER_NAME, null);
-    given(houseMemberRepository.findByMemberId(MEMBER_ID))
-        .willReturn(Optional.of(testMember));
+    given(houseMemberDocumentRepository.findByMemberId(MEMBER_ID))
+        .willReturn(Optional.empty());
     // when
     Optional<HouseMemberDocument> houseMemberDocument =
         houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID);
 
     // then
     assertFalse(houseMemberDocument.isPresent());
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verify(houseMemberDocumentRepository).findByMemberId(MEMBER_ID);
   }
 
   @Test
-  void findMemberDocumentMemberNotExists() {
+  void findMemberDocumentContent() {
     // given
-    given(houseMemberRepository.findByMemberId(MEMBER_ID))
-        .willReturn(Optional.empty());
+    Resource content = new ByteArrayResource(new byte[0]);
+    given(documentContentStore.load(MEMBER_DOCUMENT_CONTENT_KEY))
+        .willReturn(Optional.of(content));
     // when
-    Optional<HouseMemberDocument> houseMemberDocument =
-        houseMemberDocumentService.findHouseMemberDocument(MEMBER_ID);
+    Optional<Resource> documentContent =
+        houseMemberDocumentService.findHouseMemberDocumentContent(MEMBER_DOCUMENT,
+            DocumentRendition.ORIGINAL);
 
     // then
-    assertFalse(houseMemberDocument.isPresent());
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    assertEquals(Optional.of(content), documentContent);
+    verify(documentContentStore).load(MEMBER_DOCUMENT_CONTENT_KEY);
   }
 
   @Test
-  void deleteMemberDocumentSuccess() {
+  void findMemberDocumentRenditionContent() {
+    // given
+    Resource content = new ByteArrayResource(new byte[0]);
+    given(documentContentStore.load(MEMBER_DOCUMENT_SMALL_CONTENT_KEY))
+        .willReturn(Optional.of(content));
+    // when
+    Optional<Resource> documentContent =
+        houseMemberDocumentService.findHouseMemberDocumentContent(MEMBER_DOCUMENT,
+            DocumentRendition.SMALL);
+
+    // then
+    assertEquals(Optional.of(content), documentContent);
+    verify(documentContentStore).load(MEMBER_DOCUMENT_SMALL_CONTENT_KEY);
+  }
+
+  @Test
+  void findMemberDocumentRenditionContentWithoutRenditions() {
+    // given
+    HouseMemberDocument documentWithoutRenditions =
+        new HouseMemberDocument("test-file-name", MEMBER_DOCUMENT_CONTENT_KEY, 0, null, null);
+    Resource content = new ByteArrayResource(new byte[0]);
+    given(documentContentStore.load(MEMBER_DOCUMENT_CONTENT_KEY))
+        .willReturn(Optional.of(content));
+    // when
+    Optional<Resource> documentContent =
+        houseMemberDocumentService.findHouseMemberDocumentContent(documentWithoutRenditions,
+            DocumentRendition.MEDIUM);
+
+    // then
+    assertEquals(Optional.of(content), documentContent);
+    verify(documentContentStore).load(MEMBER_DOCUMENT_CONTENT_KEY);
+  }
+
+  @Test
+  void deleteMemberDocumentSuccess() throws IOException {
     // given
     HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
     given(houseMemberRepository.findByMemberId(MEMBER_ID))
@@ -132,6 +200,26 @@ public class HouseMemberDocumentServiceTest {
     assertNull(testMember.getHouseMemberDocument());
     verify(houseMemberRepository).findByMemberId(MEMBER_ID);
     verify(houseMemberRepository).save(testMember);
+    assertTrue(deletedContentKeys.contains(MEMBER_DOCUMENT_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(MEMBER_DOCUMENT_SMALL_CONTENT_KEY));
+  }
+
+  @Test
+  void deleteMemberDocumentContentStillReferenced() throws IOException {
+    // given
+    HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
+    given(houseMemberRepository.findByMemberId(MEMBER_ID))
+        .willReturn(Optional.of(testMember));
+    given(houseMemberDocumentRepository.isContentReferenced(MEMBER_DOCUMENT_CONTENT_KEY))
+        .willReturn(true);
+    // when
+    boolean isDocumentDeleted = houseMemberDocumentService.deleteHouseMemberDocument(MEMBER_ID);
+
+    // then
+    assertTrue(isDocumentDeleted);
+    verify(houseMemberRepository).save(testMember);
+    assertFalse(deletedContentKeys.contains(MEMBER_DOCUMENT_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(MEMBER_DOCUMENT_SMALL_CONTENT_KEY));
   }
 
   @Test
@@ -170,11 +258,16 @@ public class HouseMemberDocumentServiceTest {
     byte[] imageBytes = TestUtils.General.getImageAsByteArray(10, 10);
     MockMultipartFile newDocumentFile = new MockMultipartFile("new-test-file-name", imageBytes);
     HouseMemberDocument savedDocument =
-        new HouseMemberDocument(String.format("member_%s_document.jpg", MEMBER_ID), imageBytes);
+        new HouseMemberDocument(String.format("member_%s_document.jpg", MEMBER_ID),
+            NEW_CONTENT_KEY, imageBytes.length, NEW_MEDIUM_CONTENT_KEY, NEW_SMALL_CONTENT_KEY);
     HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
 
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
     given(houseMemberRepository.findByMemberId(MEMBER_ID))
         .willReturn(Optional.of(testMember));
+    given(documentCompressionExecutor.compressAndStore(newDocumentFile, imageBytes.length,
+        MAX_FILE_SIZE_BYTES))
+        .willReturn(Optional.of(storedRenditions(imageBytes.length)));
     given(houseMemberDocumentRepository.save(savedDocument))
         .willReturn(savedDocument);
     // when
@@ -184,9 +277,15 @@ public class HouseMemberDocumentServiceTest {
     // then
     assertTrue(houseMemberDocument.isPresent());
     assertEquals(testMember.getHouseMemberDocument(), houseMemberDocument.get());
+    assertEquals(NEW_CONTENT_KEY, houseMemberDocument.get().getContentKey());
     verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verify(documentCompressionExecutor)
+        .compressAndStore(newDocumentFile, imageBytes.length, MAX_FILE_SIZE_BYTES);
     verify(houseMemberDocumentRepository).save(savedDocument);
     verify(houseMemberRepository).save(testMember);
+    verify(documentContentStore).release(NEW_CONTENT_KEY);
+    assertFalse(deletedContentKeys.contains(NEW_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(MEMBER_DOCUMENT_CONTENT_KEY));
   }
 
   @Test
@@ -195,8 +294,7 @@ public class HouseMemberDocumentServiceTest {
     byte[] imageBytes = TestUtils.General.getImageAsByteArray(10, 10);
     MockMultipartFile newDocumentFile = new MockMultipartFile("new-test-file-name", imageBytes);
 
-    given(houseMemberRepository.findByMemberId(MEMBER_ID))
-        .willReturn(Optional.empty());
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(false);
 
     // when
     Optional<HouseMemberDocument> houseMemberDocument =
@@ -204,7 +302,7 @@ public class HouseMemberDocumentServiceTest {
 
     // then
     assertFalse(houseMemberDocument.isPresent());
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verifyNoInteractions(documentCompressionExecutor);
     verify(houseMemberDocumentRepository, never()).save(any());
     verify(houseMemberRepository, never()).save(any());
   }
@@ -215,14 +313,14 @@ public class HouseMemberDocumentServiceTest {
     byte[] imageBytes = TestUtils.General.getImageAsByteArray(1000, 1000);
     MockMultipartFile tooLargeDocumentFile =
         new MockMultipartFile("new-test-file-name", imageBytes);
-    HouseMemberDocument savedDocument =
-        new HouseMemberDocument(String.format("member_%s_document.jpg", MEMBER_ID), imageBytes);
     HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
 
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
     given(houseMemberRepository.findByMemberId(MEMBER_ID))
         .willReturn(Optional.of(testMember));
-    given(houseMemberDocumentRepository.save(savedDocument))
-        .willReturn(savedDocument);
+    given(documentCompressionExecutor.compressAndStore(tooLargeDocumentFile, imageBytes.length,
+        MAX_FILE_SIZE_BYTES))
+        .willReturn(Optional.empty());
     // when
     Optional<HouseMemberDocument> houseMemberDocument =
         houseMemberDocumentService.updateHouseMemberDocument(tooLargeDocumentFile, MEMBER_ID);
@@ -230,7 +328,7 @@ public class HouseMemberDocumentServiceTest {
     // then
     assertFalse(houseMemberDocument.isPresent());
     assertEquals(testMember.getHouseMemberDocument(), MEMBER_DOCUMENT);
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verify(houseMemberRepository, never()).findByMemberId(MEMBER_ID);
     verify(houseMemberDocumentRepository, never()).save(any());
     verify(houseMemberRepository, never()).save(any());
   }
@@ -240,12 +338,17 @@ public class HouseMemberDocumentServiceTest {
     // given
     byte[] imageBytes = TestUtils.General.getImageAsByteArray(10, 10);
     HouseMemberDocument savedDocument =
-        new HouseMemberDocument(String.format("member_%s_document.jpg", MEMBER_ID), imageBytes);
+        new HouseMemberDocument(String.format("member_%s_document.jpg", MEMBER_ID),
+            NEW_CONTENT_KEY, imageBytes.length, NEW_MEDIUM_CONTENT_KEY, NEW_SMALL_CONTENT_KEY);
     MockMultipartFile newDocumentFile = new MockMultipartFile("new-test-file-name", imageBytes);
     HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
 
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
     given(houseMemberRepository.findByMemberId(MEMBER_ID))
         .willReturn(Optional.of(testMember));
+    given(documentCompressionExecutor.compressAndStore(newDocumentFile, imageBytes.length,
+        MAX_FILE_SIZE_BYTES))
+        .willReturn(Optional.of(storedRenditions(imageBytes.length)));
     given(houseMemberDocumentRepository.save(savedDocument))
         .willReturn(savedDocument);
     // when
@@ -267,15 +370,14 @@ public class HouseMemberDocumentServiceTest {
     byte[] imageBytes = TestUtils.General.getImageAsByteArray(10, 10);
     MockMultipartFile newDocumentFile = new MockMultipartFile("new-test-file-name", imageBytes);
 
-    given(houseMemberRepository.findByMemberId(MEMBER_ID))
-        .willReturn(Optional.empty());
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(false);
     // when
     Optional<HouseMemberDocument> houseMemberDocument =
         houseMemberDocumentService.createHouseMemberDocument(newDocumentFile, MEMBER_ID);
 
     // then
     assertFalse(houseMemberDocument.isPresent());
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verifyNoInteractions(documentCompressionExecutor);
     verify(houseMemberDocumentRepository, never()).save(any());
     verify(houseMemberRepository, never()).save(any());
   }
@@ -288,8 +390,12 @@ public class HouseMemberDocumentServiceTest {
         new MockMultipartFile("new-test-file-name", imageBytes);
     HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
 
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
     given(houseMemberRepository.findByMemberId(MEMBER_ID))
         .willReturn(Optional.of(testMember));
+    given(documentCompressionExecutor.compressAndStore(tooLargeDocumentFile, imageBytes.length,
+        MAX_FILE_SIZE_BYTES))
+        .willReturn(Optional.empty());
     // when
     Optional<HouseMemberDocument> houseMemberDocument =
         houseMemberDocumentService.createHouseMemberDocument(tooLargeDocumentFile, MEMBER_ID);
@@ -297,8 +403,88 @@ public class HouseMemberDocumentServiceTest {
     // then
     assertFalse(houseMemberDocument.isPresent());
     assertEquals(testMember.getHouseMemberDocument(), MEMBER_DOCUMENT);
-    verify(houseMemberRepository).findByMemberId(MEMBER_ID);
+    verify(houseMemberRepository, never()).findByMemberId(MEMBER_ID);
+    verify(houseMemberDocumentRepository, never()).save(any());
+    verify(houseMemberRepository, never()).save(any());
+  }
+
+  @Test
+  void createHouseMemberDocumentUnreadableFile() throws IOException {
+    // given
+    MockMultipartFile unreadableDocumentFile =
+        new MockMultipartFile("new-test-file-name", new byte[] {1, 2, 3});
+    HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
+
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
+    given(houseMemberRepository.findByMemberId(MEMBER_ID))
+        .willReturn(Optional.of(testMember));
+    given(documentCompressionExecutor.compressAndStore(unreadableDocumentFile, 3,
+        MAX_FILE_SIZE_BYTES))
+        .willThrow(new IOException("Upload is not a readable image"));
+    // when
+    Optional<HouseMemberDocument> houseMemberDocument =
+        houseMemberDocumentService.createHouseMemberDocument(unreadableDocumentFile, MEMBER_ID);
+
+    // then
+    assertFalse(houseMemberDocument.isPresent());
+    assertEquals(testMember.getHouseMemberDocument(), MEMBER_DOCUMENT);
     verify(houseMemberDocumentRepository, never()).save(any());
     verify(houseMemberRepository, never()).save(any());
   }
+
+  @Test
+  void createHouseMemberDocumentMemberRemovedWhileCompressing() throws IOException {
+    // given
+    byte[] imageBytes = TestUtils.General.getImageAsByteArray(10, 10);
+    MockMultipartFile newDocumentFile = new MockMultipartFile("new-test-file-name", imageBytes);
+
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
+    given(houseMemberRepository.findByMemberId(MEMBER_ID)).willReturn(Optional.empty());
+    given(documentCompressionExecutor.compressAndStore(newDocumentFile, imageBytes.length,
+        MAX_FILE_SIZE_BYTES))
+        .willReturn(Optional.of(storedRenditions(imageBytes.length)));
+    // when
+    Optional<HouseMemberDocument> houseMemberDocument =
+        houseMemberDocumentService.createHouseMemberDocument(newDocumentFile, MEMBER_ID);
+
+    // then
+    assertFalse(houseMemberDocument.isPresent());
+    verify(houseMemberDocumentRepository, never()).save(any());
+    assertTrue(deletedContentKeys.contains(NEW_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(NEW_MEDIUM_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(NEW_SMALL_CONTENT_KEY));
+  }
+
+  @Test
+  void createHouseMemberDocumentSaveFails() throws IOException {
+    // given
+    byte[] imageBytes = TestUtils.General.getImageAsByteArray(10, 10);
+    MockMultipartFile newDocumentFile = new MockMultipartFile("new-test-file-name", imageBytes);
+    HouseMember testMember = new HouseMember(MEMBER_ID, MEMBER_DOCUMENT, MEMBER_NAME, null);
+
+    given(houseMemberRepository.existsByMemberId(MEMBER_ID)).willReturn(true);
+    given(houseMemberRepository.findByMemberId(MEMBER_ID)).willReturn(Optional.of(testMember));
+    given(documentCompressionExecutor.compressAndStore(newDocumentFile, imageBytes.length,
+        MAX_FILE_SIZE_BYTES))
+        .willReturn(Optional.of(storedRenditions(imageBytes.length)));
+    given(houseMemberDocumentRepository.save(any()))
+        .willThrow(new IllegalStateException("Save failed"));
+    // when
+    assertThrows(IllegalStateException.class,
+        () -> houseMemberDocumentService.createHouseMemberDocument(newDocumentFile, MEMBER_ID));
+
+    // then
+    verify(transactionManager).rollback(any());
+    verify(documentContentStore).release(NEW_CONTENT_KEY);
+    assertTrue(deletedContentKeys.contains(NEW_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(NEW_MEDIUM_CONTENT_KEY));
+    assertTrue(deletedContentKeys.contains(NEW_SMALL_CONTENT_KEY));
+    assertFalse(deletedContentKeys.contains(MEMBER_DOCUMENT_CONTENT_KEY));
+  }
+
+  private static StoredRenditions storedRenditions(long contentLength) {
+    return new StoredRenditions(new StoredContent(NEW_CONTENT_KEY, contentLength),
+        new StoredContent(NEW_MEDIUM_CONTENT_KEY, contentLength / 2),
+        new StoredContent(NEW_SMALL_CONTENT_KEY, contentLength / 4));
+  }
 }
@@ -22,6 +22,7 @@ import com.myhome.domain.HouseMember;
 import com.myhome.repositories.CommunityHouseRepository;
 import com.myhome.repositories.HouseMemberDocumentRepository;
 import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.repositories.PaymentLedgerRepository;
 import com.myhome.services.springdatajpa.HouseSDJpaService;
 import java.util.ArrayList;
 import java.util.Optional;
@@ -39,7 +40,6 @@ import org.springframework.data.domain.Pageable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -60,6 +60,8 @@ class HouseSDJpaServiceTest {
   private HouseMemberDocumentRepository houseMemberDocumentRepository;
   @Mock
   private CommunityHouseRepository communityHouseRepository;
+  @Mock
+  private PaymentLedgerRepository paymentLedgerRepository;
   @InjectMocks
   private HouseSDJpaService houseSDJpaService;
 
@@ -112,7 +114,7 @@ class HouseSDJpaServiceTest {
     int membersToAddSize = membersToAdd.size();
     CommunityHouse communityHouse = TestUtils.CommunityHouseHelpers.getTestCommunityHouse();
 
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(HOUSE_ID))
+    given(communityHouseRepository.findByHouseId(HOUSE_ID))
         .willReturn(Optional.of(communityHouse));
     given(houseMemberRepository.saveAll(membersToAdd))
         .willReturn(membersToAdd);
@@ -122,10 +124,10 @@ class HouseSDJpaServiceTest {
 
     // then
     assertEquals(membersToAddSize, resultMembers.size());
-    assertEquals(membersToAddSize, communityHouse.getHouseMembers().size());
-    verify(communityHouseRepository).save(communityHouse);
+    resultMembers.forEach(member -> assertEquals(communityHouse, member.getCommunityHouse()));
+    verify(communityHouseRepository).findByHouseId(HOUSE_ID);
+    verify(communityHouseRepository, never()).save(any());
     verify(houseMemberRepository).saveAll(membersToAdd);
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(HOUSE_ID);
   }
 
   @Test
@@ -133,7 +135,7 @@ class HouseSDJpaServiceTest {
     // given
     Set<HouseMember> membersToAdd = TestUtils.HouseMemberHelpers.getTestHouseMembers(TEST_HOUSE_MEMBERS_COUNT);
 
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(HOUSE_ID))
+    given(communityHouseRepository.findByHouseId(HOUSE_ID))
         .willReturn(Optional.empty());
 
     // when
@@ -141,7 +143,7 @@ class HouseSDJpaServiceTest {
 
     // then
     assertTrue(resultMembers.isEmpty());
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(HOUSE_ID);
+    verify(communityHouseRepository).findByHouseId(HOUSE_ID);
     verify(communityHouseRepository, never()).save(any());
     verifyNoInteractions(houseMemberRepository);
   }
@@ -149,64 +151,31 @@ class HouseSDJpaServiceTest {
   @Test
   void deleteMemberFromHouse() {
     // given
-    Set<HouseMember> houseMembers = TestUtils.HouseMemberHelpers.getTestHouseMembers(TEST_HOUSE_MEMBERS_COUNT);
-    CommunityHouse communityHouse = TestUtils.CommunityHouseHelpers.getTestCommunityHouse();
-
-    HouseMember memberToDelete = new HouseMember().withMemberId(MEMBER_ID);
-    memberToDelete.setCommunityHouse(communityHouse);
-
-    houseMembers.add(memberToDelete);
-    communityHouse.setHouseMembers(houseMembers);
-
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(HOUSE_ID))
-        .willReturn(Optional.of(communityHouse));
+    given(houseMemberRepository.detachFromHouse(MEMBER_ID, HOUSE_ID))
+        .willReturn(1);
 
     // when
     boolean isMemberDeleted = houseSDJpaService.deleteMemberFromHouse(HOUSE_ID, MEMBER_ID);
 
     // then
     assertTrue(isMemberDeleted);
-    assertNull(memberToDelete.getCommunityHouse());
-    assertFalse(communityHouse.getHouseMembers().contains(memberToDelete));
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(HOUSE_ID);
-    verify(communityHouseRepository).save(communityHouse);
-    verify(houseMemberRepository).save(memberToDelete);
-  }
-
-  @Test
-  void deleteMemberFromHouseNotExists() {
-    // given
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(HOUSE_ID))
-        .willReturn(Optional.empty());
-
-    // when
-    boolean isMemberDeleted = houseSDJpaService.deleteMemberFromHouse(HOUSE_ID, MEMBER_ID);
-
-    // then
-    assertFalse(isMemberDeleted);
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(HOUSE_ID);
-    verify(communityHouseRepository, never()).save(any());
-    verifyNoInteractions(houseMemberRepository);
+    verify(houseMemberRepository).detachFromHouse(MEMBER_ID, HOUSE_ID);
+    verify(paymentLedgerRepository).removeMemberFromHouse(MEMBER_ID, HOUSE_ID);
+    verifyNoInteractions(communityHouseRepository);
   }
 
   @Test
   void deleteMemberFromHouseMemberNotPresent() {
     // given
-    Set<HouseMember> houseMembers = TestUtils.HouseMemberHelpers.getTestHouseMembers(TEST_HOUSE_MEMBERS_COUNT);
-    CommunityHouse communityHouse = TestUtils.CommunityHouseHelpers.getTestCommunityHouse();
-
-    communityHouse.setHouseMembers(houseMembers);
-
-    given(communityHouseRepository.findByHouseIdWithHouseMembers(HOUSE_ID))
-        .willReturn(Optional.of(communityHouse));
+    given(houseMemberRepository.detachFromHouse(MEMBER_ID, HOUSE_ID))
+        .willReturn(0);
 
     // when
     boolean isMemberDeleted = houseSDJpaService.deleteMemberFromHouse(HOUSE_ID, MEMBER_ID);
 
     // then
     assertFalse(isMemberDeleted);
-    verify(communityHouseRepository).findByHouseIdWithHouseMembers(HOUSE_ID);
-    verify(communityHouseRepository, never()).save(communityHouse);
-    verifyNoInteractions(houseMemberRepository);
+    verify(houseMemberRepository).detachFromHouse(MEMBER_ID, HOUSE_ID);
+    verifyNoInteractions(communityHouseRepository);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.unit;
+
+import com.myhome.configuration.properties.files.DocumentStorageProperties;
+import com.myhome.repositories.InlineDocumentContentRepository;
+import com.myhome.services.filesystem.FileSystemDocumentContentStore;
+import com.myhome.services.filesystem.InlineDocumentContentMigration;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class InlineDocumentContentMigrationTest {
+
+  private static final byte[] TEST_CONTENT = "test-content".getBytes(StandardCharsets.UTF_8);
+  // SHA-256 of TEST_CONTENT
+  private static final String TEST_CONTENT_KEY =
+      "0a3666a0710c08aa6d0de92ce72beeb5b93124cce1bf3701c9d6cdeb543cb73e";
+
+  @TempDir
+  Path storageDirectory;
+
+  @Mock
+  private InlineDocumentContentRepository inlineDocumentContentRepository;
+
+  private FileSystemDocumentContentStore documentContentStore;
+  private InlineDocumentContentMigration migration;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.initMocks(this);
+    DocumentStorageProperties storageProperties = new DocumentStorageProperties();
+    storageProperties.setDirectory(storageDirectory);
+    documentContentStore = new FileSystemDocumentContentStore(storageProperties);
+    migration = new InlineDocumentContentMigration(inlineDocumentContentRepository,
+        documentContentStore);
+  }
+
+  @Test
+  void runMovesInlineContentToStore() throws IOException {
+    // given
+    given(inlineDocumentContentRepository.findIdsWithoutContentKey(Long.MIN_VALUE, 100))
+        .willReturn(Arrays.asList(1L, 2L));
+    given(inlineDocumentContentRepository.findIdsWithoutContentKey(2L, 100))
+        .willReturn(Collections.emptyList());
+    given(inlineDocumentContentRepository.findInlineContent(1L)).willReturn(TEST_CONTENT);
+    given(inlineDocumentContentRepository.findInlineContent(2L))
+        .willReturn(TEST_CONTENT.clone());
+
+    // when
+    migration.run(null);
+
+    // then
+    verify(inlineDocumentContentRepository)
+        .setContentKey(1L, TEST_CONTENT_KEY, TEST_CONTENT.length);
+    verify(inlineDocumentContentRepository)
+        .setContentKey(2L, TEST_CONTENT_KEY, TEST_CONTENT.length);
+    Resource content = documentContentStore.load(TEST_CONTENT_KEY).get();
+    try (InputStream contentStream = content.getInputStream()) {
+      assertArrayEquals(TEST_CONTENT, StreamUtils.copyToByteArray(contentStream));
+    }
+    // and the migrated content is no longer pinned
+    assertTrue(documentContentStore.deleteIfUnreferenced(TEST_CONTENT_KEY, () -> false));
+  }
+
+  @Test
+  void runWithoutInlineContent() throws IOException {
+    // given
+    given(inlineDocumentContentRepository.findIdsWithoutContentKey(anyLong(), anyInt()))
+        .willReturn(Collections.emptyList());
+
+    // when
+    migration.run(null);
+
+    // then
+    verify(inlineDocumentContentRepository, never()).findInlineContent(anyLong());
+    verify(inlineDocumentContentRepository, never()).setContentKey(anyLong(), any(), anyLong());
+  }
+}
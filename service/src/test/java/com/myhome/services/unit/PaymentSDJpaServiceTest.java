@@ -1,45 +1,60 @@
 package com.myhome.services.unit;
 
+import com.myhome.configuration.properties.payments.BulkPaymentProperties;
 import com.myhome.controllers.dto.PaymentDto;
 import com.myhome.controllers.dto.UserDto;
 import com.myhome.controllers.dto.mapper.PaymentMapper;
+import com.myhome.domain.BalanceRebuildReport;
+import com.myhome.domain.BulkPaymentSummary;
+import com.myhome.domain.BulkPaymentTemplate;
 import com.myhome.domain.HouseMember;
 import com.myhome.domain.Payment;
-import com.myhome.domain.User;
+import com.myhome.domain.PaymentBalance;
+import com.myhome.domain.PaymentParticipants;
+import com.myhome.domain.PaymentSearchFilter;
+import com.myhome.domain.PaymentSummary;
 import com.myhome.model.HouseMemberDto;
+import com.myhome.repositories.CommunityHouseRepository;
+import com.myhome.repositories.CommunityRepository;
 import com.myhome.repositories.HouseMemberRepository;
+import com.myhome.repositories.PaymentBatchRepository;
+import com.myhome.repositories.PaymentLedgerRepository;
+import com.myhome.repositories.PaymentLedgerRepository.MemberCharge;
 import com.myhome.repositories.PaymentRepository;
-import com.myhome.repositories.UserRepository;
+import com.myhome.repositories.PaymentSearchRepository;
 import com.myhome.services.springdatajpa.PaymentSDJpaService;
 import helpers.TestUtils;
 import io.jsonwebtoken.lang.Assert;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class PaymentSDJpaServiceTest {
 
@@ -54,13 +69,21 @@ class PaymentSDJpaServiceTest {
   @Mock
   private PaymentRepository paymentRepository;
   @Mock
-  private UserRepository adminRepository;
-  @Mock
   private PaymentMapper paymentMapper;
   @Mock
   private HouseMemberRepository houseMemberRepository;
-  @Captor
-  ArgumentCaptor<Example> exampleCaptor;
+  @Mock
+  private PaymentSearchRepository paymentSearchRepository;
+  @Mock
+  private PaymentBatchRepository paymentBatchRepository;
+  @Mock
+  private CommunityRepository communityRepository;
+  @Mock
+  private CommunityHouseRepository communityHouseRepository;
+  @Mock
+  private BulkPaymentProperties bulkPaymentProperties;
+  @Mock
+  private PaymentLedgerRepository paymentLedgerRepository;
 
   @InjectMocks
   private PaymentSDJpaService paymentSDJpaService;
@@ -75,6 +98,10 @@ class PaymentSDJpaServiceTest {
     //given
     PaymentDto basePaymentDto = TestUtils.PaymentHelpers.getTestPaymentDto(TEST_PAYMENT_CHARGE,TEST_PAYMENT_TYPE,TEST_PAYMENT_DESCRIPTION,TEST_PAYMENT_RECURRING,TEST_PAYMENT_DUEDATE,TEST_PAYMENT_USER,TEST_PAYMENT_MEMBER);
     Payment basePayment = new Payment();
+    HouseMember baseMember = new HouseMember();
+    baseMember.setId(2L);
+    basePayment.setMember(baseMember);
+    basePayment.setCharge(TEST_PAYMENT_CHARGE);
 
     given(paymentMapper.paymentDtoToPayment(any(PaymentDto.class))).willReturn(basePayment);
     given(paymentMapper.paymentToPaymentDto(any(Payment.class))).willReturn(basePaymentDto);
@@ -83,12 +110,117 @@ class PaymentSDJpaServiceTest {
     PaymentDto testPaymentScheduled = paymentSDJpaService.schedulePayment(basePaymentDto);
 
     //then
-    verify(adminRepository).save(any()); //Logic: User gets associated with payment and persisted
+    verifyNoInteractions(houseMemberRepository); //Logic: admin and member are referenced by id only
     verify(paymentRepository).save(any(Payment.class)); //Logic: Payment is persisted
+    verify(paymentLedgerRepository).addPayments(
+        Collections.singletonList(new MemberCharge(2L, TEST_PAYMENT_CHARGE))); //Logic: balances follow the payment
     Assert.notNull(testPaymentScheduled.getPaymentId()); //Logic: generation of payment ID
     assertEquals(basePaymentDto,testPaymentScheduled); //Completion: method returns what is expected
   }
 
+  @Test
+  void scheduleBulkPaymentsForCommunity() {
+    //given
+    BulkPaymentTemplate template = getTestBulkPaymentTemplate();
+    given(communityRepository.findAdminIdByCommunityIdAndUserId("community-id", "admin-id"))
+        .willReturn(Optional.of(1L));
+    given(houseMemberRepository.findIdsByCommunityId("community-id"))
+        .willReturn(Arrays.asList(2L, 3L, 4L));
+    given(bulkPaymentProperties.getBatchSize()).willReturn(2);
+
+    //when
+    Optional<BulkPaymentSummary> summary =
+        paymentSDJpaService.scheduleBulkPayments("community-id", "admin-id", null, template);
+
+    //then
+    verify(paymentBatchRepository).insert(template, 1L, Arrays.asList(2L, 3L, 4L), 2); //Logic: payments are inserted in batches
+    verify(paymentLedgerRepository).addPayments(Arrays.asList(
+        new MemberCharge(2L, TEST_PAYMENT_CHARGE),
+        new MemberCharge(3L, TEST_PAYMENT_CHARGE),
+        new MemberCharge(4L, TEST_PAYMENT_CHARGE))); //Logic: balances follow the payments
+    verify(paymentRepository, never()).save(any(Payment.class)); //Logic: no entity is persisted
+    assertTrue(summary.isPresent());
+    assertEquals(3, summary.get().getScheduledPayments());
+    assertEquals(TEST_PAYMENT_CHARGE.multiply(BigDecimal.valueOf(3)), summary.get().getTotalCharge());
+  }
+
+  @Test
+  void scheduleBulkPaymentsForHouse() {
+    //given
+    BulkPaymentTemplate template = getTestBulkPaymentTemplate();
+    given(communityRepository.findAdminIdByCommunityIdAndUserId("community-id", "admin-id"))
+        .willReturn(Optional.of(1L));
+    given(houseMemberRepository.findIdsByHouseIdAndCommunityId("house-id", "community-id"))
+        .willReturn(Collections.singletonList(2L));
+    given(bulkPaymentProperties.getBatchSize()).willReturn(2);
+
+    //when
+    Optional<BulkPaymentSummary> summary =
+        paymentSDJpaService.scheduleBulkPayments("community-id", "admin-id", "house-id", template);
+
+    //then
+    verify(paymentBatchRepository).insert(template, 1L, Collections.singletonList(2L), 2);
+    verify(houseMemberRepository, never()).findIdsByCommunityId(anyString()); //Logic: only the house is resolved
+    assertEquals(1, summary.get().getScheduledPayments());
+    assertEquals(TEST_PAYMENT_CHARGE, summary.get().getTotalCharge());
+  }
+
+  @Test
+  void scheduleBulkPaymentsForEmptyHouse() {
+    //given
+    given(communityRepository.findAdminIdByCommunityIdAndUserId("community-id", "admin-id"))
+        .willReturn(Optional.of(1L));
+    given(houseMemberRepository.findIdsByHouseIdAndCommunityId("house-id", "community-id"))
+        .willReturn(Collections.emptyList());
+    given(communityHouseRepository.findCommunityIdByHouseId("house-id"))
+        .willReturn(Optional.of("community-id"));
+
+    //when
+    Optional<BulkPaymentSummary> summary = paymentSDJpaService.scheduleBulkPayments(
+        "community-id", "admin-id", "house-id", getTestBulkPaymentTemplate());
+
+    //then
+    verifyNoInteractions(paymentBatchRepository);
+    verifyNoInteractions(paymentLedgerRepository);
+    assertEquals(0, summary.get().getScheduledPayments());
+    assertEquals(BigDecimal.ZERO, summary.get().getTotalCharge());
+  }
+
+  @Test
+  void scheduleBulkPaymentsForHouseOfOtherCommunity() {
+    //given
+    given(communityRepository.findAdminIdByCommunityIdAndUserId("community-id", "admin-id"))
+        .willReturn(Optional.of(1L));
+    given(houseMemberRepository.findIdsByHouseIdAndCommunityId("house-id", "community-id"))
+        .willReturn(Collections.emptyList());
+    given(communityHouseRepository.findCommunityIdByHouseId("house-id"))
+        .willReturn(Optional.of("other-community-id"));
+
+    //when
+    Optional<BulkPaymentSummary> summary = paymentSDJpaService.scheduleBulkPayments(
+        "community-id", "admin-id", "house-id", getTestBulkPaymentTemplate());
+
+    //then
+    assertFalse(summary.isPresent());
+    verifyNoInteractions(paymentBatchRepository);
+  }
+
+  @Test
+  void scheduleBulkPaymentsByNotAdmin() {
+    //given
+    given(communityRepository.findAdminIdByCommunityIdAndUserId("community-id", "admin-id"))
+        .willReturn(Optional.empty());
+
+    //when
+    Optional<BulkPaymentSummary> summary = paymentSDJpaService.scheduleBulkPayments(
+        "community-id", "admin-id", null, getTestBulkPaymentTemplate());
+
+    //then
+    assertFalse(summary.isPresent());
+    verifyNoInteractions(houseMemberRepository);
+    verify(paymentBatchRepository, never()).insert(any(), anyLong(), anyList(), anyInt());
+  }
+
   @Test
   void getPaymentDetails() {
     //when
@@ -127,70 +259,149 @@ class PaymentSDJpaServiceTest {
   }
 
   @Test
-  void getPaymentsByMember() {
+  void findPaymentParticipants() {
     //given
-    String memberId1 = "memberId-test-1";
-    String memberId2 = "memberId-test-2";
-    Payment paymentExample1 = TestUtils.PaymentHelpers.getTestPaymentNullFields();
-    paymentExample1.setMember(new HouseMember().withMemberId(memberId1));
-    Payment paymentExample2 = TestUtils.PaymentHelpers.getTestPaymentNullFields();
-    paymentExample2.setMember(new HouseMember().withMemberId(memberId2));
+    PaymentParticipants baseParticipants = new PaymentParticipants(1L, 2L);
 
-    Set<Payment> expectedReturn1 = new HashSet<>(); expectedReturn1.add(paymentExample1);
-    given(paymentRepository.findAll(any(Example.class))).willReturn(Collections.singletonList((paymentExample1)));
+    given(houseMemberRepository.findPaymentParticipants("member-id", "admin-id")).willReturn(
+        Optional.of(baseParticipants));
 
     //when
-    Set<Payment> testPaymentByMember1 = paymentSDJpaService.getPaymentsByMember(memberId1);
-    verify(paymentRepository).findAll(exampleCaptor.capture()); //verify and capture first execution
-    Example<Payment> capturedParameter1 = exampleCaptor.getValue(); //Capturing the 'paymentExample' created by the method
-    Payment capturedPaymentExample1 = capturedParameter1.getProbe();
+    Optional<PaymentParticipants> testParticipants =
+        paymentSDJpaService.findPaymentParticipants("member-id", "admin-id");
 
-    Set<Payment> testPaymentByMember2 = paymentSDJpaService.getPaymentsByMember(memberId2);
-    verify(paymentRepository,times(2)).findAll(exampleCaptor.capture()); //verify and capture second execution
-    Example<Payment> capturedParameter2 = exampleCaptor.getValue(); // Capturing the 'paymentExample' created by the method
-    Payment capturedPaymentExample2 = capturedParameter2.getProbe();
+    //then
+    verify(houseMemberRepository).findPaymentParticipants("member-id", "admin-id"); //Logic: fetching data
+    assertEquals(Optional.of(baseParticipants),testParticipants); //Completion: method returns what is expected
+  }
+
+  @Test
+  void getPaymentsByMember() {
+    //given
+    String memberId = "memberId-test-1";
+    Pageable pageable = PageRequest.of(0, 10);
+    Page<Payment> expectedReturn = new PageImpl<>(
+        Collections.singletonList(TestUtils.PaymentHelpers.getTestPaymentNullFields()));
+    given(paymentRepository.findByMember_MemberId(memberId, pageable)).willReturn(expectedReturn);
+
+    //when
+    Page<Payment> result = paymentSDJpaService.getPaymentsByMember(memberId, pageable);
 
     //then
-    verify(paymentRepository,times(2)).findAll(any(Example.class)); //Logic: two executions of method
-    assertEquals(memberId1,capturedPaymentExample1.getMember().getMemberId()); //Logic: memberId from captured element is the same passed on as parameter in method
-    assertEquals(memberId2,capturedPaymentExample2.getMember().getMemberId()); //Logic: memberId from captured element is the same passed on as parameter in method
-    assertEquals(paymentExample1,capturedPaymentExample1); //Logic: fields in captured element should be as expected
-    assertEquals(paymentExample2,capturedPaymentExample2); //Logic: fields in captured element should be as expected
-    assertEquals(expectedReturn1,testPaymentByMember1); //Completion: method returns what is expected
+    assertEquals(expectedReturn, result);
+    verify(paymentRepository).findByMember_MemberId(memberId, pageable);
+    verify(paymentRepository, never()).findAll(any(Example.class));
   }
 
   @Test
   void getPaymentsByAdmin() {
     //given
-    String userId1 = "userId-test-1";
-    String userId2 = "userId-test-2";
-    Payment paymentExample1 = TestUtils.PaymentHelpers.getTestPaymentNullFields();
-    paymentExample1.setAdmin(new User().withUserId(userId1));
-    Payment paymentExample2 = TestUtils.PaymentHelpers.getTestPaymentNullFields();
-    paymentExample2.setAdmin(new User().withUserId(userId2));
+    String userId = "userId-test-1";
+    Pageable pageable = PageRequest.of(0, 10);
+    Page<Payment> expectedReturn = new PageImpl<>(
+        Collections.singletonList(TestUtils.PaymentHelpers.getTestPaymentNullFields()));
+    given(paymentRepository.findByAdmin_UserId(userId, pageable)).willReturn(expectedReturn);
+
+    //when
+    Page<Payment> result = paymentSDJpaService.getPaymentsByAdmin(userId, pageable);
 
-    Pageable pageable = Mockito.mock(Pageable.class);
+    //then
+    assertEquals(expectedReturn, result);
+    verify(paymentRepository).findByAdmin_UserId(userId, pageable);
+    verify(paymentRepository, never()).findAll(any(Example.class), any(Pageable.class));
+  }
 
-    Page<Payment> expectedReturn1 = new PageImpl<Payment>(Collections.singletonList(paymentExample1));
-    given(paymentRepository.findAll(any(Example.class),any(Pageable.class))).willReturn(expectedReturn1);
+  @Test
+  void getPaymentSliceByAdmin() {
+    //given
+    String userId = "userId-test-1";
+    Pageable pageable = PageRequest.of(0, 10);
+    Slice<Payment> expectedReturn = new SliceImpl<>(
+        Collections.singletonList(TestUtils.PaymentHelpers.getTestPaymentNullFields()), pageable,
+        false);
+    given(paymentRepository.findAllByAdmin_UserId(userId, pageable)).willReturn(expectedReturn);
 
     //when
-    Page<Payment> testPaymentByAdmin1 = paymentSDJpaService.getPaymentsByAdmin(userId1,pageable);
-    verify(paymentRepository).findAll((Example<Payment>) exampleCaptor.capture(), any(Pageable.class)); //verify and capture first execution
-    Example<Payment> capturedParameter1 = exampleCaptor.getValue(); //Capturing the 'paymentExample' created by method
-    Payment capturedPaymentExample1 = capturedParameter1.getProbe();
+    Slice<Payment> result = paymentSDJpaService.getPaymentSliceByAdmin(userId, pageable);
+
+    //then
+    assertEquals(expectedReturn, result);
+    verify(paymentRepository, never()).findAll(any(Example.class), any(Pageable.class));
+  }
+
+  @Test
+  void searchPaymentsByAdmin() {
+    //given
+    String userId = "userId-test-1";
+    Pageable pageable = PageRequest.of(0, 10);
+    PaymentSearchFilter filter = PaymentSearchFilter.builder()
+        .type(TEST_PAYMENT_TYPE)
+        .dueDateFrom(TEST_PAYMENT_DUEDATE)
+        .build();
+    Slice<PaymentSummary> expectedReturn = new SliceImpl<>(Collections.singletonList(
+        new PaymentSummary("payment-id", "member-id", TEST_PAYMENT_TYPE, TEST_PAYMENT_CHARGE,
+            TEST_PAYMENT_RECURRING, TEST_PAYMENT_DUEDATE)), pageable, false);
+    given(paymentSearchRepository.searchByAdmin(userId, filter, pageable))
+        .willReturn(expectedReturn);
 
-    Page<Payment> testPaymentByAdmin2 = paymentSDJpaService.getPaymentsByAdmin(userId2,pageable);
-    verify(paymentRepository,times(2)).findAll((Example<Payment>) exampleCaptor.capture(), any(Pageable.class)); //verify and capture first execution
-    Example<Payment> capturedParameter2 = exampleCaptor.getValue(); // Capturing the 'paymentExample' created by method
-    Payment capturedPaymentExample2 = capturedParameter2.getProbe();
+    //when
+    Slice<PaymentSummary> result =
+        paymentSDJpaService.searchPaymentsByAdmin(userId, filter, pageable);
 
     //then
-    verify(paymentRepository,times(2)).findAll(any(Example.class),any(Pageable.class)); //Logic: two executions of method
-    assertEquals(userId1,capturedPaymentExample1.getAdmin().getUserId()); //Logic: userId from captured element is the same passed on as parameter in method
-    assertEquals(userId2,capturedPaymentExample2.getAdmin().getUserId()); //Logic: userId from captured element is the same passed on as parameter in method
-    assertEquals(paymentExample1,capturedPaymentExample1); //Logic: fields in captured element should be as expected
-    assertEquals(paymentExample2,capturedPaymentExample2); //Logic: fields in captured element should be as expected
-    assertEquals(expectedReturn1,testPaymentByAdmin1); //Completion: method returns what is expected
+    assertEquals(expectedReturn, result);
+    verify(paymentSearchRepository).searchByAdmin(userId, filter, pageable);
+  }
+
+  @Test
+  void getMemberBalance() {
+    //given
+    PaymentBalance balance =
+        new PaymentBalance(PaymentBalance.OwnerType.MEMBER, 2L, TEST_PAYMENT_CHARGE, 1);
+    given(paymentLedgerRepository.findMemberBalance("member-id")).willReturn(Optional.of(balance));
+
+    //when
+    Optional<PaymentBalance> result = paymentSDJpaService.getMemberBalance("member-id");
+
+    //then
+    assertEquals(Optional.of(balance), result);
+    verifyNoInteractions(paymentRepository); //Logic: balance is read without summing payments
+  }
+
+  @Test
+  void rebuildBalances() {
+    //given
+    BalanceRebuildReport report = new BalanceRebuildReport(3, 1, 2);
+    given(communityRepository.findIdByCommunityId("community-id")).willReturn(Optional.of(1L));
+    given(paymentLedgerRepository.rebuildCommunity(1L)).willReturn(report);
+
+    //when
+    Optional<BalanceRebuildReport> result = paymentSDJpaService.rebuildBalances("community-id");
+
+    //then
+    assertEquals(Optional.of(report), result);
+  }
+
+  @Test
+  void rebuildBalancesCommunityNotExists() {
+    //given
+    given(communityRepository.findIdByCommunityId("community-id")).willReturn(Optional.empty());
+
+    //when
+    Optional<BalanceRebuildReport> result = paymentSDJpaService.rebuildBalances("community-id");
+
+    //then
+    assertFalse(result.isPresent());
+    verifyNoInteractions(paymentLedgerRepository);
+  }
+
+  private BulkPaymentTemplate getTestBulkPaymentTemplate() {
+    return BulkPaymentTemplate.builder()
+        .type(TEST_PAYMENT_TYPE)
+        .description(TEST_PAYMENT_DESCRIPTION)
+        .charge(TEST_PAYMENT_CHARGE)
+        .dueDate(TEST_PAYMENT_DUEDATE)
+        .recurring(TEST_PAYMENT_RECURRING)
+        .build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Prathab Murugan
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.myhome.services.unit;
+
+import com.myhome.configuration.properties.payments.RecurringPaymentProperties;
+import com.myhome.domain.RecurringPaymentRun;
+import com.myhome.repositories.RecurringPaymentRepository;
+import com.myhome.repositories.RecurringPaymentRepository.DuePayment;
+import com.myhome.repositories.RecurringPaymentRunRepository;
+import com.myhome.services.springdatajpa.RecurringPaymentSDJpaService;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RecurringPaymentSDJpaServiceTest {
+
+  private static final LocalDate TEST_TODAY = LocalDate.of(2021, 3, 15);
+  private static final LocalDate TEST_WINDOW_END = TEST_TODAY.plusDays(31);
+  private static final int TEST_CHUNK_SIZE = 2;
+  private static final int TEST_THREADS = 2;
+  private static final int TEST_WAVE_SIZE = TEST_CHUNK_SIZE * TEST_THREADS;
+
+  @Mock
+  private RecurringPaymentRepository recurringPaymentRepository;
+  @Mock
+  private RecurringPaymentRunRepository recurringPaymentRunRepository;
+
+  private RecurringPaymentSDJpaService recurringPaymentSDJpaService;
+  private final List<Long> savedHighWaterMarks = new ArrayList<>();
+
+  @BeforeEach
+  private void init() {
+    MockitoAnnotations.initMocks(this);
+    RecurringPaymentProperties properties = new RecurringPaymentProperties();
+    properties.setWindow(Duration.ofDays(31));
+    properties.setChunkSize(TEST_CHUNK_SIZE);
+    properties.setThreads(TEST_THREADS);
+    recurringPaymentSDJpaService = new RecurringPaymentSDJpaService(recurringPaymentRepository,
+        recurringPaymentRunRepository, properties);
+    given(recurringPaymentRunRepository.save(any(RecurringPaymentRun.class)))
+        .willAnswer(invocation -> {
+          RecurringPaymentRun run = invocation.getArgument(0);
+          savedHighWaterMarks.add(run.getLastPaymentId());
+          return run;
+        });
+  }
+
+  @AfterEach
+  private void shutdown() {
+    recurringPaymentSDJpaService.shutdown();
+  }
+
+  @Test
+  void materializeDuePaymentsInChunks() {
+    // given
+    List<DuePayment> firstWave = getDuePayments(1, 2, 3, 4);
+    List<DuePayment> lastWave = getDuePayments(5);
+    given(recurringPaymentRunRepository.findFirstByOrderByIdDesc())
+        .willReturn(Optional.empty());
+    given(recurringPaymentRepository.findDue(0, TEST_TODAY, TEST_WINDOW_END, TEST_WAVE_SIZE))
+        .willReturn(firstWave);
+    given(recurringPaymentRepository.findDue(4, TEST_TODAY, TEST_WINDOW_END, TEST_WAVE_SIZE))
+        .willReturn(lastWave);
+    given(recurringPaymentRepository.findDue(5, TEST_TODAY, TEST_WINDOW_END, TEST_WAVE_SIZE))
+        .willReturn(Collections.emptyList());
+    given(recurringPaymentRepository.insertNextOccurrences(anyList()))
+        .willAnswer(invocation -> invocation.getArgument(0, List.class).size());
+
+    // when
+    int materialized = recurringPaymentSDJpaService.materializeDuePayments(TEST_TODAY);
+
+    // then
+    assertEquals(5, materialized);
+    verify(recurringPaymentRepository).insertNextOccurrences(firstWave.subList(0, 2));
+    verify(recurringPaymentRepository).insertNextOccurrences(firstWave.subList(2, 4));
+    verify(recurringPaymentRepository).insertNextOccurrences(lastWave);
+    // created, then advanced after every wave, then completed
+    assertEquals(Arrays.asList(0L, 4L, 5L, 5L), savedHighWaterMarks);
+  }
+
+  @Test
+  void materializeDuePaymentsResumesInterruptedRun() {
+    // given
+    LocalDate windowStart = TEST_TODAY.minusDays(1);
+    LocalDate windowEnd = windowStart.plusDays(31);
+    RecurringPaymentRun interruptedRun = new RecurringPaymentRun(windowStart, windowEnd);
+    interruptedRun.setLastPaymentId(4);
+    given(recurringPaymentRunRepository.findFirstByOrderByIdDesc())
+        .willReturn(Optional.of(interruptedRun));
+    given(recurringPaymentRepository.findDue(4, windowStart, windowEnd, TEST_WAVE_SIZE))
+        .willReturn(Collections.emptyList());
+
+    // when
+    int materialized = recurringPaymentSDJpaService.materializeDuePayments(TEST_TODAY);
+
+    // then
+    assertEquals(0, materialized);
+    assertTrue(interruptedRun.isCompleted());
+    assertEquals(Collections.singletonList(4L), savedHighWaterMarks);
+  }
+
+  @Test
+  void materializeDuePaymentsCoversDaysAfterLastWindow() {
+    // given
+    RecurringPaymentRun lastRun =
+        new RecurringPaymentRun(TEST_TODAY.minusDays(50), TEST_TODAY.minusDays(19));
+    lastRun.setCompleted(true);
+    given(recurringPaymentRunRepository.findFirstByOrderByIdDesc())
+        .willReturn(Optional.of(lastRun));
+    given(recurringPaymentRepository.findDue(0, TEST_TODAY.minusDays(18), TEST_WINDOW_END,
+        TEST_WAVE_SIZE))
+        .willReturn(Collections.emptyList());
+
+    // when
+    recurringPaymentSDJpaService.materializeDuePayments(TEST_TODAY);
+
+    // then
+    verify(recurringPaymentRepository).findDue(0, TEST_TODAY.minusDays(18), TEST_WINDOW_END,
+        TEST_WAVE_SIZE);
+  }
+
+  @Test
+  void materializeDuePaymentsFailedChunkKeepsHighWaterMark() {
+    // given
+    RecurringPaymentRun lastRun =
+        new RecurringPaymentRun(TEST_TODAY.minusDays(1), TEST_WINDOW_END.minusDays(1));
+    lastRun.setCompleted(true);
+    given(recurringPaymentRunRepository.findFirstByOrderByIdDesc())
+        .willReturn(Optional.of(lastRun));
+    given(recurringPaymentRepository.findDue(0, TEST_TODAY, TEST_WINDOW_END, TEST_WAVE_SIZE))
+        .willReturn(getDuePayments(1, 2, 3));
+    given(recurringPaymentRepository.insertNextOccurrences(getDuePayments(3)))
+        .willThrow(new IllegalStateException("test failure"));
+
+    // when and then
+    assertThrows(IllegalStateException.class,
+        () -> recurringPaymentSDJpaService.materializeDuePayments(TEST_TODAY));
+    // only the new run was saved, so a restart resumes before the failed wave
+    assertEquals(Collections.singletonList(0L), savedHighWaterMarks);
+    verify(recurringPaymentRepository, never()).findDue(3, TEST_TODAY, TEST_WINDOW_END,
+        TEST_WAVE_SIZE);
+  }
+
+  private static List<DuePayment> getDuePayments(long... ids) {
+    List<DuePayment> payments = new ArrayList<>();
+    for (long id : ids) {
+      payments.add(new DuePayment(id, TEST_TODAY.plusDays(id), id, BigDecimal.TEN));
+    }
+    return payments;
+  }
+}
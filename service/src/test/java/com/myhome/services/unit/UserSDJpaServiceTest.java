@@ -7,6 +7,7 @@ import com.myhome.domain.Community;
 import com.myhome.domain.SecurityToken;
 import com.myhome.domain.SecurityTokenType;
 import com.myhome.domain.User;
+import com.myhome.domain.UserCredentials;
 import com.myhome.repositories.SecurityTokenRepository;
 import com.myhome.repositories.UserRepository;
 import com.myhome.services.springdatajpa.MailSDJpaService;
@@ -18,10 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -32,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.BDDMockito.given;
@@ -47,6 +52,7 @@ class UserSDJpaServiceTest {
   private final String USER_EMAIL = "test-user-email";
   private final String USER_PASSWORD = "test-user-password";
   private final String NEW_USER_PASSWORD = "test-user-new-password";
+  private final long MEMBERSHIP_VERSION = 7L;
   private final String PASSWORD_RESET_TOKEN = "test-token";
   private final Duration TOKEN_LIFETIME = Duration.ofDays(1);
 
@@ -156,7 +162,7 @@ class UserSDJpaServiceTest {
     // given
     UserDto userDto = getDefaultUserDtoRequest();
     User user = new User(userDto.getName(), userDto.getUserId(), userDto.getEmail(), false,
-        userDto.getEncryptedPassword(), new HashSet<>(), null);
+        userDto.getEncryptedPassword(), new HashSet<>(), null, 0);
 
     Community firstCommunity = TestUtils.CommunityHelpers.getTestCommunity(user);
     Community secCommunity = TestUtils.CommunityHelpers.getTestCommunity(user);
@@ -382,6 +388,95 @@ class UserSDJpaServiceTest {
     verify(userRepository).findByEmail(USER_EMAIL);
   }
 
+  @Test
+  void findCredentialsByEmailCollectsAdminCommunities() {
+    // given
+    given(userRepository.findCredentialsByEmail(USER_EMAIL, PageRequest.of(0, 3)))
+        .willReturn(Arrays.asList(getCredentialsRow("first"), getCredentialsRow("second")));
+
+    // when
+    Optional<UserCredentials> credentials = userService.findCredentialsByEmail(USER_EMAIL, 2);
+
+    // then
+    assertTrue(credentials.isPresent());
+    assertEquals(USER_ID, credentials.get().getUserId());
+    assertEquals(USER_PASSWORD, credentials.get().getEncryptedPassword());
+    assertEquals(MEMBERSHIP_VERSION, credentials.get().getMembershipVersion());
+    assertEquals(new HashSet<>(Arrays.asList("first", "second")),
+        credentials.get().getAdminCommunityIds());
+  }
+
+  @Test
+  void findCredentialsByEmailWithoutAdminCommunities() {
+    // given
+    given(userRepository.findCredentialsByEmail(USER_EMAIL, PageRequest.of(0, 3)))
+        .willReturn(Collections.singletonList(getCredentialsRow(null)));
+
+    // when
+    Optional<UserCredentials> credentials = userService.findCredentialsByEmail(USER_EMAIL, 2);
+
+    // then
+    assertTrue(credentials.isPresent());
+    assertTrue(credentials.get().getAdminCommunityIds().isEmpty());
+  }
+
+  @Test
+  void findCredentialsByEmailWithTooManyAdminCommunities() {
+    // given
+    given(userRepository.findCredentialsByEmail(USER_EMAIL, PageRequest.of(0, 2)))
+        .willReturn(Arrays.asList(getCredentialsRow("first"), getCredentialsRow("second")));
+
+    // when
+    Optional<UserCredentials> credentials = userService.findCredentialsByEmail(USER_EMAIL, 1);
+
+    // then
+    assertTrue(credentials.isPresent());
+    assertEquals(USER_ID, credentials.get().getUserId());
+    assertNull(credentials.get().getAdminCommunityIds());
+  }
+
+  @Test
+  void findCredentialsByEmailNotFound() {
+    // given
+    given(userRepository.findCredentialsByEmail(USER_EMAIL, PageRequest.of(0, 3)))
+        .willReturn(Collections.emptyList());
+
+    // when
+    Optional<UserCredentials> credentials = userService.findCredentialsByEmail(USER_EMAIL, 2);
+
+    // then
+    assertFalse(credentials.isPresent());
+  }
+
+  @Test
+  void updateEncryptedPassword() {
+    // given
+    given(userRepository.updateEncryptedPassword(USER_ID, USER_PASSWORD, NEW_USER_PASSWORD))
+        .willReturn(1);
+
+    // when
+    boolean updated = userService.updateEncryptedPassword(USER_ID, USER_PASSWORD,
+        NEW_USER_PASSWORD);
+
+    // then
+    assertTrue(updated);
+    verify(userRepository).updateEncryptedPassword(USER_ID, USER_PASSWORD, NEW_USER_PASSWORD);
+  }
+
+  @Test
+  void updateEncryptedPasswordChangedConcurrently() {
+    // given
+    given(userRepository.updateEncryptedPassword(USER_ID, USER_PASSWORD, NEW_USER_PASSWORD))
+        .willReturn(0);
+
+    // when
+    boolean updated = userService.updateEncryptedPassword(USER_ID, USER_PASSWORD,
+        NEW_USER_PASSWORD);
+
+    // then
+    assertFalse(updated);
+  }
+
   @Test
   void requestResetPassword() {
     // given
@@ -575,7 +670,8 @@ class UserSDJpaServiceTest {
         false,
         request.getEncryptedPassword(),
         new HashSet<>(),
-        new HashSet<>()
+        new HashSet<>(),
+        0
     );
   }
 
@@ -614,4 +710,24 @@ class UserSDJpaServiceTest {
     LocalDate expireDate = LocalDate.now().plusDays(Duration.ofDays(1).toDays());
     return new SecurityToken(tokenType, token, LocalDate.now(), expireDate, false, user);
   }
-}
\ No newline at end of file
+
+  private UserRepository.CredentialsRow getCredentialsRow(String adminCommunityId) {
+    return new UserRepository.CredentialsRow() {
+      @Override public String getUserId() {
+        return USER_ID;
+      }
+
+      @Override public String getEncryptedPassword() {
+        return USER_PASSWORD;
+      }
+
+      @Override public long getMembershipVersion() {
+        return MEMBERSHIP_VERSION;
+      }
+
+      @Override public String getAdminCommunityId() {
+        return adminCommunityId;
+      }
+    };
+  }
+}
@@ -126,7 +126,8 @@ public class TestUtils {
           communityName,
           communityId,
           communityDistrict,
-          new HashSet<>()
+          new HashSet<>(),
+          0L
       );
       Set<CommunityHouse> communityHouses = getTestHouses(housesCount);
       communityHouses.forEach(house -> house.setCommunity(testCommunity));
@@ -172,7 +173,8 @@ public class TestUtils {
               false,
               "default-user-password" + index,
               new HashSet<>(),
-              new HashSet<>())
+              new HashSet<>(),
+              0)
           )
           .limit(count)
           .collect(Collectors.toSet());
@@ -235,6 +237,7 @@ public class TestUtils {
           false,
           null,
           null,
+          null,
           null);
     }
   }